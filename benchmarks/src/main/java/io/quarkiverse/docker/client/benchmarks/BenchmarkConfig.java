@@ -0,0 +1,39 @@
+package io.quarkiverse.docker.client.benchmarks;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import io.quarkiverse.docker.client.runtime.config.DockerClientRuntimeConfig;
+import io.quarkiverse.docker.client.runtime.config.DockerRuntimeConfig;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.quarkus.runtime.configuration.PathConverter;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Builds the extension configuration outside of a Quarkus application, so benchmarks exercise the same defaults as a real
+ * deployment.
+ */
+final class BenchmarkConfig {
+
+    private BenchmarkConfig() {
+    }
+
+    /**
+     * Maps the given properties to the configuration of the default client.
+     *
+     * @param properties Properties using the {@code quarkus.docker.*} names
+     * @return The default client configuration
+     */
+    static DockerClientRuntimeConfig defaultClient(Map<String, String> properties) {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(DockerRuntimeConfig.class)
+                .withConverter(Duration.class, 200, new DurationConverter())
+                .withConverter(Path.class, 200, new PathConverter())
+                .withSources(new PropertiesConfigSource(properties, "benchmark", 500))
+                .build();
+        return config.getConfigMapping(DockerRuntimeConfig.class).defaultDockerClient();
+    }
+}
@@ -0,0 +1,60 @@
+package io.quarkiverse.docker.client.benchmarks;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.dockerjava.api.DockerClient;
+
+import io.quarkiverse.docker.client.runtime.DockerClientFactory;
+import io.quarkiverse.docker.client.runtime.config.DockerClientRuntimeConfig;
+
+/**
+ * Measures the cost of {@link DockerClientFactory#createClient()}, which every configured client pays at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientCreationBenchmark {
+
+    /**
+     * Whether the client overrides the connection pool limits.
+     */
+    @Param({ "false", "true" })
+    boolean tunedPool;
+
+    private DockerClientFactory factory;
+
+    @Setup
+    public void setup() {
+        Map<String, String> properties = tunedPool
+                ? Map.of("quarkus.docker.docker-host", "unix:///var/run/docker.sock",
+                        "quarkus.docker.pool.max-total", "256",
+                        "quarkus.docker.pool.max-per-route", "256")
+                : Map.of("quarkus.docker.docker-host", "unix:///var/run/docker.sock");
+        DockerClientRuntimeConfig config = BenchmarkConfig.defaultClient(properties);
+        factory = new DockerClientFactory(config);
+    }
+
+    @Benchmark
+    public DockerClient createClient() throws IOException {
+        DockerClient client = factory.createClient();
+        client.close();
+        return client;
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkiverse.docker.client.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+
+/**
+ * Measures the decoding of large container listings and inspections with the object mapper docker-java uses for
+ * responses, isolated from any I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonDecodingBenchmark {
+
+    /**
+     * Number of containers in the listing, and of environment variables and labels in the inspection.
+     */
+    @Param({ "10", "1000" })
+    int size;
+
+    private byte[] containers;
+    private byte[] inspect;
+    private ObjectReader containersReader;
+    private ObjectReader inspectReader;
+
+    @Setup
+    public void setup() {
+        containers = Payloads.containers(size);
+        inspect = Payloads.inspect(size);
+        ObjectMapper mapper = DefaultDockerClientConfig.createDefaultConfigBuilder().build().getObjectMapper();
+        containersReader = mapper.readerFor(new TypeReference<List<Container>>() {
+        });
+        inspectReader = mapper.readerFor(InspectContainerResponse.class);
+    }
+
+    @Benchmark
+    public List<Container> listContainers() throws IOException {
+        return containersReader.readValue(containers);
+    }
+
+    @Benchmark
+    public InspectContainerResponse inspectContainer() throws IOException {
+        return inspectReader.readValue(inspect);
+    }
+}
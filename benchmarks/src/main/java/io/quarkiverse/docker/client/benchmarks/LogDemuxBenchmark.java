@@ -0,0 +1,80 @@
+package io.quarkiverse.docker.client.benchmarks;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Frame;
+
+import io.quarkiverse.docker.client.runtime.DockerClientFactory;
+
+/**
+ * Measures the throughput of reading and demultiplexing a container log stream into stdout and stderr frames. The
+ * stand-in daemon serves a fixed multiplexed stream, so every operation decodes the same number of bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogDemuxBenchmark {
+
+    private static final int FRAMES = 10_000;
+
+    /**
+     * Payload size of every log frame, in bytes.
+     */
+    @Param({ "80", "4096" })
+    int frameSize;
+
+    private StandInDaemon daemon;
+    private DockerClient client;
+
+    @Setup
+    public void setup() throws IOException {
+        daemon = StandInDaemon.start()
+                .raw("/containers/{id}/logs", "application/vnd.docker.multiplexed-stream",
+                        Payloads.logFrames(FRAMES, frameSize));
+        client = new DockerClientFactory(BenchmarkConfig.defaultClient(Map.of(
+                "quarkus.docker.docker-host", daemon.dockerHost(),
+                "quarkus.docker.api-version", "1.47")))
+                .createClient();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        daemon.close();
+    }
+
+    @Benchmark
+    public void demultiplex(Blackhole blackhole) throws InterruptedException {
+        client.logContainerCmd(Payloads.CONTAINER_ID)
+                .withStdOut(true)
+                .withStdErr(true)
+                .exec(new ResultCallback.Adapter<Frame>() {
+                    @Override
+                    public void onNext(Frame frame) {
+                        blackhole.consume(frame.getPayload());
+                    }
+                })
+                .awaitCompletion();
+    }
+}
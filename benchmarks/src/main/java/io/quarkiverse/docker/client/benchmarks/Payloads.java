@@ -0,0 +1,126 @@
+package io.quarkiverse.docker.client.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Docker Engine API payloads shaped like the ones a busy daemon returns.
+ */
+final class Payloads {
+
+    static final String CONTAINER_ID = "4f2a1b9c3d8e7f6a5b4c3d2e1f0a9b8c7d6e5f4a3b2c1d0e9f8a7b6c5d4e3f2a";
+
+    private Payloads() {
+    }
+
+    static byte[] ping() {
+        return "OK".getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] version() {
+        return """
+                {"Version":"27.3.1","ApiVersion":"1.47","MinAPIVersion":"1.24","GitCommit":"41ca978","GoVersion":"go1.22.7",\
+                "Os":"linux","Arch":"amd64","KernelVersion":"6.8.0","BuildTime":"2024-09-20T11:41:18.000000000+00:00"}"""
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] info() {
+        return """
+                {"ID":"benchmark","Containers":250,"ContainersRunning":200,"ContainersPaused":0,"ContainersStopped":50,\
+                "Images":120,"Driver":"overlay2","NCPU":16,"MemTotal":67108864000,"Name":"stand-in","ServerVersion":"27.3.1",\
+                "OperatingSystem":"Benchmark Linux","OSType":"linux","Architecture":"x86_64","Labels":["zone=a","tier=bench"]}"""
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a container listing with the given number of containers, each with labels, ports, mounts and networks.
+     */
+    static byte[] containers(int count) {
+        StringBuilder json = new StringBuilder(count * 1024).append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"Id\":\"").append(id(i)).append("\",")
+                    .append("\"Names\":[\"/worker-").append(i).append("\"],")
+                    .append("\"Image\":\"registry.example.com/team/service:1.").append(i % 10).append("\",")
+                    .append("\"ImageID\":\"sha256:").append(id(i + 1)).append("\",")
+                    .append("\"Command\":\"/docker-entrypoint.sh nginx -g 'daemon off;'\",")
+                    .append("\"Created\":").append(1_700_000_000L + i).append(',')
+                    .append("\"Ports\":[{\"IP\":\"0.0.0.0\",\"PrivatePort\":80,\"PublicPort\":").append(30000 + i)
+                    .append(",\"Type\":\"tcp\"}],")
+                    .append("\"Labels\":{\"app\":\"worker\",\"tenant\":\"tenant-").append(i % 50)
+                    .append("\",\"com.docker.compose.project\":\"bench\",\"com.docker.compose.service\":\"worker\"},")
+                    .append("\"State\":\"running\",\"Status\":\"Up 3 hours\",")
+                    .append("\"HostConfig\":{\"NetworkMode\":\"bench_default\"},")
+                    .append("\"NetworkSettings\":{\"Networks\":{\"bench_default\":{\"NetworkID\":\"").append(id(7))
+                    .append("\",\"EndpointID\":\"").append(id(i + 2)).append("\",\"Gateway\":\"172.18.0.1\",")
+                    .append("\"IPAddress\":\"172.18.").append(i / 250).append('.').append(i % 250 + 2)
+                    .append("\",\"IPPrefixLen\":16,\"MacAddress\":\"02:42:ac:12:00:02\"}}},")
+                    .append("\"Mounts\":[{\"Type\":\"volume\",\"Name\":\"data-").append(i)
+                    .append("\",\"Source\":\"/var/lib/docker/volumes/data-").append(i)
+                    .append("/_data\",\"Destination\":\"/data\",\"Driver\":\"local\",\"Mode\":\"z\",\"RW\":true,")
+                    .append("\"Propagation\":\"\"}]}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a container inspection with the given number of environment variables and labels.
+     */
+    static byte[] inspect(int entries) {
+        StringBuilder env = new StringBuilder();
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < entries; i++) {
+            if (i > 0) {
+                env.append(',');
+                labels.append(',');
+            }
+            env.append("\"VARIABLE_").append(i).append("=value-").append(i).append('"');
+            labels.append("\"label.").append(i).append("\":\"value-").append(i).append('"');
+        }
+        return ("{\"Id\":\"" + CONTAINER_ID + "\",\"Created\":\"2024-10-01T08:00:00.000000000Z\",\"Path\":\"/entrypoint.sh\","
+                + "\"Args\":[\"serve\",\"--port\",\"8080\"],"
+                + "\"State\":{\"Status\":\"running\",\"Running\":true,\"Paused\":false,\"Restarting\":false,"
+                + "\"OOMKilled\":false,\"Dead\":false,\"Pid\":4242,\"ExitCode\":0,\"Error\":\"\","
+                + "\"StartedAt\":\"2024-10-01T08:00:01.000000000Z\",\"FinishedAt\":\"0001-01-01T00:00:00Z\"},"
+                + "\"Image\":\"sha256:" + id(3) + "\",\"Name\":\"/worker-0\",\"RestartCount\":0,\"Driver\":\"overlay2\","
+                + "\"HostConfig\":{\"NetworkMode\":\"bench_default\",\"Memory\":536870912,\"NanoCpus\":1000000000,"
+                + "\"RestartPolicy\":{\"Name\":\"unless-stopped\",\"MaximumRetryCount\":0}},"
+                + "\"Config\":{\"Hostname\":\"4f2a1b9c3d8e\",\"User\":\"1000\",\"Env\":[" + env + "],"
+                + "\"Cmd\":[\"serve\"],\"Image\":\"registry.example.com/team/service:1.0\",\"WorkingDir\":\"/app\","
+                + "\"Labels\":{" + labels + "}},"
+                + "\"NetworkSettings\":{\"Networks\":{\"bench_default\":{\"NetworkID\":\"" + id(7) + "\","
+                + "\"Gateway\":\"172.18.0.1\",\"IPAddress\":\"172.18.0.2\",\"IPPrefixLen\":16}}}}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a multiplexed log stream, alternating stdout and stderr frames of the given payload size.
+     */
+    static byte[] logFrames(int frames, int frameSize) {
+        byte[] line = new byte[frameSize];
+        Arrays.fill(line, (byte) 'x');
+        line[frameSize - 1] = '\n';
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(frames * (frameSize + 8));
+        ByteBuffer header = ByteBuffer.allocate(8);
+        for (int i = 0; i < frames; i++) {
+            header.clear();
+            header.put((byte) (i % 2 == 0 ? 1 : 2)).put((byte) 0).put((byte) 0).put((byte) 0).putInt(frameSize);
+            stream.write(header.array(), 0, 8);
+            stream.write(line, 0, frameSize);
+        }
+        return stream.toByteArray();
+    }
+
+    private static String id(int seed) {
+        String hex = Integer.toHexString(seed * 0x9E3779B1);
+        StringBuilder id = new StringBuilder(64);
+        while (id.length() < 64) {
+            id.append(hex);
+        }
+        return id.substring(0, 64);
+    }
+}
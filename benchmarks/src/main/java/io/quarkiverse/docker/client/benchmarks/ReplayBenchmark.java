@@ -0,0 +1,113 @@
+package io.quarkiverse.docker.client.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Info;
+
+import io.quarkiverse.docker.client.runtime.DockerClientFactory;
+import io.quarkiverse.docker.client.runtime.recording.DockerRecording;
+import io.quarkiverse.docker.client.runtime.recording.RecordingDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.recording.ReplayDockerHttpClient;
+
+/**
+ * Measures common commands against a replayed recording instead of a daemon, so the results only depend on the client
+ * stack and on the recorded payloads.
+ *
+ * <p>
+ * Without the {@code recording} parameter, a session is first recorded against a stand-in daemon. Pass a recording of a
+ * production-like session with {@code -p recording=/path/to/session.rec} to measure with its payloads instead.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplayBenchmark {
+
+    @Param("")
+    public String recording;
+
+    @Param("0")
+    public String timeScale;
+
+    private Path recorded;
+    private DockerClient client;
+
+    @Setup
+    public void setup() throws IOException {
+        Path file;
+        if (recording.isEmpty()) {
+            recorded = Files.createTempFile("docker-session", ".rec");
+            record(recorded);
+            file = recorded;
+        } else {
+            file = Path.of(recording);
+        }
+        List<DockerRecording.Exchange> exchanges = DockerRecording.read(file);
+        client = new DockerClientFactory(BenchmarkConfig.defaultClient(Map.of("quarkus.docker.api-version", "1.47")), null,
+                transport -> new ReplayDockerHttpClient(transport, "benchmark", exchanges, Double.parseDouble(timeScale)))
+                .createClient();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        if (recorded != null) {
+            Files.deleteIfExists(recorded);
+        }
+    }
+
+    @Benchmark
+    public Info info() {
+        return client.infoCmd().exec();
+    }
+
+    @Benchmark
+    public List<Container> listContainers() {
+        return client.listContainersCmd().exec();
+    }
+
+    @Benchmark
+    public InspectContainerResponse inspectContainer() {
+        return client.inspectContainerCmd(Payloads.CONTAINER_ID).exec();
+    }
+
+    private static void record(Path file) throws IOException {
+        try (StandInDaemon daemon = StandInDaemon.start()
+                .json("/info", Payloads.info())
+                .json("/containers/json", Payloads.containers(50))
+                .json("/containers/{id}/json", Payloads.inspect(10));
+                DockerClient recorder = new DockerClientFactory(BenchmarkConfig.defaultClient(Map.of(
+                        "quarkus.docker.docker-host", daemon.dockerHost(),
+                        "quarkus.docker.api-version", "1.47")), null,
+                        transport -> new RecordingDockerHttpClient(transport, DockerRecording.create(file)))
+                        .createClient()) {
+            recorder.infoCmd().exec();
+            recorder.listContainersCmd().exec();
+            recorder.inspectContainerCmd(Payloads.CONTAINER_ID).exec();
+        }
+    }
+}
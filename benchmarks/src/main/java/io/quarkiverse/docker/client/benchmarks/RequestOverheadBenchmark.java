@@ -0,0 +1,98 @@
+package io.quarkiverse.docker.client.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Info;
+import com.github.dockerjava.api.model.Version;
+
+import io.quarkiverse.docker.client.runtime.DockerClientFactory;
+
+/**
+ * Measures the per-call overhead of common commands against a stand-in daemon on a unix socket. The daemon answers with
+ * small canned payloads, so the results are dominated by the client stack: command building, transport, connection pool
+ * and response mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestOverheadBenchmark {
+
+    private StandInDaemon daemon;
+    private DockerClient client;
+
+    @Setup
+    public void setup() throws IOException {
+        daemon = StandInDaemon.start()
+                .raw("/_ping", "text/plain", Payloads.ping())
+                .json("/version", Payloads.version())
+                .json("/info", Payloads.info())
+                .json("/containers/json", Payloads.containers(1))
+                .json("/containers/{id}/json", Payloads.inspect(10));
+        client = new DockerClientFactory(BenchmarkConfig.defaultClient(Map.of(
+                "quarkus.docker.docker-host", daemon.dockerHost(),
+                "quarkus.docker.api-version", "1.47")))
+                .createClient();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        daemon.close();
+    }
+
+    @Benchmark
+    public void ping() {
+        client.pingCmd().exec();
+    }
+
+    @Benchmark
+    public Version version() {
+        return client.versionCmd().exec();
+    }
+
+    @Benchmark
+    public Info info() {
+        return client.infoCmd().exec();
+    }
+
+    @Benchmark
+    public List<Container> listContainers() {
+        return client.listContainersCmd().exec();
+    }
+
+    @Benchmark
+    public InspectContainerResponse inspectContainer() {
+        return client.inspectContainerCmd(Payloads.CONTAINER_ID).exec();
+    }
+
+    /**
+     * Pings from several threads at once, exercising the connection pool under contention.
+     */
+    @Benchmark
+    @Threads(8)
+    public void pingConcurrently() {
+        client.pingCmd().exec();
+    }
+}
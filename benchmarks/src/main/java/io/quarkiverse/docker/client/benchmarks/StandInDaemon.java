@@ -0,0 +1,165 @@
+package io.quarkiverse.docker.client.benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+
+/**
+ * Minimal HTTP/1.1 server on a unix socket answering Docker Engine API calls with canned payloads.
+ *
+ * <p>
+ * It serves keep-alive connections with one thread each, which is enough to measure the client side of a call without a
+ * real daemon or network.
+ * </p>
+ */
+final class StandInDaemon implements Closeable {
+
+    private static final byte[] NOT_FOUND = "{\"message\":\"not found\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Path socket;
+    private final ServerSocketChannel server;
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private final Thread acceptor;
+    private volatile boolean closed;
+
+    private record Route(String contentType, byte[] body) {
+    }
+
+    private StandInDaemon(Path socket) throws IOException {
+        this.socket = socket;
+        this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        this.server.bind(UnixDomainSocketAddress.of(socket));
+        this.acceptor = new Thread(this::accept, "stand-in-daemon-acceptor");
+        this.acceptor.setDaemon(true);
+    }
+
+    /**
+     * Starts a daemon listening on a new socket in the temporary directory.
+     *
+     * @return The started daemon
+     * @throws IOException if the socket cannot be bound
+     */
+    static StandInDaemon start() throws IOException {
+        Path directory = Files.createTempDirectory("stand-in-daemon");
+        StandInDaemon daemon = new StandInDaemon(directory.resolve("docker.sock"));
+        daemon.acceptor.start();
+        return daemon;
+    }
+
+    /**
+     * Serves a JSON body on every path matching the given endpoint template, for example {@code /containers/{id}/json}.
+     */
+    StandInDaemon json(String endpoint, byte[] body) {
+        routes.put(endpoint, new Route("application/json", body));
+        return this;
+    }
+
+    /**
+     * Serves a raw body on every path matching the given endpoint template.
+     */
+    StandInDaemon raw(String endpoint, String contentType, byte[] body) {
+        routes.put(endpoint, new Route(contentType, body));
+        return this;
+    }
+
+    /**
+     * Returns the Docker host URI of the daemon.
+     */
+    String dockerHost() {
+        return "unix://" + socket.toAbsolutePath();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        server.close();
+        Files.deleteIfExists(socket);
+        Files.deleteIfExists(socket.getParent());
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                SocketChannel channel = server.accept();
+                Thread connection = new Thread(() -> serve(channel), "stand-in-daemon-connection");
+                connection.setDaemon(true);
+                connection.start();
+            } catch (IOException e) {
+                // Closed
+                return;
+            }
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        try (channel;
+                InputStream in = new BufferedInputStream(Channels.newInputStream(channel), 8192);
+                OutputStream out = Channels.newOutputStream(channel)) {
+            String requestLine;
+            while ((requestLine = readLine(in)) != null) {
+                long contentLength = 0;
+                String header;
+                while ((header = readLine(in)) != null && !header.isEmpty()) {
+                    int separator = header.indexOf(':');
+                    if (separator > 0
+                            && header.substring(0, separator).trim().toLowerCase(Locale.ROOT).equals("content-length")) {
+                        contentLength = Long.parseLong(header.substring(separator + 1).trim());
+                    }
+                }
+                in.skipNBytes(contentLength);
+
+                String[] parts = requestLine.split(" ");
+                Route route = parts.length > 1 ? routes.get(DockerApiEndpoints.template(parts[1])) : null;
+                if (route == null) {
+                    write(out, 404, "application/json", NOT_FOUND);
+                } else {
+                    write(out, 200, route.contentType(), route.body());
+                }
+            }
+        } catch (IOException e) {
+            // Client went away
+        }
+    }
+
+    private static void write(OutputStream out, int status, String contentType, byte[] body) throws IOException {
+        String head = "HTTP/1.1 " + status + (status == 200 ? " OK" : " Not Found") + "\r\n"
+                + "Content-Type: " + contentType + "\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + "Api-Version: 1.47\r\n"
+                + "\r\n";
+        out.write(head.getBytes(StandardCharsets.US_ASCII));
+        out.write(body);
+        out.flush();
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                int length = line.size();
+                byte[] bytes = line.toByteArray();
+                return new String(bytes, 0, length > 0 && bytes[length - 1] == '\r' ? length - 1 : length,
+                        StandardCharsets.US_ASCII);
+            }
+            line.write(b);
+        }
+        return line.size() == 0 ? null : line.toString(StandardCharsets.US_ASCII);
+    }
+}
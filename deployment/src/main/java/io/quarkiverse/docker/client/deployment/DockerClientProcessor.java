@@ -1,6 +1,9 @@
 package io.quarkiverse.docker.client.deployment;
 
+import java.io.Closeable;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Singleton;
@@ -11,11 +14,24 @@ import com.github.dockerjava.api.DockerClient;
 
 import io.quarkiverse.docker.client.runtime.DockerClientRecorder;
 import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.quarkiverse.docker.client.runtime.build.DockerImageBuildScheduler;
+import io.quarkiverse.docker.client.runtime.build.DockerImageBuilder;
+import io.quarkiverse.docker.client.runtime.bulk.DockerBulkOperations;
 import io.quarkiverse.docker.client.runtime.config.DockerRuntimeConfig;
+import io.quarkiverse.docker.client.runtime.events.DockerEventStream;
+import io.quarkiverse.docker.client.runtime.group.DockerClientGroup;
+import io.quarkiverse.docker.client.runtime.logs.DockerLogStreamer;
+import io.quarkiverse.docker.client.runtime.state.ContainerStateMirror;
+import io.quarkiverse.docker.client.runtime.transfer.DockerFileTransfer;
+import io.quarkiverse.docker.client.runtime.warmup.DockerImageWarmup;
 import io.quarkus.arc.BeanDestroyer;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.deployment.ApplicationArchive;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -23,11 +39,13 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
+import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 
 class DockerClientProcessor {
 
     private static final String FEATURE = "docker-client";
     private static final DotName NAMED_DOCKER_CLIENT = DotName.createSimple(NamedDockerClient.class.getName());
+    private static final String MICROMETER_REGISTRY = "io.micrometer.core.instrument.MeterRegistry";
 
     @BuildStep
     FeatureBuildItem feature() {
@@ -36,14 +54,30 @@ class DockerClientProcessor {
 
     /**
      * Extracts and processes named Docker clients from the application archives. This includes both explicitly named clients
-     * and the default client.
+     * and the default client, as well as the members of the client groups that are injected and the failover standbys of
+     * the clients.
      */
     @BuildStep
     void extractNamedDockerClients(
             ApplicationArchivesBuildItem beanArchiveIndex,
+            DockerRuntimeConfig config,
             BuildProducer<DockerClientNamesBuildItem> dockerClientNames) {
         Set<String> namedDockerClients = new HashSet<>(collectNamedDockerClients(beanArchiveIndex));
+        config.groups().forEach((groupName, group) -> {
+            if (namedDockerClients.contains(groupName)) {
+                namedDockerClients.addAll(group.members());
+            }
+        });
         namedDockerClients.add(DockerRuntimeConfig.DEFAULT_CLIENT_NAME);
+        Set<String> standbys = namedDockerClients.stream()
+                .map(name -> DockerRuntimeConfig.isDefaultClient(name)
+                        ? config.defaultDockerClient()
+                        : config.namedDockerClients().get(name))
+                .filter(Objects::nonNull)
+                .filter(clientConfig -> clientConfig.circuitBreaker().enabled())
+                .flatMap(clientConfig -> clientConfig.failover().orElse(List.of()).stream())
+                .collect(Collectors.toSet());
+        namedDockerClients.addAll(standbys);
         dockerClientNames.produce(new DockerClientNamesBuildItem(namedDockerClients));
     }
 
@@ -74,10 +108,14 @@ class DockerClientProcessor {
     }
 
     /**
-     * Sets up Docker clients at runtime initialization. Creates synthetic beans for both the default client and named clients.
+     * Sets up Docker clients at runtime initialization. Creates synthetic beans for both the default client and named clients,
+     * in their blocking and reactive flavors.
      *
      * @param recorder The Docker client recorder
      * @param clientNames The collected Docker client names
+     * @param vertx The Vert.x instance used by clients on the Vert.x transport
+     * @param capabilities The capabilities of the application, used to detect optional integrations
+     * @param config The Docker configuration
      * @param syntheticBean Producer for synthetic beans
      */
     @Record(ExecutionTime.RUNTIME_INIT)
@@ -85,28 +123,122 @@ class DockerClientProcessor {
     public void setup(
             DockerClientRecorder recorder,
             DockerClientNamesBuildItem clientNames,
+            CoreVertxBuildItem vertx,
+            Capabilities capabilities,
+            DockerRuntimeConfig config,
             BuildProducer<SyntheticBeanBuildItem> syntheticBean) {
 
-        recorder.initialize(clientNames.getDockerClientNames());
+        // SmallRye Metrics provides the metrics capability too, only Micrometer brings its registry
+        boolean metricsEnabled = capabilities.isPresent(Capability.METRICS)
+                && QuarkusClassLoader.isClassPresentAtRuntime(MICROMETER_REGISTRY)
+                && config.metrics().enabled();
+        boolean tracingEnabled = capabilities.isPresent(Capability.OPENTELEMETRY_TRACER) && config.tracing().enabled();
+        recorder.initialize(clientNames.getDockerClientNames(), vertx.getVertx(), metricsEnabled, tracingEnabled);
+
+        // Every recorded supplier gets the integrations, clients may be built by any of them
+        Function<String, Supplier<DockerClient>> clients = name -> DockerRuntimeConfig.isDefaultClient(name)
+                ? recorder.createDockerClientBean(vertx.getVertx(), metricsEnabled, tracingEnabled)
+                : recorder.createNamedDockerClientBean(name, vertx.getVertx(), metricsEnabled, tracingEnabled);
+        Function<String, Supplier<ReactiveDockerClient>> reactiveClients = name -> recorder
+                .createReactiveDockerClientBean(name, vertx.getVertx(), metricsEnabled, tracingEnabled);
 
         // Create default Docker client bean
-        syntheticBean.produce(createDefaultDockerClientBean(recorder));
+        syntheticBean.produce(createDefaultDockerClientBean(clients));
 
         // Create named Docker client beans
-        produceNamedDockerClientBeans(syntheticBean, clientNames.getDockerClientNames(), recorder);
+        produceNamedDockerClientBeans(syntheticBean, clientNames.getDockerClientNames(), clients);
+
+        // Create reactive Docker client beans, default and named
+        syntheticBean.produce(createDefaultReactiveDockerClientBean(reactiveClients));
+        clientNames.getDockerClientNames().stream()
+                .map(clientName -> syntheticNamedReactiveDockerClientBeanFor(clientName, reactiveClients))
+                .forEach(syntheticBean::produce);
+
+        // Create services built on top of the clients, default and named
+        produceClientServiceBeans(syntheticBean, clientNames.getDockerClientNames(), DockerEventStream.class,
+                name -> recorder.createDockerEventStreamBean(name, vertx.getVertx(), metricsEnabled, tracingEnabled));
+        produceClientServiceBeans(syntheticBean, clientNames.getDockerClientNames(), ContainerStateMirror.class,
+                name -> recorder.createContainerStateMirrorBean(name, vertx.getVertx(), metricsEnabled, tracingEnabled));
+        produceClientServiceBeans(syntheticBean, clientNames.getDockerClientNames(), DockerBulkOperations.class,
+                name -> recorder.createDockerBulkOperationsBean(name, vertx.getVertx(), metricsEnabled, tracingEnabled));
+        produceClientServiceBeans(syntheticBean, clientNames.getDockerClientNames(), DockerLogStreamer.class,
+                name -> recorder.createDockerLogStreamerBean(name, vertx.getVertx(), metricsEnabled, tracingEnabled));
+        produceClientServiceBeans(syntheticBean, clientNames.getDockerClientNames(), DockerFileTransfer.class,
+                name -> recorder.createDockerFileTransferBean(name, vertx.getVertx(), metricsEnabled, tracingEnabled));
+        produceClientServiceBeans(syntheticBean, clientNames.getDockerClientNames(), DockerImageBuilder.class,
+                name -> recorder.createDockerImageBuilderBean(name, vertx.getVertx(), metricsEnabled, tracingEnabled));
+        produceClientServiceBeans(syntheticBean, clientNames.getDockerClientNames(), DockerImageBuildScheduler.class,
+                name -> recorder.createDockerImageBuildSchedulerBean(name, vertx.getVertx(), metricsEnabled, tracingEnabled));
+        produceClientServiceBeans(syntheticBean, clientNames.getDockerClientNames(), DockerImageWarmup.class,
+                name -> recorder.createDockerImageWarmupBean(name, vertx.getVertx(), metricsEnabled, tracingEnabled));
+
+        // Create client group beans, only qualified by their group name
+        clientNames.getDockerClientNames().stream()
+                .filter(config.groups()::containsKey)
+                .map(groupName -> clientServiceBean(DockerClientGroup.class,
+                        recorder.createDockerClientGroupBean(groupName, vertx.getVertx(), metricsEnabled, tracingEnabled),
+                        groupName))
+                .forEach(syntheticBean::produce);
+    }
+
+    /**
+     * Produces the default and named synthetic beans of a service built on top of every Docker client. Services are only
+     * created when injected, and closeable services are closed when the application stops.
+     *
+     * @param syntheticBean Producer for synthetic beans
+     * @param clientNames Set of client names to create beans for
+     * @param type The service type
+     * @param supplier Function returning the recorded supplier of the service of a client
+     * @param <T> The service type
+     */
+    private <T> void produceClientServiceBeans(
+            BuildProducer<SyntheticBeanBuildItem> syntheticBean,
+            Set<String> clientNames,
+            Class<T> type,
+            Function<String, Supplier<T>> supplier) {
+        syntheticBean.produce(clientServiceBean(type, supplier.apply(DockerRuntimeConfig.DEFAULT_CLIENT_NAME), null));
+        clientNames.stream()
+                .map(clientName -> clientServiceBean(type, supplier.apply(clientName), clientName))
+                .forEach(syntheticBean::produce);
+    }
+
+    /**
+     * Creates a synthetic bean configuration for a service of a Docker client.
+     *
+     * @param type The service type
+     * @param supplier The recorded supplier of the service
+     * @param clientName Name of the Docker client, or null for the default bean
+     * @return SyntheticBeanBuildItem for the service
+     */
+    private SyntheticBeanBuildItem clientServiceBean(Class<?> type, Supplier<?> supplier, String clientName) {
+        SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator = SyntheticBeanBuildItem.configure(type)
+                .types(type)
+                .supplier(supplier)
+                .scope(Singleton.class)
+                .setRuntimeInit();
+        if (Closeable.class.isAssignableFrom(type)) {
+            configurator.destroyer(BeanDestroyer.CloseableDestroyer.class);
+        }
+        if (clientName != null) {
+            configurator.addQualifier()
+                    .annotation(NamedDockerClient.class)
+                    .addValue("value", clientName)
+                    .done();
+        }
+        return configurator.done();
     }
 
     /**
      * Creates the default Docker client synthetic bean configuration.
      *
-     * @param recorder The Docker client recorder
+     * @param clients Function returning the recorded supplier of a client
      * @return SyntheticBeanBuildItem for the default Docker client
      */
-    private SyntheticBeanBuildItem createDefaultDockerClientBean(DockerClientRecorder recorder) {
+    private SyntheticBeanBuildItem createDefaultDockerClientBean(Function<String, Supplier<DockerClient>> clients) {
         return SyntheticBeanBuildItem.configure(DockerClient.class)
                 .unremovable()
                 .types(DockerClient.class)
-                .supplier(recorder.createDockerClientBean())
+                .supplier(clients.apply(DockerRuntimeConfig.DEFAULT_CLIENT_NAME))
                 .scope(Singleton.class)
                 .setRuntimeInit()
                 .destroyer(BeanDestroyer.CloseableDestroyer.class)
@@ -118,14 +250,14 @@ class DockerClientProcessor {
      *
      * @param syntheticBean Producer for synthetic beans
      * @param clientNames Set of client names to create beans for
-     * @param recorder The Docker client recorder
+     * @param clients Function returning the recorded supplier of a client
      */
     private void produceNamedDockerClientBeans(
             BuildProducer<SyntheticBeanBuildItem> syntheticBean,
             Set<String> clientNames,
-            DockerClientRecorder recorder) {
+            Function<String, Supplier<DockerClient>> clients) {
         clientNames.stream()
-                .map(clientName -> syntheticNamedDockerClientBeanFor(clientName, recorder))
+                .map(clientName -> syntheticNamedDockerClientBeanFor(clientName, clients))
                 .forEach(syntheticBean::produce);
     }
 
@@ -133,14 +265,15 @@ class DockerClientProcessor {
      * Creates a synthetic bean configuration for a named Docker client.
      *
      * @param clientName Name of the Docker client
-     * @param recorder The Docker client recorder
+     * @param clients Function returning the recorded supplier of a client
      * @return SyntheticBeanBuildItem for the named Docker client
      */
-    private SyntheticBeanBuildItem syntheticNamedDockerClientBeanFor(String clientName, DockerClientRecorder recorder) {
+    private SyntheticBeanBuildItem syntheticNamedDockerClientBeanFor(String clientName,
+            Function<String, Supplier<DockerClient>> clients) {
         return SyntheticBeanBuildItem.configure(DockerClient.class)
                 .unremovable()
                 .types(DockerClient.class)
-                .supplier(recorder.createNamedDockerClientBean(clientName))
+                .supplier(clients.apply(clientName))
                 .scope(Singleton.class)
                 .addQualifier()
                 .annotation(NamedDockerClient.class)
@@ -151,6 +284,46 @@ class DockerClientProcessor {
                 .done();
     }
 
+    /**
+     * Creates the default reactive Docker client synthetic bean configuration.
+     *
+     * @param reactiveClients Function returning the recorded supplier of a reactive client
+     * @return SyntheticBeanBuildItem for the default reactive Docker client
+     */
+    private SyntheticBeanBuildItem createDefaultReactiveDockerClientBean(
+            Function<String, Supplier<ReactiveDockerClient>> reactiveClients) {
+        return SyntheticBeanBuildItem.configure(ReactiveDockerClient.class)
+                .unremovable()
+                .types(ReactiveDockerClient.class)
+                .supplier(reactiveClients.apply(DockerRuntimeConfig.DEFAULT_CLIENT_NAME))
+                .scope(Singleton.class)
+                .setRuntimeInit()
+                .done();
+    }
+
+    /**
+     * Creates a synthetic bean configuration for a named reactive Docker client. The reactive client does not own the
+     * underlying blocking client, so no destroyer is registered.
+     *
+     * @param clientName Name of the Docker client
+     * @param reactiveClients Function returning the recorded supplier of a reactive client
+     * @return SyntheticBeanBuildItem for the named reactive Docker client
+     */
+    private SyntheticBeanBuildItem syntheticNamedReactiveDockerClientBeanFor(String clientName,
+            Function<String, Supplier<ReactiveDockerClient>> reactiveClients) {
+        return SyntheticBeanBuildItem.configure(ReactiveDockerClient.class)
+                .unremovable()
+                .types(ReactiveDockerClient.class)
+                .supplier(reactiveClients.apply(clientName))
+                .scope(Singleton.class)
+                .addQualifier()
+                .annotation(NamedDockerClient.class)
+                .addValue("value", clientName)
+                .done()
+                .setRuntimeInit()
+                .done();
+    }
+
     /**
      * Adds health check support for Docker clients.
      *
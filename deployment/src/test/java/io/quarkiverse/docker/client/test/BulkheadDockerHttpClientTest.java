@@ -0,0 +1,201 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.bulkhead.BulkheadDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.bulkhead.BulkheadListener;
+import io.quarkiverse.docker.client.runtime.bulkhead.DockerBulkheadRejectedException;
+import io.quarkiverse.docker.client.runtime.config.DockerBulkheadConfig;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class BulkheadDockerHttpClientTest {
+
+    private static final Duration LONG = Duration.ofSeconds(10);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final StubDaemon daemon = new StubDaemon();
+    private final RecordingListener listener = new RecordingListener();
+
+    @AfterEach
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void limitsCallsAndStreamsSeparately() throws Exception {
+        BulkheadDockerHttpClient bulkhead = bulkhead(new BulkheadConfig(2, 1, 4, LONG));
+
+        DockerHttpClient.Response first = bulkhead.execute(get("/containers/json"));
+        DockerHttpClient.Response second = bulkhead.execute(get("/info"));
+        DockerHttpClient.Response logs = bulkhead.execute(get("/containers/abc/logs?follow=1"));
+        assertEquals(2, bulkhead.active(BulkheadDockerHttpClient.REQUESTS));
+        assertEquals(1, bulkhead.active(BulkheadDockerHttpClient.STREAMS));
+
+        // A call beyond the limit waits until a response is closed
+        Future<?> third = executor.submit(() -> bulkhead.execute(get("/version")).close());
+        await(() -> bulkhead.queued(BulkheadDockerHttpClient.REQUESTS) == 1);
+        assertEquals(3, daemon.calls.get());
+
+        first.close();
+        first.close();
+        third.get(5, TimeUnit.SECONDS);
+        assertEquals(4, daemon.calls.get());
+        assertEquals(1, bulkhead.active(BulkheadDockerHttpClient.REQUESTS));
+        assertEquals(0, bulkhead.queued(BulkheadDockerHttpClient.REQUESTS));
+
+        second.close();
+        logs.close();
+        assertEquals(0, bulkhead.active(BulkheadDockerHttpClient.REQUESTS));
+        assertEquals(0, bulkhead.active(BulkheadDockerHttpClient.STREAMS));
+    }
+
+    @Test
+    public void releasesTheSlotOfFailedCalls() {
+        BulkheadDockerHttpClient bulkhead = bulkhead(new BulkheadConfig(1, 1, 0, LONG));
+
+        daemon.failing = true;
+        assertThrows(IllegalStateException.class, () -> bulkhead.execute(get("/info")));
+        daemon.failing = false;
+        bulkhead.execute(get("/info")).close();
+        assertEquals(0, bulkhead.active(BulkheadDockerHttpClient.REQUESTS));
+    }
+
+    @Test
+    public void rejectsCallsWhenTheQueueIsFull() throws Exception {
+        BulkheadDockerHttpClient bulkhead = bulkhead(new BulkheadConfig(1, 1, 1, LONG));
+
+        DockerHttpClient.Response held = bulkhead.execute(get("/info"));
+        Future<?> queued = executor.submit(() -> bulkhead.execute(get("/info")).close());
+        await(() -> bulkhead.queued(BulkheadDockerHttpClient.REQUESTS) == 1);
+
+        DockerBulkheadRejectedException rejected = assertThrows(DockerBulkheadRejectedException.class,
+                () -> bulkhead.execute(get("/info")));
+        assertEquals("test", rejected.getClientName());
+        assertEquals(BulkheadDockerHttpClient.REQUESTS, rejected.getCompartment());
+        assertFalse(rejected.isTimedOut());
+        assertEquals(List.of("requests:queue-full"), listener.rejections);
+
+        held.close();
+        queued.get(5, TimeUnit.SECONDS);
+        assertEquals(2, daemon.calls.get());
+    }
+
+    @Test
+    public void rejectsCallsWaitingLongerThanTheMaximumWait() {
+        BulkheadDockerHttpClient bulkhead = bulkhead(new BulkheadConfig(1, 1, 4, Duration.ofMillis(50)));
+
+        DockerHttpClient.Response held = bulkhead.execute(get("/events"));
+        long start = System.nanoTime();
+        DockerBulkheadRejectedException rejected = assertThrows(DockerBulkheadRejectedException.class,
+                () -> bulkhead.execute(get("/events")));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(50)) >= 0);
+        assertTrue(rejected.isTimedOut());
+        assertEquals(BulkheadDockerHttpClient.STREAMS, rejected.getCompartment());
+        assertEquals(List.of("streams:timeout"), listener.rejections);
+        assertEquals(0, bulkhead.queued(BulkheadDockerHttpClient.STREAMS));
+        assertEquals(1, daemon.calls.get());
+        held.close();
+    }
+
+    @Test
+    public void doesNotLetNewCallsOvertakeQueuedOnes() throws Exception {
+        BulkheadDockerHttpClient bulkhead = bulkhead(new BulkheadConfig(1, 1, 4, LONG));
+
+        DockerHttpClient.Response held = bulkhead.execute(get("/info"));
+        Future<DockerHttpClient.Response> queued = executor.submit(() -> bulkhead.execute(get("/queued")));
+        await(() -> bulkhead.queued(BulkheadDockerHttpClient.REQUESTS) == 1);
+
+        // The released slot goes to the queued call, so the new one has to queue behind it
+        held.close();
+        Future<?> late = executor.submit(() -> bulkhead.execute(get("/late")).close());
+        queued.get(5, TimeUnit.SECONDS).close();
+        late.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("/info", "/queued", "/late"), daemon.paths);
+    }
+
+    private BulkheadDockerHttpClient bulkhead(BulkheadConfig config) {
+        return new BulkheadDockerHttpClient(daemon, "test", config, listener);
+    }
+
+    private static DockerHttpClient.Request get(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private record BulkheadConfig(int maxConcurrentCalls, int maxConcurrentStreams, int maxQueueSize,
+            Duration maxWait) implements DockerBulkheadConfig {
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+    }
+
+    /**
+     * Listener remembering the rejected calls as {@code compartment:reason}.
+     */
+    private static final class RecordingListener implements BulkheadListener {
+
+        private final List<String> rejections = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onRejected(String compartment, boolean timedOut) {
+            rejections.add(compartment + ":" + (timedOut ? "timeout" : "queue-full"));
+        }
+    }
+
+    /**
+     * Daemon answering every call right away, or failing it.
+     */
+    private static final class StubDaemon implements DockerHttpClient {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final List<String> paths = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public Response execute(Request request) {
+            calls.incrementAndGet();
+            paths.add(request.path());
+            if (failing) {
+                throw new IllegalStateException("Connection refused");
+            }
+            return BufferedResponse.of(200, Map.of(), "{}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
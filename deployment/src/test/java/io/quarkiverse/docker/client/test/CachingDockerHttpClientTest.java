@@ -0,0 +1,275 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventActor;
+import com.github.dockerjava.api.model.EventType;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.cache.CachingDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.config.DockerClientCacheConfig;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+import io.smallrye.mutiny.Multi;
+
+public class CachingDockerHttpClientTest {
+
+    private static final Duration LONG = Duration.ofMinutes(1);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountingDaemon daemon = new CountingDaemon();
+
+    @AfterEach
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void servesReadOnlyResultsFromMemoryUntilTheyExpire() throws IOException, InterruptedException {
+        CachingDockerHttpClient cache = cache(new CacheConfig(100, LONG, LONG, LONG, Duration.ofMillis(100), LONG));
+
+        assertEquals("/v1.43/info", read(cache.execute(get("/v1.43/info"))));
+        assertEquals("/v1.43/info", read(cache.execute(get("/v1.43/info"))));
+        assertEquals(1, daemon.calls("/v1.43/info"));
+
+        // Results are keyed by the full path, query string included
+        cache.execute(get("/v1.43/images/json")).close();
+        cache.execute(get("/v1.43/images/json?all=1")).close();
+        cache.execute(get("/v1.43/images/json")).close();
+        assertEquals(1, daemon.calls("/v1.43/images/json"));
+        assertEquals(1, daemon.calls("/v1.43/images/json?all=1"));
+
+        Thread.sleep(150);
+        cache.execute(get("/v1.43/info")).close();
+        assertEquals(2, daemon.calls("/v1.43/info"));
+    }
+
+    @Test
+    public void passesOtherCallsThrough() throws IOException {
+        CachingDockerHttpClient cache = cache(new CacheConfig(100, LONG, Duration.ZERO, LONG, LONG, LONG));
+
+        // Uncached endpoints, disabled ones, writes and failed results always reach the daemon
+        for (int i = 0; i < 2; i++) {
+            cache.execute(get("/v1.43/containers/json")).close();
+            cache.execute(get("/v1.43/images/nginx/json")).close();
+            cache.execute(DockerHttpClient.Request.builder()
+                    .method(DockerHttpClient.Request.Method.POST)
+                    .path("/v1.43/containers/abc/json")
+                    .headers(Map.of())
+                    .build()).close();
+            assertEquals(404, cache.execute(get("/v1.43/containers/missing/json")).getStatusCode());
+        }
+        assertEquals(2, daemon.calls("/v1.43/containers/json"));
+        assertEquals(2, daemon.calls("/v1.43/images/nginx/json"));
+        assertEquals(2, daemon.calls("/v1.43/containers/abc/json"));
+        assertEquals(2, daemon.calls("/v1.43/containers/missing/json"));
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedResults() throws IOException {
+        CachingDockerHttpClient cache = cache(new CacheConfig(2, LONG, LONG, LONG, LONG, LONG));
+
+        cache.execute(get("/v1.43/info")).close();
+        cache.execute(get("/v1.43/version")).close();
+        cache.execute(get("/v1.43/info")).close();
+        // Version is the least recently used result
+        cache.execute(get("/v1.43/containers/abc/json")).close();
+        cache.execute(get("/v1.43/info")).close();
+        cache.execute(get("/v1.43/version")).close();
+
+        assertEquals(1, daemon.calls("/v1.43/info"));
+        assertEquals(2, daemon.calls("/v1.43/version"));
+        assertEquals(1, daemon.calls("/v1.43/containers/abc/json"));
+    }
+
+    @Test
+    public void invalidatesResultsFromDaemonEvents() throws IOException {
+        CachingDockerHttpClient cache = cache(new CacheConfig(100, LONG, LONG, LONG, LONG, LONG));
+        List<String> paths = List.of("/v1.43/containers/abc/json", "/v1.43/containers/web/json",
+                "/v1.43/containers/other/json", "/v1.43/images/nginx/json", "/v1.43/images/json", "/v1.43/info");
+        for (String path : paths) {
+            cache.execute(get(path)).close();
+        }
+
+        // Container events evict the results of that container, by ID prefix or by name
+        cache.invalidateFrom(Multi.createFrom().items(
+                event(EventType.CONTAINER, "abc0123456789", "web"),
+                event(EventType.NETWORK, "abc0123456789", null)));
+        for (String path : paths) {
+            cache.execute(get(path)).close();
+        }
+        assertEquals(2, daemon.calls("/v1.43/containers/abc/json"));
+        assertEquals(2, daemon.calls("/v1.43/containers/web/json"));
+        assertEquals(1, daemon.calls("/v1.43/containers/other/json"));
+        assertEquals(1, daemon.calls("/v1.43/images/nginx/json"));
+
+        // Image events evict all image results
+        cache.invalidate(event(EventType.IMAGE, "sha256:0123", null));
+        for (String path : paths) {
+            cache.execute(get(path)).close();
+        }
+        assertEquals(2, daemon.calls("/v1.43/images/nginx/json"));
+        assertEquals(2, daemon.calls("/v1.43/images/json"));
+        assertEquals(1, daemon.calls("/v1.43/containers/other/json"));
+        assertEquals(1, daemon.calls("/v1.43/info"));
+
+        cache.invalidateAll();
+        cache.execute(get("/v1.43/info")).close();
+        assertEquals(2, daemon.calls("/v1.43/info"));
+        cache.close();
+        assertTrue(daemon.closed);
+    }
+
+    @Test
+    public void invalidatesResultsChangedByWrites() throws IOException {
+        CachingDockerHttpClient cache = cache(new CacheConfig(100, LONG, LONG, LONG, LONG, LONG));
+        List<String> paths = List.of("/v1.43/containers/abc/json", "/v1.43/containers/web/json",
+                "/v1.43/images/nginx/json", "/v1.43/images/json", "/v1.43/info");
+        for (String path : paths) {
+            cache.execute(get(path)).close();
+        }
+
+        // Failed writes change nothing
+        cache.execute(post("/v1.43/containers/missing/stop")).close();
+        // Writes to a container evict the results of that container, by ID prefix
+        cache.execute(post("/v1.43/containers/abc0123456789/stop")).close();
+        for (String path : paths) {
+            cache.execute(get(path)).close();
+        }
+        assertEquals(2, daemon.calls("/v1.43/containers/abc/json"));
+        assertEquals(1, daemon.calls("/v1.43/containers/web/json"));
+        assertEquals(1, daemon.calls("/v1.43/images/nginx/json"));
+
+        // Image writes evict all image results, streamed ones again once the stream is closed
+        DockerHttpClient.Response pull = cache.execute(post("/v1.43/images/create?fromImage=nginx"));
+        cache.execute(get("/v1.43/images/nginx/json")).close();
+        pull.close();
+        for (String path : paths) {
+            cache.execute(get(path)).close();
+        }
+        assertEquals(3, daemon.calls("/v1.43/images/nginx/json"));
+        assertEquals(2, daemon.calls("/v1.43/images/json"));
+        assertEquals(1, daemon.calls("/v1.43/containers/web/json"));
+        assertEquals(1, daemon.calls("/v1.43/info"));
+    }
+
+    @Test
+    public void doesNotStoreResultsFetchedDuringAnInvalidation() throws Exception {
+        CachingDockerHttpClient cache = cache(new CacheConfig(100, LONG, LONG, LONG, LONG, LONG));
+
+        daemon.held = new CountDownLatch(1);
+        Future<String> inFlight = executor.submit(() -> read(cache.execute(get("/v1.43/containers/abc/json"))));
+        await(() -> daemon.calls("/v1.43/containers/abc/json") == 1);
+        cache.invalidate(event(EventType.CONTAINER, "abc0123456789", null));
+        daemon.held.countDown();
+        assertEquals("/v1.43/containers/abc/json", inFlight.get(5, TimeUnit.SECONDS));
+
+        // The result may predate the invalidation, so it was not cached
+        cache.execute(get("/v1.43/containers/abc/json")).close();
+        cache.execute(get("/v1.43/containers/abc/json")).close();
+        assertEquals(2, daemon.calls("/v1.43/containers/abc/json"));
+    }
+
+    private CachingDockerHttpClient cache(CacheConfig config) {
+        return new CachingDockerHttpClient(daemon, config);
+    }
+
+    private static DockerHttpClient.Request get(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    private static DockerHttpClient.Request post(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.POST)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    private static Event event(EventType type, String id, String name) {
+        EventActor actor = new EventActor().withId(id).withAttributes(name != null ? Map.of("name", name) : Map.of());
+        return new Event().withType(type).withAction("destroy").withId(id).withEventActor(actor);
+    }
+
+    private static String read(DockerHttpClient.Response response) throws IOException {
+        try (response) {
+            return new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private record CacheConfig(int maxEntries, Duration inspectContainerTtl, Duration inspectImageTtl,
+            Duration listImagesTtl, Duration infoTtl, Duration versionTtl) implements DockerClientCacheConfig {
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public boolean invalidateOnEvents() {
+            return true;
+        }
+    }
+
+    /**
+     * Daemon answering every call with its path, or with a 404 for missing containers, counting the calls per path.
+     */
+    private static final class CountingDaemon implements DockerHttpClient {
+
+        private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        private volatile CountDownLatch held = new CountDownLatch(0);
+        private volatile boolean closed;
+
+        int calls(String path) {
+            AtomicInteger count = calls.get(path);
+            return count != null ? count.get() : 0;
+        }
+
+        @Override
+        public Response execute(Request request) {
+            calls.computeIfAbsent(request.path(), path -> new AtomicInteger()).incrementAndGet();
+            try {
+                held.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int status = request.path().contains("/missing/") ? 404 : 200;
+            return BufferedResponse.of(status, Map.of(), request.path().getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.circuit.CircuitBreakerDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.circuit.CircuitBreakerDockerHttpClient.State;
+import io.quarkiverse.docker.client.runtime.circuit.DockerCircuitOpenException;
+import io.quarkiverse.docker.client.runtime.config.DockerCircuitBreakerConfig;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class CircuitBreakerDockerHttpClientTest {
+
+    private static final Duration LONG = Duration.ofHours(1);
+
+    @Test
+    public void opensWhenTheFailureRateReachesTheThreshold() {
+        StubDaemon daemon = new StubDaemon();
+        CircuitBreakerDockerHttpClient breaker = breaker(daemon, new BreakerConfig(4, 4, 50, LONG, 100, LONG, 1));
+
+        daemon.status = 200;
+        breaker.execute(get("/info")).close();
+        daemon.failing = true;
+        assertThrows(UncheckedIOException.class, () -> breaker.execute(get("/info")));
+        daemon.failing = false;
+        breaker.execute(get("/info")).close();
+        // Below the minimum number of calls, the breaker stays closed whatever the failure rate
+        assertEquals(State.CLOSED, breaker.state());
+
+        daemon.status = 503;
+        breaker.execute(get("/info")).close();
+        assertEquals(State.OPEN, breaker.state());
+
+        assertThrows(DockerCircuitOpenException.class, () -> breaker.execute(get("/info")));
+        assertEquals(4, daemon.calls.get());
+    }
+
+    @Test
+    public void opensWhenTheSlowCallRateReachesTheThreshold() {
+        StubDaemon daemon = new StubDaemon();
+        daemon.delay = Duration.ofMillis(30);
+        CircuitBreakerDockerHttpClient breaker = breaker(daemon,
+                new BreakerConfig(2, 2, 100, Duration.ofMillis(10), 100, LONG, 1));
+
+        // Streams are never slow, they stay open as long as the caller reads them
+        breaker.execute(get("/events")).close();
+        breaker.execute(get("/info")).close();
+        assertEquals(State.CLOSED, breaker.state());
+
+        breaker.execute(get("/info")).close();
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    @Test
+    public void closesOnceTheProbingCallsSucceed() throws InterruptedException {
+        StubDaemon daemon = new StubDaemon();
+        CircuitBreakerDockerHttpClient breaker = breaker(daemon,
+                new BreakerConfig(1, 1, 50, LONG, 100, Duration.ofMillis(50), 2));
+        daemon.status = 500;
+        breaker.execute(get("/info")).close();
+        assertEquals(State.OPEN, breaker.state());
+
+        Thread.sleep(60);
+        daemon.status = 200;
+        breaker.execute(get("/info")).close();
+        assertEquals(State.HALF_OPEN, breaker.state());
+        breaker.execute(get("/info")).close();
+        assertEquals(State.CLOSED, breaker.state());
+        assertEquals(3, daemon.calls.get());
+    }
+
+    @Test
+    public void opensAgainWhenAProbingCallFails() throws InterruptedException {
+        StubDaemon daemon = new StubDaemon();
+        CircuitBreakerDockerHttpClient breaker = breaker(daemon,
+                new BreakerConfig(1, 1, 50, LONG, 100, Duration.ofMillis(50), 2));
+        daemon.status = 500;
+        breaker.execute(get("/info")).close();
+
+        Thread.sleep(60);
+        breaker.execute(get("/info")).close();
+        assertEquals(State.OPEN, breaker.state());
+        // The open duration starts over
+        assertThrows(DockerCircuitOpenException.class, () -> breaker.execute(get("/info")));
+        assertEquals(2, daemon.calls.get());
+    }
+
+    @Test
+    public void failsIdempotentReadsOverToStandbys() {
+        StubDaemon daemon = new StubDaemon();
+        StubDaemon openStandbyDaemon = new StubDaemon();
+        StubDaemon standbyDaemon = new StubDaemon();
+        BreakerConfig config = new BreakerConfig(1, 1, 50, LONG, 100, LONG, 1);
+
+        // The first standby is open as well, it must neither answer nor fail the request over again
+        CircuitBreakerDockerHttpClient openStandby = breaker(openStandbyDaemon, config, standbyDaemon);
+        openStandbyDaemon.status = 500;
+        openStandby.execute(get("/info")).close();
+        CircuitBreakerDockerHttpClient breaker = new CircuitBreakerDockerHttpClient(daemon, "primary", config,
+                List.of(() -> openStandby, () -> standbyDaemon));
+        daemon.status = 500;
+        breaker.execute(get("/info")).close();
+
+        assertEquals(200, breaker.execute(get("/containers/json")).getStatusCode());
+        assertEquals(1, standbyDaemon.calls.get());
+        assertEquals(1, openStandbyDaemon.calls.get());
+
+        assertThrows(DockerCircuitOpenException.class, () -> breaker.execute(post("/containers/create")));
+        assertEquals(1, standbyDaemon.calls.get());
+        assertEquals(1, daemon.calls.get());
+    }
+
+    private static CircuitBreakerDockerHttpClient breaker(DockerHttpClient daemon, BreakerConfig config,
+            DockerHttpClient... standbys) {
+        List<Supplier<DockerHttpClient>> suppliers = Arrays.stream(standbys)
+                .<Supplier<DockerHttpClient>> map(standby -> () -> standby)
+                .toList();
+        return new CircuitBreakerDockerHttpClient(daemon, "test", config, suppliers);
+    }
+
+    private static DockerHttpClient.Request get(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    private static DockerHttpClient.Request post(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.POST)
+                .path(path)
+                .headers(Map.of())
+                .bodyBytes("{}".getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private record BreakerConfig(int windowSize, int minimumCalls, int failureRateThreshold, Duration slowCallThreshold,
+            int slowCallRateThreshold, Duration openDuration, int halfOpenCalls) implements DockerCircuitBreakerConfig {
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+    }
+
+    /**
+     * Daemon answering every call with the same status after a delay, or failing with an I/O error.
+     */
+    private static final class StubDaemon implements DockerHttpClient {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile int status = 200;
+        private volatile boolean failing;
+        private volatile Duration delay = Duration.ZERO;
+
+        @Override
+        public Response execute(Request request) {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failing) {
+                throw new UncheckedIOException(new IOException("Connection reset"));
+            }
+            return BufferedResponse.of(status, Map.of(), "{}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
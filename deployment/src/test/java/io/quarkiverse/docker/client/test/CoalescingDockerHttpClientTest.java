@@ -0,0 +1,211 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.coalescing.CoalescingDockerHttpClient;
+
+public class CoalescingDockerHttpClientTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void sharesIdenticalConcurrentReads() throws Exception {
+        GatedDaemon daemon = new GatedDaemon();
+        List<String> coalescedEndpoints = new ArrayList<>();
+        CoalescingDockerHttpClient client = new CoalescingDockerHttpClient(daemon, coalescedEndpoints::add, null);
+
+        List<Future<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            calls.add(executor.submit(() -> read(client, "/v1.43/containers/abc/json")));
+        }
+        await(() -> client.coalescedCount() == 4);
+        Future<String> other = executor.submit(() -> read(client, "/v1.43/containers/def/json"));
+        await(() -> daemon.calls.get() == 2);
+        daemon.open.countDown();
+
+        for (Future<String> call : calls) {
+            assertEquals("/v1.43/containers/abc/json", call.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals("/v1.43/containers/def/json", other.get(5, TimeUnit.SECONDS));
+        assertEquals(2, daemon.calls.get());
+        assertEquals(List.of("/containers/{id}/json", "/containers/{id}/json", "/containers/{id}/json",
+                "/containers/{id}/json"), coalescedEndpoints);
+
+        // Once the call completed, the next identical read reaches the daemon again
+        read(client, "/v1.43/containers/abc/json");
+        assertEquals(3, daemon.calls.get());
+    }
+
+    @Test
+    public void doesNotJoinReadsStartedBeforeAMutation() throws Exception {
+        GatedDaemon daemon = new GatedDaemon();
+        CoalescingDockerHttpClient client = new CoalescingDockerHttpClient(daemon, null, null);
+
+        Future<String> before = executor.submit(() -> read(client, "/containers/json"));
+        await(() -> daemon.calls.get() == 1);
+        client.execute(request(DockerHttpClient.Request.Method.POST, "/containers/abc/start")).close();
+        Future<String> after = executor.submit(() -> read(client, "/containers/json"));
+        await(() -> daemon.calls.get() == 3);
+        daemon.open.countDown();
+
+        assertEquals("/containers/json", before.get(5, TimeUnit.SECONDS));
+        assertEquals("/containers/json", after.get(5, TimeUnit.SECONDS));
+        assertEquals(0, client.coalescedCount());
+    }
+
+    @Test
+    public void buffersSharedResponses() throws Exception {
+        GatedDaemon daemon = new GatedDaemon();
+        daemon.open.countDown();
+        CoalescingDockerHttpClient client = new CoalescingDockerHttpClient(daemon, null, null);
+
+        DockerHttpClient.Response response = client.execute(request(DockerHttpClient.Request.Method.GET, "/info"));
+
+        // The daemon response is read and released before the caller reads the body
+        assertTrue(daemon.lastResponseClosed.get());
+        assertEquals("/info", new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+        response.close();
+
+        // Streams and unbounded documents are passed through
+        DockerHttpClient.Response logs = client.execute(
+                request(DockerHttpClient.Request.Method.GET, "/containers/abc/logs?follow=1"));
+        assertFalse(daemon.lastResponseClosed.get());
+        logs.close();
+    }
+
+    @Test
+    public void serializesIdenticalPulls() throws Exception {
+        GatedDaemon daemon = new GatedDaemon();
+        daemon.open.countDown();
+        CoalescingDockerHttpClient client = new CoalescingDockerHttpClient(daemon, null, null);
+        DockerHttpClient.Request pull = request(DockerHttpClient.Request.Method.POST, "/images/create?fromImage=nginx");
+
+        DockerHttpClient.Response first = client.execute(pull);
+        Future<?> second = executor.submit(() -> client.execute(pull).close());
+        await(() -> client.coalescedCount() == 1);
+        assertEquals(1, daemon.calls.get());
+
+        first.close();
+        second.get(5, TimeUnit.SECONDS);
+        assertEquals(2, daemon.calls.get());
+    }
+
+    @Test
+    public void stopsWaitingForPullsAfterTheReadTimeout() throws Exception {
+        GatedDaemon daemon = new GatedDaemon();
+        daemon.open.countDown();
+        CoalescingDockerHttpClient client = new CoalescingDockerHttpClient(daemon, null, Duration.ofMillis(100));
+        DockerHttpClient.Request pull = request(DockerHttpClient.Request.Method.POST, "/images/create?fromImage=nginx");
+
+        // The first response is never closed, the second pull proceeds once the timeout elapsed
+        client.execute(pull);
+        long start = System.nanoTime();
+        client.execute(pull).close();
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(100).toNanos());
+        assertEquals(2, daemon.calls.get());
+        assertEquals(1, client.coalescedCount());
+    }
+
+    private static String read(DockerHttpClient client, String path) throws IOException {
+        try (DockerHttpClient.Response response = client.execute(request(DockerHttpClient.Request.Method.GET, path))) {
+            return new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static DockerHttpClient.Request request(DockerHttpClient.Request.Method method, String path) {
+        return DockerHttpClient.Request.builder()
+                .method(method)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Daemon answering reads with their path once its gate is open, and mutations right away.
+     */
+    private static final class GatedDaemon implements DockerHttpClient {
+
+        private final CountDownLatch open = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean lastResponseClosed = new AtomicBoolean();
+
+        @Override
+        public Response execute(Request request) {
+            calls.incrementAndGet();
+            if ("GET".equals(request.method())) {
+                try {
+                    open.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            AtomicBoolean closed = new AtomicBoolean();
+            lastResponseClosed.set(false);
+            byte[] body = request.path().getBytes(StandardCharsets.UTF_8);
+            return new Response() {
+                @Override
+                public int getStatusCode() {
+                    return 200;
+                }
+
+                @Override
+                public Map<String, List<String>> getHeaders() {
+                    return Map.of();
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(body);
+                }
+
+                @Override
+                public void close() {
+                    if (closed.compareAndSet(false, true)) {
+                        lastResponseClosed.set(true);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
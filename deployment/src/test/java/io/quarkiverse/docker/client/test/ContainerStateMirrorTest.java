@@ -0,0 +1,328 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientImpl;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.quarkiverse.docker.client.runtime.config.DockerEventOverflow;
+import io.quarkiverse.docker.client.runtime.config.DockerEventsConfig;
+import io.quarkiverse.docker.client.runtime.events.DockerEventStream;
+import io.quarkiverse.docker.client.runtime.state.ContainerStateMirror;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class ContainerStateMirrorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ContainersDaemon daemon = new ContainersDaemon();
+    private ContainerStateMirror mirror;
+
+    @AfterEach
+    public void stop() {
+        if (mirror != null) {
+            mirror.close();
+        }
+        daemon.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void indexesContainersByIdNameAndLabels() {
+        daemon.put("a", "/web-1", Map.of("app", "orders", "role", "web"));
+        daemon.put("b", "/worker-1", Map.of("app", "orders", "role", "worker"));
+        daemon.put("c", "/worker-2", Map.of("app", "billing", "role", "worker"));
+        mirror = mirror();
+        mirror.ready().await().atMost(TIMEOUT);
+
+        assertTrue(mirror.isReady());
+        assertEquals("a", mirror.findById("a").map(Container::getId).orElseThrow());
+        assertEquals("b", mirror.findByName("worker-1").map(Container::getId).orElseThrow());
+        assertEquals("b", mirror.findByName("/worker-1").map(Container::getId).orElseThrow());
+        assertTrue(mirror.findById("z").isEmpty());
+        assertTrue(mirror.findByName("web-2").isEmpty());
+
+        assertEquals(Set.of("b", "c"), ids(mirror.findByLabel("role", "worker")));
+        assertEquals(Set.of("a", "b", "c"), ids(mirror.findByLabel("app", null)));
+        assertEquals(Set.of("b"), ids(mirror.findByLabels(Map.of("app", "orders", "role", "worker"))));
+        assertEquals(Set.of(), ids(mirror.findByLabels(Map.of("app", "orders", "tier", "front"))));
+        assertEquals(Set.of("a", "b", "c"), ids(mirror.findByLabels(Map.of())));
+        assertEquals(Set.of("a", "b", "c"), mirror.snapshot().keySet());
+        assertEquals(1, daemon.fullLists());
+    }
+
+    @Test
+    public void refreshesSingleContainersOnEvents() throws InterruptedException {
+        daemon.put("a", "/web-1", Map.of("app", "orders"));
+        daemon.put("b", "/web-2", Map.of("app", "orders"));
+        mirror = mirror();
+        mirror.ready().await().atMost(TIMEOUT);
+
+        daemon.put("c", "/web-3", Map.of("app", "orders"));
+        daemon.emit("c", "create");
+        await(() -> mirror.findByName("web-3").isPresent());
+
+        // Relabelled containers move in the label index
+        daemon.put("a", "/web-1", Map.of("app", "billing"));
+        daemon.emit("a", "update");
+        await(() -> ids(mirror.findByLabel("app", "billing")).equals(Set.of("a")));
+        assertEquals(Set.of("b", "c"), ids(mirror.findByLabel("app", "orders")));
+
+        daemon.remove("b");
+        daemon.emit("b", "destroy");
+        await(() -> mirror.findById("b").isEmpty());
+        assertTrue(mirror.findByName("web-2").isEmpty());
+        assertEquals(Set.of("c"), ids(mirror.findByLabel("app", "orders")));
+
+        // Events not changing the listed state are ignored
+        daemon.emit("c", "exec_start: sh");
+        daemon.emit("c", "health_status: healthy");
+        await(() -> daemon.refreshes().equals(List.of("c", "a", "c")));
+        assertEquals(1, daemon.fullLists());
+    }
+
+    @Test
+    public void replaysEventsReceivedWhileLoading() throws InterruptedException {
+        daemon.put("a", "/web-1", Map.of());
+        daemon.put("b", "/web-2", Map.of());
+        daemon.holdLists();
+        mirror = mirror();
+        await(daemon::eventsConnected);
+
+        daemon.emit("b", "destroy");
+        await(() -> daemon.pendingEvents() == 0);
+        assertFalse(mirror.isReady());
+        assertTrue(mirror.snapshot().isEmpty());
+
+        daemon.releaseLists();
+        mirror.ready().await().atMost(TIMEOUT);
+        // The list still contains the destroyed container, the buffered event removes it
+        assertEquals(Set.of("a"), mirror.snapshot().keySet());
+    }
+
+    @Test
+    public void failsReadinessWhenClosedBeforeLoading() {
+        daemon.holdLists();
+        mirror = mirror();
+        mirror.close();
+
+        assertFalse(mirror.isReady());
+        assertThrows(IllegalStateException.class, () -> mirror.ready().await().atMost(TIMEOUT));
+        daemon.releaseLists();
+    }
+
+    private ContainerStateMirror mirror() {
+        ReactiveDockerClient client = new ReactiveDockerClient(DockerClientImpl.getInstance(
+                DefaultDockerClientConfig.createDefaultConfigBuilder()
+                        .withDockerHost("tcp://localhost:2375")
+                        .build(),
+                daemon), executor);
+        DockerEventStream events = new DockerEventStream(client, "test", new EventsConfig(64, DockerEventOverflow.DROP,
+                Duration.ofMillis(5), Duration.ofMillis(20), Optional.empty(), Optional.empty(), Optional.empty()));
+        return new ContainerStateMirror(client, events, "test");
+    }
+
+    private static Set<String> ids(List<Container> containers) {
+        return containers.stream().map(Container::getId).collect(Collectors.toSet());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private record EventsConfig(int bufferSize, DockerEventOverflow overflow, Duration reconnectInitialBackoff,
+            Duration reconnectMaxBackoff, Optional<List<String>> types, Optional<List<String>> labels,
+            Optional<List<String>> containers) implements DockerEventsConfig {
+    }
+
+    /**
+     * Daemon listing its containers, optionally filtered by ID, and streaming the events emitted by the test.
+     */
+    private static final class ContainersDaemon implements DockerHttpClient {
+
+        private static final Pattern ID_FILTER = Pattern.compile("\"id\":\\[\"([^\"]+)\"]");
+        private static final byte[] CLOSED = new byte[0];
+
+        private final Map<String, String> containers = Collections.synchronizedMap(new LinkedHashMap<>());
+        private final List<String> refreshes = Collections.synchronizedList(new ArrayList<>());
+        private final Set<BlockingQueue<byte[]>> streams = ConcurrentHashMap.newKeySet();
+        private volatile CountDownLatch lists = new CountDownLatch(0);
+        private final AtomicInteger fullLists = new AtomicInteger();
+
+        void put(String id, String name, Map<String, String> labels) {
+            String json = labels.entrySet().stream()
+                    .map(label -> "\"" + label.getKey() + "\":\"" + label.getValue() + "\"")
+                    .collect(Collectors.joining(",", "{", "}"));
+            containers.put(id, String.format("{\"Id\":\"%s\",\"Names\":[\"%s\"],\"Labels\":%s,\"State\":\"running\"}",
+                    id, name, json));
+        }
+
+        void remove(String id) {
+            containers.remove(id);
+        }
+
+        void emit(String id, String action) {
+            byte[] event = String.format("{\"Type\":\"container\",\"Action\":\"%s\",\"id\":\"%s\"}\n", action, id)
+                    .getBytes(StandardCharsets.UTF_8);
+            streams.forEach(stream -> stream.add(event));
+        }
+
+        void holdLists() {
+            lists = new CountDownLatch(1);
+        }
+
+        void releaseLists() {
+            lists.countDown();
+        }
+
+        boolean eventsConnected() {
+            return !streams.isEmpty();
+        }
+
+        int pendingEvents() {
+            return streams.stream().mapToInt(BlockingQueue::size).sum();
+        }
+
+        int fullLists() {
+            return fullLists.get();
+        }
+
+        List<String> refreshes() {
+            synchronized (refreshes) {
+                return List.copyOf(refreshes);
+            }
+        }
+
+        @Override
+        public Response execute(Request request) {
+            String path = URLDecoder.decode(request.path(), StandardCharsets.UTF_8);
+            if (path.contains("/events")) {
+                return events();
+            }
+
+            Matcher filter = ID_FILTER.matcher(path);
+            String body;
+            if (filter.find()) {
+                refreshes.add(filter.group(1));
+                String container = containers.get(filter.group(1));
+                body = container != null ? "[" + container + "]" : "[]";
+            } else {
+                try {
+                    lists.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                fullLists.incrementAndGet();
+                synchronized (containers) {
+                    body = containers.values().stream().collect(Collectors.joining(",", "[", "]"));
+                }
+            }
+            return BufferedResponse.of(200, Map.of("Content-Type", List.of("application/json")),
+                    body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private Response events() {
+            BlockingQueue<byte[]> queue = new LinkedBlockingQueue<>();
+            streams.add(queue);
+            InputStream body = new InputStream() {
+                private byte[] current = new byte[0];
+                private int position;
+
+                @Override
+                public int read() throws IOException {
+                    byte[] single = new byte[1];
+                    return read(single, 0, 1) == -1 ? -1 : single[0];
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    while (position == current.length) {
+                        try {
+                            current = queue.poll(1, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException("Stream interrupted", e);
+                        }
+                        if (current == null) {
+                            current = new byte[0];
+                        } else if (current == CLOSED) {
+                            throw new IOException("Stream closed");
+                        }
+                        position = 0;
+                    }
+                    int count = Math.min(len, current.length - position);
+                    System.arraycopy(current, position, b, off, count);
+                    position += count;
+                    return count;
+                }
+            };
+            return new Response() {
+                @Override
+                public int getStatusCode() {
+                    return 200;
+                }
+
+                @Override
+                public Map<String, List<String>> getHeaders() {
+                    return Map.of("Content-Type", List.of("application/json"));
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return body;
+                }
+
+                @Override
+                public void close() {
+                    streams.remove(queue);
+                    queue.add(CLOSED);
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            releaseLists();
+            streams.forEach(stream -> stream.add(CLOSED));
+        }
+    }
+}
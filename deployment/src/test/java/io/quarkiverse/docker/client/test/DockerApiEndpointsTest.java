@@ -0,0 +1,72 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+
+public class DockerApiEndpointsTest {
+
+    @Test
+    public void stripsVersionAndQuery() {
+        assertEquals("/_ping", DockerApiEndpoints.template("/_ping"));
+        assertEquals("/info", DockerApiEndpoints.template("/v1.43/info"));
+        assertEquals("/containers/json", DockerApiEndpoints.template("/v1.43/containers/json?all=1"));
+        assertEquals("/events", DockerApiEndpoints.template("/v1.41/events?filters=%7B%7D"));
+        assertEquals("/", DockerApiEndpoints.template("/v1.43"));
+    }
+
+    @Test
+    public void replacesIdentifiers() {
+        assertEquals("/containers/{id}/logs",
+                DockerApiEndpoints.template("/v1.43/containers/4f2a1bc0d9e8/logs?follow=1&stdout=1"));
+        assertEquals("/containers/{id}", DockerApiEndpoints.template("/containers/my-container"));
+        assertEquals("/containers/create", DockerApiEndpoints.template("/containers/create?name=web"));
+        assertEquals("/containers/{id}/attach/ws", DockerApiEndpoints.template("/containers/abc/attach/ws"));
+        assertEquals("/exec/{id}/start", DockerApiEndpoints.template("/exec/9b1c/start"));
+        assertEquals("/networks/{id}/connect", DockerApiEndpoints.template("/networks/backend/connect"));
+        assertEquals("/volumes/prune", DockerApiEndpoints.template("/volumes/prune"));
+    }
+
+    @Test
+    public void replacesImageNames() {
+        assertEquals("/images/create", DockerApiEndpoints.template("/images/create?fromImage=nginx&tag=alpine"));
+        assertEquals("/images/json", DockerApiEndpoints.template("/images/json"));
+        assertEquals("/images/{name}/json", DockerApiEndpoints.template("/images/library/nginx:alpine/json"));
+        assertEquals("/images/{name}/push", DockerApiEndpoints.template("/images/registry:5000/team/app/push?tag=1"));
+        assertEquals("/images/{name}", DockerApiEndpoints.template("/images/quay.io/org/app:1.0"));
+        assertEquals("/distribution/{name}/json", DockerApiEndpoints.template("/distribution/nginx/json"));
+    }
+
+    @Test
+    public void boundsUnknownResources() {
+        assertEquals("/unknown/{path}", DockerApiEndpoints.template("/v1.43/unknown/abc/def"));
+        assertEquals("/swarm/init", DockerApiEndpoints.template("/swarm/init"));
+    }
+
+    @Test
+    public void detectsStreamingRequests() {
+        assertTrue(DockerApiEndpoints.isStreaming(get("/v1.43/events")));
+        assertTrue(DockerApiEndpoints.isStreaming(get("/containers/abc/logs?stdout=1&follow=1")));
+        assertTrue(DockerApiEndpoints.isStreaming(get("/containers/abc/stats")));
+        assertTrue(DockerApiEndpoints.isStreaming(get("/images/create?fromImage=nginx")));
+        assertFalse(DockerApiEndpoints.isStreaming(get("/containers/abc/logs?stdout=1&follow=0")));
+        assertFalse(DockerApiEndpoints.isStreaming(get("/containers/abc/stats?stream=false")));
+        assertFalse(DockerApiEndpoints.isStreaming(get("/containers/abc/json")));
+    }
+
+    private static DockerHttpClient.Request get(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.api.command.CreateContainerResponse;
+import com.github.dockerjava.api.exception.InternalServerErrorException;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientImpl;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.quarkiverse.docker.client.runtime.bulk.BulkItemResult;
+import io.quarkiverse.docker.client.runtime.bulk.BulkOperationException;
+import io.quarkiverse.docker.client.runtime.bulk.BulkResult;
+import io.quarkiverse.docker.client.runtime.bulk.ContainerSpec;
+import io.quarkiverse.docker.client.runtime.bulk.DockerBulkOperations;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+import io.smallrye.mutiny.Uni;
+
+public class DockerBulkOperationsTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ContainersDaemon daemon = new ContainersDaemon();
+
+    @AfterEach
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void runsItemsWithBoundedConcurrencyInSubmissionOrder() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Integer> items = IntStream.range(0, 12).boxed().toList();
+
+        BulkResult<Integer, Integer> result = bulk(3).run(items, item -> Uni.createFrom().item(() -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                // Later items complete first, so results arrive out of order
+                Thread.sleep(5L * (items.size() - item));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            active.decrementAndGet();
+            return item * 10;
+        }).runSubscriptionOn(executor)).await().atMost(TIMEOUT);
+
+        assertTrue(maxActive.get() <= 3, "At most 3 concurrent items, was " + maxActive.get());
+        assertEquals(items.stream().map(item -> item * 10).toList(), result.results());
+        assertEquals(items, result.items().stream().map(BulkItemResult::index).toList());
+        assertFalse(result.hasFailures());
+    }
+
+    @Test
+    public void reportsFailingItemsWithoutFailingTheBatch() {
+        BulkResult<String, String> result = bulk(2).run(List.of("a", "broken", "b", "failed"), item -> item.length() > 1
+                ? Uni.createFrom().failure(new IllegalStateException(item))
+                : Uni.createFrom().item(item.toUpperCase())).await().atMost(TIMEOUT);
+
+        assertTrue(result.hasFailures());
+        assertEquals(List.of("A", "B"), result.results());
+        assertEquals(List.of("a", "b"), result.succeeded().stream().map(BulkItemResult::spec).toList());
+        assertEquals(List.of(1, 3), result.failed().stream().map(BulkItemResult::index).toList());
+
+        BulkOperationException failure = assertThrows(BulkOperationException.class, result::throwIfFailed);
+        assertEquals(2, failure.getFailedCount());
+        assertEquals(4, failure.getTotalCount());
+        assertEquals("broken", failure.getCause().getMessage());
+        assertEquals("failed", failure.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    public void treatsContainersAlreadyInTheTargetStateAsSuccesses() {
+        DockerBulkOperations bulk = bulk(4);
+
+        BulkResult<String, Void> started = bulk.startContainers(List.of("exited", "running", "broken"))
+                .await().atMost(TIMEOUT);
+        assertEquals(List.of(true, true, false), started.items().stream().map(BulkItemResult::isSuccess).toList());
+        assertInstanceOf(InternalServerErrorException.class, started.items().get(2).failure());
+
+        BulkResult<String, Void> stopped = bulk.stopContainers(List.of("running", "exited"), 1).await().atMost(TIMEOUT);
+        assertFalse(stopped.hasFailures());
+
+        BulkResult<String, Void> removed = bulk.removeContainers(List.of("exited", "gone"), true).await().atMost(TIMEOUT);
+        assertFalse(removed.hasFailures());
+        assertEquals(Map.of("start", 3, "stop", 2, "remove", 2), daemon.calls);
+    }
+
+    @Test
+    public void createsContainersFromSpecs() {
+        BulkResult<ContainerSpec, CreateContainerResponse> created = bulk(2).createContainers(List.of(
+                ContainerSpec.of("nginx:alpine"),
+                ContainerSpec.of("redis:7", cmd -> cmd.withName("cache"))))
+                .await().atMost(TIMEOUT)
+                .throwIfFailed();
+
+        assertEquals(List.of("nginx:alpine", "redis:7"), created.results().stream().map(CreateContainerResponse::getId)
+                .toList());
+        assertEquals(2, daemon.calls.get("create"));
+    }
+
+    @Test
+    public void validatesItsArguments() {
+        DockerBulkOperations bulk = bulk(1);
+        BulkResult<String, Void> empty = bulk.removeContainers(List.of(), true).await().atMost(TIMEOUT);
+        assertTrue(empty.items().isEmpty());
+        assertEquals(Map.of(), daemon.calls);
+
+        assertThrows(IllegalArgumentException.class, () -> bulk.withParallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> new DockerBulkOperations(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> ContainerSpec.of(null));
+    }
+
+    private DockerBulkOperations bulk(int parallelism) {
+        return new DockerBulkOperations(new ReactiveDockerClient(DockerClientImpl.getInstance(
+                DefaultDockerClientConfig.createDefaultConfigBuilder()
+                        .withDockerHost("tcp://localhost:2375")
+                        .build(),
+                daemon), executor), parallelism);
+    }
+
+    /**
+     * Daemon whose containers are in the state named by their ID, counting the calls per operation.
+     */
+    private static final class ContainersDaemon implements DockerHttpClient {
+
+        private final Map<String, Integer> calls = new ConcurrentHashMap<>();
+
+        @Override
+        public Response execute(Request request) {
+            String path = request.path();
+            if (path.matches(".*/containers/create(\\?.*)?")) {
+                calls.merge("create", 1, Integer::sum);
+                String body = new String(request.bodyBytes(), StandardCharsets.UTF_8);
+                String image = body.replaceAll(".*\"Image\":\"([^\"]+)\".*", "$1");
+                return response(201, "{\"Id\":\"" + image + "\",\"Warnings\":[]}");
+            }
+
+            String container = path.replaceAll(".*/containers/([^/?]+).*", "$1");
+            String operation = path.endsWith("/start") ? "start" : path.contains("/stop") ? "stop" : "remove";
+            calls.merge(operation, 1, Integer::sum);
+            if (container.equals("broken")) {
+                return response(500, "{\"message\":\"cannot start container\"}");
+            }
+            boolean unchanged = switch (operation) {
+                case "start" -> container.equals("running");
+                case "stop" -> container.equals("exited");
+                default -> false;
+            };
+            if (unchanged) {
+                return response(304, "");
+            }
+            if (container.equals("gone")) {
+                return response(404, "{\"message\":\"No such container: gone\"}");
+            }
+            return response(204, "");
+        }
+
+        private static Response response(int status, String body) {
+            return BufferedResponse.of(status, Map.of("Content-Type", List.of("application/json")),
+                    body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
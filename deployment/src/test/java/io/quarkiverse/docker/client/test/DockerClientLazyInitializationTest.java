@@ -0,0 +1,48 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.dockerjava.api.DockerClient;
+
+import io.quarkiverse.docker.client.runtime.DockerClientRecorder;
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class DockerClientLazyInitializationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.docker.initialization", "lazy")
+            .overrideConfigKey("quarkus.docker.docker-host", "tcp://localhost:2375")
+            .overrideConfigKey("quarkus.docker.\"ci\".docker-host", "tcp://localhost:2376")
+            .setLogRecordPredicate(record -> record.getLoggerName().equals(DockerClientRecorder.class.getName()))
+            .assertLogRecords(records -> {
+                // The default client is never used, so it is never built
+                assertEquals(List.of("ci"), records.stream()
+                        .filter(record -> record.getMessage().startsWith("Docker client %s initialized"))
+                        .map(record -> record.getParameters()[0])
+                        .toList());
+            });
+
+    @Inject
+    @NamedDockerClient("ci")
+    Instance<DockerClient> ciClient;
+
+    @Test
+    public void buildsClientsOnFirstUse() {
+        DockerClient client = ciClient.get();
+        assertSame(client, ciClient.get());
+    }
+}
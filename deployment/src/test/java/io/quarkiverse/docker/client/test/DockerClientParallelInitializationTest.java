@@ -0,0 +1,59 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.dockerjava.api.DockerClient;
+
+import io.quarkiverse.docker.client.runtime.DockerClientRecorder;
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class DockerClientParallelInitializationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.docker.initialization", "parallel")
+            .overrideConfigKey("quarkus.docker.docker-host", "tcp://localhost:2375")
+            .overrideConfigKey("quarkus.docker.\"node-1\".docker-host", "tcp://localhost:2376")
+            .overrideConfigKey("quarkus.docker.\"node-2\".docker-host", "tcp://localhost:2377")
+            .setLogRecordPredicate(record -> record.getLoggerName().equals(DockerClientRecorder.class.getName()))
+            .assertLogRecords(records -> {
+                // Client name to the thread that built it
+                Map<String, String> builtBy = records.stream()
+                        .filter(record -> record.getMessage().startsWith("Docker client %s initialized"))
+                        .collect(Collectors.toMap(record -> String.valueOf(record.getParameters()[0]),
+                                record -> ((ExtLogRecord) record).getThreadName()));
+                assertEquals(List.of("<default>", "node-1", "node-2"), builtBy.keySet().stream().sorted().toList());
+                assertTrue(builtBy.values().stream().allMatch(thread -> thread.startsWith("docker-client-init-")),
+                        builtBy::toString);
+                assertEquals(3, builtBy.values().stream().distinct().count());
+            });
+
+    @Inject
+    @NamedDockerClient("node-1")
+    DockerClient node1;
+
+    @Inject
+    @NamedDockerClient("node-2")
+    DockerClient node2;
+
+    @Test
+    public void buildsAllClientsAtStartup() {
+        assertNotSame(node1, node2);
+    }
+}
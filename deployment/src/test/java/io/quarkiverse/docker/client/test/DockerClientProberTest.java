@@ -0,0 +1,188 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientImpl;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.quarkiverse.docker.client.runtime.config.DockerHealthCheckConfig;
+import io.quarkiverse.docker.client.runtime.health.DockerClientProber;
+import io.quarkiverse.docker.client.runtime.health.DockerClientStatus;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class DockerClientProberTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final PingDaemon daemon = new PingDaemon();
+    private DockerClientProber prober;
+
+    @AfterEach
+    public void stop() {
+        if (prober != null) {
+            prober.stop();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void reportsClientsAsPendingUntilEnoughPingsSucceeded() throws InterruptedException {
+        AtomicInteger resolved = new AtomicInteger();
+        prober = prober(Map.of("default", () -> {
+            resolved.incrementAndGet();
+            return client(daemon);
+        }), new HealthConfig(Duration.ofMillis(20), 3, 2));
+
+        // Clients are only resolved by their first ping
+        assertEquals(List.of(new DockerClientStatus("default", false, "pending", 0)), prober.statuses());
+        assertEquals(0, resolved.get());
+
+        prober.start();
+        await(() -> daemon.pings.get() >= 1);
+        await(() -> prober.statuses().get(0).up());
+        assertTrue(daemon.pings.get() >= 2);
+        assertEquals("OK", prober.statuses().get(0).message());
+        assertTrue(resolved.get() >= 1);
+    }
+
+    @Test
+    public void flipsToDownOnlyOnceEnoughPingsFailed() throws InterruptedException {
+        prober = prober(Map.of("default", () -> client(daemon)), new HealthConfig(Duration.ofMillis(20), 3, 1));
+        prober.start();
+        await(() -> prober.statuses().get(0).up());
+
+        daemon.status = 500;
+        int failedFrom = daemon.pings.get();
+        await(() -> daemon.pings.get() >= failedFrom + 2);
+        // Pings below the failure threshold keep the client up, unless the third one already completed
+        DockerClientStatus belowThreshold = prober.statuses().get(0);
+        assertTrue(belowThreshold.up() || daemon.pings.get() >= failedFrom + 3);
+
+        await(() -> !prober.statuses().get(0).up());
+        assertTrue(daemon.pings.get() >= failedFrom + 3);
+        assertTrue(prober.statuses().get(0).message().contains("500"), prober.statuses().get(0).message());
+    }
+
+    @Test
+    public void stopsPingingOnceStopped() throws InterruptedException {
+        AtomicInteger changes = new AtomicInteger();
+        prober = new DockerClientProber(Map.of("default", () -> client(daemon)),
+                new HealthConfig(Duration.ofMillis(10), 1, 1), name -> TIMEOUT, changes::incrementAndGet);
+        prober.start();
+        await(() -> changes.get() >= 3);
+
+        prober.stop();
+        Thread.sleep(50);
+        int pings = daemon.pings.get();
+        Thread.sleep(100);
+        assertEquals(pings, daemon.pings.get());
+    }
+
+    @Test
+    public void reportsUnreachableClientsAsDown() {
+        Supplier<ReactiveDockerClient> broken = () -> {
+            throw new IllegalStateException("No configuration found for Docker client: broken");
+        };
+        DockerClientStatus status = DockerClientProber.ping("broken", broken, TIMEOUT).await().indefinitely();
+        assertFalse(status.up());
+        assertEquals("No configuration found for Docker client: broken", status.message());
+
+        daemon.delay = Duration.ofMillis(500);
+        status = DockerClientProber.ping("slow", () -> client(daemon), Duration.ofMillis(50)).await().indefinitely();
+        assertEquals(new DockerClientStatus("slow", false, "timeout", 50), status);
+
+        // Building the client counts in the timeout of the ping
+        daemon.delay = Duration.ZERO;
+        status = DockerClientProber.ping("starting", () -> {
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return client(daemon);
+        }, Duration.ofMillis(50)).await().atMost(Duration.ofMillis(400));
+        assertEquals(new DockerClientStatus("starting", false, "timeout", 50), status);
+    }
+
+    private DockerClientProber prober(Map<String, Supplier<ReactiveDockerClient>> clients, HealthConfig config) {
+        return new DockerClientProber(clients, config, name -> TIMEOUT, null);
+    }
+
+    private ReactiveDockerClient client(DockerHttpClient daemon) {
+        return new ReactiveDockerClient(DockerClientImpl.getInstance(DefaultDockerClientConfig.createDefaultConfigBuilder()
+                .withDockerHost("tcp://localhost:2375")
+                .build(), daemon), executor);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private record HealthConfig(Duration interval, int failureThreshold,
+            int successThreshold) implements DockerHealthCheckConfig {
+
+        @Override
+        public Optional<Duration> timeout() {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean background() {
+            return true;
+        }
+
+        @Override
+        public Duration jitter() {
+            return Duration.ZERO;
+        }
+    }
+
+    /**
+     * Daemon answering pings with the configured status after the configured delay.
+     */
+    private static final class PingDaemon implements DockerHttpClient {
+
+        private final AtomicInteger pings = new AtomicInteger();
+        private volatile int status = 200;
+        private volatile Duration delay = Duration.ZERO;
+
+        @Override
+        public Response execute(Request request) {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pings.incrementAndGet();
+            return BufferedResponse.of(status, Map.of(), (status == 200 ? "OK" : "{\"message\":\"daemon error\"}")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientImpl;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.quarkiverse.docker.client.runtime.config.DockerEventOverflow;
+import io.quarkiverse.docker.client.runtime.config.DockerEventsConfig;
+import io.quarkiverse.docker.client.runtime.events.DockerEventStream;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+
+public class DockerEventStreamTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<DockerEventStream> streams = new ArrayList<>();
+
+    @AfterEach
+    public void stop() {
+        streams.forEach(DockerEventStream::close);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void resumesFromTheLastEventWithoutDuplicates() {
+        EventsDaemon daemon = new EventsDaemon(List.of(
+                List.of(event("a", 100 * SECOND), event("b", 100 * SECOND)),
+                // The daemon replays the events of the resume instant, and older ones if its clock moved back
+                List.of(event("z", 99 * SECOND), event("a", 100 * SECOND), event("b", 100 * SECOND),
+                        event("c", 100 * SECOND), event("d", 101 * SECOND + 5))));
+        DockerEventStream stream = stream(daemon, DockerEventOverflow.DROP, 16);
+
+        AssertSubscriber<Event> subscriber = stream.events().subscribe().withSubscriber(AssertSubscriber.create(10));
+        subscriber.awaitItems(4, Duration.ofSeconds(5)).cancel();
+
+        assertEquals(List.of("a", "b", "c", "d"), subscriber.getItems().stream().map(Event::getId).toList());
+        List<String> paths = daemon.paths();
+        assertFalse(paths.get(0).contains("since="));
+        assertTrue(paths.get(1).contains("since=100.000000000"), paths.get(1));
+        assertTrue(paths.get(2).contains("since=101.000000005"), paths.get(2));
+    }
+
+    @Test
+    public void failsSlowSubscribersBeyondTheBuffer() {
+        EventsDaemon daemon = new EventsDaemon(List.of(events(2_000)));
+        DockerEventStream stream = stream(daemon, DockerEventOverflow.FAIL, 4);
+
+        AssertSubscriber<Event> subscriber = stream.events().subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        subscriber.awaitFailure(Duration.ofSeconds(5));
+        assertInstanceOf(BackPressureFailure.class, subscriber.getFailure());
+        assertEquals(0, stream.droppedEvents());
+    }
+
+    @Test
+    public void dropsEventsForSlowSubscribers() {
+        EventsDaemon daemon = new EventsDaemon(List.of(events(2_000)));
+        DockerEventStream stream = stream(daemon, DockerEventOverflow.DROP, 4);
+
+        AssertSubscriber<Event> subscriber = stream.events().subscribe().withSubscriber(AssertSubscriber.create(1));
+        subscriber.awaitItems(1, Duration.ofSeconds(5));
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (stream.droppedEvents() == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        assertTrue(stream.droppedEvents() > 0);
+        assertEquals(1, subscriber.getItems().size());
+        subscriber.assertNotTerminated();
+        stream.close();
+        // Closing completes the subscription once the events already handed over are consumed
+        subscriber.request(Long.MAX_VALUE).awaitCompletion(Duration.ofSeconds(5));
+        // Only the buffered events waited for the subscriber
+        assertTrue(subscriber.getItems().size() <= 1 + 4, subscriber.getItems().size() + " events");
+    }
+
+    private DockerEventStream stream(DockerHttpClient daemon, DockerEventOverflow overflow, int bufferSize) {
+        DefaultDockerClientConfig clientConfig = DefaultDockerClientConfig.createDefaultConfigBuilder()
+                .withDockerHost("tcp://localhost:2375")
+                .build();
+        ReactiveDockerClient client = new ReactiveDockerClient(DockerClientImpl.getInstance(clientConfig, daemon),
+                executor);
+        DockerEventStream stream = new DockerEventStream(client, "test", new EventsConfig(bufferSize, overflow,
+                Duration.ofMillis(5), Duration.ofMillis(20), Optional.empty(), Optional.empty(), Optional.empty()));
+        streams.add(stream);
+        return stream;
+    }
+
+    private static List<String> events(int count) {
+        return IntStream.range(0, count).mapToObj(i -> event("c" + i, 100 * SECOND + i)).toList();
+    }
+
+    private static String event(String id, long timeNano) {
+        return String.format("{\"Type\":\"container\",\"Action\":\"start\",\"id\":\"%s\",\"time\":%d,\"timeNano\":%d}",
+                id, timeNano / SECOND, timeNano);
+    }
+
+    private record EventsConfig(int bufferSize, DockerEventOverflow overflow, Duration reconnectInitialBackoff,
+            Duration reconnectMaxBackoff, Optional<List<String>> types, Optional<List<String>> labels,
+            Optional<List<String>> containers) implements DockerEventsConfig {
+    }
+
+    /**
+     * Daemon answering every events connection with the next list of events and closing it, then with empty streams.
+     */
+    private static final class EventsDaemon implements DockerHttpClient {
+
+        private final List<List<String>> connections;
+        private final List<String> paths = Collections.synchronizedList(new ArrayList<>());
+
+        EventsDaemon(List<List<String>> connections) {
+            this.connections = connections;
+        }
+
+        List<String> paths() {
+            synchronized (paths) {
+                return List.copyOf(paths);
+            }
+        }
+
+        @Override
+        public Response execute(Request request) {
+            int connection = paths.size();
+            paths.add(request.path());
+            String body = connection < connections.size()
+                    ? connections.get(connection).stream().collect(Collectors.joining("\n", "", "\n"))
+                    : "";
+            return BufferedResponse.of(200, Map.of("Content-Type", List.of("application/json")),
+                    body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
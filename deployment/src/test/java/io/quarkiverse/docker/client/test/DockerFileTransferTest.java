@@ -0,0 +1,144 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.transfer.DockerFileTransfer;
+import io.quarkiverse.docker.client.runtime.transfer.DockerTransferResult;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class DockerFileTransferTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void copiesTreesThroughArchives() throws IOException {
+        Path source = Files.createDirectories(directory.resolve("source/dist"));
+        byte[] artifact = new byte[300_000];
+        new Random(42).nextBytes(artifact);
+        Files.write(source.resolve("app.jar"), artifact);
+        Files.writeString(source.resolve("empty.txt"), "");
+        String longName = "nested/" + "a-rather-long-directory-name/".repeat(4) + "config.properties";
+        Files.createDirectories(source.resolve(longName).getParent());
+        Files.writeString(source.resolve(longName), "key=value\n");
+
+        ArchiveDaemon daemon = new ArchiveDaemon();
+        DockerFileTransfer transfer = new DockerFileTransfer(daemon, "1.47");
+        DockerTransferResult uploaded = transfer.copyToContainer("builder", source, "/workspace");
+        assertEquals("/v1.47/containers/builder/archive?path=%2Fworkspace", daemon.uploadPath);
+        assertEquals(artifact.length + 10, uploaded.bytes());
+
+        Path target = directory.resolve("target");
+        DockerTransferResult downloaded = transfer.copyFromContainer("builder", "/workspace/dist", target);
+        assertEquals(uploaded, downloaded);
+        assertArrayEquals(artifact, Files.readAllBytes(target.resolve("dist/app.jar")));
+        assertEquals("", Files.readString(target.resolve("dist/empty.txt")));
+        assertEquals("key=value\n", Files.readString(target.resolve("dist").resolve(longName)));
+    }
+
+    @Test
+    public void rejectsEntriesOutsideOfTarget() throws IOException {
+        Path source = Files.createDirectories(directory.resolve("source"));
+        Files.writeString(source.resolve("file.txt"), "content");
+        ArchiveDaemon daemon = new ArchiveDaemon();
+        DockerFileTransfer transfer = new DockerFileTransfer(daemon, null);
+        transfer.copyContentsToContainer("builder", source, "/workspace");
+
+        // The same archive extracted below a directory only reachable through ".." is refused
+        String archive = new String(daemon.archive, StandardCharsets.ISO_8859_1).replace("file.txt", "../f.txt");
+        daemon.archive = fixChecksum(archive.getBytes(StandardCharsets.ISO_8859_1));
+        assertThrows(IOException.class, () -> transfer.copyFromContainer("builder", "/workspace", directory.resolve("t")));
+        assertTrue(Files.notExists(directory.resolve("f.txt")));
+
+        assertThrows(NotFoundException.class, () -> transfer.copyFromContainer("missing", "/workspace", directory));
+    }
+
+    @Test
+    public void replacesLinksByDirectoryEntries() throws IOException {
+        Path source = Files.createDirectories(directory.resolve("source/config"));
+        Files.writeString(source.resolve("app.properties"), "key=value\n");
+        ArchiveDaemon daemon = new ArchiveDaemon();
+        DockerFileTransfer transfer = new DockerFileTransfer(daemon, null);
+        transfer.copyContentsToContainer("builder", directory.resolve("source"), "/workspace");
+
+        // A link left in the target in place of a directory of the archive is not followed
+        Path outside = Files.createDirectories(directory.resolve("outside"));
+        Files.setPosixFilePermissions(outside, PosixFilePermissions.fromString("rwx------"));
+        Path target = Files.createDirectories(directory.resolve("target"));
+        Files.createSymbolicLink(target.resolve("config"), outside);
+        transfer.copyFromContainer("builder", "/workspace", target);
+
+        assertFalse(Files.isSymbolicLink(target.resolve("config")));
+        assertEquals("key=value\n", Files.readString(target.resolve("config/app.properties")));
+        assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(outside)));
+        try (Stream<Path> files = Files.list(outside)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static byte[] fixChecksum(byte[] archive) {
+        for (int i = 148; i < 156; i++) {
+            archive[i] = ' ';
+        }
+        long checksum = 0;
+        for (int i = 0; i < 512; i++) {
+            checksum += archive[i] & 0xFF;
+        }
+        byte[] digits = String.format("%06o\0 ", checksum).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(digits, 0, archive, 148, 8);
+        return archive;
+    }
+
+    /**
+     * Keeps the last uploaded archive and serves it back on downloads.
+     */
+    private static final class ArchiveDaemon implements DockerHttpClient {
+
+        private String uploadPath;
+        private byte[] archive;
+
+        @Override
+        public Response execute(Request request) {
+            if (request.path().contains("/containers/missing/")) {
+                return BufferedResponse.of(404, Map.of(), "{\"message\":\"No such container\"}"
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            if (request.method().equals("PUT")) {
+                uploadPath = request.path();
+                try (InputStream body = request.body()) {
+                    archive = body.readAllBytes();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return BufferedResponse.of(200, Map.of(), new byte[0]);
+            }
+            return BufferedResponse.of(200, Map.of("Content-Type", List.of("application/x-tar")), archive);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.build.DockerBuildOutcome;
+import io.quarkiverse.docker.client.runtime.build.DockerBuildPlan;
+import io.quarkiverse.docker.client.runtime.build.DockerBuildReport;
+import io.quarkiverse.docker.client.runtime.build.DockerBuildSpec;
+import io.quarkiverse.docker.client.runtime.build.DockerImageBuildScheduler;
+import io.quarkiverse.docker.client.runtime.build.DockerImageBuilder;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class DockerImageBuildSchedulerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void ordersBuildsByTheirBaseImages() throws IOException {
+        DockerBuildSpec base = spec("base", "FROM eclipse-temurin:21\n", "docker.io/internal/base");
+        DockerBuildSpec orders = spec("orders", """
+                ARG BASE=internal/base
+                FROM ${BASE} AS build
+                RUN ./mvnw package
+                FROM internal/runtime:1.0
+                COPY --from=build /app /app
+                """, "internal/orders:1.0");
+        DockerBuildSpec runtime = spec("runtime", "FROM --platform=linux/amd64 internal/base:latest\n",
+                "internal/runtime:1.0");
+        DockerBuildSpec tools = spec("tools", "FROM scratch\nCOPY --from=internal/orders:1.0 /app /app\n", "internal/tools");
+
+        DockerBuildPlan plan = DockerBuildPlan.of(List.of(tools, orders, runtime, base));
+
+        assertEquals(List.of(base, runtime, orders, tools), plan.order());
+        assertEquals(List.of(base, runtime), plan.dependencies(orders));
+        assertEquals(List.of(orders), plan.dependencies(tools));
+        assertEquals(4, plan.depth());
+
+        // A build from its own tag does not depend on itself
+        DockerBuildSpec rebuild = spec("rebuild", "FROM internal/cache\n", "internal/cache");
+        assertEquals(List.of(), DockerBuildPlan.of(List.of(rebuild)).dependencies(rebuild));
+
+        DockerBuildSpec other = spec("other", "FROM alpine\n", "internal/base:latest");
+        assertThrows(IllegalArgumentException.class, () -> DockerBuildPlan.of(List.of(base, other)));
+
+        DockerBuildSpec first = spec("first", "FROM internal/second\n", "internal/first");
+        DockerBuildSpec second = spec("second", "FROM internal/first\n", "internal/second");
+        assertThrows(IllegalArgumentException.class, () -> DockerBuildPlan.of(List.of(first, second)));
+    }
+
+    @Test
+    public void skipsTheDependentsOfFailedBuilds() throws IOException {
+        DockerBuildSpec base = spec("base", "FROM alpine\n", "internal/base");
+        DockerBuildSpec broken = spec("broken", "FROM alpine\n", "internal/broken");
+        DockerBuildSpec orders = spec("orders", "FROM internal/base\n", "internal/orders").withPull(true);
+        DockerBuildSpec payments = spec("payments", "FROM internal/broken\n", "internal/payments");
+        DockerBuildSpec reports = spec("reports", "FROM internal/payments\n", "internal/reports");
+
+        BuildDaemon daemon = new BuildDaemon("internal/broken");
+        DockerImageBuildScheduler scheduler = new DockerImageBuildScheduler(
+                new DockerImageBuilder(daemon, "test", "1.47", false, null, null), "test", 2, null);
+        DockerBuildReport report = scheduler.build(List.of(base, broken, orders, payments, reports));
+
+        assertEquals(List.of(DockerBuildOutcome.Status.SUCCEEDED, DockerBuildOutcome.Status.FAILED,
+                DockerBuildOutcome.Status.SUCCEEDED, DockerBuildOutcome.Status.DEPENDENCY_FAILED,
+                DockerBuildOutcome.Status.DEPENDENCY_FAILED),
+                report.outcomes().stream().map(DockerBuildOutcome::status).toList());
+        assertEquals(3, report.failures().size());
+        assertNull(report.outcomes().get(3).failure());
+        assertEquals(2, daemon.builds.get());
+        assertTrue(daemon.maxConcurrent.get() <= 2);
+        // The dependent of a build of the plan does not pull the image just built
+        assertEquals("", daemon.pulls.get("internal/orders"));
+        assertTrue(report.criticalPath().size() <= 2);
+        assertTrue(report.criticalPathTime().compareTo(report.wallTime()) <= 0);
+    }
+
+    @Test
+    public void rebuildsTheDependentsOfRebuiltImages() throws IOException {
+        DockerBuildSpec base = spec("base", "FROM alpine\n", "internal/base");
+        DockerBuildSpec orders = spec("orders", "FROM internal/base\n", "internal/orders");
+
+        BuildDaemon daemon = new BuildDaemon(null);
+        DockerImageBuildScheduler scheduler = new DockerImageBuildScheduler(
+                new DockerImageBuilder(daemon, "test", "1.47", true, null, null), "test", 2, null);
+        scheduler.build(List.of(base, orders));
+        assertEquals(2, daemon.builds.get());
+
+        DockerBuildReport unchanged = scheduler.build(List.of(base, orders));
+        assertTrue(unchanged.outcomes().stream().allMatch(outcome -> outcome.result().skipped()));
+        assertEquals(2, daemon.builds.get());
+
+        // The context of orders did not change, but the image it builds from did
+        Files.writeString(base.context().resolve("Dockerfile"), "FROM alpine\nRUN apk add curl\n");
+        DockerBuildReport rebuilt = scheduler.build(List.of(base, orders));
+        assertEquals(List.of(false, false), rebuilt.outcomes().stream().map(outcome -> outcome.result().skipped())
+                .toList());
+        assertEquals(4, daemon.builds.get());
+
+        // Once built, orders is skipped again as long as its base is
+        DockerBuildReport again = scheduler.build(List.of(base, orders));
+        assertTrue(again.outcomes().stream().allMatch(outcome -> outcome.result().skipped()));
+        assertEquals(4, daemon.builds.get());
+    }
+
+    private DockerBuildSpec spec(String name, String dockerfile, String tag) throws IOException {
+        Path context = Files.createDirectories(directory.resolve(name));
+        Files.writeString(context.resolve("Dockerfile"), dockerfile);
+        return DockerBuildSpec.of(context, tag);
+    }
+
+    /**
+     * Answers builds after a short delay, failing the builds of one tag, and records the concurrency of the builds. Only
+     * the images it built exist, and can be tagged.
+     */
+    private static final class BuildDaemon implements DockerHttpClient {
+
+        private final String failingTag;
+        private final AtomicInteger builds = new AtomicInteger();
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private final Map<String, String> pulls = new ConcurrentHashMap<>();
+
+        BuildDaemon(String failingTag) {
+            this.failingTag = failingTag;
+        }
+
+        @Override
+        public Response execute(Request request) {
+            String path = URLDecoder.decode(request.path(), StandardCharsets.UTF_8);
+            if (path.contains("/images/")) {
+                boolean built = path.contains("/images/sha256:");
+                return BufferedResponse.of(built ? path.endsWith("/json") ? 200 : 201 : 404, Map.of(),
+                        "{}".getBytes(StandardCharsets.UTF_8));
+            }
+            String tag = path.replaceAll(".*[?&]t=([^&]*).*", "$1");
+            pulls.put(tag, path.contains("pull=") ? "pull" : "");
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try (InputStream body = request.body()) {
+                body.transferTo(OutputStream.nullOutputStream());
+                Thread.sleep(50);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            if (tag.equals(failingTag)) {
+                return BufferedResponse.of(200, Map.of(),
+                        "{\"error\":\"RUN failed\"}\r\n".getBytes(StandardCharsets.UTF_8));
+            }
+            int build = builds.incrementAndGet();
+            String messages = "{\"aux\":{\"ID\":\"sha256:" + "%064d".formatted(build) + "\"}}\r\n";
+            return BufferedResponse.of(200, Map.of(), messages.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
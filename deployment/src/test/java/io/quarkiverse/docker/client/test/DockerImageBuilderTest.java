@@ -0,0 +1,203 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.model.AuthConfig;
+import com.github.dockerjava.api.model.AuthConfigurations;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.build.DockerBuildException;
+import io.quarkiverse.docker.client.runtime.build.DockerBuildResult;
+import io.quarkiverse.docker.client.runtime.build.DockerBuildSpec;
+import io.quarkiverse.docker.client.runtime.build.DockerIgnoreMatcher;
+import io.quarkiverse.docker.client.runtime.build.DockerImageBuilder;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class DockerImageBuilderTest {
+
+    private static final String IMAGE_ID = "sha256:5d0da3dc976460b72c77d94c8a1ad043720b0416bfc16c52c45d4847e53fadb6";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void matchesDockerignorePatterns() {
+        DockerIgnoreMatcher matcher = DockerIgnoreMatcher.parse(List.of(
+                "# comment",
+                "node_modules",
+                "**/*.log",
+                "/target/",
+                "docs/*.md",
+                "!docs/README.md",
+                "tmp?"));
+
+        assertTrue(matcher.isExcluded("node_modules"));
+        assertTrue(matcher.isExcluded("node_modules/lodash/index.js"));
+        assertFalse(matcher.isExcluded("src/node_modules"));
+        assertTrue(matcher.isExcluded("debug.log"));
+        assertTrue(matcher.isExcluded("services/orders/debug.log"));
+        assertTrue(matcher.isExcluded("target/classes/App.class"));
+        assertTrue(matcher.isExcluded("docs/guide.md"));
+        assertFalse(matcher.isExcluded("docs/README.md"));
+        assertFalse(matcher.isExcluded("docs/api/guide.md"));
+        assertTrue(matcher.isExcluded("tmp1"));
+        assertFalse(matcher.isExcluded("tmp12"));
+
+        assertTrue(matcher.canPrune("node_modules"));
+        assertFalse(matcher.canPrune("docs"));
+    }
+
+    @Test
+    public void streamsFilteredContexts() throws IOException {
+        Path context = Files.createDirectories(directory.resolve("orders"));
+        Files.writeString(context.resolve("Dockerfile"), "FROM internal/base\nCOPY app.jar /app/\n");
+        Files.writeString(context.resolve(".dockerignore"), "build\nDockerfile\n*.tmp\n");
+        Files.writeString(context.resolve("app.jar"), "jar");
+        Files.writeString(context.resolve("scratch.tmp"), "temporary");
+        Files.createDirectories(context.resolve("build/cache"));
+        Files.writeString(context.resolve("build/cache/blob"), "cached");
+
+        BuildDaemon daemon = new BuildDaemon();
+        DockerImageBuilder builder = new DockerImageBuilder(daemon, "test", "1.47", true, null, null);
+        List<String> output = new ArrayList<>();
+        DockerBuildResult result = builder.build(DockerBuildSpec.of(context, "internal/orders:1.0"), output::add);
+
+        assertEquals(IMAGE_ID, result.imageId());
+        assertFalse(result.skipped());
+        assertEquals(List.of("Step 1/2 : FROM internal/base\n"), output);
+        // The Dockerfile and .dockerignore are sent even when excluded
+        assertEquals(List.of(".dockerignore", "Dockerfile", "app.jar"), daemon.entries);
+        assertTrue(daemon.buildPath.startsWith("/v1.47/build?rm=1&dockerfile=Dockerfile&t=internal%2Forders%3A1.0"));
+
+        // Nothing changed, the image is only tagged again
+        DockerBuildResult again = builder.build(DockerBuildSpec.of(context, "internal/orders:1.0"));
+        assertTrue(again.skipped());
+        assertEquals(result.contextDigest(), again.contextDigest());
+        assertEquals(1, daemon.builds);
+
+        Files.writeString(context.resolve("app.jar"), "jar2");
+        assertFalse(builder.build(DockerBuildSpec.of(context, "internal/orders:1.0")).skipped());
+        assertEquals(2, daemon.builds);
+
+        daemon.failure = "{\"errorDetail\":{\"message\":\"COPY failed\"},\"error\":\"COPY failed\"}\r\n";
+        DockerBuildException failure = assertThrows(DockerBuildException.class,
+                () -> builder.build(DockerBuildSpec.of(context).withNoCache(true)));
+        assertEquals("test", failure.getClientName());
+        assertNull(daemon.registryConfig);
+    }
+
+    @Test
+    public void rebuildsWhenABaseImageChanged() throws IOException {
+        Path context = Files.createDirectories(directory.resolve("dependent"));
+        Files.writeString(context.resolve("Dockerfile"), "ARG BASE=internal/base\nFROM ${BASE} AS build\n"
+                + "FROM docker.io/library/alpine:3.20\nCOPY --from=build /app /app\n");
+
+        BuildDaemon daemon = new BuildDaemon();
+        daemon.baseImages.put("internal/base:latest", "sha256:1111");
+        daemon.baseImages.put("alpine:3.20", "sha256:2222");
+        DockerImageBuilder builder = new DockerImageBuilder(daemon, "test", "1.47", true, null, null);
+        DockerBuildSpec spec = DockerBuildSpec.of(context, "internal/dependent:1.0");
+
+        DockerBuildResult first = builder.build(spec);
+        assertTrue(builder.build(spec).skipped());
+
+        // The base image was rebuilt, the unchanged context must be built on top of it
+        daemon.baseImages.put("internal/base:latest", "sha256:3333");
+        DockerBuildResult rebuilt = builder.build(spec);
+        assertFalse(rebuilt.skipped());
+        assertNotEquals(first.contextDigest(), rebuilt.contextDigest());
+        assertEquals(2, daemon.builds);
+        assertTrue(builder.build(spec).skipped());
+    }
+
+    @Test
+    public void sendsTheRegistryCredentialsOfTheClient() throws IOException {
+        Path context = Files.createDirectories(directory.resolve("private"));
+        Files.writeString(context.resolve("Dockerfile"), "FROM registry.example.com/team/base\n");
+        AuthConfigurations registryAuth = new AuthConfigurations();
+        registryAuth.addConfig(new AuthConfig()
+                .withRegistryAddress("registry.example.com")
+                .withUsername("ci")
+                .withPassword("secret"));
+
+        BuildDaemon daemon = new BuildDaemon();
+        new DockerImageBuilder(daemon, "test", "1.47", false, null, registryAuth)
+                .build(DockerBuildSpec.of(context, "internal/private").withPull(true));
+
+        JsonNode registries = new ObjectMapper().readTree(Base64.getUrlDecoder().decode(daemon.registryConfig));
+        assertEquals("ci", registries.path("registry.example.com").path("username").asText());
+        assertEquals("secret", registries.path("registry.example.com").path("password").asText());
+    }
+
+    /**
+     * Lists the entries of the received contexts, and answers with the progress messages of a successful build. Base
+     * images are answered with their configured IDs.
+     */
+    private static final class BuildDaemon implements DockerHttpClient {
+
+        private final Map<String, String> baseImages = new HashMap<>();
+        private final List<String> entries = new ArrayList<>();
+        private String buildPath;
+        private String registryConfig;
+        private int builds;
+        private String failure;
+
+        @Override
+        public Response execute(Request request) {
+            if (request.path().contains("/images/")) {
+                String baseImage = baseImages.get(request.path().replaceAll(".*/images/(.+)/json$", "$1"));
+                if (baseImage != null) {
+                    return BufferedResponse.of(200, Map.of(), ("{\"Id\":\"" + baseImage + "\"}")
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+                return BufferedResponse.of(builds > 0 ? 200 : 404, Map.of(), "{}".getBytes(StandardCharsets.UTF_8));
+            }
+            buildPath = request.path();
+            registryConfig = request.headers().get("X-Registry-Config");
+            entries.clear();
+            try (InputStream body = request.body()) {
+                byte[] header = new byte[512];
+                while (body.readNBytes(header, 0, 512) == 512 && header[0] != 0) {
+                    entries.add(new String(header, 0, 100, StandardCharsets.UTF_8).replace("\0", ""));
+                    long size = Long.parseLong(new String(header, 124, 11, StandardCharsets.US_ASCII), 8);
+                    body.skipNBytes((size + 511) / 512 * 512);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (failure != null) {
+                return BufferedResponse.of(200, Map.of(), failure.getBytes(StandardCharsets.UTF_8));
+            }
+            builds++;
+            String messages = "{\"stream\":\"Step 1/2 : FROM internal/base\\n\"}\r\n"
+                    + "{\"aux\":{\"ID\":\"" + IMAGE_ID + "\"}}\r\n";
+            return BufferedResponse.of(200, Map.of(), messages.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.api.model.StreamType;
+
+import io.quarkiverse.docker.client.runtime.logs.DockerLogBufferPool;
+import io.quarkiverse.docker.client.runtime.logs.DockerLogDemultiplexer;
+import io.quarkiverse.docker.client.runtime.logs.DockerLogListener;
+
+public class DockerLogDemultiplexerTest {
+
+    @Test
+    public void decodesFramesSplitAnywhere() {
+        byte[] stream = concat(
+                frame(1, "first line\nsecond "),
+                frame(2, "oops\n"),
+                frame(1, "line\r\n"),
+                frame(1, ""),
+                frame(2, "trailing"));
+
+        // Feeding every split point covers headers and payloads cut in two
+        for (int split = 0; split <= stream.length; split++) {
+            List<String> lines = new ArrayList<>();
+            DockerLogListener listener = DockerLogDemultiplexer.lines(
+                    (type, line) -> lines.add(type + ":" + StandardCharsets.UTF_8.decode(line)),
+                    new DockerLogBufferPool(64, 4));
+            DockerLogDemultiplexer demultiplexer = new DockerLogDemultiplexer(listener);
+            demultiplexer.feed(ByteBuffer.wrap(stream, 0, split));
+            demultiplexer.feed(ByteBuffer.wrap(stream, split, stream.length - split));
+            listener.onComplete();
+
+            assertEquals(List.of("STDOUT:first line", "STDERR:oops", "STDOUT:second line", "STDERR:trailing"), lines,
+                    "split at " + split);
+        }
+    }
+
+    @Test
+    public void passesRawStreamsThrough() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<StreamType> types = new ArrayList<>();
+        DockerLogDemultiplexer demultiplexer = new DockerLogDemultiplexer((type, payload) -> {
+            types.add(type);
+            while (payload.hasRemaining()) {
+                output.write(payload.get());
+            }
+        });
+        demultiplexer.feed(ByteBuffer.wrap("tty output\n".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("tty output\n", output.toString(StandardCharsets.UTF_8));
+        assertEquals(List.of(StreamType.RAW), types);
+    }
+
+    @Test
+    public void splitsLinesLongerThanBuffers() {
+        List<String> lines = new ArrayList<>();
+        DockerLogListener listener = DockerLogDemultiplexer.lines(
+                (type, line) -> lines.add(StandardCharsets.UTF_8.decode(line).toString()),
+                new DockerLogBufferPool(16, 4));
+        DockerLogDemultiplexer demultiplexer = new DockerLogDemultiplexer(listener, true);
+        byte[] stream = frame(1, "0123456789abcdefXYZ\n");
+        for (byte b : stream) {
+            demultiplexer.feed(ByteBuffer.wrap(new byte[] { b }));
+        }
+
+        assertEquals(List.of("0123456789abcdef", "XYZ"), lines);
+    }
+
+    @Test
+    public void reusesPooledBuffers() {
+        DockerLogBufferPool pool = new DockerLogBufferPool(64, 2);
+        ByteBuffer first = pool.acquire();
+        pool.release(first);
+        ByteBuffer second = pool.acquire();
+
+        assertSame(first, second);
+        assertEquals(1, pool.allocated());
+    }
+
+    private static byte[] frame(int stream, String payload) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(8 + bytes.length)
+                .put((byte) stream).put((byte) 0).put((byte) 0).put((byte) 0)
+                .putInt(bytes.length)
+                .put(bytes)
+                .array();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
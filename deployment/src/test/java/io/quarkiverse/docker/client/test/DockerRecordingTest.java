@@ -0,0 +1,89 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.recording.DockerRecording;
+import io.quarkiverse.docker.client.runtime.recording.DockerReplayException;
+import io.quarkiverse.docker.client.runtime.recording.RecordingDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.recording.ReplayDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class DockerRecordingTest {
+
+    private static final byte[] CONTAINERS = "[{\"Id\":\"4f2a1bc0d9e8\"}]".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void replaysRecordedExchanges() throws IOException {
+        Path file = directory.resolve("session.rec");
+        DockerHttpClient daemon = new StubDaemon();
+        try (DockerHttpClient recording = new RecordingDockerHttpClient(daemon, DockerRecording.create(file))) {
+            read(recording, get("/v1.47/containers/json?all=1"));
+            read(recording, get("/v1.47/containers/web-1700000000000/json"));
+        }
+
+        List<DockerRecording.Exchange> exchanges = DockerRecording.read(file);
+        assertEquals(2, exchanges.size());
+        assertEquals("/v1.47/containers/json?all=1", exchanges.get(0).path());
+
+        try (DockerHttpClient replay = new ReplayDockerHttpClient(new StubDaemon(), "test", exchanges, 0)) {
+            // The API version prefix is ignored
+            try (DockerHttpClient.Response response = replay.execute(get("/v1.43/containers/json?all=1"))) {
+                assertEquals(200, response.getStatusCode());
+                assertEquals("application/json", response.getHeader("content-type"));
+                assertArrayEquals(CONTAINERS, response.getBody().readAllBytes());
+            }
+            // A generated name falls back to the recorded exchange of the same endpoint
+            try (DockerHttpClient.Response response = replay.execute(get("/containers/web-1800000000000/json"))) {
+                assertEquals(404, response.getStatusCode());
+            }
+            assertThrows(DockerReplayException.class, () -> replay.execute(get("/info")));
+        }
+    }
+
+    private static void read(DockerHttpClient client, DockerHttpClient.Request request) throws IOException {
+        try (DockerHttpClient.Response response = client.execute(request); InputStream body = response.getBody()) {
+            body.readAllBytes();
+        }
+    }
+
+    private static DockerHttpClient.Request get(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    private static final class StubDaemon implements DockerHttpClient {
+
+        @Override
+        public Response execute(Request request) {
+            if (request.path().contains("/containers/json")) {
+                return BufferedResponse.of(200, Map.of("Content-Type", List.of("application/json")), CONTAINERS);
+            }
+            return BufferedResponse.of(404, Map.of("Content-Type", List.of("application/json")),
+                    "{\"message\":\"No such container\"}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.config.DockerClientGroupConfig;
+import io.quarkiverse.docker.client.runtime.config.DockerPlacementStrategy;
+import io.quarkiverse.docker.client.runtime.group.GroupDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class GroupDockerHttpClientTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @AfterEach
+    public void stopScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void placesContainersRoundRobinAndRoutesTheirRequests() throws IOException {
+        MemberDaemon first = new MemberDaemon("first");
+        MemberDaemon second = new MemberDaemon("second");
+        GroupDockerHttpClient group = group(DockerPlacementStrategy.ROUND_ROBIN, Optional.empty(), first, second);
+
+        String web = createdId(group.execute(create("web", "{}")));
+        String db = createdId(group.execute(create("db", "{}")));
+
+        assertEquals(Set.of(web, "web"), first.containers);
+        assertEquals(Set.of(db, "db"), second.containers);
+        assertEquals(Optional.of("second"), group.memberOf(db));
+        // Requests by name or ID go to the member running the container, without locating it first
+        assertEquals(204, group.execute(post("/v1.43/containers/web/start")).getStatusCode());
+        assertEquals(204, group.execute(post("/containers/" + db + "/start")).getStatusCode());
+        assertEquals(List.of("POST /containers/create?name=web", "POST /v1.43/containers/web/start"),
+                first.requests());
+        assertEquals(List.of("POST /containers/create?name=db", "POST /containers/" + db + "/start"), second.requests());
+    }
+
+    @Test
+    public void keepsContainersWithTheSameHashLabelTogether() throws IOException {
+        MemberDaemon first = new MemberDaemon("first");
+        MemberDaemon second = new MemberDaemon("second");
+        MemberDaemon third = new MemberDaemon("third");
+        GroupDockerHttpClient group = group(DockerPlacementStrategy.CONSISTENT_HASH, Optional.of("tenant"), first, second,
+                third);
+
+        String body = "{\"Labels\":{\"tenant\":\"acme\"}}";
+        List<String> members = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            members.add(group.memberOf(createdId(group.execute(create(null, body)))).orElseThrow());
+        }
+
+        assertEquals(Set.of(group.place("acme")), Set.copyOf(members));
+        // Without label, the container name is the key
+        assertEquals(group.place("web"), group.memberOf(createdId(group.execute(create("web", "{}")))).orElseThrow());
+    }
+
+    @Test
+    public void locatesContainersTheGroupDidNotCreate() {
+        MemberDaemon first = new MemberDaemon("first");
+        MemberDaemon second = new MemberDaemon("second");
+        second.containers.add("legacy");
+        GroupDockerHttpClient group = group(DockerPlacementStrategy.ROUND_ROBIN, Optional.empty(), first, second);
+
+        assertEquals(Optional.of("second"), group.memberOf("legacy"));
+        assertEquals(Optional.empty(), group.memberOf("missing"));
+
+        assertEquals(204, group.execute(post("/containers/legacy/stop")).getStatusCode());
+        // The container was inspected on every member once, then remembered
+        assertEquals(List.of("GET /containers/legacy/json", "GET /containers/missing/json"), first.requests());
+        assertEquals(List.of("GET /containers/legacy/json", "GET /containers/missing/json",
+                "POST /containers/legacy/stop"), second.requests());
+    }
+
+    @Test
+    public void pullsImagesOnEveryMember() {
+        MemberDaemon first = new MemberDaemon("first");
+        MemberDaemon second = new MemberDaemon("second");
+        GroupDockerHttpClient group = group(DockerPlacementStrategy.ROUND_ROBIN, Optional.empty(), first, second);
+
+        assertEquals(200, group.execute(post("/images/create?fromImage=nginx&tag=alpine")).getStatusCode());
+        second.failingPulls = true;
+        // A pull failing on one member fails the whole pull
+        assertEquals(404, group.execute(post("/images/create?fromImage=nginx&tag=alpine")).getStatusCode());
+
+        assertEquals(2, first.requests().size());
+        assertEquals(2, second.requests().size());
+    }
+
+    @Test
+    public void mergesContainerListings() throws IOException {
+        MemberDaemon first = new MemberDaemon("first");
+        MemberDaemon second = new MemberDaemon("second");
+        first.containers.add("a1");
+        second.containers.addAll(List.of("b1", "b2"));
+        GroupDockerHttpClient group = group(DockerPlacementStrategy.ROUND_ROBIN, Optional.empty(), first, second);
+
+        JsonNode listing = mapper.readTree(group.execute(get("/containers/json?all=1")).getBody());
+
+        assertEquals(Set.of("a1", "b1", "b2"), Set.copyOf(listing.findValuesAsText("Id")));
+        // Listed containers are remembered, later requests about them are not preceded by inspections
+        assertEquals(Optional.of("second"), group.memberOf("b2"));
+        assertEquals(List.of("GET /containers/json?all=1"), second.requests());
+    }
+
+    @Test
+    public void placesNoContainersOnMembersThatDoNotAnswer() throws Exception {
+        MemberDaemon first = new MemberDaemon("first");
+        MemberDaemon second = new MemberDaemon("second");
+        first.down = true;
+        GroupDockerHttpClient group = group(DockerPlacementStrategy.ROUND_ROBIN, Optional.empty(), first, second);
+
+        awaitHealthyMembers(group, List.of("second"));
+        for (int i = 0; i < 3; i++) {
+            group.execute(create(null, "{}"));
+        }
+        assertEquals(3, second.containers.size());
+        assertTrue(first.containers.isEmpty());
+
+        first.down = false;
+        awaitHealthyMembers(group, List.of("first", "second"));
+        group.close();
+    }
+
+    @Test
+    public void placesContainersOnTheLeastLoadedMember() throws Exception {
+        MemberDaemon first = new MemberDaemon("first");
+        MemberDaemon second = new MemberDaemon("second");
+        first.running = 8;
+        second.running = 2;
+        GroupDockerHttpClient group = group(DockerPlacementStrategy.LEAST_LOADED, Optional.empty(), first, second);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!"second".equals(group.place(null)) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("second", group.place(null));
+        // Containers placed since the last load refresh count as load, so a burst spreads out
+        List<String> placed = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            placed.add(group.memberOf(createdId(group.execute(create(null, "{}")))).orElseThrow());
+        }
+        assertEquals(Map.of("first", 1L, "second", 7L),
+                placed.stream().collect(Collectors.groupingBy(name -> name, Collectors.counting())));
+    }
+
+    private GroupDockerHttpClient group(DockerPlacementStrategy strategy, Optional<String> hashLabel,
+            MemberDaemon... daemons) {
+        Map<String, DockerHttpClient> members = new LinkedHashMap<>();
+        for (MemberDaemon daemon : daemons) {
+            members.put(daemon.name, daemon);
+        }
+        // Frequent health checks and a load refresh that happens once, so placement counts stay observable
+        GroupConfig config = new GroupConfig(List.copyOf(members.keySet()), strategy, hashLabel, Duration.ofMillis(10),
+                Duration.ofHours(1));
+        return new GroupDockerHttpClient("group", members, config, scheduler);
+    }
+
+    private String createdId(DockerHttpClient.Response response) throws IOException {
+        assertEquals(201, response.getStatusCode());
+        return mapper.readTree(response.getBody()).path("Id").asText();
+    }
+
+    private static void awaitHealthyMembers(GroupDockerHttpClient group, List<String> expected)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!group.healthyMembers().equals(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, group.healthyMembers());
+    }
+
+    private static DockerHttpClient.Request create(String name, String body) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.POST)
+                .path(name == null ? "/containers/create" : "/containers/create?name=" + name)
+                .headers(Map.of("Content-Type", "application/json"))
+                .bodyBytes(body.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static DockerHttpClient.Request post(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.POST)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    private static DockerHttpClient.Request get(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    private record GroupConfig(List<String> members, DockerPlacementStrategy strategy, Optional<String> hashLabel,
+            Duration healthCheckInterval, Duration loadRefreshInterval) implements DockerClientGroupConfig {
+    }
+
+    /**
+     * Member daemon keeping its containers, and the names they were created with, in memory and recording the requests it
+     * receives, pings and load reads aside.
+     */
+    private static final class MemberDaemon implements DockerHttpClient {
+
+        private final String name;
+        private final Set<String> containers = ConcurrentHashMap.newKeySet();
+        private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger created = new AtomicInteger();
+        private volatile boolean down;
+        private volatile boolean failingPulls;
+        private volatile int running;
+
+        MemberDaemon(String name) {
+            this.name = name;
+        }
+
+        List<String> requests() {
+            synchronized (requests) {
+                return List.copyOf(requests);
+            }
+        }
+
+        @Override
+        public Response execute(Request request) {
+            if (down) {
+                throw new UncheckedIOException(new IOException("Connection refused"));
+            }
+            String path = request.path();
+            if (path.equals("/_ping")) {
+                return respond(200, "OK");
+            }
+            if (path.equals("/info")) {
+                return respond(200, "{\"ContainersRunning\":" + running + ",\"NCPU\":1}");
+            }
+            requests.add(request.method() + " " + path);
+
+            String resource = path.replaceFirst("^/v[\\d.]+", "").replaceFirst("\\?.*", "");
+            if (resource.equals("/containers/create")) {
+                String id = name + "-" + created.incrementAndGet();
+                containers.add(id);
+                String containerName = path.contains("name=") ? path.replaceFirst(".*name=", "") : null;
+                if (containerName != null) {
+                    containers.add(containerName);
+                }
+                return respond(201, "{\"Id\":\"" + id + "\"}");
+            }
+            if (resource.equals("/containers/json")) {
+                return respond(200, containers.stream()
+                        .map(id -> "{\"Id\":\"" + id + "\"}")
+                        .collect(Collectors.joining(",", "[", "]")));
+            }
+            if (resource.equals("/images/create")) {
+                return failingPulls ? respond(404, "{\"message\":\"manifest unknown\"}") : respond(200, "{}");
+            }
+            String id = resource.replaceFirst("^/containers/([^/]+)/.*", "$1");
+            if (!containers.contains(id)) {
+                return respond(404, "{\"message\":\"No such container: " + id + "\"}");
+            }
+            return resource.endsWith("/json") ? respond(200, "{\"Id\":\"" + id + "\"}") : respond(204, "");
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static Response respond(int status, String body) {
+            return BufferedResponse.of(status, Map.of(), body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.docker.client.runtime.metrics.MicrometerDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class MicrometerDockerHttpClientTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final StubDaemon daemon = new StubDaemon();
+    private final MicrometerDockerHttpClient client = new MicrometerDockerHttpClient(daemon, registry, "production");
+
+    @AfterEach
+    public void stop() {
+        executor.shutdownNow();
+        registry.close();
+    }
+
+    @Test
+    public void timesCallsByEndpointTemplate() throws IOException {
+        client.execute(request(DockerHttpClient.Request.Method.GET, "/v1.43/containers/4f2a1b/json")).close();
+        client.execute(request(DockerHttpClient.Request.Method.GET, "/v1.43/containers/9c3d5e/json?size=1")).close();
+        client.execute(request(DockerHttpClient.Request.Method.GET, "/v1.43/containers/missing/json")).close();
+
+        Timer ok = registry.get("docker.client.requests")
+                .tags("client", "production", "method", "GET", "endpoint", "/containers/{id}/json", "status", "200")
+                .timer();
+        assertEquals(2, ok.count());
+        Timer notFound = registry.get("docker.client.requests").tag("status", "404").timer();
+        assertEquals(1, notFound.count());
+        // Identifiers never end up in tags
+        assertEquals(2, registry.get("docker.client.requests").timers().size());
+    }
+
+    @Test
+    public void countsErrorResponsesAndFailedCalls() {
+        client.execute(request(DockerHttpClient.Request.Method.GET, "/v1.43/containers/missing/json")).close();
+        daemon.failing = true;
+        assertThrows(UncheckedIOException.class,
+                () -> client.execute(request(DockerHttpClient.Request.Method.GET, "/v1.43/info")));
+
+        assertEquals(1, registry.get("docker.client.errors").tags("endpoint", "/containers/{id}/json", "error", "404")
+                .counter().count());
+        assertEquals(1, registry.get("docker.client.errors").tags("endpoint", "/info", "error", "UncheckedIOException")
+                .counter().count());
+        assertEquals(1, registry.get("docker.client.requests").tags("endpoint", "/info", "status", "IO_ERROR")
+                .timer().count());
+        assertNull(registry.find("docker.client.errors").tag("endpoint", "/version").counter());
+    }
+
+    @Test
+    public void gaugesRequestsWaitingForTheirResponse() throws Exception {
+        daemon.held = new CountDownLatch(1);
+        Future<?> call = executor.submit(() -> client.execute(request(DockerHttpClient.Request.Method.GET,
+                "/v1.43/containers/abc/json")).close());
+        Gauge active = awaitGauge("/containers/{id}/json");
+        await(() -> active.value() == 1);
+
+        daemon.held.countDown();
+        call.get(5, TimeUnit.SECONDS);
+        assertEquals(0, active.value());
+    }
+
+    @Test
+    public void summarizesRequestAndResponseSizes() throws IOException {
+        client.execute(DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.POST)
+                .path("/v1.43/containers/create")
+                .headers(Map.of())
+                .bodyBytes(new byte[42])
+                .build()).close();
+        // Streamed bodies are counted as the transport consumes them
+        client.execute(DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.POST)
+                .path("/v1.43/build?t=app")
+                .headers(Map.of())
+                .body(new ByteArrayInputStream(new byte[1000]))
+                .build()).close();
+
+        DistributionSummary created = registry.get("docker.client.request.size").tag("endpoint", "/containers/create")
+                .summary();
+        assertEquals(1, created.count());
+        assertEquals(42, created.totalAmount());
+        assertEquals(1000, registry.get("docker.client.request.size").tag("endpoint", "/build").summary().totalAmount());
+
+        // Response sizes are recorded once the body is closed
+        DockerHttpClient.Response response = client.execute(request(DockerHttpClient.Request.Method.GET,
+                "/v1.43/containers/abc/logs"));
+        assertEquals(12, response.getBody().readAllBytes().length);
+        DistributionSummary logs = registry.get("docker.client.response.size").tag("endpoint", "/containers/{id}/logs")
+                .summary();
+        assertEquals(0, logs.count());
+        response.close();
+        assertEquals(1, logs.count());
+        assertEquals(12, logs.totalAmount());
+    }
+
+    @Test
+    public void countsCoalescedCalls() {
+        MicrometerDockerHttpClient.coalescedRequestsCounter(registry, null).accept("/info");
+        MicrometerDockerHttpClient.coalescedRequestsCounter(registry, null).accept("/info");
+
+        assertEquals(2, registry.get("docker.client.requests.coalesced").tags("client", "<default>", "endpoint", "/info")
+                .counter().count());
+    }
+
+    private Gauge awaitGauge(String endpoint) throws InterruptedException {
+        await(() -> registry.find("docker.client.requests.active").tag("endpoint", endpoint).gauge() != null);
+        return registry.get("docker.client.requests.active").tag("endpoint", endpoint).gauge();
+    }
+
+    private static DockerHttpClient.Request request(DockerHttpClient.Request.Method method, String path) {
+        return DockerHttpClient.Request.builder()
+                .method(method)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Daemon consuming request bodies and answering with a small body, with a 404 for missing containers, or failing.
+     */
+    private static final class StubDaemon implements DockerHttpClient {
+
+        private volatile boolean failing;
+        private volatile CountDownLatch held = new CountDownLatch(0);
+
+        @Override
+        public Response execute(Request request) {
+            if (failing) {
+                throw new UncheckedIOException(new IOException("Connection refused"));
+            }
+            try {
+                held.await();
+                if (request.body() != null) {
+                    try (InputStream body = request.body()) {
+                        body.transferTo(OutputStream.nullOutputStream());
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int status = request.path().contains("/missing/") ? 404 : 200;
+            return BufferedResponse.of(status, Map.of(), "{\"Id\":\"abc\"}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
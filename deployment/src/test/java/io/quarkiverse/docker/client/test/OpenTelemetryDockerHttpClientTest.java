@@ -0,0 +1,195 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TracerProvider;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkiverse.docker.client.runtime.tracing.OpenTelemetryDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+
+public class OpenTelemetryDockerHttpClientTest {
+
+    private static final AttributeKey<String> CLIENT_NAME = AttributeKey.stringKey("docker.client.name");
+    private static final AttributeKey<String> ENDPOINT = AttributeKey.stringKey("url.template");
+    private static final AttributeKey<String> SERVER_ADDRESS = AttributeKey.stringKey("server.address");
+    private static final AttributeKey<Long> SERVER_PORT = AttributeKey.longKey("server.port");
+    private static final AttributeKey<Long> STATUS_CODE = AttributeKey.longKey("http.response.status_code");
+    private static final AttributeKey<Long> RESPONSE_SIZE = AttributeKey.longKey("http.response.body.size");
+    private static final AttributeKey<Boolean> STREAMING = AttributeKey.booleanKey("docker.stream");
+
+    private final RecordingExporter exporter = new RecordingExporter();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build();
+    private final StubDaemon daemon = new StubDaemon();
+    private final OpenTelemetryDockerHttpClient client = new OpenTelemetryDockerHttpClient(daemon,
+            () -> new TestOpenTelemetry(tracerProvider), "production", "tcp://docker.example.com:2375");
+
+    @AfterEach
+    public void stop() {
+        tracerProvider.close();
+    }
+
+    @Test
+    public void tracesCallsUntilTheResponseIsClosed() throws IOException {
+        Span parent = tracerProvider.get("test").spanBuilder("incoming").startSpan();
+        try (Scope ignored = parent.makeCurrent();
+                DockerHttpClient.Response response = client.execute(get("/v1.43/containers/abc/json"))) {
+            assertEquals("{\"Id\":\"abc\"}", new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+            // Reading the body is part of the call
+            assertTrue(exporter.spans.isEmpty());
+        } finally {
+            parent.end();
+        }
+
+        SpanData span = exporter.span("GET /containers/{id}/json");
+        assertEquals(SpanKind.CLIENT, span.getKind());
+        assertEquals(parent.getSpanContext().getSpanId(), span.getParentSpanId());
+        assertEquals("production", span.getAttributes().get(CLIENT_NAME));
+        assertEquals("/containers/{id}/json", span.getAttributes().get(ENDPOINT));
+        assertEquals("docker.example.com", span.getAttributes().get(SERVER_ADDRESS));
+        assertEquals(2375L, span.getAttributes().get(SERVER_PORT));
+        assertEquals(200L, span.getAttributes().get(STATUS_CODE));
+        assertEquals(12L, span.getAttributes().get(RESPONSE_SIZE));
+        assertFalse(span.getAttributes().get(STREAMING));
+        assertEquals(StatusCode.UNSET, span.getStatus().getStatusCode());
+    }
+
+    @Test
+    public void marksErrorResponsesAndFailedCalls() {
+        client.execute(get("/v1.43/containers/missing/json")).close();
+        SpanData notFound = exporter.span("GET /containers/{id}/json");
+        assertEquals(404L, notFound.getAttributes().get(STATUS_CODE));
+        assertEquals(StatusCode.ERROR, notFound.getStatus().getStatusCode());
+
+        daemon.failing = true;
+        assertThrows(IllegalStateException.class, () -> client.execute(get("/v1.43/info")));
+        SpanData failed = exporter.span("GET /info");
+        assertEquals(StatusCode.ERROR, failed.getStatus().getStatusCode());
+        assertEquals("exception", failed.getEvents().get(0).getName());
+    }
+
+    @Test
+    public void doesNotKeepSpansOpenWhileStreaming() throws IOException {
+        DockerHttpClient.Response response = client.execute(get("/v1.43/containers/abc/logs?follow=1"));
+
+        // The call span ended with the response headers, nothing is open while the stream is read
+        SpanData call = exporter.span("GET /containers/{id}/logs");
+        assertTrue(call.getAttributes().get(STREAMING));
+        assertEquals(List.of("docker.stream.opened"), call.getEvents().stream().map(EventData::getName).toList());
+        assertEquals(1, exporter.spans.size());
+
+        response.getBody().readAllBytes();
+        response.close();
+        response.close();
+
+        assertEquals(2, exporter.spans.size());
+        SpanData stream = exporter.span("docker.stream");
+        assertEquals(SpanKind.INTERNAL, stream.getKind());
+        assertFalse(stream.getParentSpanContext().isValid());
+        assertEquals(call.getSpanContext(), stream.getLinks().get(0).getSpanContext());
+        EventData closed = stream.getEvents().get(0);
+        assertEquals("docker.stream.closed", closed.getName());
+        assertEquals(12L, closed.getAttributes().get(RESPONSE_SIZE));
+        assertTrue(closed.getAttributes().get(AttributeKey.longKey("docker.stream.duration_ms")) >= 0);
+        assertTrue(stream.getEndEpochNanos() - stream.getStartEpochNanos() < 1_000_000_000L);
+    }
+
+    private static DockerHttpClient.Request get(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    /**
+     * OpenTelemetry instance exposing a tracer provider without propagators.
+     */
+    private record TestOpenTelemetry(TracerProvider getTracerProvider) implements OpenTelemetry {
+
+        @Override
+        public ContextPropagators getPropagators() {
+            return ContextPropagators.noop();
+        }
+    }
+
+    /**
+     * Exporter keeping the ended spans in memory.
+     */
+    private static final class RecordingExporter implements SpanExporter {
+
+        private final List<SpanData> spans = new CopyOnWriteArrayList<>();
+
+        SpanData span(String name) {
+            return spans.stream()
+                    .filter(span -> span.getName().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No span named " + name + " in " + spans));
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> ended) {
+            spans.addAll(ended);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+    /**
+     * Daemon answering every call with the same small body, with a 404 for missing containers, or failing.
+     */
+    private static final class StubDaemon implements DockerHttpClient {
+
+        private volatile boolean failing;
+
+        @Override
+        public Response execute(Request request) {
+            if (failing) {
+                throw new IllegalStateException("Connection refused");
+            }
+            int status = request.path().contains("/missing/") ? 404 : 200;
+            return BufferedResponse.of(status, Map.of(), "{\"Id\":\"abc\"}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
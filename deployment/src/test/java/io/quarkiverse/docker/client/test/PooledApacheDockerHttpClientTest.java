@@ -0,0 +1,103 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+import com.sun.net.httpserver.HttpServer;
+
+import io.quarkiverse.docker.client.runtime.config.DockerClientPoolConfig;
+import io.quarkiverse.docker.client.runtime.transport.PooledApacheDockerHttpClient;
+
+public class PooledApacheDockerHttpClientTest {
+
+    private HttpServer daemon;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    public void startDaemon() throws IOException {
+        daemon = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        daemon.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = exchange.getRequestURI().getPath().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        daemon.start();
+    }
+
+    @AfterEach
+    public void stopDaemon() {
+        daemon.stop(0);
+    }
+
+    @Test
+    public void warmsUpAtMostTheConnectionsOfTheRoute() throws IOException {
+        long start = System.nanoTime();
+        try (PooledApacheDockerHttpClient client = client(new PoolConfig(10, 3, Duration.ofSeconds(10)))) {
+            assertEquals(3, client.warmUp(8));
+            // Leasing beyond the per-route limit would wait for the lease timeout
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+            assertEquals(3, clientPorts.size());
+
+            // Requests reuse the warmed up connections
+            try (DockerHttpClient.Response response = client.execute(DockerHttpClient.Request.builder()
+                    .method(DockerHttpClient.Request.Method.GET)
+                    .path("/v1.43/info")
+                    .headers(Map.of())
+                    .build())) {
+                assertEquals(200, response.getStatusCode());
+                assertEquals("/v1.43/info", new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+            }
+            assertEquals(3, clientPorts.size());
+        }
+    }
+
+    @Test
+    public void warmsUpAtMostTheTotalConnections() throws IOException {
+        try (PooledApacheDockerHttpClient client = client(new PoolConfig(2, 10, Duration.ofSeconds(10)))) {
+            assertEquals(2, client.warmUp(8));
+            assertEquals(2, clientPorts.size());
+        }
+    }
+
+    private PooledApacheDockerHttpClient client(PoolConfig pool) {
+        return new PooledApacheDockerHttpClient(URI.create("tcp://localhost:" + daemon.getAddress().getPort()), null,
+                Duration.ofSeconds(5), Duration.ofSeconds(5), pool);
+    }
+
+    private record PoolConfig(int maxTotal, int maxPerRoute, Duration leaseTimeout) implements DockerClientPoolConfig {
+
+        @Override
+        public Optional<Duration> timeToLive() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Duration> idleTimeout() {
+            return Optional.empty();
+        }
+
+        @Override
+        public int warmUpConnections() {
+            return 0;
+        }
+    }
+}
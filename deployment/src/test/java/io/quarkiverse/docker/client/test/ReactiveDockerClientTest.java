@@ -0,0 +1,262 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.CreateContainerResponse;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.Info;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientImpl;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+public class ReactiveDockerClientTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "docker-test"));
+
+    @AfterEach
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void dispatchesStreamedItemsOnTheExecutor() {
+        DockerHttpClient daemon = new StubDaemon(Map.of("/images/create",
+                "{\"status\":\"Pulling fs layer\"}\n{\"status\":\"Download complete\"}\n"));
+
+        List<String> threads = new CopyOnWriteArrayList<>();
+        new ReactiveDockerClient(client(daemon), executor, true).pullImage("nginx:alpine")
+                .invoke(item -> threads.add(Thread.currentThread().getName()))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .awaitCompletion(Duration.ofSeconds(5));
+        assertEquals(List.of("docker-test", "docker-test"), threads);
+
+        threads.clear();
+        List<PullResponseItem> items = new ReactiveDockerClient(client(daemon), executor, false).pullImage("nginx:alpine")
+                .invoke(item -> threads.add(Thread.currentThread().getName()))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .awaitCompletion(Duration.ofSeconds(5))
+                .getItems();
+        // Without dispatch, items arrive on the thread docker-java reads the stream with
+        assertEquals(2, items.size());
+        assertTrue(threads.stream().allMatch(thread -> thread.startsWith("docker-java-stream")), threads.toString());
+    }
+
+    @Test
+    public void runsCommandsOnTheExecutorOnEverySubscription() {
+        StubDaemon daemon = new StubDaemon(Map.of("/info", "{\"Name\":\"daemon\",\"Containers\":3}"));
+        ReactiveDockerClient client = new ReactiveDockerClient(client(daemon), executor);
+
+        List<String> threads = new CopyOnWriteArrayList<>();
+        Uni<Info> info = client.info().invoke(ignored -> threads.add(Thread.currentThread().getName()));
+        // Nothing is sent before subscription
+        assertEquals(List.of(), daemon.requests);
+
+        assertEquals(3, info.await().atMost(Duration.ofSeconds(5)).getContainers());
+        assertEquals("daemon", info.await().atMost(Duration.ofSeconds(5)).getName());
+        assertEquals(List.of("GET /info", "GET /info"), daemon.requests);
+        assertEquals(List.of("docker-test", "docker-test"), threads);
+    }
+
+    @Test
+    public void exposesContainerCommands() {
+        StubDaemon daemon = new StubDaemon(Map.of(
+                "/containers/json", "[{\"Id\":\"abc\",\"Names\":[\"/web\"]}]",
+                "/containers/abc/json", "{\"Id\":\"abc\",\"Name\":\"/web\",\"State\":{\"Running\":true}}",
+                "/containers/create", "{\"Id\":\"def\",\"Warnings\":[]}",
+                "/containers/def/start", "",
+                "/containers/def/stop", "",
+                "/containers/def", ""));
+        ReactiveDockerClient client = new ReactiveDockerClient(client(daemon), executor);
+
+        List<Container> containers = client.listContainers(true).await().atMost(Duration.ofSeconds(5));
+        assertEquals("abc", containers.get(0).getId());
+        InspectContainerResponse inspected = client.inspectContainer("abc").await().atMost(Duration.ofSeconds(5));
+        assertTrue(inspected.getState().getRunning());
+
+        String id = client.createContainer("nginx:alpine", cmd -> cmd.withLabels(Map.of("app", "demo")))
+                .call(created -> client.startContainer(created.getId()))
+                .call(created -> client.stopContainer(created.getId(), 5))
+                .call(created -> client.removeContainer(created.getId(), true))
+                .map(CreateContainerResponse::getId)
+                .await().atMost(Duration.ofSeconds(5));
+        assertEquals("def", id);
+        assertEquals(List.of("GET /containers/json", "GET /containers/abc/json", "POST /containers/create",
+                "POST /containers/def/start", "POST /containers/def/stop", "DELETE /containers/def"), daemon.requests);
+        assertTrue(daemon.bodies.get(0).contains("\"Labels\":{\"app\":\"demo\"}"), daemon.bodies.get(0));
+    }
+
+    @Test
+    public void pullsTheLatestTagUnlessTaggedOrPinned() {
+        StubDaemon daemon = new StubDaemon(Map.of("/images/create", "{\"status\":\"Downloaded newer image\"}\n"));
+        ReactiveDockerClient client = new ReactiveDockerClient(client(daemon), executor);
+
+        for (String reference : List.of("nginx", "nginx:alpine", "registry.example.com:5000/team/app",
+                "nginx@sha256:0123")) {
+            client.pullImage(reference).collect().last().await().atMost(Duration.ofSeconds(5));
+        }
+        assertEquals(List.of("fromImage=nginx&tag=latest", "fromImage=nginx&tag=alpine",
+                "fromImage=registry.example.com:5000/team/app&tag=latest", "fromImage=nginx&tag=sha256:0123"),
+                daemon.queries);
+    }
+
+    @Test
+    public void failsWithTheErrorOfTheDaemon() {
+        ReactiveDockerClient client = new ReactiveDockerClient(client(new StubDaemon(Map.of())), executor);
+
+        assertThrows(NotFoundException.class, () -> client.inspectImage("missing").await().atMost(Duration.ofSeconds(5)));
+        client.pullImage("missing")
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .awaitFailure(Duration.ofSeconds(5))
+                .assertFailedWith(NotFoundException.class);
+    }
+
+    @Test
+    public void closesTheDockerStreamOnCancellation() throws InterruptedException {
+        EndlessDaemon daemon = new EndlessDaemon();
+        ReactiveDockerClient client = new ReactiveDockerClient(client(daemon), executor, true);
+
+        AssertSubscriber<Event> subscriber = client.events()
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .awaitItems(1, Duration.ofSeconds(5));
+        assertEquals("abc", subscriber.getItems().get(0).getId());
+        subscriber.cancel();
+
+        assertTrue(daemon.closed.await(5, TimeUnit.SECONDS));
+    }
+
+    private static DockerClient client(DockerHttpClient daemon) {
+        return DockerClientImpl.getInstance(DefaultDockerClientConfig.createDefaultConfigBuilder()
+                .withDockerHost("tcp://localhost:2375")
+                .build(), daemon);
+    }
+
+    /**
+     * Daemon answering requests with the body configured for their endpoint, ignoring the API version and query. It
+     * remembers the requests it received, and the queries and bodies sent with them.
+     */
+    private static final class StubDaemon implements DockerHttpClient {
+
+        private final Map<String, String> responses;
+        private final List<String> requests = new CopyOnWriteArrayList<>();
+        private final List<String> bodies = new CopyOnWriteArrayList<>();
+        private final List<String> queries = new CopyOnWriteArrayList<>();
+
+        StubDaemon(Map<String, String> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public Response execute(Request request) {
+            String endpoint = request.path().replaceFirst("^/v[\\d.]+", "").replaceFirst("\\?.*", "");
+            requests.add(request.method() + " " + endpoint);
+            int query = request.path().indexOf('?');
+            if (query >= 0) {
+                queries.add(URLDecoder.decode(request.path().substring(query + 1), StandardCharsets.UTF_8));
+            }
+            if (request.bodyBytes() != null) {
+                bodies.add(new String(request.bodyBytes(), StandardCharsets.UTF_8));
+            }
+            String body = responses.get(endpoint);
+            if (body == null) {
+                return BufferedResponse.of(404, Map.of(), "{\"message\":\"not found\"}".getBytes(StandardCharsets.UTF_8));
+            }
+            return BufferedResponse.of(200, Map.of("Content-Type", List.of("application/json")),
+                    body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Daemon answering with an event, then keeping the stream open until it is closed.
+     */
+    private static final class EndlessDaemon implements DockerHttpClient {
+
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public Response execute(Request request) {
+            byte[] event = "{\"Type\":\"container\",\"Action\":\"start\",\"id\":\"abc\"}\n"
+                    .getBytes(StandardCharsets.UTF_8);
+            InputStream body = new InputStream() {
+                private boolean sent;
+
+                @Override
+                public int read() throws IOException {
+                    byte[] single = new byte[1];
+                    return read(single, 0, 1) == -1 ? -1 : single[0];
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    if (!sent && len >= event.length) {
+                        sent = true;
+                        System.arraycopy(event, 0, b, off, event.length);
+                        return event.length;
+                    }
+                    try {
+                        closed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IOException("Stream closed");
+                }
+            };
+            return new Response() {
+                @Override
+                public int getStatusCode() {
+                    return 200;
+                }
+
+                @Override
+                public Map<String, List<String>> getHeaders() {
+                    return Map.of("Content-Type", List.of("application/json"));
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return body;
+                }
+
+                @Override
+                public void close() {
+                    closed.countDown();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package io.quarkiverse.docker.client.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.config.DockerClientPoolConfig;
+import io.quarkiverse.docker.client.runtime.transport.VertxDockerHttpClient;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+public class VertxDockerHttpClientTest {
+
+    private static final int STREAM_CHUNK_SIZE = 8 * 1024;
+    private static final int STREAM_CHUNKS = 256;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch followAborted = new CountDownLatch(1);
+    private Vertx daemonVertx;
+    private HttpServer daemon;
+    private Vertx vertx;
+
+    @BeforeEach
+    public void start() {
+        vertx = Vertx.vertx();
+        daemonVertx = Vertx.vertx();
+        daemon = daemonVertx.createHttpServer()
+                .requestHandler(this::handle)
+                .listen(0, "localhost")
+                .toCompletionStage()
+                .toCompletableFuture()
+                .join();
+    }
+
+    @AfterEach
+    public void stop() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+        daemonVertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Test
+    public void sendsRequestsAndReadsResponses() throws IOException {
+        try (VertxDockerHttpClient client = client(new PoolConfig(4, 4), null)) {
+            try (DockerHttpClient.Response response = client.execute(DockerHttpClient.Request.builder()
+                    .method(DockerHttpClient.Request.Method.GET)
+                    .path("/v1.43/info")
+                    .headers(Map.of("X-Test", "yes"))
+                    .build())) {
+                assertEquals(200, response.getStatusCode());
+                assertEquals("yes", response.getHeader("X-Echo"));
+                assertEquals("GET /v1.43/info", response.getHeader("X-Request"));
+                assertEquals("", read(response));
+            }
+
+            try (DockerHttpClient.Response response = client.execute(DockerHttpClient.Request.builder()
+                    .method(DockerHttpClient.Request.Method.POST)
+                    .path("/v1.43/containers/create")
+                    .headers(Map.of("Content-Type", "application/json"))
+                    .bodyBytes("{\"Image\":\"nginx\"}".getBytes(StandardCharsets.UTF_8))
+                    .build())) {
+                assertEquals(201, response.getStatusCode());
+                assertEquals("{\"Image\":\"nginx\"}", read(response));
+            }
+        }
+    }
+
+    @Test
+    public void uploadsStreamedBodiesInChunks() throws IOException {
+        byte[] context = new byte[3 * STREAM_CHUNK_SIZE * 16 + 17];
+        for (int i = 0; i < context.length; i++) {
+            context[i] = (byte) i;
+        }
+
+        try (VertxDockerHttpClient client = client(new PoolConfig(4, 4), null);
+                DockerHttpClient.Response response = client.execute(DockerHttpClient.Request.builder()
+                        .method(DockerHttpClient.Request.Method.POST)
+                        .path("/v1.43/build")
+                        .headers(Map.of("Content-Type", "application/x-tar"))
+                        .body(new ByteArrayInputStream(context))
+                        .build())) {
+            assertEquals("chunked", response.getHeader("X-Transfer-Encoding"));
+            assertArrayEquals(context, response.getBody().readAllBytes());
+        }
+    }
+
+    @Test
+    public void readsStreamsLargerThanTheBuffer() throws IOException {
+        try (VertxDockerHttpClient client = client(new PoolConfig(4, 4), null);
+                DockerHttpClient.Response response = client.execute(get("/v1.43/containers/abc/logs"))) {
+            InputStream body = response.getBody();
+            byte[] chunk = new byte[STREAM_CHUNK_SIZE];
+            long total = 0;
+            int read;
+            while ((read = body.read(chunk)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    assertEquals('x', chunk[i]);
+                }
+                total += read;
+            }
+            assertEquals((long) STREAM_CHUNK_SIZE * STREAM_CHUNKS, total);
+        }
+    }
+
+    @Test
+    public void abortsEndlessStreamsWhenClosed() throws Exception {
+        try (VertxDockerHttpClient client = client(new PoolConfig(4, 4), null)) {
+            DockerHttpClient.Response response = client.execute(get("/v1.43/containers/abc/logs?follow=1"));
+            assertEquals('x', response.getBody().read());
+            response.close();
+
+            // The daemon only notices when its writes fail on the reset connection
+            assertTrue(followAborted.await(5, TimeUnit.SECONDS));
+            assertThrows(IOException.class, () -> response.getBody().read());
+        }
+    }
+
+    @Test
+    public void failsCallsExceedingTheResponseTimeout() throws IOException {
+        try (VertxDockerHttpClient client = client(new PoolConfig(4, 4), Duration.ofMillis(100))) {
+            UncheckedIOException failure = assertThrows(UncheckedIOException.class,
+                    () -> client.execute(get("/v1.43/containers/slow/json")));
+            assertInstanceOf(SocketTimeoutException.class, failure.getCause());
+        }
+    }
+
+    @Test
+    public void failsReadsExceedingTheResponseTimeout() throws IOException {
+        try (VertxDockerHttpClient client = client(new PoolConfig(4, 4), Duration.ofMillis(100));
+                DockerHttpClient.Response response = client.execute(get("/v1.43/containers/stalled/json"))) {
+            InputStream body = response.getBody();
+            assertEquals('{', body.read());
+            assertThrows(SocketTimeoutException.class, body::read);
+            assertThrows(IOException.class, body::read);
+        }
+    }
+
+    @Test
+    public void refusesBlockingCallsOnTheEventLoop() throws Exception {
+        try (VertxDockerHttpClient client = client(new PoolConfig(4, 4), null)) {
+            CompletableFuture<Throwable> failure = new CompletableFuture<>();
+            vertx.runOnContext(v -> {
+                try {
+                    client.execute(get("/v1.43/info")).close();
+                    failure.complete(null);
+                } catch (RuntimeException e) {
+                    failure.complete(e);
+                }
+            });
+            assertInstanceOf(IllegalStateException.class, failure.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void warmsUpAtMostThePoolSize() throws IOException {
+        try (VertxDockerHttpClient client = client(new PoolConfig(10, 3), null)) {
+            assertEquals(3, client.warmUp(8));
+            assertEquals(3, clientPorts.size());
+
+            // Requests reuse the warmed up connections
+            client.execute(get("/v1.43/info")).close();
+            assertEquals(3, clientPorts.size());
+        }
+    }
+
+    private VertxDockerHttpClient client(PoolConfig pool, Duration responseTimeout) {
+        return new VertxDockerHttpClient(vertx, URI.create("tcp://localhost:" + daemon.actualPort()), null,
+                Duration.ofSeconds(5), responseTimeout, pool);
+    }
+
+    private static DockerHttpClient.Request get(String path) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(path)
+                .headers(Map.of())
+                .build();
+    }
+
+    private static String read(DockerHttpClient.Response response) throws IOException {
+        return new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private void handle(HttpServerRequest request) {
+        clientPorts.add(request.remoteAddress().port());
+        switch (request.path()) {
+            case "/v1.43/containers/abc/logs" -> logs(request);
+            case "/v1.43/containers/slow/json" -> daemonVertx.setTimer(1_000, id -> request.response().end());
+            case "/v1.43/containers/stalled/json" -> request.response().setChunked(true).write("{");
+            default -> request.body().onSuccess(body -> echo(request, body));
+        }
+    }
+
+    /**
+     * Answers with the request body, and with the request line and some request headers as response headers.
+     */
+    private static void echo(HttpServerRequest request, Buffer body) {
+        HttpServerResponse response = request.response();
+        String test = request.getHeader("X-Test");
+        if (test != null) {
+            response.putHeader("X-Echo", test);
+        }
+        String transferEncoding = request.getHeader("Transfer-Encoding");
+        if (transferEncoding != null) {
+            response.putHeader("X-Transfer-Encoding", transferEncoding);
+        }
+        response.putHeader("X-Request", request.method() + " " + request.path())
+                .setStatusCode(request.method() == HttpMethod.POST && body.length() < 100 ? 201 : 200)
+                .end(body);
+    }
+
+    /**
+     * Streams a fixed amount of log chunks, or endless ones when following.
+     */
+    private void logs(HttpServerRequest request) {
+        boolean follow = "follow=1".equals(request.query());
+        HttpServerResponse response = request.response().setChunked(true);
+        if (follow) {
+            response.closeHandler(v -> followAborted.countDown());
+        }
+        byte[] chunk = new byte[STREAM_CHUNK_SIZE];
+        Arrays.fill(chunk, (byte) 'x');
+        stream(response, Buffer.buffer(chunk), follow ? Integer.MAX_VALUE : STREAM_CHUNKS);
+    }
+
+    private static void stream(HttpServerResponse response, Buffer chunk, int remaining) {
+        int left = remaining;
+        while (left > 0 && !response.writeQueueFull()) {
+            response.write(chunk);
+            left--;
+        }
+        if (left == 0) {
+            response.end();
+            return;
+        }
+        int next = left;
+        response.drainHandler(v -> stream(response, chunk, next));
+    }
+
+    private record PoolConfig(int maxTotal, int maxPerRoute) implements DockerClientPoolConfig {
+
+        @Override
+        public Duration leaseTimeout() {
+            return Duration.ofSeconds(10);
+        }
+
+        @Override
+        public Optional<Duration> timeToLive() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Duration> idleTimeout() {
+            return Optional.empty();
+        }
+
+        @Override
+        public int warmUpConnections() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.quarkiverse.docker.client.it;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.docker.client.testing.FakeDockerDaemon;
+import io.quarkiverse.docker.client.testing.FakeDockerDaemonTestResource;
+import io.quarkiverse.docker.client.testing.InjectFakeDockerDaemon;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.common.ResourceArg;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+@QuarkusTestResource(value = FakeDockerDaemonTestResource.class, restrictToAnnotatedClass = true, initArgs = {
+        @ResourceArg(name = "client", value = "client1"),
+        @ResourceArg(name = "latency", value = "log-normal:1ms,10ms"),
+        @ResourceArg(name = "images", value = "nginx:alpine"),
+        @ResourceArg(name = "seed", value = "42")
+})
+class FakeDockerDaemonLoadTest {
+
+    @InjectFakeDockerDaemon
+    FakeDockerDaemon daemon;
+
+    @BeforeEach
+    void reset() {
+        daemon.reset();
+    }
+
+    @Test
+    void testContainerLifecycle() {
+        String containerId = given()
+                .when()
+                .post("/named-docker-client/client1/containers/{imageName}", "nginx:alpine")
+                .then()
+                .statusCode(200)
+                .extract()
+                .asString();
+
+        given()
+                .when()
+                .get("/named-docker-client/client1/containers")
+                .then()
+                .statusCode(200)
+                .body("find { it.Id == '" + containerId + "' }.State", equalTo("running"));
+
+        given()
+                .when()
+                .post("/named-docker-client/client1/containers/{containerId}/stop", containerId)
+                .then()
+                .statusCode(200);
+
+        given()
+                .when()
+                .delete("/named-docker-client/client1/containers/{containerId}", containerId)
+                .then()
+                .statusCode(204);
+
+        assertEquals(0, daemon.containers());
+    }
+
+    @Test
+    void testConcurrentListing() throws Exception {
+        int requests = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                statuses.add(executor.submit(() -> given()
+                        .when()
+                        .get("/named-docker-client/client1/containers")
+                        .statusCode()));
+            }
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, status.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(daemon.requestsByEndpoint().getOrDefault("/containers/json", 0L) >= requests);
+    }
+}
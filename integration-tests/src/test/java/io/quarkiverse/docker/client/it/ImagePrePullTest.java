@@ -0,0 +1,65 @@
+package io.quarkiverse.docker.client.it;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+import io.quarkiverse.docker.client.runtime.bulk.BulkResult;
+import io.quarkiverse.docker.client.runtime.warmup.DockerImageWarmup;
+import io.quarkiverse.docker.client.testing.FakeDockerDaemon;
+import io.quarkiverse.docker.client.testing.FakeDockerDaemonTestResource;
+import io.quarkiverse.docker.client.testing.InjectFakeDockerDaemon;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.common.ResourceArg;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(ImagePrePullTest.PrePullProfile.class)
+@QuarkusTestResource(value = FakeDockerDaemonTestResource.class, restrictToAnnotatedClass = true, initArgs = {
+        @ResourceArg(name = "client", value = "client1"),
+        @ResourceArg(name = "latency", value = "fixed:5ms"),
+        @ResourceArg(name = "images", value = "nginx:alpine")
+})
+class ImagePrePullTest {
+
+    @InjectFakeDockerDaemon
+    FakeDockerDaemon daemon;
+
+    @Inject
+    @NamedDockerClient("client1")
+    DockerImageWarmup warmup;
+
+    @Test
+    void testImagesArePulledAtStartup() throws Exception {
+        BulkResult<String, DockerImageWarmup.Status> result = warmup.start().toCompletableFuture()
+                .get(30, TimeUnit.SECONDS)
+                .throwIfFailed();
+
+        assertEquals(List.of(DockerImageWarmup.Status.PRESENT, DockerImageWarmup.Status.PULLED,
+                DockerImageWarmup.Status.PULLED), result.results());
+        assertTrue(warmup.isDone());
+        assertTrue(daemon.images().containsAll(List.of("redis:7", "busybox:latest")));
+        // Starting again reuses the completed warm-up
+        assertEquals(result, warmup.start().toCompletableFuture().get());
+    }
+
+    public static class PrePullProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.docker.client1.pre-pull.images", "nginx:alpine,redis:7,busybox",
+                    "quarkus.docker.client1.pre-pull.concurrency", "2");
+        }
+    }
+}
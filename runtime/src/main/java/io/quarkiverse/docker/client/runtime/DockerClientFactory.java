@@ -1,15 +1,25 @@
 package io.quarkiverse.docker.client.runtime;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
 import org.apache.commons.lang3.SystemUtils;
 
 import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.AuthConfigurations;
 import com.github.dockerjava.core.DefaultDockerClientConfig;
 import com.github.dockerjava.core.DockerClientConfig;
 import com.github.dockerjava.core.DockerClientImpl;
-import com.github.dockerjava.httpclient5.ApacheDockerHttpClient;
 import com.github.dockerjava.transport.DockerHttpClient;
 
 import io.quarkiverse.docker.client.runtime.config.DockerClientRuntimeConfig;
+import io.quarkiverse.docker.client.runtime.config.DockerTransport;
+import io.quarkiverse.docker.client.runtime.transport.PooledApacheDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.transport.VertxDockerHttpClient;
+import io.quarkus.virtual.threads.VirtualThreadsRecorder;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Vertx;
 
 /**
  * Factory for creating Docker client instances with configured settings. This factory handles the creation and configuration of
@@ -24,6 +34,10 @@ import io.quarkiverse.docker.client.runtime.config.DockerClientRuntimeConfig;
  * <li>SSL/TLS configuration when required</li>
  * <li>Registry authentication settings</li>
  * <li>Connection timeouts</li>
+ * <li>Connection pool sizing and warm-up</li>
+ * <li>Apache HttpClient or Vert.x transport</li>
+ * <li>Worker or virtual thread execution of reactive calls</li>
+ * <li>Transport decorators such as metrics</li>
  * <li>API version configuration</li>
  * </ul>
  *
@@ -49,12 +63,33 @@ public class DockerClientFactory {
     private static final String UNIX_DOCKER_HOST = "unix:///var/run/docker.sock";
 
     private final DockerClientRuntimeConfig config;
+    private final Supplier<Vertx> vertx;
+    private final UnaryOperator<DockerHttpClient> transportDecorator;
 
     public DockerClientFactory(DockerClientRuntimeConfig config) {
+        this(config, null);
+    }
+
+    public DockerClientFactory(DockerClientRuntimeConfig config, Supplier<Vertx> vertx) {
+        this(config, vertx, UnaryOperator.identity());
+    }
+
+    /**
+     * Creates a factory that can build clients on the Vert.x transport and decorates the transport of its clients.
+     *
+     * @param config The client configuration
+     * @param vertx Supplier of the application's Vert.x instance, only required for the {@link DockerTransport#VERTX}
+     *        transport
+     * @param transportDecorator Function wrapping the transport built for the client, for example to record metrics
+     */
+    public DockerClientFactory(DockerClientRuntimeConfig config, Supplier<Vertx> vertx,
+            UnaryOperator<DockerHttpClient> transportDecorator) {
         if (config == null) {
             throw new IllegalArgumentException("DockerClientRuntimeConfig cannot be null");
         }
         this.config = config;
+        this.vertx = vertx;
+        this.transportDecorator = transportDecorator == null ? UnaryOperator.identity() : transportDecorator;
     }
 
     /**
@@ -65,10 +100,43 @@ public class DockerClientFactory {
      */
     public DockerClient createClient() {
         DockerClientConfig clientConfig = buildDockerClientConfig();
-        DockerHttpClient httpClient = buildDockerHttpClient(clientConfig);
+        DockerHttpClient httpClient = transportDecorator.apply(buildDockerHttpClient(clientConfig));
         return DockerClientImpl.getInstance(clientConfig, httpClient);
     }
 
+    /**
+     * Creates a Docker client sending its requests through the given transport instead of one built from the configuration.
+     * The transport decorator of this factory is not applied.
+     *
+     * @param httpClient The transport of the client
+     * @return A configured Docker client instance
+     * @throws IllegalStateException if the operating system is not supported
+     */
+    public DockerClient createClient(DockerHttpClient httpClient) {
+        return DockerClientImpl.getInstance(buildDockerClientConfig(), httpClient);
+    }
+
+    /**
+     * Returns the registry credentials of the client, from the Docker configuration file and the registry settings.
+     *
+     * @return The registry credentials, keyed by registry address
+     */
+    public AuthConfigurations createAuthConfigurations() {
+        return buildDockerClientConfig().getAuthConfigurations();
+    }
+
+    /**
+     * Creates the executor running blocking Docker calls made on behalf of reactive callers.
+     *
+     * @return A virtual thread executor if {@link DockerClientRuntimeConfig#virtualThreads()} is enabled, the default worker
+     *         pool otherwise
+     */
+    public Executor createExecutor() {
+        return config.virtualThreads()
+                ? VirtualThreadsRecorder.getCurrent()
+                : Infrastructure.getDefaultWorkerPool();
+    }
+
     /**
      * Builds the Docker client configuration using the provided settings and platform-specific defaults.
      *
@@ -94,18 +162,25 @@ public class DockerClientFactory {
      * @throws IllegalStateException if the operating system is not supported
      */
     private void configureDockerHost(DefaultDockerClientConfig.Builder builder) {
-        config.dockerHost().ifPresentOrElse(
-                builder::withDockerHost,
-                () -> {
-                    if (SystemUtils.IS_OS_WINDOWS) {
-                        builder.withDockerHost(WINDOWS_DOCKER_HOST);
-                    } else if (SystemUtils.IS_OS_UNIX) {
-                        builder.withDockerHost(UNIX_DOCKER_HOST);
-                    } else {
-                        throw new IllegalStateException(
-                                "Unsupported operating system. Please explicitly configure 'dockerHost'");
-                    }
-                });
+        builder.withDockerHost(resolveDockerHost(config));
+    }
+
+    /**
+     * Resolves the Docker host of a client, falling back to the platform default daemon socket.
+     *
+     * @param config The client configuration
+     * @return The Docker host URI
+     * @throws IllegalStateException if no host is configured and the operating system is not supported
+     */
+    public static String resolveDockerHost(DockerClientRuntimeConfig config) {
+        return config.dockerHost().orElseGet(() -> {
+            if (SystemUtils.IS_OS_WINDOWS) {
+                return WINDOWS_DOCKER_HOST;
+            } else if (SystemUtils.IS_OS_UNIX) {
+                return UNIX_DOCKER_HOST;
+            }
+            throw new IllegalStateException("Unsupported operating system. Please explicitly configure 'dockerHost'");
+        });
     }
 
     /**
@@ -137,17 +212,42 @@ public class DockerClientFactory {
     }
 
     /**
-     * Builds the Docker HTTP client with configured timeouts and SSL settings.
+     * Builds the Docker HTTP client for the configured transport with timeouts, SSL settings and connection pool. Opens the
+     * configured number of warm-up connections before returning.
      *
      * @param dockerConfig The Docker client configuration
      * @return Configured DockerHttpClient instance
+     * @throws IllegalStateException if the Vert.x transport is selected but no Vert.x instance is available
      */
     private DockerHttpClient buildDockerHttpClient(DockerClientConfig dockerConfig) {
-        return new ApacheDockerHttpClient.Builder()
-                .dockerHost(dockerConfig.getDockerHost())
-                .sslConfig(dockerConfig.getSSLConfig())
-                .connectionTimeout(config.connectTimeout())
-                .responseTimeout(config.readTimeout())
-                .build();
+        int warmUpConnections = config.pool().warmUpConnections();
+
+        if (config.transport() == DockerTransport.VERTX) {
+            if (vertx == null || vertx.get() == null) {
+                throw new IllegalStateException("The Vert.x Docker transport requires a Vert.x instance");
+            }
+            VertxDockerHttpClient httpClient = new VertxDockerHttpClient(
+                    vertx.get(),
+                    dockerConfig.getDockerHost(),
+                    dockerConfig.getSSLConfig(),
+                    config.connectTimeout(),
+                    config.readTimeout(),
+                    config.pool());
+            if (warmUpConnections > 0) {
+                httpClient.warmUp(warmUpConnections);
+            }
+            return httpClient;
+        }
+
+        PooledApacheDockerHttpClient httpClient = new PooledApacheDockerHttpClient(
+                dockerConfig.getDockerHost(),
+                dockerConfig.getSSLConfig(),
+                config.connectTimeout(),
+                config.readTimeout(),
+                config.pool());
+        if (warmUpConnections > 0) {
+            httpClient.warmUp(warmUpConnections);
+        }
+        return httpClient;
     }
 }
@@ -1,17 +1,62 @@
 package io.quarkiverse.docker.client.runtime;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.jboss.logging.Logger;
 
 import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.transport.DockerHttpClient;
 
+import io.quarkiverse.docker.client.runtime.build.DockerImageBuildScheduler;
+import io.quarkiverse.docker.client.runtime.build.DockerImageBuilder;
+import io.quarkiverse.docker.client.runtime.bulk.DockerBulkOperations;
+import io.quarkiverse.docker.client.runtime.bulkhead.BulkheadDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.bulkhead.BulkheadListener;
+import io.quarkiverse.docker.client.runtime.bulkhead.MicrometerBulkheadMetrics;
+import io.quarkiverse.docker.client.runtime.cache.CachingDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.circuit.CircuitBreakerDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.coalescing.CoalescingDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.config.DockerClientGroupConfig;
 import io.quarkiverse.docker.client.runtime.config.DockerClientRuntimeConfig;
+import io.quarkiverse.docker.client.runtime.config.DockerInitialization;
+import io.quarkiverse.docker.client.runtime.config.DockerPrePullConfig;
+import io.quarkiverse.docker.client.runtime.config.DockerRecordingConfig;
+import io.quarkiverse.docker.client.runtime.config.DockerRecordingMode;
 import io.quarkiverse.docker.client.runtime.config.DockerRuntimeConfig;
+import io.quarkiverse.docker.client.runtime.events.DockerEventFilter;
+import io.quarkiverse.docker.client.runtime.events.DockerEventStream;
+import io.quarkiverse.docker.client.runtime.group.DockerClientGroup;
+import io.quarkiverse.docker.client.runtime.group.GroupDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.logs.DockerLogBufferPool;
+import io.quarkiverse.docker.client.runtime.logs.DockerLogStreamer;
+import io.quarkiverse.docker.client.runtime.metrics.MicrometerDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.recording.DockerRecording;
+import io.quarkiverse.docker.client.runtime.recording.RecordingDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.recording.ReplayDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.state.ContainerStateMirror;
+import io.quarkiverse.docker.client.runtime.tracing.OpenTelemetryDockerHttpClient;
+import io.quarkiverse.docker.client.runtime.transfer.DockerFileTransfer;
+import io.quarkiverse.docker.client.runtime.warmup.DockerImageWarmup;
 import io.quarkus.runtime.annotations.Recorder;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Vertx;
 
 /**
  * Runtime recorder for Docker client initialization and management.
@@ -25,7 +70,12 @@ import io.quarkus.runtime.annotations.Recorder;
  * <li>Initialization of both default and named Docker clients</li>
  * <li>Client configuration management</li>
  * <li>Client instance caching</li>
+ * <li>Eager, parallel or lazy client initialization</li>
  * <li>Bean creation for dependency injection</li>
+ * <li>Reactive client creation on top of the blocking clients</li>
+ * <li>Decoration of the client transports with optional integrations</li>
+ * <li>Client groups spreading containers over several clients</li>
+ * <li>Image pre-pull at startup</li>
  * </ul>
  *
  * <p>
@@ -48,7 +98,16 @@ import io.quarkus.runtime.annotations.Recorder;
 @Recorder
 public class DockerClientRecorder {
 
-    private static final Map<String, DockerClient> clients = Collections.synchronizedMap(new HashMap<>());
+    private static final Logger LOGGER = Logger.getLogger(DockerClientRecorder.class);
+
+    private static final Map<String, DockerClient> clients = new ConcurrentHashMap<>();
+    private static final Map<String, Executor> executors = new ConcurrentHashMap<>();
+    private static final Map<String, Object> initializationLocks = new ConcurrentHashMap<>();
+    private static final Map<String, CachingDockerHttpClient> caches = new ConcurrentHashMap<>();
+    private static final Map<String, DockerHttpClient> transports = new ConcurrentHashMap<>();
+    private static final Map<String, DockerClientGroup> groups = new ConcurrentHashMap<>();
+    private static final Map<String, DockerImageBuilder> builders = new ConcurrentHashMap<>();
+    private static final Map<String, DockerImageWarmup> warmups = new ConcurrentHashMap<>();
     private final DockerRuntimeConfig config;
 
     public DockerClientRecorder(DockerRuntimeConfig config) {
@@ -60,45 +119,331 @@ public class DockerClientRecorder {
      * This method is called during application startup to create and cache
      * Docker client instances.
      *
-     * @param names Set of client names to initialize
+     * @param names Set of client and client group names to initialize
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
      * @throws IllegalStateException if configuration is missing for any client
      * @throws IllegalArgumentException if names is null
      */
-    public void initialize(Set<String> names) {
+    public void initialize(Set<String> names, Supplier<Vertx> vertx, boolean metricsEnabled, boolean tracingEnabled) {
         if (names == null) {
             throw new IllegalArgumentException("Client names set cannot be null");
         }
+        TransportOptions options = new TransportOptions(vertx, metricsEnabled, tracingEnabled);
 
+        List<String> enabledNames = new ArrayList<>();
+        List<String> groupNames = new ArrayList<>();
         for (String name : names) {
-            initializeClient(name);
+            if (isGroup(name)) {
+                groupNames.add(name);
+                continue;
+            }
+            DockerClientRuntimeConfig clientConfig = getRequiredConfig(name);
+            // Only initialize if enabled
+            if (clientConfig.enabled()) {
+                enabledNames.add(name);
+                executors.computeIfAbsent(name, k -> new DockerClientFactory(clientConfig).createExecutor());
+            }
+        }
+
+        switch (config.initialization()) {
+            case LAZY -> LOGGER.debugf("Docker clients %s will be initialized on first use", enabledNames);
+            case PARALLEL -> initializeInParallel(enabledNames, options);
+            default -> enabledNames.forEach(name -> getOrCreateClient(name, options));
+        }
+
+        for (String groupName : groupNames) {
+            // Blocking calls of a group run on the executor of its first member
+            executors.computeIfAbsent(groupName, k -> getExecutor(getGroupConfig(groupName).members().get(0)));
+            if (config.initialization() != DockerInitialization.LAZY) {
+                getOrCreateGroup(groupName, options);
+            }
+        }
+
+        // Pulls run in the background, on the executors of the clients, so startup does not wait for them
+        for (String name : enabledNames) {
+            if (getRequiredConfig(name).prePull().images().filter(images -> !images.isEmpty()).isPresent()) {
+                getImageWarmup(name, options).start();
+            }
         }
     }
 
     /**
-     * Initializes a single Docker client instance.
+     * Builds the given clients concurrently and waits for all of them.
      *
-     * @param name The client name to initialize
+     * @param names The names of the clients to build
+     * @param options The integrations of the client transports
+     * @throws IllegalStateException if a client cannot be built
+     */
+    private void initializeInParallel(List<String> names, TransportOptions options) {
+        if (names.size() <= 1) {
+            names.forEach(name -> getOrCreateClient(name, options));
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(names.size(), runnable -> {
+            Thread thread = new Thread(runnable, "docker-client-init-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<DockerClient>> futures = new ArrayList<>(names.size());
+            for (String name : names) {
+                futures.add(pool.submit(() -> getOrCreateClient(name, options)));
+            }
+            for (Future<DockerClient> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to initialize Docker clients", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while initializing Docker clients", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the client with the given name, building it first if needed. Concurrent callers asking for the same client
+     * wait for a single build, while different clients are built independently.
+     *
+     * @param name The client name
+     * @param options The integrations of the client transport
+     * @return The client instance
      * @throws IllegalStateException if configuration is missing for the client
      */
-    private void initializeClient(String name) {
-        DockerClientRuntimeConfig clientConfig = getConfigForName(config, name)
+    private DockerClient getOrCreateClient(String name, TransportOptions options) {
+        DockerClient client = clients.get(name);
+        if (client != null) {
+            return client;
+        }
+
+        synchronized (initializationLocks.computeIfAbsent(name, k -> new Object())) {
+            client = clients.get(name);
+            if (client == null) {
+                DockerClientRuntimeConfig clientConfig = getRequiredConfig(name);
+                long start = System.nanoTime();
+                client = new DockerClientFactory(clientConfig, options.vertx(),
+                        transportDecorator(name, clientConfig, options)).createClient();
+                clients.put(name, client);
+                followCacheInvalidations(name, client, clientConfig);
+                LOGGER.infof("Docker client %s initialized in %d ms", name,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return client;
+        }
+    }
+
+    /**
+     * Returns the routing client of a group, building the group and its members first if needed.
+     *
+     * @param name The group name
+     * @param options The integrations of the member transports
+     * @return The group client
+     * @throws IllegalStateException if configuration is missing for the group or one of its members
+     */
+    private DockerClient getOrCreateGroup(String name, TransportOptions options) {
+        DockerClient client = clients.get(name);
+        if (client != null) {
+            return client;
+        }
+
+        synchronized (initializationLocks.computeIfAbsent(name, k -> new Object())) {
+            client = clients.get(name);
+            if (client == null) {
+                DockerClientGroupConfig groupConfig = getGroupConfig(name);
+                Map<String, DockerClient> memberClients = new LinkedHashMap<>();
+                Map<String, DockerHttpClient> memberTransports = new LinkedHashMap<>();
+                for (String member : groupConfig.members()) {
+                    memberClients.put(member, getOrCreateClient(member, options));
+                    memberTransports.put(member, transports.get(member));
+                }
+
+                GroupDockerHttpClient transport = new GroupDockerHttpClient(name, memberTransports, groupConfig,
+                        Infrastructure.getDefaultWorkerPool());
+                client = new DockerClientFactory(getRequiredConfig(groupConfig.members().get(0))).createClient(transport);
+                groups.put(name, new DockerClientGroup(name, client, transport, memberClients));
+                transports.put(name, transport);
+                clients.put(name, client);
+                LOGGER.infof("Docker client group %s initialized with members %s using %s placement", name,
+                        groupConfig.members(), groupConfig.strategy());
+            }
+            return client;
+        }
+    }
+
+    /**
+     * Returns a client for a bean supplier. In lazy mode, enabled clients are built on first access.
+     *
+     * @param name The client name
+     * @param options The integrations of the client transport
+     * @return The client instance, or null if the client is disabled or not initialized
+     */
+    private DockerClient getClientForBean(String name, TransportOptions options) {
+        DockerClient client = clients.get(name);
+        if (client == null && config.initialization() == DockerInitialization.LAZY && isGroup(name)) {
+            client = getOrCreateGroup(name, options);
+        } else if (client == null && config.initialization() == DockerInitialization.LAZY
+                && getConfigForName(config, name).map(DockerClientRuntimeConfig::enabled).orElse(false)) {
+            client = getOrCreateClient(name, options);
+        }
+        return client;
+    }
+
+    /**
+     * Retrieves the configuration of a client that must exist.
+     *
+     * @param name The client name
+     * @return The client configuration
+     * @throws IllegalStateException if configuration is missing for the client
+     */
+    private DockerClientRuntimeConfig getRequiredConfig(String name) {
+        return getConfigForName(config, name)
                 .orElseThrow(() -> new IllegalStateException(
                         String.format("No configuration found for Docker client: %s", name)));
+    }
+
+    /**
+     * Retrieves the configuration of the services built on top of a client. A group uses the configuration of its first
+     * member.
+     *
+     * @param name The client or group name
+     * @return The client configuration
+     * @throws IllegalStateException if configuration is missing for the client
+     */
+    private DockerClientRuntimeConfig getServiceConfig(String name) {
+        return isGroup(name) ? getRequiredConfig(getGroupConfig(name).members().get(0)) : getRequiredConfig(name);
+    }
+
+    /**
+     * Determines if the given name is the name of a client group.
+     *
+     * @param name The name to check
+     * @return true if a group with that name is configured
+     */
+    private boolean isGroup(String name) {
+        return config.groups().containsKey(name);
+    }
 
-        // Only initialize if enabled
-        if (clientConfig.enabled()) {
-            clients.computeIfAbsent(name, k -> createDockerClient(clientConfig));
+    /**
+     * Retrieves the configuration of a group.
+     *
+     * @param name The group name
+     * @return The group configuration
+     * @throws IllegalStateException if the group has no members
+     */
+    private DockerClientGroupConfig getGroupConfig(String name) {
+        DockerClientGroupConfig groupConfig = config.groups().get(name);
+        if (groupConfig.members().isEmpty()) {
+            throw new IllegalStateException(String.format("Docker client group %s has no members", name));
+        }
+        return groupConfig;
+    }
+
+    /**
+     * Subscribes the result cache of a client to the container and image events of its daemon, if enabled.
+     *
+     * @param name The client name
+     * @param client The client whose transport is cached
+     * @param clientConfig The client configuration
+     */
+    private void followCacheInvalidations(String name, DockerClient client, DockerClientRuntimeConfig clientConfig) {
+        CachingDockerHttpClient cache = caches.get(name);
+        if (cache != null && clientConfig.cache().invalidateOnEvents()) {
+            DockerEventStream events = new DockerEventStream(new ReactiveDockerClient(client, getExecutor(name)), name,
+                    clientConfig.events());
+            cache.invalidateFrom(events.events(DockerEventFilter.none().withTypes("container", "image")));
         }
     }
 
     /**
-     * Creates a new Docker client instance with the given configuration.
+     * Builds the function decorating the transport of a client with the enabled integrations.
+     *
+     * @param name The client name
+     * @param clientConfig The client configuration
+     * @param options The enabled integrations
+     * @return The transport decorator
+     */
+    private UnaryOperator<DockerHttpClient> transportDecorator(String name, DockerClientRuntimeConfig clientConfig,
+            TransportOptions options) {
+        // Innermost first, every decorator wraps the previous ones
+        List<UnaryOperator<DockerHttpClient>> decorators = new ArrayList<>();
+        DockerRecordingConfig recording = clientConfig.recording();
+        if (recording.mode() != DockerRecordingMode.OFF) {
+            Path file = recording.file().orElseThrow(() -> new IllegalStateException(
+                    String.format("%s is required when recording or replaying Docker client %s",
+                            DockerRuntimeConfig.propertyKey(name, "recording.file"), name)));
+            if (recording.mode() == DockerRecordingMode.RECORD) {
+                decorators.add(transport -> new RecordingDockerHttpClient(transport, DockerRecording.create(file)));
+                LOGGER.infof("Recording the traffic of Docker client %s to %s", name, file);
+            } else {
+                decorators.add(transport -> new ReplayDockerHttpClient(transport, name, DockerRecording.read(file),
+                        recording.timeScale()));
+                LOGGER.infof("Replaying the traffic of Docker client %s from %s", name, file);
+            }
+        }
+        if (clientConfig.circuitBreaker().enabled()) {
+            List<Supplier<DockerHttpClient>> standbys = clientConfig.failover().orElse(List.of()).stream()
+                    .<Supplier<DockerHttpClient>> map(standby -> () -> getStandbyTransport(standby, options))
+                    .toList();
+            decorators.add(transport -> new CircuitBreakerDockerHttpClient(transport, name, clientConfig.circuitBreaker(),
+                    standbys));
+        }
+        if (clientConfig.bulkhead().enabled()) {
+            decorators.add(options.metricsEnabled()
+                    ? MicrometerBulkheadMetrics.decorator(name, clientConfig.bulkhead())
+                    : transport -> new BulkheadDockerHttpClient(transport, name, clientConfig.bulkhead(),
+                            BulkheadListener.NONE));
+        }
+        if (options.tracingEnabled()) {
+            String dockerHost = DockerClientFactory.resolveDockerHost(clientConfig);
+            decorators.add(OpenTelemetryDockerHttpClient.decorator(name, dockerHost));
+        }
+        if (options.metricsEnabled()) {
+            // Micrometer is optional, the recorder must not refer to its types
+            decorators.add(MicrometerDockerHttpClient.decorator(name));
+        }
+        if (clientConfig.coalesceRequests()) {
+            Consumer<String> onCoalesced = options.metricsEnabled()
+                    ? MicrometerDockerHttpClient.coalescedRequestsCounter(name)
+                    : null;
+            decorators.add(transport -> new CoalescingDockerHttpClient(transport, onCoalesced, clientConfig.readTimeout()));
+        }
+        if (clientConfig.cache().enabled()) {
+            decorators.add(transport -> {
+                CachingDockerHttpClient cache = new CachingDockerHttpClient(transport, clientConfig.cache());
+                caches.put(name, cache);
+                return cache;
+            });
+        }
+
+        return transport -> {
+            DockerHttpClient decorated = transport;
+            for (UnaryOperator<DockerHttpClient> decorator : decorators) {
+                decorated = decorator.apply(decorated);
+            }
+            // Groups send requests to their members through the decorated transport
+            transports.put(name, decorated);
+            return decorated;
+        };
+    }
+
+    /**
+     * Returns the transport of a failover standby, building the standby client first if needed.
      *
-     * @param clientConfig The client configuration to use
-     * @return A new DockerClient instance
+     * @param name The standby client name
+     * @param options The integrations of the standby transport
+     * @return The decorated transport of the standby
      */
-    private DockerClient createDockerClient(DockerClientRuntimeConfig clientConfig) {
-        return new DockerClientFactory(clientConfig).createClient();
+    private DockerHttpClient getStandbyTransport(String name, TransportOptions options) {
+        getOrCreateClient(name, options);
+        return transports.get(name);
     }
 
     /**
@@ -124,16 +469,15 @@ public class DockerClientRecorder {
      * Creates a supplier for the default Docker client bean.
      * This supplier is used by the CDI container for dependency injection.
      *
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
      * @return Supplier that provides the default Docker client instance
      */
-    public Supplier<DockerClient> createDockerClientBean() {
-        return () -> {
-            DockerClient client = clients.get(DockerRuntimeConfig.DEFAULT_CLIENT_NAME);
-            if (client == null) {
-                throw new IllegalStateException("Default Docker client not initialized");
-            }
-            return client;
-        };
+    public Supplier<DockerClient> createDockerClientBean(Supplier<Vertx> vertx, boolean metricsEnabled,
+            boolean tracingEnabled) {
+        return clientSupplier(DockerRuntimeConfig.DEFAULT_CLIENT_NAME,
+                new TransportOptions(vertx, metricsEnabled, tracingEnabled));
     }
 
     /**
@@ -142,15 +486,292 @@ public class DockerClientRecorder {
      * of named clients.
      *
      * @param clientName The name of the client to create a supplier for
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
      * @return Supplier that provides the named Docker client instance
      */
-    public Supplier<DockerClient> createNamedDockerClientBean(String clientName) {
+    public Supplier<DockerClient> createNamedDockerClientBean(String clientName, Supplier<Vertx> vertx, boolean metricsEnabled,
+            boolean tracingEnabled) {
+        return clientSupplier(clientName, new TransportOptions(vertx, metricsEnabled, tracingEnabled));
+    }
+
+    /**
+     * Returns a supplier of the client or group with the given name, shared by the beans of the client and of the
+     * services built on top of it.
+     *
+     * @param clientName The client or group name
+     * @param options The integrations of the client transport
+     * @return Supplier that provides the client instance
+     */
+    private Supplier<DockerClient> clientSupplier(String clientName, TransportOptions options) {
         return () -> {
-            DockerClient client = clients.get(clientName);
+            DockerClient client = getClientForBean(clientName, options);
             if (client == null) {
-                throw new IllegalStateException(String.format("Docker client '%s' not initialized", clientName));
+                throw new IllegalStateException(DockerRuntimeConfig.isDefaultClient(clientName)
+                        ? "Default Docker client not initialized"
+                        : String.format("Docker client '%s' not initialized", clientName));
             }
             return client;
         };
     }
+
+    /**
+     * Creates a supplier for a reactive Docker client bean wrapping the named client.
+     * Blocking calls of the reactive client run on the executor created for the client, which uses virtual threads when
+     * {@link DockerClientRuntimeConfig#virtualThreads()} is enabled.
+     *
+     * @param clientName The name of the client to wrap
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
+     * @return Supplier that provides the reactive Docker client instance
+     */
+    public Supplier<ReactiveDockerClient> createReactiveDockerClientBean(String clientName, Supplier<Vertx> vertx,
+            boolean metricsEnabled,
+            boolean tracingEnabled) {
+        return reactiveClientSupplier(clientName, new TransportOptions(vertx, metricsEnabled, tracingEnabled));
+    }
+
+    /**
+     * Returns a supplier of the reactive flavor of the client or group with the given name. A group runs its blocking calls
+     * like its first member.
+     *
+     * @param clientName The client or group name
+     * @param options The integrations of the client transport
+     * @return Supplier that provides the reactive client instance
+     */
+    private Supplier<ReactiveDockerClient> reactiveClientSupplier(String clientName, TransportOptions options) {
+        Supplier<DockerClient> client = clientSupplier(clientName, options);
+        return () -> new ReactiveDockerClient(client.get(), getExecutor(clientName),
+                getServiceConfig(clientName).virtualThreads());
+    }
+
+    /**
+     * Creates a supplier for the shared events stream bean of the named client.
+     *
+     * @param clientName The name of the client whose events are streamed
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
+     * @return Supplier that provides the events stream instance
+     */
+    public Supplier<DockerEventStream> createDockerEventStreamBean(String clientName, Supplier<Vertx> vertx,
+            boolean metricsEnabled,
+            boolean tracingEnabled) {
+        Supplier<ReactiveDockerClient> client = reactiveClientSupplier(clientName,
+                new TransportOptions(vertx, metricsEnabled, tracingEnabled));
+        return () -> new DockerEventStream(client.get(), clientName, getServiceConfig(clientName).events());
+    }
+
+    /**
+     * Creates a supplier for the container state mirror bean of the named client. The mirror owns a dedicated events
+     * stream.
+     *
+     * @param clientName The name of the client whose containers are mirrored
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
+     * @return Supplier that provides the container state mirror instance
+     */
+    public Supplier<ContainerStateMirror> createContainerStateMirrorBean(String clientName, Supplier<Vertx> vertx,
+            boolean metricsEnabled,
+            boolean tracingEnabled) {
+        Supplier<ReactiveDockerClient> client = reactiveClientSupplier(clientName,
+                new TransportOptions(vertx, metricsEnabled, tracingEnabled));
+        return () -> {
+            ReactiveDockerClient reactiveClient = client.get();
+            DockerEventStream events = new DockerEventStream(reactiveClient, clientName,
+                    getServiceConfig(clientName).events());
+            return new ContainerStateMirror(reactiveClient, events, clientName);
+        };
+    }
+
+    /**
+     * Creates a supplier for the bulk operations bean of the named client.
+     *
+     * @param clientName The name of the client running the operations
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
+     * @return Supplier that provides the bulk operations instance
+     */
+    public Supplier<DockerBulkOperations> createDockerBulkOperationsBean(String clientName, Supplier<Vertx> vertx,
+            boolean metricsEnabled,
+            boolean tracingEnabled) {
+        Supplier<ReactiveDockerClient> client = reactiveClientSupplier(clientName,
+                new TransportOptions(vertx, metricsEnabled, tracingEnabled));
+        return () -> new DockerBulkOperations(client.get(), getServiceConfig(clientName).bulkParallelism());
+    }
+
+    /**
+     * Creates a supplier for the log streamer bean of the named client. Streams are read on virtual threads when they are
+     * enabled for the client, on dedicated platform threads otherwise.
+     *
+     * @param clientName The name of the client whose container logs are streamed
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
+     * @return Supplier that provides the log streamer instance
+     */
+    public Supplier<DockerLogStreamer> createDockerLogStreamerBean(String clientName, Supplier<Vertx> vertx,
+            boolean metricsEnabled,
+            boolean tracingEnabled) {
+        Supplier<DockerClient> client = clientSupplier(clientName,
+                new TransportOptions(vertx, metricsEnabled, tracingEnabled));
+        return () -> {
+            client.get();
+            DockerClientRuntimeConfig serviceConfig = getServiceConfig(clientName);
+            return new DockerLogStreamer(transports.get(clientName), clientName, serviceConfig.apiVersion().orElse(null),
+                    new DockerLogBufferPool(serviceConfig.logBufferSize(), 256),
+                    serviceConfig.virtualThreads() ? getExecutor(clientName) : null);
+        };
+    }
+
+    /**
+     * Creates a supplier for the file transfer bean of the named client.
+     *
+     * @param clientName The name of the client copying the files
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
+     * @return Supplier that provides the file transfer instance
+     */
+    public Supplier<DockerFileTransfer> createDockerFileTransferBean(String clientName, Supplier<Vertx> vertx,
+            boolean metricsEnabled,
+            boolean tracingEnabled) {
+        Supplier<DockerClient> client = clientSupplier(clientName,
+                new TransportOptions(vertx, metricsEnabled, tracingEnabled));
+        return () -> {
+            client.get();
+            return new DockerFileTransfer(transports.get(clientName), getServiceConfig(clientName).apiVersion().orElse(null));
+        };
+    }
+
+    /**
+     * Creates a supplier for the image builder bean of the named client.
+     *
+     * @param clientName The name of the client building the images
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
+     * @return Supplier that provides the image builder instance
+     */
+    public Supplier<DockerImageBuilder> createDockerImageBuilderBean(String clientName, Supplier<Vertx> vertx,
+            boolean metricsEnabled,
+            boolean tracingEnabled) {
+        Supplier<DockerClient> client = clientSupplier(clientName,
+                new TransportOptions(vertx, metricsEnabled, tracingEnabled));
+        return () -> {
+            client.get();
+            return getImageBuilder(clientName);
+        };
+    }
+
+    /**
+     * Creates a supplier for the build scheduler bean of the named client. It shares the image builder, and so the hash
+     * cache, of the client. Builds run on virtual threads when they are enabled for the client, on threads created for
+     * each plan otherwise.
+     *
+     * @param clientName The name of the client building the images
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
+     * @return Supplier that provides the build scheduler instance
+     */
+    public Supplier<DockerImageBuildScheduler> createDockerImageBuildSchedulerBean(String clientName, Supplier<Vertx> vertx,
+            boolean metricsEnabled,
+            boolean tracingEnabled) {
+        Supplier<DockerClient> client = clientSupplier(clientName,
+                new TransportOptions(vertx, metricsEnabled, tracingEnabled));
+        return () -> {
+            client.get();
+            DockerClientRuntimeConfig serviceConfig = getServiceConfig(clientName);
+            return new DockerImageBuildScheduler(getImageBuilder(clientName), clientName,
+                    serviceConfig.build().parallelism(), serviceConfig.virtualThreads() ? getExecutor(clientName) : null);
+        };
+    }
+
+    private DockerImageBuilder getImageBuilder(String clientName) {
+        return builders.computeIfAbsent(clientName, name -> {
+            DockerClientRuntimeConfig serviceConfig = getServiceConfig(name);
+            return new DockerImageBuilder(transports.get(name), name, serviceConfig.apiVersion().orElse(null),
+                    serviceConfig.build().skipUnchanged(), serviceConfig.build().hashCacheFile().orElse(null),
+                    new DockerClientFactory(serviceConfig).createAuthConfigurations());
+        });
+    }
+
+    /**
+     * Creates a supplier for the image warm-up bean of the named client. Groups have no images of their own: their
+     * members pull theirs.
+     *
+     * @param clientName The name of the client pulling the images
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
+     * @return Supplier that provides the image warm-up instance
+     */
+    public Supplier<DockerImageWarmup> createDockerImageWarmupBean(String clientName, Supplier<Vertx> vertx,
+            boolean metricsEnabled,
+            boolean tracingEnabled) {
+        TransportOptions options = new TransportOptions(vertx, metricsEnabled, tracingEnabled);
+        Supplier<DockerClient> client = clientSupplier(clientName, options);
+        return () -> {
+            client.get();
+            return getImageWarmup(clientName, options);
+        };
+    }
+
+    private DockerImageWarmup getImageWarmup(String clientName, TransportOptions options) {
+        return warmups.computeIfAbsent(clientName, name -> {
+            DockerClientRuntimeConfig serviceConfig = getServiceConfig(name);
+            DockerPrePullConfig prePull = serviceConfig.prePull();
+            boolean group = isGroup(name);
+            DockerClient client = group ? getOrCreateGroup(name, options) : getOrCreateClient(name, options);
+            return new DockerImageWarmup(new ReactiveDockerClient(client, getExecutor(name), serviceConfig.virtualThreads()),
+                    name, group ? List.of() : prePull.images().orElse(List.of()), prePull.concurrency(),
+                    prePull.gateReadiness());
+        });
+    }
+
+    /**
+     * Creates a supplier for the bean of a client group.
+     *
+     * @param groupName The group name
+     * @param vertx Supplier of the application's Vert.x instance, used by clients on the Vert.x transport
+     * @param metricsEnabled Whether Docker API calls are recorded as Micrometer metrics
+     * @param tracingEnabled Whether Docker API calls emit OpenTelemetry spans
+     * @return Supplier that provides the client group instance
+     */
+    public Supplier<DockerClientGroup> createDockerClientGroupBean(String groupName, Supplier<Vertx> vertx,
+            boolean metricsEnabled,
+            boolean tracingEnabled) {
+        TransportOptions options = new TransportOptions(vertx, metricsEnabled, tracingEnabled);
+        return () -> {
+            getClientForBean(groupName, options);
+            DockerClientGroup group = groups.get(groupName);
+            if (group == null) {
+                throw new IllegalStateException(String.format("Docker client group '%s' not initialized", groupName));
+            }
+            return group;
+        };
+    }
+
+    /**
+     * Returns the executor running blocking calls made on behalf of the given client.
+     *
+     * @param clientName The client name
+     * @return The client executor, or the default worker pool if the client is not initialized
+     */
+    static Executor getExecutor(String clientName) {
+        Executor executor = executors.get(clientName);
+        return executor != null ? executor : Infrastructure.getDefaultWorkerPool();
+    }
+
+    /**
+     * Integrations decorating the transports of the clients. They are handed to every recorded method building clients,
+     * since each build step records its calls on its own recorder instance.
+     */
+    private record TransportOptions(Supplier<Vertx> vertx, boolean metricsEnabled, boolean tracingEnabled) {
+    }
 }
\ No newline at end of file
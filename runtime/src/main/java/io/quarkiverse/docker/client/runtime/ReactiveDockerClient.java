@@ -0,0 +1,355 @@
+package io.quarkiverse.docker.client.runtime;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.command.AsyncDockerCmd;
+import com.github.dockerjava.api.command.CreateContainerCmd;
+import com.github.dockerjava.api.command.CreateContainerResponse;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.command.InspectImageResponse;
+import com.github.dockerjava.api.command.SyncDockerCmd;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.Info;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.api.model.Statistics;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+/**
+ * Mutiny API on top of a managed {@link DockerClient}.
+ *
+ * <p>
+ * Request/response commands are exposed as {@link Uni} and run on a worker executor, so they can be composed from
+ * event-loop code such as RESTEasy Reactive endpoints without blocking it. Streaming commands are exposed as
+ * {@link Multi}; cancelling the subscription closes the underlying Docker stream.
+ * </p>
+ *
+ * <p>
+ * Usage example:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("production")
+ * ReactiveDockerClient docker;
+ *
+ * {@literal @}POST
+ * public Uni&lt;String&gt; run(String image) {
+ *     return docker.createContainer(image, cmd -&gt; cmd.withLabels(Map.of("app", "demo")))
+ *             .call(created -&gt; docker.startContainer(created.getId()))
+ *             .map(CreateContainerResponse::getId);
+ * }
+ * </pre>
+ *
+ * <p>
+ * Commands without a dedicated method are available through {@link #execute(Function)} and {@link #stream(Function)}.
+ * </p>
+ *
+ * @see NamedDockerClient
+ * @see DockerClient
+ */
+public class ReactiveDockerClient {
+
+    private final DockerClient client;
+    private final Executor executor;
+    private final boolean dispatchStreams;
+
+    public ReactiveDockerClient(DockerClient client, Executor executor) {
+        this(client, executor, false);
+    }
+
+    /**
+     * Creates a reactive client.
+     *
+     * @param client The blocking client to delegate to
+     * @param executor The executor running blocking calls
+     * @param dispatchStreams Whether streamed items are handed to subscribers on the executor instead of docker-java's
+     *        stream reader thread
+     */
+    public ReactiveDockerClient(DockerClient client, Executor executor, boolean dispatchStreams) {
+        if (client == null || executor == null) {
+            throw new IllegalArgumentException("DockerClient and executor cannot be null");
+        }
+        this.client = client;
+        this.executor = executor;
+        this.dispatchStreams = dispatchStreams;
+    }
+
+    /**
+     * Returns the blocking client this reactive client delegates to.
+     *
+     * @return The underlying Docker client
+     */
+    public DockerClient blocking() {
+        return client;
+    }
+
+    /**
+     * Returns the executor running the blocking calls of this client. It runs virtual threads when
+     * {@code quarkus.docker.[client-name.]virtual-threads} is enabled.
+     *
+     * @return The executor of this client
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Executes a request/response command on the worker executor.
+     *
+     * <p>
+     * The command is created lazily on subscription, so the returned {@link Uni} can be retried or resubscribed.
+     * </p>
+     *
+     * @param command Function building the command from the blocking client
+     * @param <T> The command result type
+     * @return A Uni emitting the command result
+     */
+    public <T> Uni<T> execute(Function<DockerClient, ? extends SyncDockerCmd<T>> command) {
+        return Uni.createFrom().item(() -> command.apply(client).exec())
+                .runSubscriptionOn(executor);
+    }
+
+    /**
+     * Executes a streaming command and emits every item it produces.
+     *
+     * <p>
+     * The stream completes when the daemon closes it, fails on stream errors, and is closed when the subscriber cancels.
+     * It is read by docker-java on a platform thread of its own. When streams are dispatched, items are handed to
+     * subscribers on the executor of this client, so a blocking subscriber does not stall the read.
+     * </p>
+     *
+     * @param command Function building the command from the blocking client
+     * @param <T> The streamed item type
+     * @return A Multi emitting the streamed items
+     */
+    public <T> Multi<T> stream(Function<DockerClient, ? extends AsyncDockerCmd<?, T>> command) {
+        Multi<T> items = Multi.createFrom().emitter(emitter -> {
+            EmitterCallback<T> callback = new EmitterCallback<>(emitter);
+            emitter.onTermination(callback::closeQuietly);
+            command.apply(client).exec(callback);
+        });
+        return dispatchStreams ? items.emitOn(executor) : items;
+    }
+
+    /**
+     * Pings the daemon.
+     *
+     * @return A Uni completing when the daemon answered
+     */
+    public Uni<Void> ping() {
+        return execute(DockerClient::pingCmd);
+    }
+
+    /**
+     * Retrieves system-wide information from the daemon.
+     *
+     * @return A Uni emitting the daemon information
+     */
+    public Uni<Info> info() {
+        return execute(DockerClient::infoCmd);
+    }
+
+    /**
+     * Lists containers.
+     *
+     * @param all Whether stopped containers are included
+     * @return A Uni emitting the containers
+     */
+    public Uni<List<Container>> listContainers(boolean all) {
+        return execute(docker -> docker.listContainersCmd().withShowAll(all));
+    }
+
+    /**
+     * Inspects a container.
+     *
+     * @param containerId The container ID or name
+     * @return A Uni emitting the container details
+     */
+    public Uni<InspectContainerResponse> inspectContainer(String containerId) {
+        return execute(docker -> docker.inspectContainerCmd(containerId));
+    }
+
+    /**
+     * Creates a container.
+     *
+     * @param image The image to create the container from
+     * @param customizer Callback customizing the create command, for example to set the name, labels or host config
+     * @return A Uni emitting the created container
+     */
+    public Uni<CreateContainerResponse> createContainer(String image, Consumer<CreateContainerCmd> customizer) {
+        return execute(docker -> {
+            CreateContainerCmd cmd = docker.createContainerCmd(image);
+            customizer.accept(cmd);
+            return cmd;
+        });
+    }
+
+    /**
+     * Starts a container.
+     *
+     * @param containerId The container ID or name
+     * @return A Uni completing when the container started
+     */
+    public Uni<Void> startContainer(String containerId) {
+        return execute(docker -> docker.startContainerCmd(containerId));
+    }
+
+    /**
+     * Stops a container.
+     *
+     * @param containerId The container ID or name
+     * @param timeoutSeconds Seconds to wait before killing the container
+     * @return A Uni completing when the container stopped
+     */
+    public Uni<Void> stopContainer(String containerId, int timeoutSeconds) {
+        return execute(docker -> docker.stopContainerCmd(containerId).withTimeout(timeoutSeconds));
+    }
+
+    /**
+     * Removes a container.
+     *
+     * @param containerId The container ID or name
+     * @param force Whether a running container is killed first
+     * @return A Uni completing when the container was removed
+     */
+    public Uni<Void> removeContainer(String containerId, boolean force) {
+        return execute(docker -> docker.removeContainerCmd(containerId).withForce(force));
+    }
+
+    /**
+     * Inspects an image.
+     *
+     * @param image The image name or ID
+     * @return A Uni emitting the image details
+     */
+    public Uni<InspectImageResponse> inspectImage(String image) {
+        return execute(docker -> docker.inspectImageCmd(image));
+    }
+
+    /**
+     * Streams the stdout and stderr frames of a container.
+     *
+     * @param containerId The container ID or name
+     * @param follow Whether the stream stays open for new output
+     * @return A Multi emitting log frames
+     */
+    public Multi<Frame> logs(String containerId, boolean follow) {
+        return stream(docker -> docker.logContainerCmd(containerId)
+                .withStdOut(true)
+                .withStdErr(true)
+                .withFollowStream(follow));
+    }
+
+    /**
+     * Streams daemon events until the subscription is cancelled.
+     *
+     * @return A Multi emitting daemon events
+     */
+    public Multi<Event> events() {
+        return stream(DockerClient::eventsCmd);
+    }
+
+    /**
+     * Streams resource usage statistics of a container.
+     *
+     * @param containerId The container ID or name
+     * @return A Multi emitting statistics samples
+     */
+    public Multi<Statistics> stats(String containerId) {
+        return stream(docker -> docker.statsCmd(containerId));
+    }
+
+    /**
+     * Pulls an image and streams the pull progress. A reference without a tag or digest pulls the {@code latest} tag,
+     * instead of every tag of the repository.
+     *
+     * @param reference The image reference, for example {@code nginx:alpine} or {@code nginx@sha256:...}
+     * @return A Multi emitting pull progress items, completing when the pull is done
+     */
+    public Multi<PullResponseItem> pullImage(String reference) {
+        int at = reference.indexOf('@');
+        int colon = reference.indexOf(':', reference.lastIndexOf('/') + 1);
+        String repository;
+        String tag;
+        if (at >= 0) {
+            // The daemon takes the digest in place of the tag
+            repository = reference.substring(0, at);
+            tag = reference.substring(at + 1);
+        } else if (colon >= 0) {
+            repository = reference.substring(0, colon);
+            tag = reference.substring(colon + 1);
+        } else {
+            repository = reference;
+            tag = "latest";
+        }
+        return stream(docker -> docker.pullImageCmd(repository).withTag(tag));
+    }
+
+    /**
+     * Bridges docker-java stream callbacks to a Mutiny emitter.
+     */
+    private static final class EmitterCallback<T> implements ResultCallback<T> {
+
+        private final MultiEmitter<? super T> emitter;
+        private volatile Closeable stream;
+        private volatile boolean closed;
+
+        EmitterCallback(MultiEmitter<? super T> emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onStart(Closeable closeable) {
+            this.stream = closeable;
+            if (closed) {
+                closeQuietly();
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            emitter.emit(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            emitter.fail(throwable);
+            closeQuietly();
+        }
+
+        @Override
+        public void onComplete() {
+            emitter.complete();
+            closeQuietly();
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            Closeable current = stream;
+            if (current != null) {
+                current.close();
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                close();
+            } catch (IOException | RuntimeException e) {
+                // The stream is being torn down, nothing left to report
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+
+/**
+ * Thrown when the daemon reports an error while building an image, such as a failing Dockerfile instruction.
+ */
+public class DockerBuildException extends DockerClientException {
+
+    private final String clientName;
+
+    public DockerBuildException(String clientName, String message) {
+        super(String.format("Image build on Docker client %s failed: %s", clientName, message));
+        this.clientName = clientName;
+    }
+
+    public DockerBuildException(String clientName, String message, Throwable cause) {
+        super(String.format("Image build on Docker client %s failed: %s", clientName, message), cause);
+        this.clientName = clientName;
+    }
+
+    /**
+     * Returns the name of the building client.
+     *
+     * @return The client name
+     */
+    public String getClientName() {
+        return clientName;
+    }
+}
@@ -0,0 +1,159 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Content hashes of build context files, and the last build of every image.
+ *
+ * <p>
+ * A hash is reused as long as the size and modification time of its file are unchanged, so unchanged files are not read
+ * again. The cache can be kept in a text file between runs; an unreadable file is treated as an empty cache.
+ * </p>
+ */
+final class DockerBuildHashCache {
+
+    private static final Logger LOGGER = Logger.getLogger(DockerBuildHashCache.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Map<String, FileHash> hashes = new ConcurrentHashMap<>();
+    private final Map<String, LastBuild> builds = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache, loading the content of its file if it exists.
+     *
+     * @param file The file keeping the cache, or null to keep it in memory only
+     */
+    DockerBuildHashCache(Path file) {
+        this.file = file;
+        if (file != null && Files.isRegularFile(file)) {
+            try {
+                load(Files.readAllLines(file, StandardCharsets.UTF_8));
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warnf(e, "Unable to read the build hash cache %s, starting with an empty cache", file);
+                hashes.clear();
+                builds.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the SHA-256 of the content of a file, reading it only if it changed since it was last hashed.
+     *
+     * @param path The file
+     * @param size The current size of the file
+     * @param modifiedMillis The current modification time of the file
+     * @return The hex encoded hash
+     */
+    String hash(Path path, long size, long modifiedMillis) throws IOException {
+        String key = path.toString();
+        FileHash cached = hashes.get(key);
+        if (cached != null && cached.size() == size && cached.modifiedMillis() == modifiedMillis) {
+            return cached.hash();
+        }
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer.clear()) >= 0) {
+                digest.update(buffer.flip());
+            }
+        }
+        String hash = HexFormat.of().formatHex(digest.digest());
+        hashes.put(key, new FileHash(hash, size, modifiedMillis));
+        return hash;
+    }
+
+    /**
+     * Returns the image built last for a build key, if its context digest is the given one.
+     *
+     * @param key The key of the build, identifying the image
+     * @param contextDigest The digest of the context and options of the build
+     * @return The ID of the image, or null
+     */
+    String lastImage(String key, String contextDigest) {
+        LastBuild build = builds.get(key);
+        return build != null && build.contextDigest().equals(contextDigest) ? build.imageId() : null;
+    }
+
+    /**
+     * Records a build, and saves the cache to its file.
+     *
+     * @param key The key of the build, identifying the image
+     * @param contextDigest The digest of the context and options of the build
+     * @param imageId The ID of the built image
+     */
+    void built(String key, String contextDigest, String imageId) {
+        builds.put(key, new LastBuild(contextDigest, imageId));
+        save();
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void load(List<String> lines) {
+        for (String line : lines) {
+            // F <hash> <size> <modified> <path> or B <digest> <image> <key>, the last field may contain spaces
+            if (line.startsWith("F ")) {
+                String[] fields = line.split(" ", 5);
+                hashes.put(fields[4], new FileHash(fields[1], Long.parseLong(fields[2]), Long.parseLong(fields[3])));
+            } else if (line.startsWith("B ")) {
+                String[] fields = line.split(" ", 4);
+                builds.put(fields[3], new LastBuild(fields[1], fields[2]));
+            }
+        }
+    }
+
+    private synchronized void save() {
+        if (file == null) {
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, FileHash> entry : hashes.entrySet()) {
+                    FileHash hash = entry.getValue();
+                    writer.write("F " + hash.hash() + " " + hash.size() + " " + hash.modifiedMillis() + " " + entry.getKey());
+                    writer.newLine();
+                }
+                for (Map.Entry<String, LastBuild> entry : builds.entrySet()) {
+                    LastBuild build = entry.getValue();
+                    writer.write("B " + build.contextDigest() + " " + build.imageId() + " " + entry.getKey());
+                    writer.newLine();
+                }
+            }
+            // Readers never see a partially written cache
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warnf(e, "Unable to save the build hash cache %s", file);
+        }
+    }
+
+    private record FileHash(String hash, long size, long modifiedMillis) {
+    }
+
+    private record LastBuild(String contextDigest, String imageId) {
+    }
+}
@@ -0,0 +1,35 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one image of a {@link DockerBuildPlan}.
+ *
+ * @param spec The build specification
+ * @param status The status of the build
+ * @param result The result of the build, or null unless it succeeded
+ * @param failure The failure of the build, or null unless it failed
+ * @param started The time the build started after the start of the plan, zero if it did not start
+ * @param duration The time the build took, zero if it did not start
+ */
+public record DockerBuildOutcome(DockerBuildSpec spec, Status status, DockerBuildResult result, Throwable failure,
+        Duration started, Duration duration) {
+
+    /**
+     * Status of the build of an image of a plan.
+     */
+    public enum Status {
+        /**
+         * The image was built, or skipped because nothing changed.
+         */
+        SUCCEEDED,
+        /**
+         * The build failed.
+         */
+        FAILED,
+        /**
+         * The build did not run because an image it builds from failed.
+         */
+        DEPENDENCY_FAILED
+    }
+}
@@ -0,0 +1,183 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set of image builds ordered by the images they build from.
+ *
+ * <p>
+ * A build depends on another build of the plan when its Dockerfile builds from one of the tags of the other one, in a
+ * {@code FROM} instruction or a {@code COPY --from} option. Images that no build of the plan produces are external and
+ * only resolved by the daemon. A build building from its own tag, as rebuilds on top of a previous version do, does not
+ * depend on itself.
+ * </p>
+ */
+public final class DockerBuildPlan {
+
+    private final List<Node> nodes;
+    private final List<Node> order;
+
+    private DockerBuildPlan(List<Node> nodes, List<Node> order) {
+        this.nodes = nodes;
+        this.order = order;
+    }
+
+    /**
+     * Reads the Dockerfiles of builds and orders them.
+     *
+     * @param specs The build specifications
+     * @return The plan
+     * @throws IOException if a Dockerfile cannot be read
+     * @throws IllegalArgumentException if two builds produce the same tag, or if builds depend on each other
+     */
+    public static DockerBuildPlan of(Collection<DockerBuildSpec> specs) throws IOException {
+        List<Node> nodes = new ArrayList<>(specs.size());
+        Map<String, Node> producers = new HashMap<>();
+        for (DockerBuildSpec spec : specs) {
+            Node node = new Node(nodes.size(), spec);
+            nodes.add(node);
+            for (String tag : spec.tags()) {
+                Node previous = producers.putIfAbsent(DockerfileReferences.normalize(tag), node);
+                if (previous != null) {
+                    throw new IllegalArgumentException(String.format("Builds of %s and %s both produce %s",
+                            previous.spec.context(), spec.context(), tag));
+                }
+            }
+        }
+
+        for (Node node : nodes) {
+            Path dockerfile = node.spec.context().resolve(node.spec.dockerfile());
+            Set<String> images = DockerfileReferences.of(Files.readString(dockerfile, StandardCharsets.UTF_8),
+                    node.spec.buildArgs());
+            for (String image : images) {
+                Node producer = producers.get(image);
+                if (producer != null && producer != node && !node.dependencies.contains(producer)) {
+                    node.dependencies.add(producer);
+                    producer.dependents.add(node);
+                }
+            }
+        }
+        return new DockerBuildPlan(nodes, sort(nodes));
+    }
+
+    /**
+     * Returns the builds of the plan, in the order they were given.
+     *
+     * @return The build specifications
+     */
+    public List<DockerBuildSpec> specs() {
+        return nodes.stream().map(node -> node.spec).toList();
+    }
+
+    /**
+     * Returns the builds of the plan in an order where every build comes after the builds it depends on.
+     *
+     * @return The build specifications, dependencies first
+     */
+    public List<DockerBuildSpec> order() {
+        return order.stream().map(node -> node.spec).toList();
+    }
+
+    /**
+     * Returns the builds of the plan a build depends on.
+     *
+     * @param spec A build of the plan
+     * @return The builds producing the images it builds from
+     */
+    public List<DockerBuildSpec> dependencies(DockerBuildSpec spec) {
+        return node(spec).dependencies.stream().map(node -> node.spec).toList();
+    }
+
+    /**
+     * Returns the number of builds of the longest chain of dependent builds.
+     *
+     * @return The depth of the plan
+     */
+    public int depth() {
+        return nodes.stream().mapToInt(node -> node.depth).max().orElse(0);
+    }
+
+    List<Node> nodes() {
+        return nodes;
+    }
+
+    List<Node> sortedNodes() {
+        return order;
+    }
+
+    private Node node(DockerBuildSpec spec) {
+        for (Node node : nodes) {
+            if (node.spec.equals(spec)) {
+                return node;
+            }
+        }
+        throw new IllegalArgumentException("Build of " + spec.context() + " is not part of the plan");
+    }
+
+    /**
+     * Sorts the builds topologically, and computes the length of the chain of dependents of every build.
+     */
+    private static List<Node> sort(List<Node> nodes) {
+        int[] pending = new int[nodes.size()];
+        Deque<Node> ready = new ArrayDeque<>();
+        for (Node node : nodes) {
+            pending[node.index] = node.dependencies.size();
+            if (pending[node.index] == 0) {
+                ready.add(node);
+            }
+        }
+        List<Node> order = new ArrayList<>(nodes.size());
+        while (!ready.isEmpty()) {
+            Node node = ready.poll();
+            order.add(node);
+            for (Node dependent : node.dependents) {
+                if (--pending[dependent.index] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (order.size() < nodes.size()) {
+            List<Path> cycle = nodes.stream().filter(node -> pending[node.index] > 0).map(node -> node.spec.context())
+                    .toList();
+            throw new IllegalArgumentException("Builds depend on each other: " + cycle);
+        }
+
+        for (int i = order.size() - 1; i >= 0; i--) {
+            Node node = order.get(i);
+            int dependents = 0;
+            for (Node dependent : node.dependents) {
+                dependents = Math.max(dependents, dependent.depth);
+            }
+            node.depth = dependents + 1;
+        }
+        return order;
+    }
+
+    static final class Node {
+
+        final int index;
+        final DockerBuildSpec spec;
+        final List<Node> dependencies = new ArrayList<>();
+        final List<Node> dependents = new ArrayList<>();
+        /**
+         * The number of builds of the longest chain starting with this build, used to start long chains first.
+         */
+        int depth;
+
+        Node(int index, DockerBuildSpec spec) {
+            this.index = index;
+            this.spec = spec;
+        }
+    }
+}
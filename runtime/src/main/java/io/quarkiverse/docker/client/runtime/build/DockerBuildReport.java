@@ -0,0 +1,39 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a {@link DockerBuildPlan}.
+ *
+ * <p>
+ * The critical path is the chain of dependent builds that took the longest. Its time is a lower bound of the time of the
+ * plan whatever the parallelism, so comparing it with the wall time tells whether more parallelism would help.
+ * </p>
+ *
+ * @param outcomes The outcome of every image, in plan order
+ * @param wallTime The time the plan took
+ * @param criticalPathTime The total time of the builds of the critical path
+ * @param criticalPath The builds of the critical path, from the first one to the last one
+ */
+public record DockerBuildReport(List<DockerBuildOutcome> outcomes, Duration wallTime, Duration criticalPathTime,
+        List<DockerBuildSpec> criticalPath) {
+
+    /**
+     * Tells whether every image of the plan was built.
+     *
+     * @return true if no build failed
+     */
+    public boolean succeeded() {
+        return outcomes.stream().allMatch(outcome -> outcome.status() == DockerBuildOutcome.Status.SUCCEEDED);
+    }
+
+    /**
+     * Returns the outcomes of the builds that failed or did not run.
+     *
+     * @return The unsuccessful outcomes, in plan order
+     */
+    public List<DockerBuildOutcome> failures() {
+        return outcomes.stream().filter(outcome -> outcome.status() != DockerBuildOutcome.Status.SUCCEEDED).toList();
+    }
+}
@@ -0,0 +1,19 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of an image build.
+ *
+ * @param imageId The ID of the built image
+ * @param tags The tags given to the image
+ * @param contextEntries The number of files, directories and links sent in the build context
+ * @param contextBytes The number of file content bytes sent in the build context
+ * @param contextDigest The digest of the context and options, or null when unchanged builds are not skipped
+ * @param skipped Whether the build was skipped because nothing changed since the build of the same image
+ * @param duration The time the build took, including the upload of the context
+ */
+public record DockerBuildResult(String imageId, List<String> tags, int contextEntries, long contextBytes,
+        String contextDigest, boolean skipped, Duration duration) {
+}
@@ -0,0 +1,80 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Specification of an image build.
+ *
+ * <p>
+ * Specifications are immutable, every {@code with} method returns a copy:
+ * </p>
+ *
+ * <pre>
+ * DockerBuildSpec.of(Path.of("services/orders"), "internal/orders:latest")
+ *         .withBuildArgs(Map.of("VERSION", version))
+ *         .withPull(true)
+ * </pre>
+ *
+ * @param context The build context directory
+ * @param dockerfile The Dockerfile, relative to the context
+ * @param tags The tags given to the image, in {@code name:tag} form
+ * @param buildArgs The build arguments
+ * @param labels The labels set on the image
+ * @param target The build stage to stop at, or null for the last stage
+ * @param pull Whether base images are pulled even if present
+ * @param noCache Whether the build cache of the daemon is bypassed
+ */
+public record DockerBuildSpec(Path context, String dockerfile, List<String> tags, Map<String, String> buildArgs,
+        Map<String, String> labels, String target, boolean pull, boolean noCache) {
+
+    public DockerBuildSpec {
+        if (context == null) {
+            throw new IllegalArgumentException("Build context cannot be null");
+        }
+        dockerfile = dockerfile == null || dockerfile.isBlank() ? "Dockerfile" : dockerfile;
+        tags = tags == null ? List.of() : List.copyOf(tags);
+        buildArgs = buildArgs == null ? Map.of() : Map.copyOf(buildArgs);
+        labels = labels == null ? Map.of() : Map.copyOf(labels);
+    }
+
+    /**
+     * Returns the specification of a build of the {@code Dockerfile} of a context.
+     *
+     * @param context The build context directory
+     * @param tags The tags given to the image
+     * @return The specification
+     */
+    public static DockerBuildSpec of(Path context, String... tags) {
+        return new DockerBuildSpec(context, null, List.of(tags), null, null, null, false, false);
+    }
+
+    public DockerBuildSpec withDockerfile(String dockerfile) {
+        return new DockerBuildSpec(context, dockerfile, tags, buildArgs, labels, target, pull, noCache);
+    }
+
+    public DockerBuildSpec withTags(List<String> tags) {
+        return new DockerBuildSpec(context, dockerfile, tags, buildArgs, labels, target, pull, noCache);
+    }
+
+    public DockerBuildSpec withBuildArgs(Map<String, String> buildArgs) {
+        return new DockerBuildSpec(context, dockerfile, tags, buildArgs, labels, target, pull, noCache);
+    }
+
+    public DockerBuildSpec withLabels(Map<String, String> labels) {
+        return new DockerBuildSpec(context, dockerfile, tags, buildArgs, labels, target, pull, noCache);
+    }
+
+    public DockerBuildSpec withTarget(String target) {
+        return new DockerBuildSpec(context, dockerfile, tags, buildArgs, labels, target, pull, noCache);
+    }
+
+    public DockerBuildSpec withPull(boolean pull) {
+        return new DockerBuildSpec(context, dockerfile, tags, buildArgs, labels, target, pull, noCache);
+    }
+
+    public DockerBuildSpec withNoCache(boolean noCache) {
+        return new DockerBuildSpec(context, dockerfile, tags, buildArgs, labels, target, pull, noCache);
+    }
+}
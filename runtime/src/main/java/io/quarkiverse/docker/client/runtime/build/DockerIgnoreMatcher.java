@@ -0,0 +1,250 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Matches build context paths against the patterns of a {@code .dockerignore} file.
+ *
+ * <p>
+ * Patterns follow the rules of the Docker CLI: {@code *} and {@code ?} match within a path segment, {@code **} matches
+ * any number of segments, a pattern also excludes everything below the directories it matches, and the last matching
+ * pattern wins, so {@code !pattern} re-includes paths. Patterns without wildcards are compared as strings, the others
+ * are compiled once.
+ * </p>
+ *
+ * <p>
+ * {@link #canPrune(String)} tells whether an excluded directory can be skipped without listing it, which is the case
+ * unless a negated pattern could re-include something below it.
+ * </p>
+ */
+public final class DockerIgnoreMatcher {
+
+    private static final DockerIgnoreMatcher NONE = new DockerIgnoreMatcher(List.of());
+
+    private final List<Rule> rules;
+    private final boolean negations;
+
+    private DockerIgnoreMatcher(List<Rule> rules) {
+        this.rules = rules;
+        this.negations = rules.stream().anyMatch(rule -> rule.negated);
+    }
+
+    /**
+     * Compiles the patterns of a {@code .dockerignore} file. Blank lines and lines starting with {@code #} are ignored.
+     *
+     * @param lines The lines of the file
+     * @return The matcher
+     */
+    public static DockerIgnoreMatcher parse(List<String> lines) {
+        List<Rule> rules = new ArrayList<>();
+        for (String line : lines) {
+            String pattern = line.strip();
+            if (pattern.isEmpty() || pattern.startsWith("#")) {
+                continue;
+            }
+            boolean negated = pattern.startsWith("!");
+            if (negated) {
+                pattern = pattern.substring(1).strip();
+            }
+            pattern = clean(pattern);
+            if (!pattern.isEmpty()) {
+                rules.add(Rule.of(pattern, negated));
+            }
+        }
+        return rules.isEmpty() ? NONE : new DockerIgnoreMatcher(rules);
+    }
+
+    /**
+     * Loads the {@code .dockerignore} file of a build context.
+     *
+     * @param context The build context directory
+     * @return The matcher, excluding nothing when the context has no {@code .dockerignore} file
+     * @throws IOException if the file cannot be read
+     */
+    public static DockerIgnoreMatcher load(Path context) throws IOException {
+        Path file = context.resolve(".dockerignore");
+        return Files.isRegularFile(file) ? parse(Files.readAllLines(file, StandardCharsets.UTF_8)) : NONE;
+    }
+
+    /**
+     * Tells whether a path is excluded from the build context.
+     *
+     * @param path The path relative to the context, with {@code /} separators
+     * @return true if the path is excluded
+     */
+    public boolean isExcluded(String path) {
+        boolean excluded = false;
+        for (Rule rule : rules) {
+            // Only a rule that would change the outcome needs to be evaluated
+            if (rule.negated == excluded && rule.matchesOrParentMatches(path)) {
+                excluded = !rule.negated;
+            }
+        }
+        return excluded;
+    }
+
+    /**
+     * Tells whether the entries of an excluded directory can be skipped without being matched one by one.
+     *
+     * @param directory The excluded directory, relative to the context, with {@code /} separators
+     * @return true if no negated pattern can re-include an entry of the directory
+     */
+    public boolean canPrune(String directory) {
+        if (!negations) {
+            return true;
+        }
+        for (Rule rule : rules) {
+            if (rule.negated && rule.couldMatchBelow(directory)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Normalizes a pattern like {@code filepath.Clean} does: no leading or trailing slash, no {@code .} segment, and
+     * {@code ..} segments resolved.
+     */
+    private static String clean(String pattern) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty() || segment.equals(".")) {
+                continue;
+            }
+            if (segment.equals("..")) {
+                if (!segments.isEmpty()) {
+                    segments.remove(segments.size() - 1);
+                }
+                continue;
+            }
+            segments.add(segment);
+        }
+        return String.join("/", segments);
+    }
+
+    private static final class Rule {
+
+        final String pattern;
+        final boolean negated;
+        final Pattern regex;
+        final String literalPrefix;
+
+        private Rule(String pattern, boolean negated, Pattern regex, String literalPrefix) {
+            this.pattern = pattern;
+            this.negated = negated;
+            this.regex = regex;
+            this.literalPrefix = literalPrefix;
+        }
+
+        static Rule of(String pattern, boolean negated) {
+            int wildcard = indexOfWildcard(pattern);
+            if (wildcard < 0) {
+                return new Rule(pattern, negated, null, pattern);
+            }
+            return new Rule(pattern, negated, Pattern.compile(toRegex(pattern)), pattern.substring(0, wildcard));
+        }
+
+        boolean matchesOrParentMatches(String path) {
+            if (regex == null) {
+                return path.equals(pattern) || path.startsWith(pattern) && path.charAt(pattern.length()) == '/';
+            }
+            if (!path.startsWith(literalPrefix)) {
+                return false;
+            }
+            if (regex.matcher(path).matches()) {
+                return true;
+            }
+            for (int slash = path.indexOf('/', literalPrefix.length()); slash >= 0; slash = path.indexOf('/', slash + 1)) {
+                if (regex.matcher(path.substring(0, slash)).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean couldMatchBelow(String directory) {
+            String prefix = directory + "/";
+            // Either the pattern starts inside the directory, or its wildcards start before reaching it
+            return literalPrefix.startsWith(prefix) || regex != null && prefix.startsWith(literalPrefix);
+        }
+
+        private static int indexOfWildcard(String pattern) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '*' || c == '?' || c == '[' || c == '\\') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static String toRegex(String pattern) {
+            StringBuilder regex = new StringBuilder();
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                switch (c) {
+                    case '*' -> {
+                        if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                            i++;
+                            if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '/') {
+                                // "**/" matches zero or more leading directories
+                                i++;
+                                regex.append("(?:.*/)?");
+                            } else {
+                                regex.append(".*");
+                            }
+                        } else {
+                            regex.append("[^/]*");
+                        }
+                    }
+                    case '?' -> regex.append("[^/]");
+                    case '[' -> {
+                        int end = pattern.indexOf(']', i + 1);
+                        if (end < 0) {
+                            regex.append("\\[");
+                        } else {
+                            characterClass(regex, pattern.substring(i + 1, end));
+                            i = end;
+                        }
+                    }
+                    case '\\' -> {
+                        if (i + 1 < pattern.length()) {
+                            regex.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+                        }
+                    }
+                    default -> regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            return regex.toString();
+        }
+
+        private static void characterClass(StringBuilder regex, String range) {
+            regex.append('[');
+            int start = 0;
+            if (range.startsWith("^")) {
+                regex.append('^');
+                start = 1;
+            }
+            for (int i = start; i < range.length(); i++) {
+                char c = range.charAt(i);
+                if (c == '\\' && i + 1 < range.length()) {
+                    c = range.charAt(++i);
+                } else if (c == '-' && i > start && i + 1 < range.length()) {
+                    regex.append('-');
+                    continue;
+                }
+                if (!Character.isLetterOrDigit(c)) {
+                    regex.append('\\');
+                }
+                regex.append(c);
+            }
+            regex.append(']');
+        }
+    }
+}
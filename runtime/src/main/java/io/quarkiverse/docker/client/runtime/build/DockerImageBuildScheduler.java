@@ -0,0 +1,281 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+
+/**
+ * Builds sets of images that build from each other, running independent builds concurrently.
+ *
+ * <p>
+ * The builds are ordered by a {@link DockerBuildPlan}, derived from the {@code FROM} instructions of their Dockerfiles.
+ * A build starts once the images it builds from are built, and at most
+ * {@code quarkus.docker.[client-name.]build.parallelism} builds run at once on the daemon of the client. When more
+ * builds are ready than can run, the ones starting the longest chains of dependent builds go first. Every image is built
+ * once and its dependents build from the local result: they never pull it, even if their specification asks to pull
+ * base images. When unchanged builds are skipped, an image is only skipped if none of the images it builds from was
+ * rebuilt by the plan: its own context may be unchanged, but its base is not.
+ * </p>
+ *
+ * <p>
+ * A failing build does not stop the builds that do not depend on it; its dependents are reported as
+ * {@link DockerBuildOutcome.Status#DEPENDENCY_FAILED}. The {@link DockerBuildReport} gives the outcome of every build and
+ * the critical path of the plan.
+ * </p>
+ *
+ * <p>
+ * Usage example:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("ci")
+ * DockerImageBuildScheduler scheduler;
+ *
+ * void buildAll(List&lt;DockerBuildSpec&gt; specs) throws IOException {
+ *     DockerBuildReport report = scheduler.build(specs);
+ *     Log.infof("Built in %s, critical path %s", report.wallTime(), report.criticalPathTime());
+ * }
+ * </pre>
+ *
+ * @see NamedDockerClient
+ */
+public class DockerImageBuildScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(DockerImageBuildScheduler.class);
+
+    private final DockerImageBuilder builder;
+    private final String clientName;
+    private final int parallelism;
+    private final Executor executor;
+
+    /**
+     * Creates a build scheduler.
+     *
+     * @param builder The image builder of the client
+     * @param clientName The client name, used in thread names and log messages
+     * @param parallelism The maximum number of concurrent builds
+     * @param executor The executor running the builds, or null to run them on threads created for each plan
+     */
+    public DockerImageBuildScheduler(DockerImageBuilder builder, String clientName, int parallelism, Executor executor) {
+        if (builder == null) {
+            throw new IllegalArgumentException("Image builder cannot be null");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.builder = builder;
+        this.clientName = clientName;
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    /**
+     * Orders builds by the images they build from, without building them.
+     *
+     * @param specs The build specifications
+     * @return The plan
+     * @throws IOException if a Dockerfile cannot be read
+     * @throws IllegalArgumentException if two builds produce the same tag, or if builds depend on each other
+     */
+    public DockerBuildPlan plan(Collection<DockerBuildSpec> specs) throws IOException {
+        return DockerBuildPlan.of(specs);
+    }
+
+    /**
+     * Builds a set of images, waiting for all of them.
+     *
+     * @param specs The build specifications
+     * @return The report of the builds
+     * @throws IOException if a Dockerfile cannot be read
+     * @throws IllegalArgumentException if two builds produce the same tag, or if builds depend on each other
+     */
+    public DockerBuildReport build(Collection<DockerBuildSpec> specs) throws IOException {
+        return build(plan(specs));
+    }
+
+    /**
+     * Builds the images of a plan, waiting for all of them.
+     *
+     * @param plan The plan
+     * @return The report of the builds
+     * @throws DockerBuildException if the thread is interrupted while waiting
+     */
+    public DockerBuildReport build(DockerBuildPlan plan) {
+        ExecutorService ownedExecutor = null;
+        Executor runner = executor;
+        if (runner == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ownedExecutor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, plan.nodes().size())),
+                    runnable -> {
+                        Thread thread = new Thread(runnable,
+                                "docker-build-" + clientName + "-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            runner = ownedExecutor;
+        }
+        try {
+            return new Run(plan, runner).await();
+        } finally {
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Execution of a plan: builds are dispatched as their dependencies complete, within the parallelism.
+     */
+    private final class Run {
+
+        private final DockerBuildPlan plan;
+        private final Executor runner;
+        private final long start = System.nanoTime();
+        private final int[] pending;
+        private final DockerBuildOutcome[] outcomes;
+        private final PriorityQueue<DockerBuildPlan.Node> ready = new PriorityQueue<>(
+                Comparator.<DockerBuildPlan.Node> comparingInt(node -> -node.depth).thenComparingInt(node -> node.index));
+        private final CountDownLatch done;
+        private int running;
+
+        Run(DockerBuildPlan plan, Executor runner) {
+            this.plan = plan;
+            this.runner = runner;
+            List<DockerBuildPlan.Node> nodes = plan.nodes();
+            this.pending = new int[nodes.size()];
+            this.outcomes = new DockerBuildOutcome[nodes.size()];
+            this.done = new CountDownLatch(nodes.size());
+            for (DockerBuildPlan.Node node : nodes) {
+                pending[node.index] = node.dependencies.size();
+                if (pending[node.index] == 0) {
+                    ready.add(node);
+                }
+            }
+        }
+
+        DockerBuildReport await() {
+            dispatch();
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DockerBuildException(clientName, "interrupted while waiting for the builds");
+            }
+            return report();
+        }
+
+        private synchronized void dispatch() {
+            while (running < parallelism && !ready.isEmpty()) {
+                DockerBuildPlan.Node node = ready.poll();
+                running++;
+                try {
+                    runner.execute(() -> run(node));
+                } catch (RuntimeException e) {
+                    running--;
+                    complete(node, new DockerBuildOutcome(node.spec, DockerBuildOutcome.Status.FAILED, null, e,
+                            Duration.ZERO, Duration.ZERO));
+                }
+            }
+        }
+
+        private void run(DockerBuildPlan.Node node) {
+            long started = System.nanoTime();
+            DockerBuildSpec spec = node.spec;
+            if (spec.pull() && !node.dependencies.isEmpty()) {
+                // Pulling would replace the images just built by the plan with those of the registry
+                spec = spec.withPull(false);
+            }
+            boolean upstreamRebuilt;
+            synchronized (this) {
+                upstreamRebuilt = node.dependencies.stream()
+                        .map(dependency -> outcomes[dependency.index].result())
+                        .anyMatch(result -> result != null && !result.skipped());
+            }
+            DockerBuildOutcome outcome;
+            try {
+                DockerBuildResult result = builder.build(spec, line -> {
+                }, !upstreamRebuilt);
+                outcome = new DockerBuildOutcome(node.spec, DockerBuildOutcome.Status.SUCCEEDED, result, null,
+                        Duration.ofNanos(started - start), Duration.ofNanos(System.nanoTime() - started));
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warnf(e, "Build of %s on Docker client %s failed", node.spec.context(), clientName);
+                outcome = new DockerBuildOutcome(node.spec, DockerBuildOutcome.Status.FAILED, null, e,
+                        Duration.ofNanos(started - start), Duration.ofNanos(System.nanoTime() - started));
+            }
+            synchronized (this) {
+                running--;
+                complete(node, outcome);
+            }
+            dispatch();
+        }
+
+        /**
+         * Records the outcome of a build, and releases its dependents: they become ready, or fail at once if one of the
+         * images they build from failed.
+         */
+        private synchronized void complete(DockerBuildPlan.Node node, DockerBuildOutcome outcome) {
+            outcomes[node.index] = outcome;
+            done.countDown();
+            for (DockerBuildPlan.Node dependent : node.dependents) {
+                if (--pending[dependent.index] > 0) {
+                    continue;
+                }
+                boolean upstreamFailed = dependent.dependencies.stream()
+                        .anyMatch(dependency -> outcomes[dependency.index].status() != DockerBuildOutcome.Status.SUCCEEDED);
+                if (upstreamFailed) {
+                    complete(dependent, new DockerBuildOutcome(dependent.spec, DockerBuildOutcome.Status.DEPENDENCY_FAILED,
+                            null, null, Duration.ZERO, Duration.ZERO));
+                } else {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        /**
+         * Computes the critical path from the time every build took: the chain of dependent builds with the largest
+         * total time.
+         */
+        private synchronized DockerBuildReport report() {
+            List<DockerBuildPlan.Node> nodes = plan.nodes();
+            long[] chainNanos = new long[nodes.size()];
+            DockerBuildPlan.Node[] previous = new DockerBuildPlan.Node[nodes.size()];
+            DockerBuildPlan.Node last = null;
+            for (DockerBuildPlan.Node node : plan.sortedNodes()) {
+                long upstream = 0;
+                for (DockerBuildPlan.Node dependency : node.dependencies) {
+                    if (chainNanos[dependency.index] > upstream) {
+                        upstream = chainNanos[dependency.index];
+                        previous[node.index] = dependency;
+                    }
+                }
+                chainNanos[node.index] = upstream + outcomes[node.index].duration().toNanos();
+                if (last == null || chainNanos[node.index] > chainNanos[last.index]) {
+                    last = node;
+                }
+            }
+
+            List<DockerBuildSpec> criticalPath = new ArrayList<>();
+            for (DockerBuildPlan.Node node = last; node != null; node = previous[node.index]) {
+                criticalPath.add(node.spec);
+            }
+            Collections.reverse(criticalPath);
+            return new DockerBuildReport(List.of(outcomes), Duration.ofNanos(System.nanoTime() - start),
+                    Duration.ofNanos(last == null ? 0 : chainNanos[last.index]), criticalPath);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.AuthConfigurations;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+import io.quarkiverse.docker.client.runtime.transfer.TarArchiveSource;
+
+/**
+ * Builds images from a build context streamed to the daemon while it is archived.
+ *
+ * <p>
+ * {@code buildImageCmd} archives the whole context before the upload starts. This builder lists the context, applying
+ * its {@code .dockerignore} file and skipping excluded directories without listing them, then generates the tar while
+ * the daemon receives it, so the build starts after the first bytes and no temporary archive is written. Requests go
+ * through the transport of the client, so the metrics, tracing, circuit breaker and bulkhead of the client apply.
+ * The registry credentials of the client are sent with every build, as {@code buildImageCmd} does, so base images can be
+ * pulled from private registries.
+ * </p>
+ *
+ * <p>
+ * With {@code quarkus.docker.[client-name.]build.skip-unchanged}, the content hashes of the context files and the IDs of
+ * the local images its {@code FROM} instructions resolve to are compared with those of the last build of the same tags,
+ * and the build is skipped when nothing changed and the image still exists. A rebuilt or pulled base image therefore
+ * leads to a rebuild. Hashes are cached by file size and modification time, so only changed files are read before
+ * deciding.
+ * </p>
+ *
+ * <p>
+ * Builds are blocking and should run on a worker or virtual thread.
+ * </p>
+ *
+ * <p>
+ * Usage example:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("ci")
+ * DockerImageBuilder builder;
+ *
+ * String build(String version) throws IOException {
+ *     return builder.build(DockerBuildSpec.of(Path.of("services/orders"), "internal/orders:" + version),
+ *             line -&gt; Log.info(line.stripTrailing())).imageId();
+ * }
+ * </pre>
+ *
+ * @see NamedDockerClient
+ */
+public class DockerImageBuilder {
+
+    private static final Logger LOGGER = Logger.getLogger(DockerImageBuilder.class);
+    private static final String SUCCESSFULLY_BUILT = "Successfully built ";
+
+    private final DockerHttpClient transport;
+    private final String clientName;
+    private final String versionPrefix;
+    private final DockerBuildHashCache hashCache;
+    private final String registryConfig;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Creates an image builder.
+     *
+     * @param transport The transport of the client
+     * @param clientName The client name, used in exceptions
+     * @param apiVersion The API version of the client, or null to use the version of the daemon
+     * @param skipUnchanged Whether builds whose context and options did not change are skipped
+     * @param hashCacheFile The file keeping the content hashes between runs, or null to keep them in memory
+     * @param registryAuth The registry credentials of the client, or null to build without credentials
+     */
+    public DockerImageBuilder(DockerHttpClient transport, String clientName, String apiVersion, boolean skipUnchanged,
+            Path hashCacheFile, AuthConfigurations registryAuth) {
+        if (transport == null) {
+            throw new IllegalArgumentException("Transport cannot be null");
+        }
+        this.transport = transport;
+        this.clientName = clientName;
+        this.versionPrefix = apiVersion == null || apiVersion.isBlank() ? "" : "/v" + apiVersion;
+        this.hashCache = skipUnchanged ? new DockerBuildHashCache(hashCacheFile) : null;
+        this.registryConfig = registryConfig(registryAuth);
+    }
+
+    /**
+     * Builds an image.
+     *
+     * @param spec The build specification
+     * @return The outcome of the build
+     * @throws IOException if the context cannot be read
+     * @throws DockerBuildException if the daemon reports a build error
+     */
+    public DockerBuildResult build(DockerBuildSpec spec) throws IOException {
+        return build(spec, line -> {
+        });
+    }
+
+    /**
+     * Builds an image, handing the build output to a consumer as the daemon reports it.
+     *
+     * @param spec The build specification
+     * @param output The consumer of the build output
+     * @return The outcome of the build
+     * @throws IOException if the context cannot be read
+     * @throws DockerBuildException if the daemon reports a build error
+     */
+    public DockerBuildResult build(DockerBuildSpec spec, Consumer<String> output) throws IOException {
+        return build(spec, output, true);
+    }
+
+    /**
+     * Builds an image, skipping it only if allowed when nothing changed. The digest of the build is recorded either way,
+     * so that the next unchanged build can be skipped.
+     *
+     * @param spec The build specification
+     * @param output The consumer of the build output
+     * @param skipUnchanged Whether the build may be skipped when nothing changed
+     * @return The outcome of the build
+     * @throws IOException if the context cannot be read
+     * @throws DockerBuildException if the daemon reports a build error
+     */
+    DockerBuildResult build(DockerBuildSpec spec, Consumer<String> output, boolean skipUnchanged) throws IOException {
+        long start = System.nanoTime();
+        Path context = spec.context().toAbsolutePath().normalize();
+        if (!Files.isDirectory(context)) {
+            throw new IOException("Build context " + context + " is not a directory");
+        }
+        List<Path> paths = listContext(context, spec.dockerfile());
+
+        String contextDigest = null;
+        String key = buildKey(context, spec);
+        if (hashCache != null && !spec.noCache()) {
+            contextDigest = contextDigest(context, paths, spec);
+            String imageId = skipUnchanged ? hashCache.lastImage(key, contextDigest) : null;
+            if (imageId != null && imageExists(imageId)) {
+                tag(imageId, spec.tags());
+                LOGGER.debugf("Skipped the build of %s on Docker client %s, nothing changed", spec.tags(), clientName);
+                return new DockerBuildResult(imageId, spec.tags(), paths.size(), 0, contextDigest, true,
+                        Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
+
+        TarArchiveSource archive = TarArchiveSource.of(context, paths);
+        DockerHttpClient.Request request = DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.POST)
+                .path(versionPrefix + "/build?" + query(spec))
+                .headers(registryConfig == null
+                        ? Map.of("Content-Type", "application/x-tar")
+                        : Map.of("Content-Type", "application/x-tar", "X-Registry-Config", registryConfig))
+                .body(archive)
+                .build();
+        String imageId;
+        try (archive; DockerHttpClient.Response response = transport.execute(request)) {
+            imageId = readBuildOutput(checkStatus(response), output);
+        }
+        if (contextDigest != null) {
+            hashCache.built(key, contextDigest, imageId);
+        }
+        return new DockerBuildResult(imageId, spec.tags(), archive.entryCount(), archive.contentBytes(), contextDigest,
+                false, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Encodes the credentials of every registry as the {@code X-Registry-Config} header expects them: a base64url encoded
+     * JSON object keyed by registry address.
+     */
+    private String registryConfig(AuthConfigurations registryAuth) {
+        if (registryAuth == null || registryAuth.getConfigs() == null || registryAuth.getConfigs().isEmpty()) {
+            return null;
+        }
+        try {
+            return Base64.getUrlEncoder().encodeToString(mapper.writeValueAsBytes(registryAuth.getConfigs()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Lists the paths of the context to send, in a stable order. The Dockerfile and the {@code .dockerignore} file are
+     * always sent, as the Docker CLI does.
+     */
+    private static List<Path> listContext(Path context, String dockerfile) throws IOException {
+        DockerIgnoreMatcher matcher = DockerIgnoreMatcher.load(context);
+        String dockerfileName = context.relativize(context.resolve(dockerfile).normalize()).toString().replace('\\', '/');
+        List<Path> paths = new ArrayList<>();
+        listDirectory(context, "", matcher, dockerfileName, paths);
+        return paths;
+    }
+
+    private static void listDirectory(Path directory, String relative, DockerIgnoreMatcher matcher, String dockerfile,
+            List<Path> paths) throws IOException {
+        List<Path> children;
+        try (Stream<Path> entries = Files.list(directory)) {
+            children = entries.sorted().toList();
+        }
+        for (Path child : children) {
+            String name = relative.isEmpty() ? child.getFileName().toString() : relative + "/" + child.getFileName();
+            boolean excluded = matcher.isExcluded(name) && !name.equals(dockerfile) && !name.equals(".dockerignore");
+            BasicFileAttributes attributes = Files.readAttributes(child, BasicFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS);
+            if (attributes.isDirectory()) {
+                if (excluded && matcher.canPrune(name) && !dockerfile.startsWith(name + "/")) {
+                    continue;
+                }
+                if (!excluded) {
+                    paths.add(child);
+                }
+                listDirectory(child, name, matcher, dockerfile, paths);
+            } else if (!excluded) {
+                paths.add(child);
+            }
+        }
+    }
+
+    /**
+     * Digests the names, types and contents of the context entries, the options of the build, and the IDs of the images
+     * it builds from.
+     */
+    private String contextDigest(Path context, List<Path> paths, DockerBuildSpec spec) throws IOException {
+        MessageDigest digest = DockerBuildHashCache.sha256();
+        for (Path path : paths) {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS);
+            String entry;
+            if (attributes.isDirectory()) {
+                entry = "d";
+            } else if (attributes.isSymbolicLink()) {
+                entry = "l" + Files.readSymbolicLink(path);
+            } else {
+                entry = (Files.isExecutable(path) ? "x" : "f")
+                        + hashCache.hash(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+            }
+            digest.update((context.relativize(path) + "\0" + entry + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        String options = spec.dockerfile() + "\0" + new TreeMap<>(spec.buildArgs()) + "\0" + new TreeMap<>(spec.labels())
+                + "\0" + spec.target() + "\0" + spec.pull();
+        digest.update(options.getBytes(StandardCharsets.UTF_8));
+        Path dockerfile = context.resolve(spec.dockerfile());
+        if (Files.isRegularFile(dockerfile)) {
+            for (String image : DockerfileReferences.of(Files.readString(dockerfile, StandardCharsets.UTF_8),
+                    spec.buildArgs())) {
+                digest.update(("\0" + image + "=" + localImageId(image)).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return "sha256:" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String buildKey(Path context, DockerBuildSpec spec) {
+        List<String> tags = spec.tags().stream().sorted().toList();
+        return tags.isEmpty() ? context + "/" + spec.dockerfile() : String.join(",", tags);
+    }
+
+    private String query(DockerBuildSpec spec) {
+        StringBuilder query = new StringBuilder("rm=1&dockerfile=").append(encode(spec.dockerfile()));
+        for (String tag : spec.tags()) {
+            query.append("&t=").append(encode(tag));
+        }
+        try {
+            if (!spec.buildArgs().isEmpty()) {
+                query.append("&buildargs=").append(encode(mapper.writeValueAsString(spec.buildArgs())));
+            }
+            if (!spec.labels().isEmpty()) {
+                query.append("&labels=").append(encode(mapper.writeValueAsString(spec.labels())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (spec.target() != null) {
+            query.append("&target=").append(encode(spec.target()));
+        }
+        if (spec.pull()) {
+            query.append("&pull=1");
+        }
+        if (spec.noCache()) {
+            query.append("&nocache=1");
+        }
+        return query.toString();
+    }
+
+    /**
+     * Reads the progress messages of a build until it ends, returning the ID of the built image.
+     */
+    private String readBuildOutput(InputStream body, Consumer<String> output) throws IOException {
+        String imageId = null;
+        try (MappingIterator<JsonNode> messages = mapper.readerFor(JsonNode.class).readValues(body)) {
+            while (messages.hasNextValue()) {
+                JsonNode message = messages.nextValue();
+                if (message.hasNonNull("error")) {
+                    throw new DockerBuildException(clientName, message.get("error").asText().strip());
+                }
+                String stream = message.path("stream").asText(null);
+                if (stream != null) {
+                    output.accept(stream);
+                    // Daemons reporting no image ID in an aux message end the output with it
+                    if (imageId == null && stream.startsWith(SUCCESSFULLY_BUILT)) {
+                        imageId = stream.substring(SUCCESSFULLY_BUILT.length()).strip();
+                    }
+                }
+                JsonNode aux = message.path("aux").path("ID");
+                if (aux.isTextual()) {
+                    imageId = aux.asText();
+                }
+            }
+        }
+        if (imageId == null) {
+            throw new DockerBuildException(clientName, "the daemon did not report the ID of the built image");
+        }
+        return imageId;
+    }
+
+    /**
+     * Returns the ID of a local image, or an empty string if the daemon does not have it yet.
+     */
+    private String localImageId(String reference) throws IOException {
+        DockerHttpClient.Request request = DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(versionPrefix + "/images/" + reference + "/json")
+                .headers(Map.of())
+                .build();
+        try (DockerHttpClient.Response response = transport.execute(request)) {
+            if (response.getStatusCode() == 404) {
+                return "";
+            }
+            try (InputStream body = checkStatus(response)) {
+                return mapper.readTree(body).path("Id").asText("");
+            }
+        }
+    }
+
+    private boolean imageExists(String imageId) {
+        DockerHttpClient.Request request = DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(versionPrefix + "/images/" + imageId + "/json")
+                .headers(Map.of())
+                .build();
+        try (DockerHttpClient.Response response = transport.execute(request)) {
+            return response.getStatusCode() == 200;
+        }
+    }
+
+    private void tag(String imageId, List<String> tags) throws IOException {
+        for (String tag : tags) {
+            int colon = tag.lastIndexOf(':');
+            boolean hasTag = colon > tag.lastIndexOf('/');
+            String repository = hasTag ? tag.substring(0, colon) : tag;
+            String version = hasTag ? tag.substring(colon + 1) : "latest";
+            DockerHttpClient.Request request = DockerHttpClient.Request.builder()
+                    .method(DockerHttpClient.Request.Method.POST)
+                    .path(versionPrefix + "/images/" + imageId + "/tag?repo=" + encode(repository) + "&tag="
+                            + encode(version))
+                    .headers(Map.of())
+                    .build();
+            try (DockerHttpClient.Response response = transport.execute(request)) {
+                checkStatus(response).close();
+            }
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static InputStream checkStatus(DockerHttpClient.Response response) throws IOException {
+        int status = response.getStatusCode();
+        InputStream body = response.getBody();
+        if (status < 400) {
+            return body == null ? InputStream.nullInputStream() : body;
+        }
+        String message;
+        try (body) {
+            message = body == null ? "" : new String(body.readNBytes(4096), StandardCharsets.UTF_8);
+        }
+        if (status == 404) {
+            throw new NotFoundException(String.format("Status 404: %s", message));
+        }
+        throw new DockerException(String.format("Status %d: %s", status, message), status);
+    }
+}
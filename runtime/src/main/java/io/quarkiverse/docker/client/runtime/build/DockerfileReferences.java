@@ -0,0 +1,174 @@
+package io.quarkiverse.docker.client.runtime.build;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the images a Dockerfile builds from: the images of its {@code FROM} instructions and of its
+ * {@code COPY --from} options, excluding its own stages.
+ *
+ * <p>
+ * Variables declared by {@code ARG} before the first {@code FROM} are substituted, in the {@code $NAME},
+ * {@code ${NAME}} and {@code ${NAME:-default}} forms, with the build arguments taking precedence over their defaults.
+ * References are normalized so {@code docker.io/library/alpine} and {@code alpine:latest} are the same image.
+ * </p>
+ */
+final class DockerfileReferences {
+
+    private static final Pattern VARIABLE = Pattern
+            .compile("\\$(?:\\{([A-Za-z_][A-Za-z0-9_]*)(?::-([^}]*))?}|([A-Za-z_][A-Za-z0-9_]*))");
+
+    private DockerfileReferences() {
+    }
+
+    /**
+     * Returns the normalized references of the images a Dockerfile builds from.
+     *
+     * @param dockerfile The content of the Dockerfile
+     * @param buildArgs The build arguments of the build
+     * @return The image references, in order of appearance
+     */
+    static Set<String> of(String dockerfile, Map<String, String> buildArgs) {
+        Map<String, String> args = new HashMap<>();
+        Set<String> stages = new HashSet<>();
+        Set<String> images = new LinkedHashSet<>();
+        boolean fromSeen = false;
+        int stageIndex = 0;
+
+        for (String line : instructions(dockerfile)) {
+            String[] words = line.split("\\s+");
+            String instruction = words[0].toUpperCase(Locale.ROOT);
+            if (instruction.equals("ARG") && !fromSeen) {
+                for (int i = 1; i < words.length; i++) {
+                    int equals = words[i].indexOf('=');
+                    String name = equals < 0 ? words[i] : words[i].substring(0, equals);
+                    String value = buildArgs.containsKey(name) ? buildArgs.get(name)
+                            : equals < 0 ? null : unquote(words[i].substring(equals + 1));
+                    if (value != null) {
+                        args.put(name, value);
+                    }
+                }
+            } else if (instruction.equals("FROM")) {
+                fromSeen = true;
+                List<String> operands = operands(words);
+                if (operands.isEmpty()) {
+                    continue;
+                }
+                String image = substitute(operands.get(0), args);
+                if (!stages.contains(image.toLowerCase(Locale.ROOT)) && !image.equalsIgnoreCase("scratch")) {
+                    images.add(normalize(image));
+                }
+                if (operands.size() >= 3 && operands.get(1).equalsIgnoreCase("AS")) {
+                    stages.add(operands.get(2).toLowerCase(Locale.ROOT));
+                }
+                stages.add(String.valueOf(stageIndex++));
+            } else if (instruction.equals("COPY")) {
+                for (int i = 1; i < words.length && words[i].startsWith("--"); i++) {
+                    if (words[i].startsWith("--from=")) {
+                        String source = substitute(words[i].substring("--from=".length()), args);
+                        if (!stages.contains(source.toLowerCase(Locale.ROOT))) {
+                            images.add(normalize(source));
+                        }
+                    }
+                }
+            }
+        }
+        return images;
+    }
+
+    /**
+     * Normalizes an image reference: the Docker Hub registry and library namespace are removed, and the {@code latest}
+     * tag is added when there is neither a tag nor a digest.
+     *
+     * @param reference The image reference
+     * @return The normalized reference
+     */
+    static String normalize(String reference) {
+        String image = reference;
+        if (image.startsWith("docker.io/")) {
+            image = image.substring("docker.io/".length());
+        } else if (image.startsWith("index.docker.io/")) {
+            image = image.substring("index.docker.io/".length());
+        }
+        if (image.startsWith("library/")) {
+            image = image.substring("library/".length());
+        }
+        int slash = image.lastIndexOf('/');
+        if (image.indexOf('@') < 0 && image.indexOf(':', slash + 1) < 0) {
+            image = image + ":latest";
+        }
+        return image;
+    }
+
+    /**
+     * Splits a Dockerfile into instructions, joining continued lines and dropping comments.
+     */
+    private static List<String> instructions(String dockerfile) {
+        List<String> instructions = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String raw : dockerfile.split("\\R")) {
+            String line = raw.strip();
+            if (line.startsWith("#")) {
+                continue;
+            }
+            if (line.endsWith("\\")) {
+                current.append(line, 0, line.length() - 1).append(' ');
+                continue;
+            }
+            current.append(line);
+            String instruction = current.toString().strip();
+            if (!instruction.isEmpty()) {
+                instructions.add(instruction);
+            }
+            current.setLength(0);
+        }
+        if (!current.toString().isBlank()) {
+            instructions.add(current.toString().strip());
+        }
+        return instructions;
+    }
+
+    private static List<String> operands(String[] words) {
+        List<String> operands = new ArrayList<>();
+        for (int i = 1; i < words.length; i++) {
+            // Flags such as --platform come before the image
+            if (operands.isEmpty() && words[i].startsWith("--")) {
+                continue;
+            }
+            operands.add(words[i]);
+        }
+        return operands;
+    }
+
+    private static String substitute(String value, Map<String, String> args) {
+        Matcher matcher = VARIABLE.matcher(value);
+        StringBuilder substituted = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1) != null ? matcher.group(1) : matcher.group(3);
+            String replacement = args.get(name);
+            if (replacement == null || replacement.isEmpty()) {
+                // ${NAME:-default} falls back to its default when the variable is unset or empty
+                replacement = matcher.group(2) != null ? matcher.group(2) : "";
+            }
+            matcher.appendReplacement(substituted, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(substituted);
+        return substituted.toString();
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && (value.startsWith("\"") && value.endsWith("\"")
+                || value.startsWith("'") && value.endsWith("'"))) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,23 @@
+package io.quarkiverse.docker.client.runtime.bulk;
+
+/**
+ * Outcome of one item of a bulk operation.
+ *
+ * @param index The position of the item in the submitted batch
+ * @param spec The submitted item
+ * @param result The result of the item, null if it failed or the operation has no result
+ * @param failure The failure of the item, null if it succeeded
+ * @param <S> The item type
+ * @param <R> The result type
+ */
+public record BulkItemResult<S, R>(int index, S spec, R result, Throwable failure) {
+
+    /**
+     * Determines whether the item succeeded.
+     *
+     * @return true if the item did not fail
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkiverse.docker.client.runtime.bulk;
+
+import java.util.List;
+
+/**
+ * Thrown by {@link BulkResult#throwIfFailed()} when items of a bulk operation failed.
+ */
+public class BulkOperationException extends RuntimeException {
+
+    private final int failedCount;
+    private final int totalCount;
+
+    public BulkOperationException(int failedCount, int totalCount, List<Throwable> failures) {
+        super(String.format("%d of %d bulk items failed", failedCount, totalCount),
+                failures.isEmpty() ? null : failures.get(0));
+        this.failedCount = failedCount;
+        this.totalCount = totalCount;
+        failures.stream().skip(1).forEach(this::addSuppressed);
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkiverse.docker.client.runtime.bulk;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk operation, with one result per submitted item in submission order.
+ *
+ * <p>
+ * A bulk operation never fails as a whole because of failing items: partial failures are reported here so the caller
+ * can decide to retry, compensate or fail.
+ * </p>
+ *
+ * @param items The result of every item, in submission order
+ * @param <S> The item type
+ * @param <R> The result type
+ */
+public record BulkResult<S, R>(List<BulkItemResult<S, R>> items) {
+
+    public BulkResult {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * Returns the items that succeeded.
+     *
+     * @return The successful items
+     */
+    public List<BulkItemResult<S, R>> succeeded() {
+        return items.stream().filter(BulkItemResult::isSuccess).toList();
+    }
+
+    /**
+     * Returns the items that failed.
+     *
+     * @return The failed items
+     */
+    public List<BulkItemResult<S, R>> failed() {
+        return items.stream().filter(item -> !item.isSuccess()).toList();
+    }
+
+    /**
+     * Determines whether any item failed.
+     *
+     * @return true if at least one item failed
+     */
+    public boolean hasFailures() {
+        return items.stream().anyMatch(item -> !item.isSuccess());
+    }
+
+    /**
+     * Returns the results of the successful items, in submission order.
+     *
+     * @return The results
+     */
+    public List<R> results() {
+        return items.stream().filter(BulkItemResult::isSuccess).map(BulkItemResult::result).toList();
+    }
+
+    /**
+     * Throws if any item failed. The first failure is the cause, the others are suppressed.
+     *
+     * @return This result, for chaining
+     * @throws BulkOperationException if any item failed
+     */
+    public BulkResult<S, R> throwIfFailed() {
+        List<BulkItemResult<S, R>> failed = failed();
+        if (!failed.isEmpty()) {
+            throw new BulkOperationException(failed.size(), items.size(), failed.stream()
+                    .map(BulkItemResult::failure)
+                    .toList());
+        }
+        return this;
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkiverse.docker.client.runtime.bulk;
+
+import java.util.function.Consumer;
+
+import com.github.dockerjava.api.command.CreateContainerCmd;
+
+/**
+ * Specification of a container created by {@link DockerBulkOperations#createContainers(java.util.List)}.
+ *
+ * <pre>
+ * ContainerSpec spec = ContainerSpec.of("nginx:alpine", cmd -&gt; cmd
+ *         .withName("web-" + i)
+ *         .withLabels(Map.of("suite", "load-test")));
+ * </pre>
+ *
+ * @param image The image to create the container from
+ * @param customizer Callback customizing the create command, for example to set the name, labels or host config
+ */
+public record ContainerSpec(String image, Consumer<CreateContainerCmd> customizer) {
+
+    public ContainerSpec {
+        if (image == null) {
+            throw new IllegalArgumentException("Image cannot be null");
+        }
+        customizer = customizer == null ? cmd -> {
+        } : customizer;
+    }
+
+    public static ContainerSpec of(String image) {
+        return new ContainerSpec(image, null);
+    }
+
+    public static ContainerSpec of(String image, Consumer<CreateContainerCmd> customizer) {
+        return new ContainerSpec(image, customizer);
+    }
+}
@@ -0,0 +1,162 @@
+package io.quarkiverse.docker.client.runtime.bulk;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import com.github.dockerjava.api.command.CreateContainerResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.exception.NotModifiedException;
+
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Runs container operations on many containers with bounded concurrency.
+ *
+ * <p>
+ * Items are processed with up to {@code quarkus.docker.[client-name.]bulk-parallelism} concurrent calls, each one on a
+ * pooled keep-alive connection of the client. Failing items do not stop the batch: every operation completes with a
+ * {@link BulkResult} holding one result per item, in submission order.
+ * </p>
+ *
+ * <p>
+ * Operations are idempotent where the daemon allows it: starting a running container, stopping a stopped container and
+ * removing a container that no longer exists count as successes.
+ * </p>
+ *
+ * <p>
+ * Usage example:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("ci")
+ * DockerBulkOperations bulk;
+ *
+ * public void tearDown(List&lt;String&gt; containerIds) {
+ *     bulk.removeContainers(containerIds, true)
+ *             .await().indefinitely()
+ *             .throwIfFailed();
+ * }
+ * </pre>
+ *
+ * @see NamedDockerClient
+ * @see BulkResult
+ */
+public class DockerBulkOperations {
+
+    private final ReactiveDockerClient client;
+    private final int parallelism;
+
+    /**
+     * Creates bulk operations for a client.
+     *
+     * @param client The client running the operations
+     * @param parallelism The maximum number of concurrent calls
+     */
+    public DockerBulkOperations(ReactiveDockerClient client, int parallelism) {
+        if (client == null) {
+            throw new IllegalArgumentException("ReactiveDockerClient cannot be null");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.client = client;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns bulk operations running with a different maximum number of concurrent calls.
+     *
+     * @param parallelism The maximum number of concurrent calls
+     * @return New bulk operations for the same client
+     */
+    public DockerBulkOperations withParallelism(int parallelism) {
+        return new DockerBulkOperations(client, parallelism);
+    }
+
+    /**
+     * Creates containers.
+     *
+     * @param specs The containers to create
+     * @return A Uni emitting the result of every creation
+     */
+    public Uni<BulkResult<ContainerSpec, CreateContainerResponse>> createContainers(List<ContainerSpec> specs) {
+        return run(specs, spec -> client.createContainer(spec.image(), spec.customizer()));
+    }
+
+    /**
+     * Starts containers. Containers that are already running count as started.
+     *
+     * @param containerIds The container IDs or names
+     * @return A Uni emitting the result of every start
+     */
+    public Uni<BulkResult<String, Void>> startContainers(List<String> containerIds) {
+        return run(containerIds, id -> client.startContainer(id)
+                .onFailure(NotModifiedException.class).recoverWithNull());
+    }
+
+    /**
+     * Stops containers. Containers that are already stopped count as stopped.
+     *
+     * @param containerIds The container IDs or names
+     * @param timeoutSeconds Seconds to wait before killing each container
+     * @return A Uni emitting the result of every stop
+     */
+    public Uni<BulkResult<String, Void>> stopContainers(List<String> containerIds, int timeoutSeconds) {
+        return run(containerIds, id -> client.stopContainer(id, timeoutSeconds)
+                .onFailure(NotModifiedException.class).recoverWithNull());
+    }
+
+    /**
+     * Removes containers. Containers that no longer exist count as removed.
+     *
+     * @param containerIds The container IDs or names
+     * @param force Whether running containers are killed first
+     * @return A Uni emitting the result of every removal
+     */
+    public Uni<BulkResult<String, Void>> removeContainers(List<String> containerIds, boolean force) {
+        return run(containerIds, id -> client.removeContainer(id, force)
+                .onFailure(NotFoundException.class).recoverWithNull());
+    }
+
+    /**
+     * Runs an arbitrary operation on every item with bounded concurrency.
+     *
+     * @param specs The items to process
+     * @param operation Function returning the operation of an item
+     * @param <S> The item type
+     * @param <R> The result type
+     * @return A Uni emitting the result of every item, in submission order
+     */
+    public <S, R> Uni<BulkResult<S, R>> run(List<S> specs, Function<S, Uni<R>> operation) {
+        if (specs.isEmpty()) {
+            return Uni.createFrom().item(new BulkResult<>(List.of()));
+        }
+
+        List<Integer> indexes = new ArrayList<>(specs.size());
+        for (int i = 0; i < specs.size(); i++) {
+            indexes.add(i);
+        }
+
+        return Multi.createFrom().iterable(indexes)
+                .onItem().transformToUni(index -> runItem(index, specs.get(index), operation))
+                .merge(parallelism)
+                .collect().asList()
+                .map(items -> {
+                    List<BulkItemResult<S, R>> ordered = new ArrayList<>(items);
+                    ordered.sort(Comparator.comparingInt(BulkItemResult::index));
+                    return new BulkResult<>(ordered);
+                });
+    }
+
+    private static <S, R> Uni<BulkItemResult<S, R>> runItem(int index, S spec, Function<S, Uni<R>> operation) {
+        return Uni.createFrom().deferred(() -> operation.apply(spec))
+                .map(result -> new BulkItemResult<>(index, spec, result, null))
+                .onFailure().recoverWithItem(failure -> new BulkItemResult<>(index, spec, null, failure));
+    }
+}
@@ -0,0 +1,202 @@
+package io.quarkiverse.docker.client.runtime.bulkhead;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.config.DockerBulkheadConfig;
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+
+/**
+ * Docker transport decorator limiting the concurrent calls to the daemon.
+ *
+ * <p>
+ * Request/response calls and long-lived streams, as told apart by {@link DockerApiEndpoints#isStreaming}, have separate
+ * compartments, each with its own number of slots and its own bounded wait queue. A call holds its slot until its response
+ * is closed, so slow body reads count as well. Calls that find the queue full, or that wait longer than the maximum wait
+ * time, fail with a {@link DockerBulkheadRejectedException} without reaching the daemon.
+ * </p>
+ */
+public class BulkheadDockerHttpClient implements DockerHttpClient {
+
+    /**
+     * Compartment of request/response calls.
+     */
+    public static final String REQUESTS = "requests";
+
+    /**
+     * Compartment of long-lived streams.
+     */
+    public static final String STREAMS = "streams";
+
+    private final DockerHttpClient delegate;
+    private final String clientName;
+    private final BulkheadListener listener;
+    private final long maxWaitNanos;
+    private final Compartment requests;
+    private final Compartment streams;
+
+    /**
+     * Creates a bulkhead decorator.
+     *
+     * @param delegate The transport to decorate
+     * @param clientName The name of the client, used in exceptions
+     * @param config The bulkhead configuration
+     * @param listener The listener receiving admission decisions
+     */
+    public BulkheadDockerHttpClient(DockerHttpClient delegate, String clientName, DockerBulkheadConfig config,
+            BulkheadListener listener) {
+        this.delegate = delegate;
+        this.clientName = clientName;
+        this.listener = listener != null ? listener : BulkheadListener.NONE;
+        this.maxWaitNanos = config.maxWait().toNanos();
+        this.requests = new Compartment(REQUESTS, config.maxConcurrentCalls(), config.maxQueueSize());
+        this.streams = new Compartment(STREAMS, config.maxConcurrentStreams(), config.maxQueueSize());
+    }
+
+    /**
+     * Returns the number of calls holding a slot of a compartment.
+     *
+     * @param compartment {@link #REQUESTS} or {@link #STREAMS}
+     * @return The number of active calls
+     */
+    public int active(String compartment) {
+        Compartment selected = compartment(compartment);
+        return selected.limit - selected.slots.availablePermits();
+    }
+
+    /**
+     * Returns the number of calls waiting for a slot of a compartment.
+     *
+     * @param compartment {@link #REQUESTS} or {@link #STREAMS}
+     * @return The number of queued calls
+     */
+    public int queued(String compartment) {
+        return compartment(compartment).queued.get();
+    }
+
+    @Override
+    public Response execute(Request request) {
+        Compartment compartment = DockerApiEndpoints.isStreaming(request) ? streams : requests;
+        compartment.acquire();
+        try {
+            return new SlotResponse(delegate.execute(request), compartment);
+        } catch (RuntimeException e) {
+            compartment.slots.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private Compartment compartment(String name) {
+        return STREAMS.equals(name) ? streams : requests;
+    }
+
+    private final class Compartment {
+
+        private final String name;
+        private final int limit;
+        private final int maxQueueSize;
+        private final Semaphore slots;
+        private final AtomicInteger queued = new AtomicInteger();
+
+        Compartment(String name, int limit, int maxQueueSize) {
+            this.name = name;
+            this.limit = Math.max(1, limit);
+            this.maxQueueSize = Math.max(0, maxQueueSize);
+            this.slots = new Semaphore(this.limit, true);
+        }
+
+        void acquire() {
+            try {
+                // Unlike tryAcquire(), the timed variant honours fairness, so a new call never overtakes queued ones
+                if (slots.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                    listener.onAdmitted(name, 0);
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reject(false);
+            }
+            if (queued.incrementAndGet() > maxQueueSize) {
+                queued.decrementAndGet();
+                reject(false);
+            }
+
+            long start = System.nanoTime();
+            try {
+                if (!slots.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                    reject(true);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reject(false);
+            } finally {
+                queued.decrementAndGet();
+            }
+            listener.onAdmitted(name, System.nanoTime() - start);
+        }
+
+        private void reject(boolean timedOut) {
+            listener.onRejected(name, timedOut);
+            throw new DockerBulkheadRejectedException(clientName, name, timedOut);
+        }
+    }
+
+    /**
+     * Response releasing the slot of its call once closed.
+     */
+    private static final class SlotResponse implements Response {
+
+        private final Response delegate;
+        private final Compartment compartment;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        SlotResponse(Response delegate, Compartment compartment) {
+            this.delegate = delegate;
+            this.compartment = compartment;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return delegate.getHeader(name);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    compartment.slots.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkiverse.docker.client.runtime.bulkhead;
+
+/**
+ * Receives the admission decisions of a {@link BulkheadDockerHttpClient}, for example to record them as metrics.
+ */
+public interface BulkheadListener {
+
+    /**
+     * Listener ignoring every decision.
+     */
+    BulkheadListener NONE = new BulkheadListener() {
+    };
+
+    /**
+     * Called when a call got a slot.
+     *
+     * @param compartment The compartment of the call, {@code requests} or {@code streams}
+     * @param waitNanos The time the call waited for its slot
+     */
+    default void onAdmitted(String compartment, long waitNanos) {
+    }
+
+    /**
+     * Called when a call was rejected.
+     *
+     * @param compartment The compartment of the call, {@code requests} or {@code streams}
+     * @param timedOut Whether the call waited for the maximum wait time, rather than finding the queue full
+     */
+    default void onRejected(String compartment, boolean timedOut) {
+    }
+}
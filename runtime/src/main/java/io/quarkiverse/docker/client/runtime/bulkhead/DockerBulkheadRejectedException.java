@@ -0,0 +1,49 @@
+package io.quarkiverse.docker.client.runtime.bulkhead;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+
+/**
+ * Thrown instead of calling the daemon when the bulkhead of a Docker client has no slot for the call.
+ */
+public class DockerBulkheadRejectedException extends DockerClientException {
+
+    private final String clientName;
+    private final String compartment;
+    private final boolean timedOut;
+
+    public DockerBulkheadRejectedException(String clientName, String compartment, boolean timedOut) {
+        super(String.format(timedOut
+                ? "Docker client %s timed out waiting for one of its %s slots"
+                : "Docker client %s has no %s slot left and its wait queue is full", clientName, compartment));
+        this.clientName = clientName;
+        this.compartment = compartment;
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * Returns the name of the client whose bulkhead rejected the call.
+     *
+     * @return The client name
+     */
+    public String getClientName() {
+        return clientName;
+    }
+
+    /**
+     * Returns the compartment that had no slot left, {@code requests} or {@code streams}.
+     *
+     * @return The compartment name
+     */
+    public String getCompartment() {
+        return compartment;
+    }
+
+    /**
+     * Tells whether the call waited for the maximum wait time, rather than finding the wait queue full.
+     *
+     * @return true if the call timed out in the queue
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+}
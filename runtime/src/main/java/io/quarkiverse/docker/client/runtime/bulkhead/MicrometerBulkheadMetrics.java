@@ -0,0 +1,105 @@
+package io.quarkiverse.docker.client.runtime.bulkhead;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.quarkiverse.docker.client.runtime.config.DockerBulkheadConfig;
+import io.quarkiverse.docker.client.runtime.config.DockerRuntimeConfig;
+
+/**
+ * Bulkhead listener recording the admission decisions of a {@link BulkheadDockerHttpClient} as Micrometer meters.
+ *
+ * <p>
+ * The following meters are registered, all tagged with {@code client} and {@code compartment}:
+ * </p>
+ * <ul>
+ * <li>{@code docker.client.bulkhead.active} and {@code docker.client.bulkhead.queued}: gauges of the calls holding or
+ * waiting for a slot</li>
+ * <li>{@code docker.client.bulkhead.wait}: timer of the time calls waited for a slot</li>
+ * <li>{@code docker.client.bulkhead.rejected}: counter of rejected calls, additionally tagged with the {@code reason},
+ * {@code queue-full} or {@code timeout}</li>
+ * </ul>
+ *
+ * <p>
+ * The signature of {@link #decorator(String, DockerBulkheadConfig)} does not mention Micrometer types, so callers only load
+ * Micrometer classes when metrics are enabled.
+ * </p>
+ */
+public class MicrometerBulkheadMetrics implements BulkheadListener {
+
+    static final String BULKHEAD_ACTIVE = "docker.client.bulkhead.active";
+    static final String BULKHEAD_QUEUED = "docker.client.bulkhead.queued";
+    static final String BULKHEAD_WAIT = "docker.client.bulkhead.wait";
+    static final String BULKHEAD_REJECTED = "docker.client.bulkhead.rejected";
+
+    private final MeterRegistry registry;
+    private final String client;
+
+    /**
+     * Creates a bulkhead listener.
+     *
+     * @param registry The registry receiving the meters
+     * @param clientName The Docker client name, used as {@code client} tag
+     */
+    public MicrometerBulkheadMetrics(MeterRegistry registry, String clientName) {
+        this.registry = registry;
+        this.client = clientName == null ? DockerRuntimeConfig.DEFAULT_CLIENT_NAME : clientName;
+    }
+
+    /**
+     * Creates a function decorating transports with a bulkhead whose meters are registered in the global registry, which
+     * Quarkus binds to its registries.
+     *
+     * @param clientName The Docker client name, used as {@code client} tag
+     * @param config The bulkhead configuration
+     * @return The transport decorator
+     */
+    public static UnaryOperator<DockerHttpClient> decorator(String clientName, DockerBulkheadConfig config) {
+        return transport -> {
+            MicrometerBulkheadMetrics metrics = new MicrometerBulkheadMetrics(Metrics.globalRegistry, clientName);
+            return metrics.bind(new BulkheadDockerHttpClient(transport, clientName, config, metrics));
+        };
+    }
+
+    /**
+     * Registers the gauges of the active and queued calls of a bulkhead.
+     *
+     * @param bulkhead The bulkhead to observe
+     * @return The bulkhead
+     */
+    public BulkheadDockerHttpClient bind(BulkheadDockerHttpClient bulkhead) {
+        for (String compartment : List.of(BulkheadDockerHttpClient.REQUESTS, BulkheadDockerHttpClient.STREAMS)) {
+            Gauge.builder(BULKHEAD_ACTIVE, bulkhead, observed -> observed.active(compartment))
+                    .tags("client", client, "compartment", compartment)
+                    .register(registry);
+            Gauge.builder(BULKHEAD_QUEUED, bulkhead, observed -> observed.queued(compartment))
+                    .tags("client", client, "compartment", compartment)
+                    .register(registry);
+        }
+        return bulkhead;
+    }
+
+    @Override
+    public void onAdmitted(String compartment, long waitNanos) {
+        Timer.builder(BULKHEAD_WAIT)
+                .tags("client", client, "compartment", compartment)
+                .register(registry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onRejected(String compartment, boolean timedOut) {
+        Counter.builder(BULKHEAD_REJECTED)
+                .tags("client", client, "compartment", compartment, "reason", timedOut ? "timeout" : "queue-full")
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,270 @@
+package io.quarkiverse.docker.client.runtime.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventType;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.config.DockerClientCacheConfig;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * Docker transport decorator caching the results of read-only commands.
+ *
+ * <p>
+ * Successful {@code GET} responses of inspect container, inspect image, list images, info and version are buffered and
+ * served from memory until their configured time to live expires. Results are keyed by the full request path, including
+ * the query string, and every client has its own cache. The least recently used results are evicted once
+ * {@code max-entries} is reached.
+ * </p>
+ *
+ * <p>
+ * Successful writes evict the results they may change as soon as the daemon answers them: a command on a container evicts
+ * the inspection results of that container and the container lists, and a command on images, a build or a commit evicts
+ * all image results. The results of streamed writes, such as pulls, are evicted again when the stream is closed.
+ * </p>
+ *
+ * <p>
+ * When fed with daemon events through {@link #invalidateFrom(Multi)}, container events evict the inspection results of
+ * that container and image events evict all image results. A result fetched while an invalidation happened is not
+ * stored, so a stale result cannot outlive its invalidation.
+ * </p>
+ */
+public class CachingDockerHttpClient implements DockerHttpClient {
+
+    static final String INSPECT_CONTAINER = "/containers/{id}/json";
+    static final String LIST_CONTAINERS = "/containers/json";
+    static final String INSPECT_IMAGE = "/images/{name}/json";
+    static final String LIST_IMAGES = "/images/json";
+    static final String INFO = "/info";
+    static final String VERSION = "/version";
+
+    private static final Pattern SUBJECT = Pattern.compile("^(?:/v[\\d.]+)?/(?:containers|images)/(.+)/json(?:\\?.*)?$");
+    private static final Pattern CONTAINER = Pattern.compile("^(?:/v[\\d.]+)?/containers/([^/?]+)");
+
+    private final DockerHttpClient delegate;
+    private final Map<String, Duration> ttls;
+    private final Map<String, CacheEntry> entries;
+
+    private long generation;
+    private volatile Cancellable invalidations;
+
+    /**
+     * Creates a caching decorator.
+     *
+     * @param delegate The transport to decorate
+     * @param config The cache configuration of the client
+     */
+    public CachingDockerHttpClient(DockerHttpClient delegate, DockerClientCacheConfig config) {
+        this.delegate = delegate;
+        this.ttls = Map.of(
+                INSPECT_CONTAINER, config.inspectContainerTtl(),
+                INSPECT_IMAGE, config.inspectImageTtl(),
+                LIST_IMAGES, config.listImagesTtl(),
+                INFO, config.infoTtl(),
+                VERSION, config.versionTtl());
+        int maxEntries = config.maxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Response execute(Request request) {
+        if (!"GET".equals(request.method())) {
+            return executeWrite(request);
+        }
+        if (request.hijackedInput() != null) {
+            return delegate.execute(request);
+        }
+        String endpoint = DockerApiEndpoints.template(request.path());
+        Duration ttl = ttls.get(endpoint);
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return delegate.execute(request);
+        }
+
+        String key = request.path();
+        long requestGeneration;
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null && entry.expiresAtNanos() - System.nanoTime() > 0) {
+                return entry.response();
+            }
+            requestGeneration = generation;
+        }
+
+        Response response = delegate.execute(request);
+        if (response.getStatusCode() != 200) {
+            return response;
+        }
+
+        BufferedResponse buffered = BufferedResponse.read(response);
+        synchronized (entries) {
+            if (generation == requestGeneration) {
+                entries.put(key, new CacheEntry(endpoint, subject(key), buffered, System.nanoTime() + ttl.toNanos()));
+            }
+        }
+        return buffered;
+    }
+
+    /**
+     * Executes a command that may change the state of the daemon, evicting the results it may change once it succeeded.
+     */
+    private Response executeWrite(Request request) {
+        Response response = delegate.execute(request);
+        int status = response.getStatusCode();
+        if (status < 200 || status >= 300) {
+            return response;
+        }
+        Predicate<CacheEntry> changed = changedBy(request.path());
+        if (changed == null) {
+            return response;
+        }
+        invalidateIf(changed);
+        return DockerApiEndpoints.isStreaming(request) ? new InvalidatingResponse(response, changed) : response;
+    }
+
+    /**
+     * Selects the results a successful write to a path may change.
+     *
+     * @return The predicate matching the changed results, or null if the write does not change cached results
+     */
+    private static Predicate<CacheEntry> changedBy(String path) {
+        String endpoint = DockerApiEndpoints.template(path);
+        if (endpoint.startsWith("/containers/")) {
+            Matcher matcher = CONTAINER.matcher(path);
+            String container = endpoint.startsWith("/containers/{id}") && matcher.lookingAt() ? matcher.group(1) : null;
+            // A container may be addressed by its name or by a prefix of its ID
+            return entry -> LIST_CONTAINERS.equals(entry.endpoint())
+                    || (container != null && INSPECT_CONTAINER.equals(entry.endpoint())
+                            && (container.startsWith(entry.subject()) || entry.subject().startsWith(container)));
+        }
+        if (endpoint.startsWith("/images/") || endpoint.equals("/build") || endpoint.equals("/commit")) {
+            return entry -> entry.endpoint().startsWith("/images/");
+        }
+        return null;
+    }
+
+    /**
+     * Invalidates cached results from a stream of daemon events until this transport is closed.
+     *
+     * @param events The container and image events of the daemon
+     */
+    public void invalidateFrom(Multi<Event> events) {
+        invalidations = events.subscribe().with(this::invalidate);
+    }
+
+    /**
+     * Evicts the results affected by a daemon event.
+     *
+     * @param event The daemon event
+     */
+    public void invalidate(Event event) {
+        EventType type = event.getType();
+        if (type == EventType.CONTAINER) {
+            String id = event.getId();
+            String name = event.getActor() != null && event.getActor().getAttributes() != null
+                    ? event.getActor().getAttributes().get("name")
+                    : null;
+            invalidateIf(entry -> INSPECT_CONTAINER.equals(entry.endpoint())
+                    && (entry.subject().equals(name) || (id != null && id.startsWith(entry.subject()))));
+        } else if (type == EventType.IMAGE) {
+            invalidateIf(entry -> entry.endpoint().startsWith("/images/"));
+        }
+    }
+
+    /**
+     * Evicts all cached results.
+     */
+    public void invalidateAll() {
+        invalidateIf(entry -> true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        Cancellable current = invalidations;
+        if (current != null) {
+            current.cancel();
+        }
+        synchronized (entries) {
+            entries.clear();
+        }
+        delegate.close();
+    }
+
+    private void invalidateIf(Predicate<CacheEntry> predicate) {
+        synchronized (entries) {
+            generation++;
+            entries.values().removeIf(predicate);
+        }
+    }
+
+    private static String subject(String path) {
+        Matcher matcher = SUBJECT.matcher(path);
+        return matcher.matches() ? matcher.group(1) : "";
+    }
+
+    /**
+     * Streamed response of a write, evicting the results it changed again once the stream is closed.
+     */
+    private final class InvalidatingResponse implements Response {
+
+        private final Response delegate;
+        private final Predicate<CacheEntry> changed;
+
+        InvalidatingResponse(Response delegate, Predicate<CacheEntry> changed) {
+            this.delegate = delegate;
+            this.changed = changed;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return delegate.getHeader(name);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                invalidateIf(changed);
+            }
+        }
+    }
+
+    /**
+     * Cached result of a command.
+     */
+    private record CacheEntry(String endpoint, String subject, BufferedResponse response, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,237 @@
+package io.quarkiverse.docker.client.runtime.circuit;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.config.DockerCircuitBreakerConfig;
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+
+/**
+ * Docker transport decorator failing calls fast while the daemon is unhealthy.
+ *
+ * <p>
+ * The outcome of the most recent calls is kept in a count-based sliding window. The breaker opens when the share of failed
+ * or slow calls in the window reaches its threshold, and rejects every call with a {@link DockerCircuitOpenException}
+ * while open. Once the open duration elapsed, it lets a few probing calls through: it closes if they all succeed and opens
+ * again as soon as one fails.
+ * </p>
+ *
+ * <p>
+ * While open, idempotent reads are sent to the standby transports in order, if any. A standby whose own breaker is open is
+ * skipped, and a request is never failed over twice.
+ * </p>
+ */
+public class CircuitBreakerDockerHttpClient implements DockerHttpClient {
+
+    private static final Logger LOGGER = Logger.getLogger(CircuitBreakerDockerHttpClient.class);
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD");
+
+    /**
+     * Set while a request is sent to a standby, so the breaker of the standby does not fail it over again.
+     */
+    private static final ThreadLocal<Boolean> FAILING_OVER = new ThreadLocal<>();
+
+    /**
+     * State of a circuit breaker.
+     */
+    public enum State {
+        /**
+         * Calls reach the daemon and their outcome is recorded.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected without reaching the daemon.
+         */
+        OPEN,
+        /**
+         * A limited number of probing calls reach the daemon to decide whether to close again.
+         */
+        HALF_OPEN
+    }
+
+    private enum Permission {
+        CALL,
+        PROBE,
+        REJECTED
+    }
+
+    private final DockerHttpClient delegate;
+    private final String clientName;
+    private final DockerCircuitBreakerConfig config;
+    private final List<Supplier<DockerHttpClient>> standbys;
+    private final long slowCallThresholdNanos;
+    private final long openDurationNanos;
+
+    // Sliding window, guarded by this
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slows;
+
+    // Guarded by this
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    /**
+     * Creates a circuit breaker decorator.
+     *
+     * @param delegate The transport to decorate
+     * @param clientName The name of the client, used in exceptions and logs
+     * @param config The circuit breaker configuration
+     * @param standbys Suppliers of the transports receiving idempotent reads while the breaker is open, in order
+     */
+    public CircuitBreakerDockerHttpClient(DockerHttpClient delegate, String clientName, DockerCircuitBreakerConfig config,
+            List<Supplier<DockerHttpClient>> standbys) {
+        this.delegate = delegate;
+        this.clientName = clientName;
+        this.config = config;
+        this.standbys = List.copyOf(standbys);
+        this.slowCallThresholdNanos = config.slowCallThreshold().toNanos();
+        this.openDurationNanos = config.openDuration().toNanos();
+        int windowSize = Math.max(1, config.windowSize());
+        this.failedCalls = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+    }
+
+    /**
+     * Returns the current state of the breaker.
+     *
+     * @return The breaker state
+     */
+    public synchronized State state() {
+        return state;
+    }
+
+    @Override
+    public Response execute(Request request) {
+        Permission permission = acquire();
+        if (permission == Permission.REJECTED) {
+            return failover(request);
+        }
+
+        boolean probe = permission == Permission.PROBE;
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = delegate.execute(request);
+        } catch (RuntimeException e) {
+            record(true, false, probe);
+            throw e;
+        }
+
+        boolean slow = !DockerApiEndpoints.isStreaming(request) && System.nanoTime() - start > slowCallThresholdNanos;
+        record(response.getStatusCode() >= 500, slow, probe);
+        return response;
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private synchronized Permission acquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            probesStarted = 0;
+            probesSucceeded = 0;
+            LOGGER.infof("Circuit breaker of Docker client %s is half-open, probing the daemon", clientName);
+        }
+        return switch (state) {
+            case CLOSED -> Permission.CALL;
+            case OPEN -> Permission.REJECTED;
+            case HALF_OPEN -> {
+                if (probesStarted < config.halfOpenCalls()) {
+                    probesStarted++;
+                    yield Permission.PROBE;
+                }
+                yield Permission.REJECTED;
+            }
+        };
+    }
+
+    private synchronized void record(boolean failed, boolean slow, boolean probe) {
+        if (probe) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            if (failed || slow) {
+                open("a probing call failed");
+            } else if (++probesSucceeded >= config.halfOpenCalls()) {
+                state = State.CLOSED;
+                resetWindow();
+                LOGGER.infof("Circuit breaker of Docker client %s is closed", clientName);
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            // Calls started before the breaker opened do not count towards the next window
+            return;
+        }
+
+        if (recorded == failedCalls.length) {
+            failures -= failedCalls[next] ? 1 : 0;
+            slows -= slowCalls[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failedCalls[next] = failed;
+        slowCalls[next] = slow;
+        failures += failed ? 1 : 0;
+        slows += slow ? 1 : 0;
+        next = (next + 1) % failedCalls.length;
+
+        if (recorded >= config.minimumCalls()) {
+            if (failures * 100 >= config.failureRateThreshold() * recorded) {
+                open(String.format("%d of the last %d calls failed", failures, recorded));
+            } else if (slows * 100 >= config.slowCallRateThreshold() * recorded) {
+                open(String.format("%d of the last %d calls were slow", slows, recorded));
+            }
+        }
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        resetWindow();
+        LOGGER.warnf("Circuit breaker of Docker client %s is open for %s, %s", clientName, config.openDuration(), reason);
+    }
+
+    private void resetWindow() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slows = 0;
+    }
+
+    private Response failover(Request request) {
+        if (standbys.isEmpty() || Boolean.TRUE.equals(FAILING_OVER.get())
+                || !IDEMPOTENT_METHODS.contains(request.method())) {
+            throw new DockerCircuitOpenException(clientName);
+        }
+
+        FAILING_OVER.set(Boolean.TRUE);
+        try {
+            for (Supplier<DockerHttpClient> standby : standbys) {
+                try {
+                    return standby.get().execute(request);
+                } catch (DockerCircuitOpenException e) {
+                    LOGGER.debugf("Standby of Docker client %s is open as well: %s", clientName, e.getMessage());
+                }
+            }
+        } finally {
+            FAILING_OVER.remove();
+        }
+        throw new DockerCircuitOpenException(clientName);
+    }
+}
@@ -0,0 +1,25 @@
+package io.quarkiverse.docker.client.runtime.circuit;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+
+/**
+ * Thrown instead of calling the daemon while the circuit breaker of a Docker client is open.
+ */
+public class DockerCircuitOpenException extends DockerClientException {
+
+    private final String clientName;
+
+    public DockerCircuitOpenException(String clientName) {
+        super(String.format("Circuit breaker of Docker client %s is open", clientName));
+        this.clientName = clientName;
+    }
+
+    /**
+     * Returns the name of the client whose circuit breaker rejected the call.
+     *
+     * @return The client name
+     */
+    public String getClientName() {
+        return clientName;
+    }
+}
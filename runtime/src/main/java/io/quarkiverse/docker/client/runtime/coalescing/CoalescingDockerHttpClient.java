@@ -0,0 +1,266 @@
+package io.quarkiverse.docker.client.runtime.coalescing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+
+/**
+ * Docker transport decorator sharing a single daemon call between identical concurrent requests.
+ *
+ * <p>
+ * Identical in-flight {@code GET} requests to bounded JSON endpoints, such as inspect, list, info or version, are sent to
+ * the daemon once. Every caller receives the same response, or the same failure. The response is fully buffered before it
+ * is shared, so only endpoints whose documents stay small are coalesced.
+ * </p>
+ *
+ * <p>
+ * A request never joins a call that started before a mutating request of this client completed, so a caller always sees
+ * the effect of the changes it made before.
+ * </p>
+ *
+ * <p>
+ * Pulls of the same image reference are serialized instead: a pull started while an identical one is running waits for
+ * it to finish, so two callers never download the same layers at the same time. The waiting pull then finds the layers
+ * in place and completes immediately. A pull waits at most the read timeout of the client: if the running pull takes
+ * longer, or its response is never closed, the waiting pull proceeds on its own.
+ * </p>
+ */
+public class CoalescingDockerHttpClient implements DockerHttpClient {
+
+    /**
+     * Endpoints whose response is a bounded JSON document that can be buffered and shared.
+     */
+    private static final Set<String> COALESCIBLE_ENDPOINTS = Set.of(
+            "/_ping",
+            "/info",
+            "/version",
+            "/system/df",
+            "/containers/json",
+            "/containers/{id}/json",
+            "/containers/{id}/top",
+            "/containers/{id}/changes",
+            "/images/json",
+            "/images/{name}/json",
+            "/images/{name}/history",
+            "/networks",
+            "/networks/{id}",
+            "/volumes",
+            "/volumes/{id}");
+
+    private static final String PULL_ENDPOINT = "/images/create";
+
+    private final DockerHttpClient delegate;
+    private final Consumer<String> onCoalesced;
+    private final Duration pullWaitTimeout;
+    private final Map<String, CompletableFuture<BufferedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> pulls = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong mutations = new AtomicLong();
+
+    /**
+     * Creates a coalescing decorator.
+     *
+     * @param delegate The transport to decorate
+     * @param onCoalesced Callback receiving the endpoint template of every coalesced call, for example to count them
+     * @param pullWaitTimeout The maximum time a pull waits for an identical one, or null or zero to wait until it completed
+     */
+    public CoalescingDockerHttpClient(DockerHttpClient delegate, Consumer<String> onCoalesced, Duration pullWaitTimeout) {
+        this.delegate = delegate;
+        this.onCoalesced = onCoalesced != null ? onCoalesced : endpoint -> {
+        };
+        this.pullWaitTimeout = pullWaitTimeout != null && !pullWaitTimeout.isZero() && !pullWaitTimeout.isNegative()
+                ? pullWaitTimeout
+                : null;
+    }
+
+    /**
+     * Returns the number of calls that shared the daemon call of another one or waited for an identical pull.
+     *
+     * @return The number of coalesced calls
+     */
+    public long coalescedCount() {
+        return coalesced.get();
+    }
+
+    @Override
+    public Response execute(Request request) {
+        if (request.hijackedInput() != null) {
+            return delegate.execute(request);
+        }
+
+        String endpoint = DockerApiEndpoints.template(request.path());
+        if ("GET".equals(request.method()) && COALESCIBLE_ENDPOINTS.contains(endpoint)) {
+            return executeShared(request, endpoint);
+        }
+        if ("POST".equals(request.method()) && PULL_ENDPOINT.equals(endpoint) && request.path().contains("fromImage=")) {
+            return executeMutation(() -> executePull(request, endpoint));
+        }
+        if ("GET".equals(request.method()) || "HEAD".equals(request.method())) {
+            return delegate.execute(request);
+        }
+        return executeMutation(() -> delegate.execute(request));
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    /**
+     * Runs a request that may change the state of the daemon, and keeps later reads from joining calls started before it
+     * completed.
+     */
+    private Response executeMutation(Supplier<Response> mutation) {
+        try {
+            return mutation.get();
+        } finally {
+            mutations.incrementAndGet();
+        }
+    }
+
+    private Response executeShared(Request request, String endpoint) {
+        String key = mutations.get() + " " + request.path();
+        CompletableFuture<BufferedResponse> call = new CompletableFuture<>();
+        CompletableFuture<BufferedResponse> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            recordCoalesced(endpoint);
+            return await(existing);
+        }
+
+        try {
+            BufferedResponse response = BufferedResponse.read(delegate.execute(request));
+            call.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private Response executePull(Request request, String endpoint) {
+        // The query identifies the reference, tag and platform of the pull
+        String key = request.path();
+        CompletableFuture<Void> pull = new CompletableFuture<>();
+        CompletableFuture<Void> running;
+        boolean waited = false;
+        long deadline = pullWaitTimeout != null ? System.nanoTime() + pullWaitTimeout.toNanos() : 0;
+        while ((running = pulls.putIfAbsent(key, pull)) != null) {
+            if (!waited) {
+                recordCoalesced(endpoint);
+                waited = true;
+            }
+            try {
+                if (pullWaitTimeout != null) {
+                    running.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                } else {
+                    running.get();
+                }
+            } catch (TimeoutException e) {
+                // The running pull stays registered, later pulls keep waiting for it instead of this one
+                return delegate.execute(request);
+            } catch (ExecutionException e) {
+                // The running pull failed, this one tries again
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for a pull of "
+                        + key));
+            }
+        }
+
+        Runnable release = () -> {
+            pulls.remove(key, pull);
+            pull.complete(null);
+        };
+        try {
+            return new ReleasingResponse(delegate.execute(request), release);
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    private void recordCoalesced(String endpoint) {
+        coalesced.incrementAndGet();
+        onCoalesced.accept(endpoint);
+    }
+
+    private static BufferedResponse await(CompletableFuture<BufferedResponse> call) {
+        try {
+            return call.join();
+        } catch (CompletionException | CancellationException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Response running an action once it is closed, used to let waiting pulls proceed.
+     */
+    private static final class ReleasingResponse implements Response {
+
+        private final Response delegate;
+        private final Runnable release;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingResponse(Response delegate, Runnable release) {
+            this.delegate = delegate;
+            this.release = release;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return delegate.getHeader(name);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    release.run();
+                }
+            }
+        }
+    }
+}
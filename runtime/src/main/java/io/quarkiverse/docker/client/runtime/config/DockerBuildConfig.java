@@ -0,0 +1,72 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the image builds of a Docker client.
+ *
+ * <p>
+ * Configuration can be specified in application.properties using the following format:
+ * </p>
+ *
+ * <pre>
+ * # Default client builds
+ * quarkus.docker.build.skip-unchanged=true
+ * quarkus.docker.build.hash-cache-file=target/docker-build-hashes
+ * quarkus.docker.build.parallelism=2
+ *
+ * # Named client builds
+ * quarkus.docker."ci".build.skip-unchanged=true
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerBuildConfig {
+
+    /**
+     * Determines whether a build is skipped when its context, Dockerfile, options and base images did not change since the
+     * last build of the same tags, and the image it produced still exists.
+     *
+     * <p>
+     * The context is compared by the content hashes of its files. Hashes are cached by path, size and modification time,
+     * so only the files changed since the last build are read before deciding. Base images are compared by the IDs of
+     * the local images the {@code FROM} instructions resolve to, so a rebuilt or pulled base image leads to a rebuild.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]build.skip-unchanged}
+     * </p>
+     *
+     * @return boolean indicating if unchanged builds are skipped (default: false)
+     */
+    @WithDefault("false")
+    boolean skipUnchanged();
+
+    /**
+     * Specifies the file keeping the content hashes and the last builds across restarts. Without it, they are only kept
+     * in memory.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]build.hash-cache-file}
+     * </p>
+     *
+     * @return Optional hash cache file
+     */
+    Optional<Path> hashCacheFile();
+
+    /**
+     * Specifies the maximum number of builds the build scheduler runs at once on the daemon of the client. Builds depending
+     * on images of other builds wait for them whatever the parallelism.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]build.parallelism}
+     * </p>
+     *
+     * @return The maximum number of concurrent builds (default: 4)
+     */
+    @WithDefault("4")
+    int parallelism();
+}
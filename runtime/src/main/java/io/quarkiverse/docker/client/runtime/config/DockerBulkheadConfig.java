@@ -0,0 +1,96 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the bulkhead limiting the concurrent calls a Docker client makes to its daemon.
+ *
+ * <p>
+ * Configuration can be specified in application.properties using the following format:
+ * </p>
+ *
+ * <pre>
+ * # Default client bulkhead
+ * quarkus.docker.bulkhead.enabled=true
+ * quarkus.docker.bulkhead.max-concurrent-calls=32
+ *
+ * # Named client bulkhead
+ * quarkus.docker."production".bulkhead.enabled=true
+ * quarkus.docker."production".bulkhead.max-concurrent-streams=8
+ * quarkus.docker."production".bulkhead.max-wait=2s
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerBulkheadConfig {
+
+    /**
+     * Determines whether the bulkhead is enabled.
+     *
+     * <p>
+     * Request/response calls and long-lived streams, such as followed logs, events or attach, are limited separately, so
+     * open streams cannot starve regular calls. A call holds its slot until its response is closed. Calls exceeding the
+     * limit wait in a bounded queue, and are rejected with a {@code DockerBulkheadRejectedException} when the queue is full
+     * or when they waited for too long.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]bulkhead.enabled}
+     * </p>
+     *
+     * @return boolean indicating if the bulkhead is enabled (default: false)
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Specifies the maximum number of concurrent request/response calls.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]bulkhead.max-concurrent-calls}
+     * </p>
+     *
+     * @return The maximum number of concurrent calls (default: 64)
+     */
+    @WithDefault("64")
+    int maxConcurrentCalls();
+
+    /**
+     * Specifies the maximum number of concurrently open streams.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]bulkhead.max-concurrent-streams}
+     * </p>
+     *
+     * @return The maximum number of concurrent streams (default: 32)
+     */
+    @WithDefault("32")
+    int maxConcurrentStreams();
+
+    /**
+     * Specifies the maximum number of calls waiting for a slot, for request/response calls and streams each. Zero rejects
+     * calls exceeding the limit immediately.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]bulkhead.max-queue-size}
+     * </p>
+     *
+     * @return The maximum wait queue size (default: 128)
+     */
+    @WithDefault("128")
+    int maxQueueSize();
+
+    /**
+     * Specifies how long a call waits for a slot before it is rejected.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]bulkhead.max-wait}
+     * </p>
+     *
+     * @return The maximum wait time (default: 5 seconds)
+     */
+    @WithDefault("5s")
+    Duration maxWait();
+}
@@ -0,0 +1,132 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the circuit breaker guarding the transport of a Docker client.
+ *
+ * <p>
+ * Configuration can be specified in application.properties using the following format:
+ * </p>
+ *
+ * <pre>
+ * # Default client circuit breaker
+ * quarkus.docker.circuit-breaker.enabled=true
+ * quarkus.docker.circuit-breaker.slow-call-threshold=2s
+ *
+ * # Named client circuit breaker, reads go to a standby daemon while it is open
+ * quarkus.docker."production".circuit-breaker.enabled=true
+ * quarkus.docker."production".failover=standby
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerCircuitBreakerConfig {
+
+    /**
+     * Determines whether the circuit breaker is enabled.
+     *
+     * <p>
+     * The breaker records the outcome of the last {@link #windowSize()} calls. When too many of them failed or were slow,
+     * it opens and calls fail immediately with a {@code DockerCircuitOpenException} instead of waiting for the daemon.
+     * After {@link #openDuration()}, a few probing calls are let through: the breaker closes if they all succeed and opens
+     * again otherwise.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]circuit-breaker.enabled}
+     * </p>
+     *
+     * @return boolean indicating if the circuit breaker is enabled (default: false)
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Specifies the number of most recent calls the failure and slow call rates are computed on.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]circuit-breaker.window-size}
+     * </p>
+     *
+     * @return The sliding window size (default: 20)
+     */
+    @WithDefault("20")
+    int windowSize();
+
+    /**
+     * Specifies the number of calls the window must hold before the breaker can open.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]circuit-breaker.minimum-calls}
+     * </p>
+     *
+     * @return The minimum number of recorded calls (default: 10)
+     */
+    @WithDefault("10")
+    int minimumCalls();
+
+    /**
+     * Specifies the percentage of failed calls at which the breaker opens. Calls failing with an I/O error or a server
+     * error status count as failed; client errors such as a missing container do not.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]circuit-breaker.failure-rate-threshold}
+     * </p>
+     *
+     * @return The failure rate threshold in percent (default: 50)
+     */
+    @WithDefault("50")
+    int failureRateThreshold();
+
+    /**
+     * Specifies the duration after which a call counts as slow. Only the time until the response headers arrive is
+     * measured, and long-lived streams such as followed logs or events are never slow.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]circuit-breaker.slow-call-threshold}
+     * </p>
+     *
+     * @return The slow call threshold (default: 5 seconds)
+     */
+    @WithDefault("5s")
+    Duration slowCallThreshold();
+
+    /**
+     * Specifies the percentage of slow calls at which the breaker opens.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]circuit-breaker.slow-call-rate-threshold}
+     * </p>
+     *
+     * @return The slow call rate threshold in percent (default: 80)
+     */
+    @WithDefault("80")
+    int slowCallRateThreshold();
+
+    /**
+     * Specifies how long the breaker stays open before probing the daemon again.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]circuit-breaker.open-duration}
+     * </p>
+     *
+     * @return The open duration (default: 10 seconds)
+     */
+    @WithDefault("10s")
+    Duration openDuration();
+
+    /**
+     * Specifies the number of probing calls let through once the open duration elapsed.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]circuit-breaker.half-open-calls}
+     * </p>
+     *
+     * @return The number of probing calls (default: 3)
+     */
+    @WithDefault("3")
+    int halfOpenCalls();
+}
@@ -0,0 +1,135 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the result cache of read-only Docker commands.
+ *
+ * <p>
+ * Configuration can be specified in application.properties using the following format:
+ * </p>
+ *
+ * <pre>
+ * # Default client cache
+ * quarkus.docker.cache.enabled=true
+ * quarkus.docker.cache.inspect-image-ttl=5m
+ *
+ * # Named client cache
+ * quarkus.docker."production".cache.enabled=true
+ * quarkus.docker."production".cache.max-entries=5000
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerClientCacheConfig {
+
+    /**
+     * Determines whether results of read-only commands are cached.
+     *
+     * <p>
+     * Successful results of inspect container, inspect image, list images, info and version are kept for their
+     * configured time to live, so repeated calls do not reach the daemon. The cache is transparent to callers of both the
+     * blocking and the reactive client.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]cache.enabled}
+     * </p>
+     *
+     * @return boolean indicating if the cache is enabled (default: false)
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Specifies the maximum number of cached results. The least recently used results are evicted first.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]cache.max-entries}
+     * </p>
+     *
+     * @return The maximum number of cached results (default: 1000)
+     */
+    @WithDefault("1000")
+    int maxEntries();
+
+    /**
+     * Specifies how long container inspection results are cached. Zero disables caching of this command.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]cache.inspect-container-ttl}
+     * </p>
+     *
+     * @return The time to live (default: 2 seconds)
+     */
+    @WithDefault("2s")
+    Duration inspectContainerTtl();
+
+    /**
+     * Specifies how long image inspection results are cached. Zero disables caching of this command.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]cache.inspect-image-ttl}
+     * </p>
+     *
+     * @return The time to live (default: 60 seconds)
+     */
+    @WithDefault("60s")
+    Duration inspectImageTtl();
+
+    /**
+     * Specifies how long image lists are cached. Zero disables caching of this command.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]cache.list-images-ttl}
+     * </p>
+     *
+     * @return The time to live (default: 10 seconds)
+     */
+    @WithDefault("10s")
+    Duration listImagesTtl();
+
+    /**
+     * Specifies how long daemon information is cached. Zero disables caching of this command.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]cache.info-ttl}
+     * </p>
+     *
+     * @return The time to live (default: 10 seconds)
+     */
+    @WithDefault("10s")
+    Duration infoTtl();
+
+    /**
+     * Specifies how long the daemon version is cached. Zero disables caching of this command.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]cache.version-ttl}
+     * </p>
+     *
+     * @return The time to live (default: 5 minutes)
+     */
+    @WithDefault("5m")
+    Duration versionTtl();
+
+    /**
+     * Determines whether cached results are invalidated from daemon events.
+     *
+     * <p>
+     * When enabled, the client follows the daemon's container and image events: container events evict the inspection
+     * results of that container, and image events evict all image results. Without it, results only expire after their
+     * time to live.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]cache.invalidate-on-events}
+     * </p>
+     *
+     * @return boolean indicating if events invalidate the cache (default: true)
+     */
+    @WithDefault("true")
+    boolean invalidateOnEvents();
+}
@@ -0,0 +1,93 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of a group of Docker clients acting as a single client.
+ *
+ * <p>
+ * A group spreads the containers it creates over its member daemons. Its members are regular named clients, configured
+ * with {@code quarkus.docker."client-name".*}:
+ * </p>
+ *
+ * <pre>
+ * quarkus.docker."node-1".docker-host=tcp://node-1:2376
+ * quarkus.docker."node-2".docker-host=tcp://node-2:2376
+ *
+ * quarkus.docker.groups."workers".members=node-1,node-2
+ * quarkus.docker.groups."workers".strategy=consistent-hash
+ * quarkus.docker.groups."workers".hash-label=tenant
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerClientGroupConfig {
+
+    /**
+     * Specifies the names of the clients the group spreads its containers over.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.groups."group-name".members}
+     * </p>
+     *
+     * @return The member client names
+     */
+    List<String> members();
+
+    /**
+     * Specifies how the member of a new container is picked.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.groups."group-name".strategy}
+     * </p>
+     *
+     * @return The placement strategy (default: least-loaded)
+     */
+    @WithDefault("least-loaded")
+    DockerPlacementStrategy strategy();
+
+    /**
+     * Specifies the container label whose value is the placement key of the {@code consistent-hash} strategy.
+     *
+     * <p>
+     * If not specified, or if a container does not carry the label, the container name is used. Containers without any key
+     * are placed round-robin.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.groups."group-name".hash-label}
+     * </p>
+     *
+     * @return Optional placement key label
+     */
+    Optional<String> hashLabel();
+
+    /**
+     * Specifies the interval between two pings of every member. Members that do not answer receive no new containers until
+     * they answer again.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.groups."group-name".health-check-interval}
+     * </p>
+     *
+     * @return The member ping interval (default: 5 seconds)
+     */
+    @WithDefault("5s")
+    Duration healthCheckInterval();
+
+    /**
+     * Specifies the interval between two reads of the load of every member, used by the {@code least-loaded} strategy.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.groups."group-name".load-refresh-interval}
+     * </p>
+     *
+     * @return The load refresh interval (default: 5 seconds)
+     */
+    @WithDefault("5s")
+    Duration loadRefreshInterval();
+}
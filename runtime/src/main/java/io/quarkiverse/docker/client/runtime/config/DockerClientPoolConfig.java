@@ -0,0 +1,117 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the HTTP connection pool used by a Docker client to talk to its daemon.
+ *
+ * <p>
+ * Configuration can be specified in application.properties using the following format:
+ * </p>
+ *
+ * <pre>
+ * # Default client pool
+ * quarkus.docker.pool.max-total=50
+ * quarkus.docker.pool.lease-timeout=5s
+ *
+ * # Named client pool
+ * quarkus.docker."production".pool.max-total=200
+ * quarkus.docker."production".pool.warm-up-connections=20
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerClientPoolConfig {
+
+    /**
+     * Specifies the maximum number of connections kept open to the Docker daemon.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]pool.max-total}
+     * </p>
+     *
+     * @return The maximum number of pooled connections (default: 100)
+     */
+    @WithDefault("100")
+    int maxTotal();
+
+    /**
+     * Specifies the maximum number of connections per route.
+     *
+     * <p>
+     * A Docker client talks to a single daemon, so this usually matches {@link #maxTotal()}. It is kept separate so that
+     * a lower value can be used to cap a single route when the daemon is reached through a proxy.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]pool.max-per-route}
+     * </p>
+     *
+     * @return The maximum number of connections per route (default: 100)
+     */
+    @WithDefault("100")
+    int maxPerRoute();
+
+    /**
+     * Specifies the total time to live of a pooled connection.
+     *
+     * <p>
+     * Connections older than this are closed instead of being reused. If not specified, connections live as long as the
+     * daemon keeps them open.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]pool.time-to-live}
+     * </p>
+     *
+     * @return Optional connection time to live
+     */
+    Optional<Duration> timeToLive();
+
+    /**
+     * Specifies how long a connection may stay idle in the pool before a background evictor closes it.
+     *
+     * <p>
+     * If not specified, idle connections are never evicted proactively.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]pool.idle-timeout}
+     * </p>
+     *
+     * @return Optional idle connection timeout
+     */
+    Optional<Duration> idleTimeout();
+
+    /**
+     * Specifies how long a caller waits to lease a connection from an exhausted pool.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]pool.lease-timeout}
+     * </p>
+     *
+     * @return The connection lease timeout (default: 30 seconds)
+     */
+    @WithDefault("30s")
+    Duration leaseTimeout();
+
+    /**
+     * Specifies the number of connections opened to the daemon when the client is created.
+     *
+     * <p>
+     * Warm connections are returned to the pool right away, so the first burst of requests does not pay for connection
+     * setup. The value is capped by {@link #maxTotal()}. Warm-up failures are logged and do not prevent startup.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]pool.warm-up-connections}
+     * </p>
+     *
+     * @return The number of connections to open at startup (default: 0)
+     */
+    @WithDefault("0")
+    int warmUpConnections();
+}
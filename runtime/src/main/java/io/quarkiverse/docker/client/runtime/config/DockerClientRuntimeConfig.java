@@ -1,6 +1,7 @@
 package io.quarkiverse.docker.client.runtime.config;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -77,6 +78,207 @@ public interface DockerClientRuntimeConfig {
     @WithDefault("30s")
     Duration readTimeout();
 
+    /**
+     * Specifies the HTTP transport used to reach the Docker daemon.
+     *
+     * <p>
+     * The {@code vertx} transport performs I/O on the application's Vert.x event loops instead of dedicating a blocking
+     * socket to each in-flight request. Unix sockets with this transport require
+     * {@code quarkus.vertx.prefer-native-transport=true} and the Netty native transport on the classpath.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]transport}
+     * </p>
+     *
+     * @return The transport to use (default: apache)
+     */
+    @WithDefault("apache")
+    DockerTransport transport();
+
+    /**
+     * Determines whether blocking Docker calls made on behalf of the reactive API run on virtual threads.
+     *
+     * <p>
+     * When enabled, commands executed through {@link io.quarkiverse.docker.client.runtime.ReactiveDockerClient} run on
+     * virtual threads instead of the worker pool, and items of streaming commands (logs, events, stats, pull progress) are
+     * dispatched to subscribers on virtual threads instead of docker-java's stream reader thread. The streams themselves are
+     * still read by docker-java on a platform thread each. Requires Java 21 or later; older runtimes fall back to the
+     * worker pool.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]virtual-threads}
+     * </p>
+     *
+     * @return boolean indicating if virtual threads are used (default: false)
+     */
+    @WithDefault("false")
+    boolean virtualThreads();
+
+    /**
+     * Determines whether identical concurrent requests share one daemon call.
+     *
+     * <p>
+     * When enabled, identical in-flight {@code GET} requests for inspect, list, info or version results are sent to the
+     * daemon once and every caller receives the same response. Pulls of the same image reference are serialized, so the
+     * same layers are never downloaded twice at the same time.
+     * </p>
+     *
+     * <p>
+     * Coalesced responses are fully buffered, and a pull waiting for an identical one blocks its thread until the first
+     * pull completed, for at most the {@code read-timeout}. Enable it for clients issuing many identical reads or pulls at the
+     * same time.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]coalesce-requests}
+     * </p>
+     *
+     * @return boolean indicating if requests are coalesced (default: false)
+     */
+    @WithDefault("false")
+    boolean coalesceRequests();
+
+    /**
+     * Specifies the maximum number of concurrent calls of a bulk operation.
+     *
+     * <p>
+     * Every concurrent call uses a connection of the pool, so values above {@code pool.max-per-route} only queue on the
+     * pool.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]bulk-parallelism}
+     * </p>
+     *
+     * @return The maximum number of concurrent bulk calls (default: 16)
+     */
+    @WithDefault("16")
+    int bulkParallelism();
+
+    /**
+     * Specifies the size of the pooled buffers log streams are read into.
+     *
+     * <p>
+     * Every open log stream holds one buffer, plus one per output stream while a line spans two reads. Lines longer than a
+     * buffer are delivered in several parts.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]log-buffer-size}
+     * </p>
+     *
+     * @return The log buffer size in bytes (default: 32768)
+     */
+    @WithDefault("32768")
+    int logBufferSize();
+
+    /**
+     * Specifies the HTTP connection pool settings used to reach the Docker daemon.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.[client-name.]pool.*}
+     * </p>
+     *
+     * @return The connection pool configuration
+     */
+    DockerClientPoolConfig pool();
+
+    /**
+     * Specifies the settings of the shared events stream of the client.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.[client-name.]events.*}
+     * </p>
+     *
+     * @return The events stream configuration
+     */
+    DockerEventsConfig events();
+
+    /**
+     * Specifies the result cache of read-only commands.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.[client-name.]cache.*}
+     * </p>
+     *
+     * @return The cache configuration
+     */
+    DockerClientCacheConfig cache();
+
+    /**
+     * Specifies the circuit breaker failing calls fast while the daemon is unhealthy.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.[client-name.]circuit-breaker.*}
+     * </p>
+     *
+     * @return The circuit breaker configuration
+     */
+    DockerCircuitBreakerConfig circuitBreaker();
+
+    /**
+     * Specifies the bulkhead limiting the concurrent calls to the daemon.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.[client-name.]bulkhead.*}
+     * </p>
+     *
+     * @return The bulkhead configuration
+     */
+    DockerBulkheadConfig bulkhead();
+
+    /**
+     * Specifies the recording and replay of the traffic between the client and its daemon.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.[client-name.]recording.*}
+     * </p>
+     *
+     * @return The recording configuration
+     */
+    DockerRecordingConfig recording();
+
+    /**
+     * Specifies the image builds of the client.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.[client-name.]build.*}
+     * </p>
+     *
+     * @return The build configuration
+     */
+    DockerBuildConfig build();
+
+    /**
+     * Specifies the images pulled by the client when the application starts.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.[client-name.]pre-pull.*}
+     * </p>
+     *
+     * @return The pre-pull configuration
+     */
+    DockerPrePullConfig prePull();
+
+    /**
+     * Specifies the names of standby clients receiving the idempotent reads of this client while its circuit breaker is
+     * open.
+     *
+     * <p>
+     * {@code GET} and {@code HEAD} requests are sent to the first standby whose own circuit breaker accepts them. Other
+     * requests still fail fast. Failover only applies when the circuit breaker is enabled.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]failover}
+     * </p>
+     *
+     * @return Optional list of standby client names
+     */
+    Optional<List<String>> failover();
+
     /**
      * Specifies the Docker daemon host URL.
      *
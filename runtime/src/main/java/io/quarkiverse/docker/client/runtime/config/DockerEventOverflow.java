@@ -0,0 +1,21 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+/**
+ * What happens to Docker events received while a subscriber's buffer is full.
+ *
+ * <p>
+ * Configuration property: {@code quarkus.docker.[client-name.]events.overflow}
+ * </p>
+ */
+public enum DockerEventOverflow {
+
+    /**
+     * New events are dropped until the subscriber catches up. Dropped events are counted and logged.
+     */
+    DROP,
+
+    /**
+     * The subscription fails with a back-pressure failure, so the subscriber can resubscribe and resynchronize.
+     */
+    FAIL
+}
@@ -0,0 +1,118 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the shared Docker events stream of a client.
+ *
+ * <p>
+ * Configuration can be specified in application.properties using the following format:
+ * </p>
+ *
+ * <pre>
+ * # Only container events of the application
+ * quarkus.docker.events.types=container
+ * quarkus.docker.events.labels=app=orders
+ *
+ * # Named client
+ * quarkus.docker."production".events.buffer-size=4096
+ * quarkus.docker."production".events.overflow=fail
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerEventsConfig {
+
+    /**
+     * Specifies the number of events buffered for a subscriber that does not keep up, with either overflow policy. It
+     * bounds the memory used by every subscriber: once the buffer is full, new events are dropped or fail the
+     * subscription.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]events.buffer-size}
+     * </p>
+     *
+     * @return The buffer size per subscriber (default: 1024)
+     */
+    @WithDefault("1024")
+    int bufferSize();
+
+    /**
+     * Specifies what happens to events received while the buffer of a subscriber is full.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]events.overflow}
+     * </p>
+     *
+     * @return The overflow policy (default: drop)
+     */
+    @WithDefault("drop")
+    DockerEventOverflow overflow();
+
+    /**
+     * Specifies the delay before reconnecting after the events stream was closed or failed.
+     *
+     * <p>
+     * The delay doubles after every failed attempt, up to {@link #reconnectMaxBackoff()}, and is reset once an event is
+     * received. Reconnections resume from the time of the last received event, so no event is lost.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]events.reconnect-initial-backoff}
+     * </p>
+     *
+     * @return The initial reconnection delay (default: 1 second)
+     */
+    @WithDefault("1s")
+    Duration reconnectInitialBackoff();
+
+    /**
+     * Specifies the maximum delay between two reconnection attempts.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]events.reconnect-max-backoff}
+     * </p>
+     *
+     * @return The maximum reconnection delay (default: 30 seconds)
+     */
+    @WithDefault("30s")
+    Duration reconnectMaxBackoff();
+
+    /**
+     * Specifies the object types of the shared stream, for example {@code container}, {@code image} or {@code network}.
+     * Filtering happens on the daemon.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]events.types}
+     * </p>
+     *
+     * @return Optional list of event types, all types if not specified
+     */
+    Optional<List<String>> types();
+
+    /**
+     * Specifies the labels of the shared stream, as {@code key} or {@code key=value}. Filtering happens on the daemon.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]events.labels}
+     * </p>
+     *
+     * @return Optional list of label filters
+     */
+    Optional<List<String>> labels();
+
+    /**
+     * Specifies the container names or IDs of the shared stream. Filtering happens on the daemon.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]events.containers}
+     * </p>
+     *
+     * @return Optional list of containers
+     */
+    Optional<List<String>> containers();
+}
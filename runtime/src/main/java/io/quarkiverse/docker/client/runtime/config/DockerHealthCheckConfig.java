@@ -0,0 +1,116 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the Docker client readiness health check.
+ *
+ * <p>
+ * The health check itself is enabled with {@code quarkus.docker.health-check}. This group tunes how it probes the daemons:
+ * </p>
+ *
+ * <pre>
+ * quarkus.docker.health-check=true
+ * quarkus.docker.health.timeout=3s
+ *
+ * # Probe in the background and serve cached results
+ * quarkus.docker.health.background=true
+ * quarkus.docker.health.interval=15s
+ * quarkus.docker.health.failure-threshold=3
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerHealthCheckConfig {
+
+    /**
+     * Specifies the overall deadline of a health check.
+     *
+     * <p>
+     * All clients are pinged concurrently. Each ping is bounded by the client's connect timeout and by this deadline,
+     * whichever is shorter, and clients that did not answer in time are reported as timed out. If not specified, the
+     * longest connect timeout of the registered clients is used.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.health.timeout}
+     * </p>
+     *
+     * @return Optional overall health check deadline
+     */
+    Optional<Duration> timeout();
+
+    /**
+     * Determines whether daemons are probed in the background.
+     *
+     * <p>
+     * When enabled, every client is pinged periodically and a health check call returns the cached result without any I/O.
+     * The status of a client only flips after {@link #failureThreshold()} consecutive failed pings or
+     * {@link #successThreshold()} consecutive successful pings, so a single slow ping does not make the readiness probe
+     * flap. Clients are reported down until they reach the success threshold for the first time.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.health.background}
+     * </p>
+     *
+     * @return boolean indicating if background probing is enabled (default: false)
+     */
+    @WithDefault("false")
+    boolean background();
+
+    /**
+     * Specifies the interval between two background pings of a client.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.health.interval}
+     * </p>
+     *
+     * @return The background probing interval (default: 10 seconds)
+     */
+    @WithDefault("10s")
+    Duration interval();
+
+    /**
+     * Specifies the maximum random delay added to every background probing interval.
+     *
+     * <p>
+     * Jitter spreads the pings of many application instances so they do not hit a shared daemon at the same time.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.health.jitter}
+     * </p>
+     *
+     * @return The maximum jitter (default: 1 second)
+     */
+    @WithDefault("1s")
+    Duration jitter();
+
+    /**
+     * Specifies the number of consecutive failed background pings after which a client is reported down.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.health.failure-threshold}
+     * </p>
+     *
+     * @return The failure threshold (default: 3)
+     */
+    @WithDefault("3")
+    int failureThreshold();
+
+    /**
+     * Specifies the number of consecutive successful background pings after which a client is reported up.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.health.success-threshold}
+     * </p>
+     *
+     * @return The success threshold (default: 1)
+     */
+    @WithDefault("1")
+    int successThreshold();
+}
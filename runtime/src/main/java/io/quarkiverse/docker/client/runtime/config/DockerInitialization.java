@@ -0,0 +1,31 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+/**
+ * When the Docker clients are built.
+ *
+ * <p>
+ * Building a client resolves Docker config files, contexts and TLS material, which adds up when many remote daemons are
+ * configured.
+ * </p>
+ *
+ * <p>
+ * Configuration property: {@code quarkus.docker.initialization}
+ * </p>
+ */
+public enum DockerInitialization {
+
+    /**
+     * All enabled clients are built one after another during application startup.
+     */
+    EAGER,
+
+    /**
+     * All enabled clients are built concurrently during application startup, which then only waits for the slowest one.
+     */
+    PARALLEL,
+
+    /**
+     * Every client is built on first access of one of its beans. Clients that are never used are never built.
+     */
+    LAZY
+}
@@ -0,0 +1,36 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the Micrometer metrics recorded for Docker API calls.
+ *
+ * <p>
+ * Metrics are only recorded when the application includes the {@code quarkus-micrometer} extension:
+ * </p>
+ *
+ * <pre>
+ * quarkus.docker.metrics.enabled = false
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerMetricsConfig {
+
+    /**
+     * Determines whether Docker API calls of all clients are recorded as Micrometer metrics.
+     *
+     * <p>
+     * Latencies, in-flight requests, errors and transferred bytes are tagged with the client name, the HTTP method and the
+     * Docker API endpoint template.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.metrics.enabled}
+     * </p>
+     *
+     * @return boolean indicating if metrics are enabled when Micrometer is present (default: true)
+     */
+    @WithDefault("true")
+    boolean enabled();
+}
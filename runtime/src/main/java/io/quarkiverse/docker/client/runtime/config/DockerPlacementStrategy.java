@@ -0,0 +1,28 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+/**
+ * How a Docker client group picks the member daemon of a new container.
+ *
+ * <p>
+ * Configuration property: {@code quarkus.docker.groups."group-name".strategy}
+ * </p>
+ */
+public enum DockerPlacementStrategy {
+
+    /**
+     * Every container goes to the member with the fewest running containers per CPU, as reported by {@code info} and
+     * corrected by the containers placed since the last refresh.
+     */
+    LEAST_LOADED,
+
+    /**
+     * Containers are spread evenly over the members in turn.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Containers with the same placement key always go to the same member, as long as it is healthy. The key is the value
+     * of the configured hash label, or the container name.
+     */
+    CONSISTENT_HASH
+}
@@ -0,0 +1,66 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the images a Docker client pulls at startup.
+ *
+ * <p>
+ * Configuration can be specified in application.properties using the following format:
+ * </p>
+ *
+ * <pre>
+ * # Default client warm-up
+ * quarkus.docker.pre-pull.images=postgres:16-alpine,redis:7
+ * quarkus.docker.pre-pull.concurrency=2
+ *
+ * # Named client warm-up, without holding readiness
+ * quarkus.docker."ci".pre-pull.images=maven:3-eclipse-temurin-21
+ * quarkus.docker."ci".pre-pull.gate-readiness=false
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerPrePullConfig {
+
+    /**
+     * Specifies the images pulled when the application starts. Images already present on the daemon are not pulled
+     * again: a reference with a tag is only pulled when the daemon has no image with that tag, and a reference with a
+     * digest when it has no image with that digest.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]pre-pull.images}
+     * </p>
+     *
+     * @return Optional list of image references
+     */
+    Optional<List<String>> images();
+
+    /**
+     * Specifies the maximum number of images pulled at once.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]pre-pull.concurrency}
+     * </p>
+     *
+     * @return The maximum number of concurrent pulls (default: 2)
+     */
+    @WithDefault("2")
+    int concurrency();
+
+    /**
+     * Determines whether the Docker client health check reports the client as down until its images are pulled. Failed
+     * pulls are logged and do not hold readiness once every pull completed.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]pre-pull.gate-readiness}
+     * </p>
+     *
+     * @return boolean indicating if readiness waits for the warm-up (default: true)
+     */
+    @WithDefault("true")
+    boolean gateReadiness();
+}
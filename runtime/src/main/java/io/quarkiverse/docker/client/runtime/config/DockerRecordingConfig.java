@@ -0,0 +1,72 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the recording and replay of the traffic between a Docker client and its daemon.
+ *
+ * <p>
+ * Configuration can be specified in application.properties using the following format:
+ * </p>
+ *
+ * <pre>
+ * # Record a session of the default client
+ * quarkus.docker.recording.mode=record
+ * quarkus.docker.recording.file=target/docker-session.rec
+ *
+ * # Replay it twice as fast with a named client
+ * quarkus.docker."replay".recording.mode=replay
+ * quarkus.docker."replay".recording.file=src/test/resources/docker-session.rec
+ * quarkus.docker."replay".recording.time-scale=0.5
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerRecordingConfig {
+
+    /**
+     * Determines whether the traffic of the client is recorded, replayed, or neither.
+     *
+     * <p>
+     * In record mode, every exchange is appended to the recording file: the request, the response status and headers,
+     * the response body as the frames it was received in, and the time each of them took. In replay mode, responses are
+     * served from the recording with their original timings, scaled by {@code time-scale}, and the daemon is never
+     * reached.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]recording.mode}
+     * </p>
+     *
+     * @return The recording mode (default: off)
+     */
+    @WithDefault("off")
+    DockerRecordingMode mode();
+
+    /**
+     * Specifies the recording file. Record mode replaces an existing file.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]recording.file}
+     * </p>
+     *
+     * @return Optional recording file, required unless the mode is off
+     */
+    Optional<Path> file();
+
+    /**
+     * Specifies the factor applied to recorded timings on replay. {@code 1} replays at the original pace, {@code 0.5}
+     * twice as fast, and {@code 0} serves responses without delay.
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.[client-name.]recording.time-scale}
+     * </p>
+     *
+     * @return The time scale (default: 1)
+     */
+    @WithDefault("1")
+    double timeScale();
+}
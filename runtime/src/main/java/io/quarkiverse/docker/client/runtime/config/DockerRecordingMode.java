@@ -0,0 +1,26 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+/**
+ * What a Docker client does with the traffic recording of its daemon.
+ *
+ * <p>
+ * Configuration property: {@code quarkus.docker.[client-name.]recording.mode}
+ * </p>
+ */
+public enum DockerRecordingMode {
+
+    /**
+     * Traffic is neither recorded nor replayed.
+     */
+    OFF,
+
+    /**
+     * Every exchange with the daemon is appended to the recording file, with its timings.
+     */
+    RECORD,
+
+    /**
+     * Responses are served from the recording file, without reaching the daemon.
+     */
+    REPLAY
+}
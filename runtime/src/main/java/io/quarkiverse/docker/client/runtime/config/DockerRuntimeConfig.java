@@ -7,6 +7,7 @@ import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
 import io.smallrye.config.WithParentName;
 
@@ -122,6 +123,76 @@ public interface DockerRuntimeConfig {
     @WithName("health-check")
     Optional<Boolean> enableHealthCheck();
 
+    /**
+     * Determines when the Docker clients are built.
+     *
+     * <p>
+     * By default all enabled clients are built one after another during startup. With {@code parallel}, they are built
+     * concurrently. With {@code lazy}, a client is only built when one of its beans is first used, so named clients a
+     * deployment never calls cost nothing. The build time of every client is logged either way.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.initialization}
+     * </p>
+     *
+     * @return The initialization mode (default: eager)
+     */
+    @WithDefault("eager")
+    DockerInitialization initialization();
+
+    /**
+     * Tuning of the Docker client health check.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.health.*}
+     * </p>
+     *
+     * @return The health check configuration
+     */
+    DockerHealthCheckConfig health();
+
+    /**
+     * Micrometer metrics of the Docker clients.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.metrics.*}
+     * </p>
+     *
+     * @return The metrics configuration
+     */
+    DockerMetricsConfig metrics();
+
+    /**
+     * OpenTelemetry tracing of the Docker clients.
+     *
+     * <p>
+     * Configuration properties: {@code quarkus.docker.tracing.*}
+     * </p>
+     *
+     * @return The tracing configuration
+     */
+    DockerTracingConfig tracing();
+
+    /**
+     * Configuration map for Docker client groups.
+     *
+     * <p>
+     * A group is injected like a named client, with {@code @NamedDockerClient("group-name")}, and behaves as a single
+     * client spreading the containers it creates over its member daemons. Requests about an existing container are routed
+     * to the member running it.
+     * </p>
+     *
+     * <pre>
+     * quarkus.docker.groups."workers".members=node-1,node-2,node-3
+     * quarkus.docker.groups."workers".strategy=round-robin
+     * </pre>
+     *
+     * @return Map of Docker client group configurations
+     */
+    @ConfigDocMapKey("group-name")
+    Map<String, DockerClientGroupConfig> groups();
+
     /**
      * Configuration map for named Docker clients.
      *
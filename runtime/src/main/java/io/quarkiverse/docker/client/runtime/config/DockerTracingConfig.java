@@ -0,0 +1,37 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the OpenTelemetry spans emitted for Docker API calls.
+ *
+ * <p>
+ * Spans are only emitted when the application includes the {@code quarkus-opentelemetry} extension:
+ * </p>
+ *
+ * <pre>
+ * quarkus.docker.tracing.enabled = false
+ * </pre>
+ */
+@ConfigGroup
+public interface DockerTracingConfig {
+
+    /**
+     * Determines whether Docker API calls of all clients emit OpenTelemetry client spans.
+     *
+     * <p>
+     * Spans are parented to the current context and carry the endpoint template, client name, daemon host, status code and
+     * response size. Long-lived streams such as logs, events and attach are reported with span events instead of a span
+     * that stays open for the lifetime of the stream.
+     * </p>
+     *
+     * <p>
+     * Configuration property: {@code quarkus.docker.tracing.enabled}
+     * </p>
+     *
+     * @return boolean indicating if tracing is enabled when OpenTelemetry is present (default: true)
+     */
+    @WithDefault("true")
+    boolean enabled();
+}
@@ -0,0 +1,22 @@
+package io.quarkiverse.docker.client.runtime.config;
+
+/**
+ * The HTTP transport used by a Docker client to reach its daemon.
+ *
+ * <p>
+ * Configuration property: {@code quarkus.docker.[client-name.]transport}
+ * </p>
+ */
+public enum DockerTransport {
+
+    /**
+     * Apache HttpClient 5 with a blocking connection pool. Supports unix sockets, named pipes and TCP/TLS daemons.
+     */
+    APACHE,
+
+    /**
+     * The Vert.x HTTP client running on the application's event loops. Supports unix sockets (requires the Vert.x native
+     * transport) and TCP/TLS daemons.
+     */
+    VERTX
+}
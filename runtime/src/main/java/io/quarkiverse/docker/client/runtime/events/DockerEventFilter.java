@@ -0,0 +1,94 @@
+package io.quarkiverse.docker.client.runtime.events;
+
+import java.util.List;
+
+import com.github.dockerjava.api.command.EventsCmd;
+
+import io.quarkiverse.docker.client.runtime.config.DockerEventsConfig;
+
+/**
+ * Server-side filters of a Docker events stream. Empty lists do not filter.
+ *
+ * <pre>
+ * DockerEventFilter filter = DockerEventFilter.none()
+ *         .withTypes("container")
+ *         .withLabels("app=orders");
+ * </pre>
+ *
+ * @param types Object types, for example {@code container} or {@code image}
+ * @param labels Labels as {@code key} or {@code key=value}
+ * @param containers Container names or IDs
+ * @param events Event actions, for example {@code start} or {@code die}
+ */
+public record DockerEventFilter(List<String> types, List<String> labels, List<String> containers, List<String> events) {
+
+    private static final DockerEventFilter NONE = new DockerEventFilter(List.of(), List.of(), List.of(), List.of());
+
+    public DockerEventFilter {
+        types = types == null ? List.of() : List.copyOf(types);
+        labels = labels == null ? List.of() : List.copyOf(labels);
+        containers = containers == null ? List.of() : List.copyOf(containers);
+        events = events == null ? List.of() : List.copyOf(events);
+    }
+
+    /**
+     * Returns a filter accepting all events.
+     *
+     * @return The empty filter
+     */
+    public static DockerEventFilter none() {
+        return NONE;
+    }
+
+    /**
+     * Creates the filter of the shared stream of a client.
+     *
+     * @param config The events configuration of the client
+     * @return The configured filter
+     */
+    public static DockerEventFilter fromConfig(DockerEventsConfig config) {
+        return new DockerEventFilter(
+                config.types().orElse(null),
+                config.labels().orElse(null),
+                config.containers().orElse(null),
+                null);
+    }
+
+    public DockerEventFilter withTypes(String... types) {
+        return new DockerEventFilter(List.of(types), labels, containers, events);
+    }
+
+    public DockerEventFilter withLabels(String... labels) {
+        return new DockerEventFilter(types, List.of(labels), containers, events);
+    }
+
+    public DockerEventFilter withContainers(String... containers) {
+        return new DockerEventFilter(types, labels, List.of(containers), events);
+    }
+
+    public DockerEventFilter withEvents(String... events) {
+        return new DockerEventFilter(types, labels, containers, List.of(events));
+    }
+
+    /**
+     * Applies the filters to an events command.
+     *
+     * @param cmd The command to filter
+     * @return The filtered command
+     */
+    EventsCmd applyTo(EventsCmd cmd) {
+        if (!types.isEmpty()) {
+            cmd.withEventTypeFilter(types.toArray(String[]::new));
+        }
+        if (!labels.isEmpty()) {
+            cmd.withLabelFilter(labels.toArray(String[]::new));
+        }
+        if (!containers.isEmpty()) {
+            cmd.withContainerFilter(containers.toArray(String[]::new));
+        }
+        if (!events.isEmpty()) {
+            cmd.withEventFilter(events.toArray(String[]::new));
+        }
+        return cmd;
+    }
+}
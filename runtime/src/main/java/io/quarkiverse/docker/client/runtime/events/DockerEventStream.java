@@ -0,0 +1,383 @@
+package io.quarkiverse.docker.client.runtime.events;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger;
+
+import com.github.dockerjava.api.command.EventsCmd;
+import com.github.dockerjava.api.model.Event;
+
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.quarkiverse.docker.client.runtime.config.DockerEventOverflow;
+import io.quarkiverse.docker.client.runtime.config.DockerEventsConfig;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+/**
+ * Long-lived, resuming subscription to the {@code /events} stream of a Docker daemon.
+ *
+ * <p>
+ * The stream survives daemon restarts and network drops: when the connection fails or is closed by the daemon, it is
+ * reopened with exponential backoff and {@code since} set to the time of the last received event, so no event is lost.
+ * Events of that same instant that were already emitted are skipped.
+ * </p>
+ *
+ * <p>
+ * Every subscriber has a buffer of {@code quarkus.docker.[client-name.]events.buffer-size} events, which is the only
+ * place events wait for a subscriber that does not keep up. When it is full, new events are either dropped or the
+ * subscription fails, according to {@code quarkus.docker.[client-name.]events.overflow}.
+ * </p>
+ *
+ * <p>
+ * Usage example:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("production")
+ * DockerEventStream events;
+ *
+ * void onStart(@Observes StartupEvent event) {
+ *     // Shared stream using the configured filters
+ *     events.events().subscribe().with(e -&gt; LOG.infof("%s %s", e.getAction(), e.getId()));
+ *
+ *     // Dedicated stream with its own server-side filters
+ *     events.events(DockerEventFilter.none().withTypes("container").withEvents("die"))
+ *             .subscribe().with(this::onContainerDied);
+ * }
+ * </pre>
+ *
+ * @see NamedDockerClient
+ * @see DockerEventFilter
+ */
+public class DockerEventStream implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(DockerEventStream.class);
+
+    private final ReactiveDockerClient client;
+    private final String clientName;
+    private final DockerEventsConfig config;
+    private final Multi<Event> shared;
+    private final Set<MultiEmitter<? super Event>> emitters = ConcurrentHashMap.newKeySet();
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates an events stream.
+     *
+     * @param client The client whose daemon events are streamed
+     * @param clientName The client name, used in log messages
+     * @param config The events configuration of the client
+     */
+    public DockerEventStream(ReactiveDockerClient client, String clientName, DockerEventsConfig config) {
+        if (client == null || config == null) {
+            throw new IllegalArgumentException("ReactiveDockerClient and events configuration cannot be null");
+        }
+        this.client = client;
+        this.clientName = clientName;
+        this.config = config;
+        this.shared = closeable(resuming(DockerEventFilter.fromConfig(config)))
+                .broadcast()
+                .withCancellationAfterLastSubscriberDeparture()
+                .toAllSubscribers();
+    }
+
+    /**
+     * Returns the shared events stream of the client, filtered by the configured types, labels and containers.
+     *
+     * <p>
+     * All subscribers share a single connection to the daemon. It is opened by the first subscriber and closed when the
+     * last one cancels.
+     * </p>
+     *
+     * @return A Multi emitting daemon events until cancelled
+     */
+    public Multi<Event> events() {
+        return bounded(shared);
+    }
+
+    /**
+     * Returns a dedicated events stream with its own server-side filters. Every subscription opens its own connection.
+     *
+     * @param filter The filters applied by the daemon
+     * @return A Multi emitting the matching daemon events until cancelled
+     */
+    public Multi<Event> events(DockerEventFilter filter) {
+        return bounded(closeable(resuming(filter)));
+    }
+
+    /**
+     * Returns the number of events dropped because a subscriber did not keep up.
+     *
+     * @return The number of dropped events
+     */
+    public long droppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Completes all subscriptions and closes their connections.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (MultiEmitter<? super Event> emitter : emitters) {
+            emitter.complete();
+        }
+        emitters.clear();
+    }
+
+    /**
+     * Creates a stream reconnecting after failures and after the daemon closed it, resuming from the last event.
+     *
+     * @param filter The server-side filters
+     * @return The resuming stream, never completing on its own
+     */
+    private Multi<Event> resuming(DockerEventFilter filter) {
+        return Multi.createFrom().deferred(() -> {
+            ResumeState state = new ResumeState(config.reconnectInitialBackoff(), config.reconnectMaxBackoff());
+            return Multi.createFrom().deferred(() -> connect(filter, state))
+                    .onCompletion().failWith(() -> new IllegalStateException("Events stream closed by the daemon"))
+                    .onFailure().retry().when(failures -> failures.onItem().transformToUniAndConcatenate(failure -> {
+                        Duration delay = state.nextBackoff();
+                        LOGGER.debugf("Docker events stream of client %s interrupted (%s), reconnecting in %d ms",
+                                clientName, failure.getMessage(), delay.toMillis());
+                        // The retry is triggered by an item, a void Uni would complete without emitting one
+                        return Uni.createFrom().item(failure).onItem().delayIt().by(delay);
+                    }));
+        });
+    }
+
+    private Multi<Event> connect(DockerEventFilter filter, ResumeState state) {
+        if (closed) {
+            return Multi.createFrom().empty();
+        }
+        String since = state.nextSince();
+        return client.stream(docker -> {
+            EventsCmd cmd = filter.applyTo(docker.eventsCmd());
+            return since == null ? cmd : cmd.withSince(since);
+        }).select().where(state::accept);
+    }
+
+    /**
+     * Bridges a stream to an emitter that is completed when this events stream is closed.
+     */
+    private Multi<Event> closeable(Multi<Event> events) {
+        return Multi.createFrom().emitter(emitter -> {
+            if (closed) {
+                emitter.complete();
+                return;
+            }
+            emitters.add(emitter);
+            Cancellable upstream = events.subscribe().with(emitter::emit, emitter::fail, emitter::complete);
+            emitter.onTermination(() -> {
+                emitters.remove(emitter);
+                upstream.cancel();
+            });
+        });
+    }
+
+    /**
+     * Hands events over to the executor of the client through a buffer of the configured size, applying the overflow
+     * policy once it is full.
+     */
+    private Multi<Event> bounded(Multi<Event> events) {
+        return Multi.createFrom().publisher(subscriber -> new HandOff(subscriber).start(events));
+    }
+
+    private void onDropped(Event event) {
+        long dropped = droppedEvents.incrementAndGet();
+        // Logs on every power of two to stay quiet under sustained overflow
+        if (Long.bitCount(dropped) == 1) {
+            LOGGER.warnf("Dropped %d Docker events of client %s because a subscriber does not keep up", dropped, clientName);
+        }
+    }
+
+    /**
+     * Bounded queue between the events of the daemon and a subscriber, drained on the executor of the client as the
+     * subscriber requests events. Completion is delivered once the queued events are consumed, failures at once.
+     */
+    private final class HandOff implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Event> subscriber;
+        private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(config.bufferSize());
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+
+        private volatile Cancellable upstream;
+        private volatile boolean done;
+        private volatile Throwable failure;
+        private volatile boolean cancelled;
+
+        HandOff(Flow.Subscriber<? super Event> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void start(Multi<Event> events) {
+            subscriber.onSubscribe(this);
+            upstream = events.subscribe().with(this::offer, this::terminate, () -> terminate(null));
+            if (cancelled) {
+                upstream.cancel();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drainLater();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Cancellable current = upstream;
+            if (current != null) {
+                current.cancel();
+            }
+            queue.clear();
+        }
+
+        private void offer(Event event) {
+            if (done || queue.offer(event)) {
+                drainLater();
+            } else if (config.overflow() == DockerEventOverflow.FAIL) {
+                upstream.cancel();
+                terminate(new BackPressureFailure("Docker events buffer of client " + clientName + " is full, "
+                        + config.bufferSize() + " events are waiting for the subscriber"));
+            } else {
+                onDropped(event);
+            }
+        }
+
+        private void terminate(Throwable cause) {
+            failure = cause;
+            done = true;
+            drainLater();
+        }
+
+        private void drainLater() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                client.executor().execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                long demand = requested.get();
+                long emitted = 0;
+                while (!cancelled) {
+                    boolean terminated = done;
+                    if (terminated && failure != null) {
+                        // Failures are not delayed by the events the subscriber did not request yet
+                        cancel();
+                        subscriber.onError(failure);
+                        break;
+                    }
+                    Event event = emitted < demand ? queue.poll() : null;
+                    if (event != null) {
+                        subscriber.onNext(event);
+                        emitted++;
+                        continue;
+                    }
+                    if (terminated && queue.isEmpty()) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                    break;
+                }
+                if (emitted > 0) {
+                    Subscriptions.produced(requested, emitted);
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+
+    /**
+     * Resume position and reconnection backoff of one subscription.
+     */
+    private static final class ResumeState {
+
+        private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+        private final Duration initialBackoff;
+        private final Duration maxBackoff;
+        private final Set<String> emittedAtLastTime = new HashSet<>();
+
+        private Duration backoff;
+        private long lastTimeNanos = -1;
+        private long subscribedAtNanos = -1;
+
+        ResumeState(Duration initialBackoff, Duration maxBackoff) {
+            this.initialBackoff = initialBackoff;
+            this.maxBackoff = maxBackoff;
+            this.backoff = initialBackoff;
+        }
+
+        /**
+         * Returns the {@code since} parameter of the next connection: none for the first one, then the time of the last
+         * event, or the time of the first connection if no event was received yet.
+         */
+        synchronized String nextSince() {
+            if (subscribedAtNanos < 0) {
+                subscribedAtNanos = System.currentTimeMillis() * 1_000_000L;
+                return null;
+            }
+            long since = lastTimeNanos >= 0 ? lastTimeNanos : subscribedAtNanos;
+            return String.format("%d.%09d", since / NANOS_PER_SECOND, since % NANOS_PER_SECOND);
+        }
+
+        /**
+         * Accepts an event unless it was already emitted before a reconnection.
+         */
+        synchronized boolean accept(Event event) {
+            backoff = initialBackoff;
+
+            long time = event.getTimeNano() != null ? event.getTimeNano()
+                    : event.getTime() != null ? event.getTime() * NANOS_PER_SECOND : -1;
+            if (time < 0) {
+                return true;
+            }
+            if (time < lastTimeNanos) {
+                return false;
+            }
+
+            String key = event.getId() + '|' + event.getType() + '|' + event.getAction();
+            if (time == lastTimeNanos) {
+                return emittedAtLastTime.add(key);
+            }
+            lastTimeNanos = time;
+            emittedAtLastTime.clear();
+            emittedAtLastTime.add(key);
+            return true;
+        }
+
+        synchronized Duration nextBackoff() {
+            Duration current = backoff;
+            Duration doubled = backoff.multipliedBy(2);
+            backoff = doubled.compareTo(maxBackoff) > 0 ? maxBackoff : doubled;
+            return current;
+        }
+    }
+}
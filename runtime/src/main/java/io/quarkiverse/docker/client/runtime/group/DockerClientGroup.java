@@ -0,0 +1,135 @@
+package io.quarkiverse.docker.client.runtime.group;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.github.dockerjava.api.DockerClient;
+
+/**
+ * Group of Docker clients acting as a single client.
+ *
+ * <p>
+ * A group is configured with {@code quarkus.docker.groups."group-name".*} and injected like a named client. Its
+ * {@link DockerClient} spreads the containers it creates over the member daemons and routes every request about a
+ * container to the daemon running it, so code written against a single client scales out without changes:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("workers")
+ * DockerClient workers;
+ *
+ * String id = workers.createContainerCmd("nginx:alpine").exec().getId();
+ * workers.startContainerCmd(id).exec();
+ * </pre>
+ *
+ * <p>
+ * This type gives access to the placement itself, for example to pick a member up front or to find out where a container
+ * runs:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("workers")
+ * DockerClientGroup group;
+ *
+ * DockerClient member = group.member(group.place("tenant-42"));
+ * </pre>
+ */
+public class DockerClientGroup {
+
+    private final String name;
+    private final DockerClient client;
+    private final GroupDockerHttpClient transport;
+    private final Map<String, DockerClient> members;
+
+    /**
+     * Creates a group.
+     *
+     * @param name The group name
+     * @param client The client routing its requests through the group transport
+     * @param transport The group transport
+     * @param members The member clients, by client name
+     */
+    public DockerClientGroup(String name, DockerClient client, GroupDockerHttpClient transport,
+            Map<String, DockerClient> members) {
+        this.name = name;
+        this.client = client;
+        this.transport = transport;
+        this.members = Map.copyOf(members);
+    }
+
+    /**
+     * Returns the group name.
+     *
+     * @return The group name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the client spreading its requests over the members. It is the client injected with
+     * {@code @NamedDockerClient("group-name")}.
+     *
+     * @return The group client
+     */
+    public DockerClient client() {
+        return client;
+    }
+
+    /**
+     * Returns the names of the member clients, in configuration order.
+     *
+     * @return The member names
+     */
+    public List<String> members() {
+        return transport.members();
+    }
+
+    /**
+     * Returns the names of the member clients that currently receive new containers.
+     *
+     * @return The healthy member names
+     */
+    public List<String> healthyMembers() {
+        return transport.healthyMembers();
+    }
+
+    /**
+     * Returns a member client.
+     *
+     * @param memberName The member name
+     * @return The member client
+     * @throws IllegalArgumentException if the client is not a member of the group
+     */
+    public DockerClient member(String memberName) {
+        DockerClient member = members.get(memberName);
+        if (member == null) {
+            throw new IllegalArgumentException(
+                    String.format("Docker client %s is not a member of group %s", memberName, name));
+        }
+        return member;
+    }
+
+    /**
+     * Picks the member the configured strategy places the next container on.
+     *
+     * @param key The placement key used by the {@code consistent-hash} strategy, may be null
+     * @return The name of the picked member
+     */
+    public String place(String key) {
+        return transport.place(key);
+    }
+
+    /**
+     * Returns the member running a container.
+     *
+     * @param containerId The container ID or name
+     * @return The name of the member running the container, or empty if no member knows it
+     */
+    public Optional<String> memberOf(String containerId) {
+        return transport.memberOf(containerId);
+    }
+}
@@ -0,0 +1,451 @@
+package io.quarkiverse.docker.client.runtime.group;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.config.DockerClientGroupConfig;
+import io.quarkiverse.docker.client.runtime.config.DockerPlacementStrategy;
+import io.quarkiverse.docker.client.runtime.transport.BufferedResponse;
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+
+/**
+ * Docker transport spreading the requests of a client group over the transports of its member clients.
+ *
+ * <p>
+ * Requests are routed as follows:
+ * </p>
+ * <ul>
+ * <li>Container creation goes to the member picked by the placement strategy. The ID and name of the created container
+ * are remembered, so later requests about it go to the same member.</li>
+ * <li>Requests about a container or an exec instance go to the member running it. Containers the group did not create
+ * are located by inspecting them on every member once.</li>
+ * <li>Container listings are sent to every member and merged.</li>
+ * <li>Image pulls are sent to every member, so a container can be placed anywhere afterwards.</li>
+ * <li>Any other request goes to the member picked by the placement strategy.</li>
+ * </ul>
+ *
+ * <p>
+ * Members are pinged periodically. Members that do not answer receive no new containers until they answer again, while
+ * requests about containers they already run are still sent to them.
+ * </p>
+ */
+public class GroupDockerHttpClient implements DockerHttpClient {
+
+    private static final Logger LOGGER = Logger.getLogger(GroupDockerHttpClient.class);
+
+    private static final Pattern RESOURCE_PATH = Pattern.compile("^(/v\\d+(?:\\.\\d+)?)?/(containers|exec)/([^/?]+)([^?]*)");
+    private static final List<String> CONTAINER_COLLECTION_PATHS = List.of("json", "create", "prune");
+    private static final Map<String, List<String>> JSON_HEADERS = Map.of("Content-Type", List.of("application/json"));
+    private static final int VIRTUAL_NODES = 128;
+    private static final int MAX_AFFINITIES = 100_000;
+
+    private final String groupName;
+    private final DockerClientGroupConfig config;
+    private final List<Member> members;
+    private final NavigableMap<Long, Member> ring = new TreeMap<>();
+    private final Map<String, Member> affinities = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Member> eldest) {
+            return size() > MAX_AFFINITIES;
+        }
+    };
+    private final AtomicInteger nextMember = new AtomicInteger();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ScheduledExecutorService scheduler;
+    private final List<ScheduledFuture<?>> tasks = new ArrayList<>();
+
+    /**
+     * Creates a group transport and starts probing its members.
+     *
+     * @param groupName The group name
+     * @param memberTransports The transports of the member clients, by client name
+     * @param config The group configuration
+     * @param scheduler The executor probing the members and sending fanned out requests
+     * @throws IllegalArgumentException if the group has no members
+     */
+    public GroupDockerHttpClient(String groupName, Map<String, DockerHttpClient> memberTransports,
+            DockerClientGroupConfig config, ScheduledExecutorService scheduler) {
+        if (memberTransports.isEmpty()) {
+            throw new IllegalArgumentException(String.format("Docker client group %s has no members", groupName));
+        }
+        this.groupName = groupName;
+        this.config = config;
+        this.scheduler = scheduler;
+
+        List<Member> list = new ArrayList<>(memberTransports.size());
+        memberTransports.forEach((name, transport) -> list.add(new Member(name, transport)));
+        this.members = Collections.unmodifiableList(list);
+        for (Member member : members) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(member.name + "#" + i), member);
+            }
+        }
+
+        tasks.add(scheduler.scheduleWithFixedDelay(this::checkHealth, 0,
+                config.healthCheckInterval().toMillis(), TimeUnit.MILLISECONDS));
+        if (config.strategy() == DockerPlacementStrategy.LEAST_LOADED) {
+            tasks.add(scheduler.scheduleWithFixedDelay(this::refreshLoad, 0,
+                    config.loadRefreshInterval().toMillis(), TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Override
+    public Response execute(Request request) {
+        String endpoint = DockerApiEndpoints.template(request.path());
+        if ("POST".equals(request.method()) && "/containers/create".equals(endpoint)) {
+            return createContainer(request);
+        }
+        if ("POST".equals(request.method()) && "/images/create".equals(endpoint)) {
+            List<BufferedResponse> responses = new ArrayList<>(fanOut(request).values());
+            return responses.stream()
+                    .filter(response -> response.getStatusCode() >= 300)
+                    .findFirst()
+                    .orElse(responses.get(0));
+        }
+        if ("GET".equals(request.method()) && "/containers/json".equals(endpoint)) {
+            return listContainers(request);
+        }
+
+        Matcher matcher = RESOURCE_PATH.matcher(request.path());
+        if (matcher.find() && !("containers".equals(matcher.group(2))
+                && CONTAINER_COLLECTION_PATHS.contains(matcher.group(3)))) {
+            return executeOnOwner(request, matcher);
+        }
+        return pick(null).transport.execute(request);
+    }
+
+    /**
+     * Returns the names of the members, in configuration order.
+     *
+     * @return The member names
+     */
+    public List<String> members() {
+        return members.stream().map(member -> member.name).toList();
+    }
+
+    /**
+     * Returns the names of the members that answered their last ping.
+     *
+     * @return The healthy member names
+     */
+    public List<String> healthyMembers() {
+        return members.stream().filter(member -> member.healthy).map(member -> member.name).toList();
+    }
+
+    /**
+     * Picks the member that receives the next container with the given placement key.
+     *
+     * @param key The placement key used by the {@code consistent-hash} strategy, may be null
+     * @return The name of the picked member
+     */
+    public String place(String key) {
+        return pick(key).name;
+    }
+
+    /**
+     * Returns the member running a container, locating it on the members if the group did not create it.
+     *
+     * @param containerId The container ID or name
+     * @return The name of the member running the container, or empty if no member knows it
+     */
+    public Optional<String> memberOf(String containerId) {
+        return Optional.ofNullable(locate("", "containers", containerId)).map(member -> member.name);
+    }
+
+    @Override
+    public void close() {
+        // The member transports are owned by the member clients
+        tasks.forEach(task -> task.cancel(false));
+    }
+
+    private Response createContainer(Request request) {
+        Member member = pick(placementKey(request));
+        Response response = member.transport.execute(request);
+        if (response.getStatusCode() != 201) {
+            return response;
+        }
+
+        BufferedResponse created = BufferedResponse.read(response);
+        member.placed.incrementAndGet();
+        remember(readTree(created).path("Id").asText(null), member);
+        String name = DockerApiEndpoints.queryParameter(request.path(), "name");
+        if (name != null && !name.isEmpty()) {
+            remember(URLDecoder.decode(name, StandardCharsets.UTF_8), member);
+        }
+        LOGGER.debugf("Docker client group %s placed container on %s", groupName, member.name);
+        return created;
+    }
+
+    private Response listContainers(Request request) {
+        ArrayNode merged = mapper.createArrayNode();
+        for (Map.Entry<Member, BufferedResponse> entry : fanOut(request).entrySet()) {
+            Member member = entry.getKey();
+            BufferedResponse response = entry.getValue();
+            if (response.getStatusCode() != 200) {
+                return response;
+            }
+            for (JsonNode container : readTree(response)) {
+                merged.add(container);
+                remember(container.path("Id").asText(null), member);
+            }
+        }
+        try {
+            return BufferedResponse.of(200, JSON_HEADERS, mapper.writeValueAsBytes(merged));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Response executeOnOwner(Request request, Matcher matcher) {
+        String versionPrefix = matcher.group(1) != null ? matcher.group(1) : "";
+        String resource = matcher.group(2);
+        String id = URLDecoder.decode(matcher.group(3), StandardCharsets.UTF_8);
+        String action = matcher.group(4);
+
+        Member owner = locate(versionPrefix, resource, id);
+        Member member = owner != null ? owner : pick(null);
+        Response response = member.transport.execute(request);
+
+        int status = response.getStatusCode();
+        if ("containers".equals(resource) && "DELETE".equals(request.method()) && action.isEmpty()
+                && status >= 200 && status < 300) {
+            forget(id);
+        } else if ("containers".equals(resource) && "POST".equals(request.method()) && "/exec".equals(action)
+                && status == 201) {
+            BufferedResponse created = BufferedResponse.read(response);
+            remember(readTree(created).path("Id").asText(null), member);
+            return created;
+        }
+        return response;
+    }
+
+    /**
+     * Returns the member running a container or exec instance, inspecting it on every member if it is not known yet.
+     */
+    private Member locate(String versionPrefix, String resource, String id) {
+        Member known;
+        synchronized (affinities) {
+            known = affinities.get(id);
+        }
+        if (known != null) {
+            return known;
+        }
+
+        String inspectPath = versionPrefix + "/" + resource + "/" + id + "/json";
+        Request inspect = Request.builder()
+                .method(Request.Method.GET)
+                .path(inspectPath)
+                .headers(Map.of())
+                .build();
+        for (Member member : members) {
+            try (Response response = member.transport.execute(inspect)) {
+                if (response.getStatusCode() == 200) {
+                    remember(id, member);
+                    return member;
+                }
+            } catch (RuntimeException e) {
+                LOGGER.debugf(e, "Docker client group %s could not inspect %s on %s", groupName, id, member.name);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sends a request to every healthy member concurrently and buffers the responses, in member order.
+     */
+    private Map<Member, BufferedResponse> fanOut(Request request) {
+        Map<Member, CompletableFuture<BufferedResponse>> futures = new LinkedHashMap<>();
+        for (Member member : healthyOrAll()) {
+            futures.put(member, CompletableFuture.supplyAsync(
+                    () -> BufferedResponse.read(member.transport.execute(request)), scheduler));
+        }
+        try {
+            Map<Member, BufferedResponse> responses = new LinkedHashMap<>();
+            futures.forEach((member, future) -> responses.put(member, future.join()));
+            return responses;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private Member pick(String key) {
+        List<Member> candidates = healthyOrAll();
+        return switch (config.strategy()) {
+            case ROUND_ROBIN -> roundRobin(candidates);
+            case LEAST_LOADED -> candidates.stream()
+                    .min((left, right) -> Double.compare(left.load(), right.load()))
+                    .orElseThrow();
+            case CONSISTENT_HASH -> key == null ? roundRobin(candidates) : onRing(key);
+        };
+    }
+
+    private Member roundRobin(List<Member> candidates) {
+        return candidates.get(Math.floorMod(nextMember.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Walks the hash ring clockwise from the key and returns the first healthy member, so a member going down only moves
+     * the keys it owned.
+     */
+    private Member onRing(String key) {
+        long position = hash(key);
+        List<Member> walk = new ArrayList<>(ring.tailMap(position, true).values());
+        walk.addAll(ring.headMap(position, false).values());
+        return walk.stream().filter(member -> member.healthy).findFirst().orElse(walk.get(0));
+    }
+
+    private List<Member> healthyOrAll() {
+        List<Member> healthy = members.stream().filter(member -> member.healthy).toList();
+        // With every member down, requests still go out and fail with the daemon error
+        return healthy.isEmpty() ? members : healthy;
+    }
+
+    private String placementKey(Request request) {
+        if (config.strategy() != DockerPlacementStrategy.CONSISTENT_HASH) {
+            return null;
+        }
+        if (config.hashLabel().isPresent() && request.bodyBytes() != null) {
+            try {
+                String value = mapper.readTree(request.bodyBytes()).path("Labels").path(config.hashLabel().get())
+                        .asText(null);
+                if (value != null) {
+                    return value;
+                }
+            } catch (IOException e) {
+                LOGGER.debugf(e, "Docker client group %s could not read the labels of a container", groupName);
+            }
+        }
+        String name = DockerApiEndpoints.queryParameter(request.path(), "name");
+        return name == null || name.isEmpty() ? null : URLDecoder.decode(name, StandardCharsets.UTF_8);
+    }
+
+    private void remember(String id, Member member) {
+        if (id != null && !id.isEmpty()) {
+            synchronized (affinities) {
+                affinities.put(id, member);
+            }
+        }
+    }
+
+    private void forget(String id) {
+        synchronized (affinities) {
+            affinities.remove(id);
+        }
+    }
+
+    private JsonNode readTree(BufferedResponse response) {
+        try {
+            return mapper.readTree(response.getBody());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkHealth() {
+        for (Member member : members) {
+            boolean healthy;
+            try (Response response = member.transport.execute(get("/_ping"))) {
+                healthy = response.getStatusCode() == 200;
+            } catch (RuntimeException e) {
+                healthy = false;
+            }
+            if (healthy != member.healthy) {
+                member.healthy = healthy;
+                if (healthy) {
+                    LOGGER.infof("Docker client %s is back in group %s", member.name, groupName);
+                } else {
+                    LOGGER.warnf("Docker client %s is excluded from group %s until it answers again", member.name,
+                            groupName);
+                }
+            }
+        }
+    }
+
+    private void refreshLoad() {
+        for (Member member : members) {
+            if (!member.healthy) {
+                continue;
+            }
+            try (Response response = member.transport.execute(get("/info"))) {
+                if (response.getStatusCode() == 200) {
+                    JsonNode info = mapper.readTree(response.getBody());
+                    member.runningContainers = info.path("ContainersRunning").asInt();
+                    member.cpus = Math.max(1, info.path("NCPU").asInt(1));
+                    member.placed.set(0);
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debugf(e, "Docker client group %s could not read the load of %s", groupName, member.name);
+            }
+        }
+    }
+
+    private static Request get(String path) {
+        return Request.builder().method(Request.Method.GET).path(path).headers(Map.of()).build();
+    }
+
+    /**
+     * 64-bit FNV-1a with a final avalanche step, spreading similar keys such as virtual node names over the whole ring.
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Member {
+
+        private final String name;
+        private final DockerHttpClient transport;
+        private final AtomicInteger placed = new AtomicInteger();
+        private volatile boolean healthy = true;
+        private volatile int runningContainers;
+        private volatile int cpus = 1;
+
+        Member(String name, DockerHttpClient transport) {
+            this.name = name;
+            this.transport = transport;
+        }
+
+        /**
+         * Running containers per CPU, counting the containers placed since the load was last read so a burst of creations
+         * does not pile up on one member.
+         */
+        double load() {
+            return (runningContainers + placed.get()) / (double) cpus;
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package io.quarkiverse.docker.client.runtime.health;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.spi.Bean;
 
@@ -15,14 +20,15 @@ import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
 import org.eclipse.microprofile.health.Readiness;
 
-import com.github.dockerjava.api.DockerClient;
-
 import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
 import io.quarkiverse.docker.client.runtime.config.DockerClientRuntimeConfig;
+import io.quarkiverse.docker.client.runtime.config.DockerPrePullConfig;
 import io.quarkiverse.docker.client.runtime.config.DockerRuntimeConfig;
+import io.quarkiverse.docker.client.runtime.warmup.DockerImageWarmup;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
-import io.smallrye.mutiny.TimeoutException;
+import io.quarkus.runtime.StartupEvent;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -33,18 +39,26 @@ import io.smallrye.mutiny.Uni;
  * The health check:
  * </p>
  * <ul>
- * <li>Discovers all Docker clients (both default and named) at startup</li>
- * <li>Performs ping operations to verify daemon connectivity</li>
- * <li>Respects configured connection timeouts</li>
- * <li>Reports detailed status for each client</li>
+ * <li>Discovers all Docker clients (both default and named) at startup, and only resolves them on their first ping</li>
+ * <li>Pings all daemons concurrently on the clients' executors</li>
+ * <li>Bounds every ping by the client's connection timeout and the overall health check deadline</li>
+ * <li>Reports detailed status and ping latency for each client</li>
+ * <li>Optionally probes in the background and serves a cached result without I/O</li>
+ * <li>Reports clients as down while they pull their startup images, unless disabled</li>
  * </ul>
  *
  * <p>
+ * A slow or unreachable daemon is reported as such without delaying the pings of the other clients, so the whole check
+ * never takes longer than the deadline.
+ * </p>
+ *
+ * <p>
  * Configuration example:
  * </p>
  *
  * <pre>
  * quarkus.docker.health-check=true
+ * quarkus.docker.health.timeout=3s
  * quarkus.docker.connect-timeout=5s
  * </pre>
  *
@@ -57,13 +71,18 @@ public class DockerClientHealthCheck implements HealthCheck {
 
     private static final String HEALTH_CHECK_NAME = "Docker daemon connection health check";
     private static final String CLIENT_STATUS_FORMAT = "client [%s]: %s";
-    private static final String STATUS_OK = "OK";
+    private static final String LATENCY_KEY_FORMAT = "%s-latency-ms";
+    private static final String STATUS_WARMING_UP = "pulling images (%d/%d)";
     private static final String REASON_KEY = "reason";
     private static final String DEFAULT_CLIENT_DISPLAY_NAME = "default";
 
-    private final Map<String, DockerClient> clients = new HashMap<>();
+    private final Map<String, Supplier<ReactiveDockerClient>> clients = new HashMap<>();
+    private final Map<String, DockerImageWarmup> warmups = new HashMap<>();
     private final DockerRuntimeConfig config;
 
+    private volatile HealthCheckResponse cachedResponse;
+    private volatile DockerClientProber prober;
+
     public DockerClientHealthCheck(DockerRuntimeConfig config) {
         if (config == null) {
             throw new IllegalArgumentException("DockerRuntimeConfig cannot be null");
@@ -72,26 +91,91 @@ public class DockerClientHealthCheck implements HealthCheck {
     }
 
     /**
-     * Initializes the health check by discovering all Docker clients.
+     * Initializes the health check by discovering all Docker clients. The clients are not resolved yet, so lazily
+     * initialized clients are only built once they are pinged.
      * Called automatically after construction.
      */
     @PostConstruct
     protected void init() {
         Arc.container()
-                .select(DockerClient.class, Any.Literal.INSTANCE)
+                .select(ReactiveDockerClient.class, Any.Literal.INSTANCE)
                 .handles()
                 .forEach(this::registerClient);
+        Arc.container()
+                .select(DockerImageWarmup.class, Any.Literal.INSTANCE)
+                .handles()
+                .forEach(this::registerWarmup);
+
+        if (config.health().background()) {
+            prober = new DockerClientProber(clients, config.health(), name -> getProbeTimeout(name, getDeadline()),
+                    this::refreshCachedResponse);
+            refreshCachedResponse();
+            // The cached response is only refreshed by probes otherwise, which may be far apart
+            warmups.values().forEach(warmup -> warmup.start().whenComplete((result, failure) -> refreshCachedResponse()));
+        }
+    }
+
+    /**
+     * Starts background probing of every client when enabled.
+     *
+     * @param event The startup event
+     */
+    void onStart(@Observes StartupEvent event) {
+        if (prober != null) {
+            prober.start();
+        }
+    }
+
+    /**
+     * Stops background probing.
+     */
+    @PreDestroy
+    void stop() {
+        if (prober != null) {
+            prober.stop();
+        }
     }
 
     /**
      * Registers a Docker client instance with the health check.
      *
-     * @param handle The instance handle containing the Docker client
+     * @param handle The instance handle containing the reactive Docker client
      */
-    private void registerClient(InstanceHandle<DockerClient> handle) {
+    private void registerClient(InstanceHandle<ReactiveDockerClient> handle) {
         String clientName = getClientName(handle.getBean());
         String effectiveName = clientName == null ? DockerRuntimeConfig.DEFAULT_CLIENT_NAME : clientName;
-        clients.putIfAbsent(effectiveName, handle.get());
+        if (config.groups().containsKey(effectiveName)) {
+            // The members of a group are checked on their own
+            return;
+        }
+        if (!getClientConfig(effectiveName).enabled()) {
+            // Disabled clients have no instance to ping
+            return;
+        }
+        // Instance handles resolve their bean on the first call and return the same instance afterwards
+        clients.putIfAbsent(effectiveName, handle::get);
+    }
+
+    /**
+     * Registers the image warm-up of a client, if readiness waits for it. The warm-up is only resolved for clients
+     * pulling images, which are built at startup anyway.
+     *
+     * @param handle The instance handle containing the image warm-up
+     */
+    private void registerWarmup(InstanceHandle<DockerImageWarmup> handle) {
+        String clientName = getClientName(handle.getBean());
+        String effectiveName = clientName == null ? DockerRuntimeConfig.DEFAULT_CLIENT_NAME : clientName;
+        if (!clients.containsKey(effectiveName)) {
+            return;
+        }
+        DockerPrePullConfig prePull = getClientConfig(effectiveName).prePull();
+        if (!prePull.gateReadiness() || prePull.images().filter(images -> !images.isEmpty()).isEmpty()) {
+            return;
+        }
+        DockerImageWarmup warmup = handle.get();
+        if (warmup.gatesReadiness() && !warmup.images().isEmpty()) {
+            warmups.putIfAbsent(effectiveName, warmup);
+        }
     }
 
     /**
@@ -109,74 +193,128 @@ public class DockerClientHealthCheck implements HealthCheck {
     }
 
     /**
-     * Gets the configured timeout for a specific client.
+     * Gets the configuration of a specific client.
      *
      * @param name The client name
-     * @return The configured timeout duration
+     * @return The client configuration
      * @throws IllegalStateException if the client configuration cannot be found
      */
-    private Duration getTimeout(String name) {
-        DockerClientRuntimeConfig clientConfig = DockerRuntimeConfig.isDefaultClient(name)
+    private DockerClientRuntimeConfig getClientConfig(String name) {
+        return DockerRuntimeConfig.isDefaultClient(name)
                 ? config.defaultDockerClient()
                 : Optional.ofNullable(config.namedDockerClients().get(name))
                         .orElseThrow(() -> new IllegalStateException("Configuration not found for client: " + name));
+    }
 
-        return clientConfig.connectTimeout();
+    /**
+     * Gets the configured timeout for a specific client.
+     *
+     * @param name The client name
+     * @return The configured timeout duration
+     * @throws IllegalStateException if the client configuration cannot be found
+     */
+    private Duration getTimeout(String name) {
+        return getClientConfig(name).connectTimeout();
+    }
+
+    /**
+     * Gets the overall deadline of a health check, defaulting to the longest client timeout.
+     *
+     * @return The health check deadline
+     */
+    private Duration getDeadline() {
+        return config.health().timeout().orElseGet(() -> clients.keySet().stream()
+                .map(this::getTimeout)
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO));
+    }
+
+    /**
+     * Gets the ping timeout of a client, bounded by the overall deadline.
+     *
+     * @param name The client name
+     * @param deadline The overall health check deadline
+     * @return The ping timeout
+     */
+    private Duration getProbeTimeout(String name, Duration deadline) {
+        Duration timeout = getTimeout(name);
+        return timeout.compareTo(deadline) < 0 ? timeout : deadline;
     }
 
     @Override
     public HealthCheckResponse call() {
+        if (config.health().background()) {
+            return cachedResponse;
+        }
+
         HealthCheckResponseBuilder builder = HealthCheckResponse.named(HEALTH_CHECK_NAME).up();
+        if (clients.isEmpty()) {
+            return builder.build();
+        }
 
-        for (Map.Entry<String, DockerClient> entry : clients.entrySet()) {
-            String clientName = entry.getKey();
-            DockerClient client = entry.getValue();
-
-            try {
-                checkClientHealth(builder, clientName, client);
-            } catch (TimeoutException e) {
-                return createErrorResponse(builder, clientName, "timeout");
-            } catch (Exception e) {
-                return createErrorResponse(builder, clientName,
-                        e.getMessage() != null ? e.getMessage() : e.toString());
-            }
+        Duration deadline = getDeadline();
+        List<Uni<DockerClientStatus>> probes = new ArrayList<>(clients.size());
+        for (Map.Entry<String, Supplier<ReactiveDockerClient>> entry : clients.entrySet()) {
+            probes.add(DockerClientProber.ping(entry.getKey(), entry.getValue(),
+                    getProbeTimeout(entry.getKey(), deadline)));
         }
 
-        return builder.build();
+        // Every probe is bounded by its own timer and recovers from failures, so the join completes within the deadline
+        List<DockerClientStatus> statuses = Uni.join().all(probes).andFailFast().await().indefinitely();
+        return buildResponse(builder, statuses);
     }
 
     /**
-     * Checks the health of a specific Docker client.
+     * Reports a reachable client as down while it pulls the images readiness waits for.
      *
-     * @param builder The response builder
-     * @param clientName The client name
-     * @param client The Docker client to check
-     * @throws TimeoutException if the check times out
+     * @param status The ping result
+     * @return The status of the client
      */
-    private void checkClientHealth(HealthCheckResponseBuilder builder, String clientName, DockerClient client) {
-        Duration timeout = getTimeout(clientName);
-        Uni.createFrom()
-                .item(() -> client.pingCmd().exec())
-                .await()
-                .atMost(timeout);
-
-        String displayName = DockerRuntimeConfig.isDefaultClient(clientName) ? DEFAULT_CLIENT_DISPLAY_NAME : clientName;
-        builder.up().withData(displayName, String.format(CLIENT_STATUS_FORMAT, displayName, STATUS_OK));
+    private DockerClientStatus withWarmup(DockerClientStatus status) {
+        DockerImageWarmup warmup = warmups.get(status.clientName());
+        if (!status.up() || warmup == null || warmup.isDone()) {
+            return status;
+        }
+        return new DockerClientStatus(status.clientName(), false,
+                String.format(STATUS_WARMING_UP, warmup.completed(), warmup.images().size()), status.latencyMillis());
     }
 
     /**
-     * Creates an error response for a failed health check.
+     * Builds the health check response from the status of every client. The check is down if any client is down.
      *
      * @param builder The response builder
-     * @param clientName The client name
-     * @param errorMessage The error message
+     * @param statuses The status of every client
      * @return A completed HealthCheckResponse
      */
-    private HealthCheckResponse createErrorResponse(HealthCheckResponseBuilder builder,
-            String clientName,
-            String errorMessage) {
-        return builder.down()
-                .withData(REASON_KEY, String.format(CLIENT_STATUS_FORMAT, clientName, errorMessage))
-                .build();
-    }
-}
\ No newline at end of file
+    private HealthCheckResponse buildResponse(HealthCheckResponseBuilder builder, List<DockerClientStatus> statuses) {
+        DockerClientStatus firstFailure = null;
+        for (DockerClientStatus probed : statuses) {
+            DockerClientStatus status = withWarmup(probed);
+            String displayName = getDisplayName(status.clientName());
+            builder.withData(displayName, String.format(CLIENT_STATUS_FORMAT, displayName, status.message()))
+                    .withData(String.format(LATENCY_KEY_FORMAT, displayName), status.latencyMillis());
+            if (!status.up() && firstFailure == null) {
+                firstFailure = status;
+            }
+        }
+
+        if (firstFailure != null) {
+            return builder.down()
+                    .withData(REASON_KEY,
+                            String.format(CLIENT_STATUS_FORMAT, firstFailure.clientName(), firstFailure.message()))
+                    .build();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Rebuilds the response served by {@link #call()} in background mode from the effective status of every client.
+     */
+    private synchronized void refreshCachedResponse() {
+        cachedResponse = buildResponse(HealthCheckResponse.named(HEALTH_CHECK_NAME).up(), prober.statuses());
+    }
+
+    private static String getDisplayName(String clientName) {
+        return DockerRuntimeConfig.isDefaultClient(clientName) ? DEFAULT_CLIENT_DISPLAY_NAME : clientName;
+    }
+}
@@ -0,0 +1,186 @@
+package io.quarkiverse.docker.client.runtime.health;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.quarkiverse.docker.client.runtime.config.DockerHealthCheckConfig;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * Pings Docker clients in the background and keeps their effective status, so readiness can be reported without I/O.
+ *
+ * <p>
+ * Every client is pinged on its own schedule, the configured interval plus a random jitter, and the next ping is only
+ * scheduled once the previous one completed, so a slow daemon is never probed concurrently. The status of a client only
+ * flips once {@link DockerHealthCheckConfig#failureThreshold()} consecutive pings failed, or
+ * {@link DockerHealthCheckConfig#successThreshold()} consecutive pings succeeded. Clients are reported as pending until
+ * their first successful pings.
+ * </p>
+ */
+public class DockerClientProber {
+
+    static final String STATUS_OK = "OK";
+    static final String STATUS_TIMEOUT = "timeout";
+    static final String STATUS_PENDING = "pending";
+
+    private final Map<String, Supplier<ReactiveDockerClient>> clients;
+    private final Map<String, ProbeState> probeStates = new LinkedHashMap<>();
+    private final DockerHealthCheckConfig config;
+    private final Function<String, Duration> timeouts;
+    private final Runnable onChange;
+    private final Map<String, Future<?>> scheduledPings = new ConcurrentHashMap<>();
+    private final Map<String, Cancellable> runningPings = new ConcurrentHashMap<>();
+
+    private volatile boolean stopped;
+
+    /**
+     * Creates a prober.
+     *
+     * @param clients Suppliers of the clients to ping, by name, called by every ping rather than upfront
+     * @param config The health check configuration
+     * @param timeouts Function returning the ping timeout of a client
+     * @param onChange Callback run after every ping, once the status of the client is updated
+     */
+    public DockerClientProber(Map<String, Supplier<ReactiveDockerClient>> clients, DockerHealthCheckConfig config,
+            Function<String, Duration> timeouts, Runnable onChange) {
+        this.clients = clients;
+        this.config = config;
+        this.timeouts = timeouts;
+        this.onChange = onChange != null ? onChange : () -> {
+        };
+        clients.keySet().forEach(name -> probeStates.put(name, new ProbeState()));
+    }
+
+    /**
+     * Pings a Docker client on its executor. The client is built on a worker thread, within the timeout of the ping. A
+     * client that cannot be built is reported as down.
+     *
+     * @param clientName The client name
+     * @param client Supplier of the Docker client to check
+     * @param timeout The maximum time to wait for the ping
+     * @return A Uni emitting the client status, never failing
+     */
+    public static Uni<DockerClientStatus> ping(String clientName, Supplier<ReactiveDockerClient> client, Duration timeout) {
+        long start = System.nanoTime();
+        return Uni.createFrom().item(client)
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .chain(ReactiveDockerClient::ping)
+                .map(ignored -> new DockerClientStatus(clientName, true, STATUS_OK, elapsedMillis(start)))
+                .ifNoItem().after(timeout)
+                .recoverWithItem(() -> new DockerClientStatus(clientName, false, STATUS_TIMEOUT, timeout.toMillis()))
+                .onFailure()
+                .recoverWithItem(e -> new DockerClientStatus(clientName, false,
+                        e.getMessage() != null ? e.getMessage() : e.toString(), elapsedMillis(start)));
+    }
+
+    /**
+     * Starts pinging every client.
+     */
+    public void start() {
+        clients.forEach((name, client) -> schedule(name, client, 0));
+    }
+
+    /**
+     * Stops pinging. Scheduled pings are cancelled, and the results of pings in flight are discarded.
+     */
+    public void stop() {
+        stopped = true;
+        scheduledPings.values().forEach(ping -> ping.cancel(false));
+        runningPings.values().forEach(Cancellable::cancel);
+    }
+
+    /**
+     * Returns the effective status of every client.
+     *
+     * @return The client statuses, in registration order
+     */
+    public synchronized List<DockerClientStatus> statuses() {
+        List<DockerClientStatus> statuses = new ArrayList<>(probeStates.size());
+        probeStates.forEach((name, state) -> statuses.add(state.effectiveStatus(name)));
+        return statuses;
+    }
+
+    private void schedule(String clientName, Supplier<ReactiveDockerClient> client, long delayMillis) {
+        if (stopped) {
+            return;
+        }
+        scheduledPings.put(clientName, Infrastructure.getDefaultWorkerPool().schedule(
+                () -> runningPings.put(clientName, ping(clientName, client, timeouts.apply(clientName))
+                        .subscribe().with(status -> {
+                            runningPings.remove(clientName);
+                            record(status);
+                            onChange.run();
+                            schedule(clientName, client, nextDelayMillis());
+                        })),
+                delayMillis,
+                TimeUnit.MILLISECONDS));
+        // A stop racing with the scheduling did not see this ping
+        if (stopped) {
+            scheduledPings.get(clientName).cancel(false);
+        }
+    }
+
+    private long nextDelayMillis() {
+        long jitter = config.jitter().toMillis();
+        return config.interval().toMillis() + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+    }
+
+    /**
+     * Applies the result of a ping to the client state.
+     *
+     * @param status The ping result
+     */
+    private synchronized void record(DockerClientStatus status) {
+        ProbeState state = probeStates.get(status.clientName());
+        state.last = status;
+        if (status.up()) {
+            state.failures = 0;
+            state.successes++;
+            if (!state.up && state.successes >= config.successThreshold()) {
+                state.up = true;
+            }
+        } else {
+            state.successes = 0;
+            state.failures++;
+            if (state.up && state.failures >= config.failureThreshold()) {
+                state.up = false;
+            }
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+
+    /**
+     * Probing state of a client, guarded by the prober instance.
+     */
+    private static final class ProbeState {
+
+        private boolean up;
+        private int successes;
+        private int failures;
+        private DockerClientStatus last;
+
+        DockerClientStatus effectiveStatus(String clientName) {
+            if (last == null) {
+                return new DockerClientStatus(clientName, false, STATUS_PENDING, 0);
+            }
+            // A failing ping below the failure threshold keeps reporting the client as up
+            String message = up == last.up() ? last.message() : up ? STATUS_OK : STATUS_PENDING;
+            return new DockerClientStatus(clientName, up, message, last.latencyMillis());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.quarkiverse.docker.client.runtime.health;
+
+/**
+ * Status of a Docker client, as reported by the health check.
+ *
+ * @param clientName The client name
+ * @param up Whether the client is reported as up
+ * @param message {@code OK}, or the reason the client is down
+ * @param latencyMillis The latency of the last ping
+ */
+public record DockerClientStatus(String clientName, boolean up, String message, long latencyMillis) {
+}
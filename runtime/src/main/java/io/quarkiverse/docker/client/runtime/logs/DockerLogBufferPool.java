@@ -0,0 +1,79 @@
+package io.quarkiverse.docker.client.runtime.logs;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of the read and line buffers of log streams.
+ *
+ * <p>
+ * Buffers are heap buffers, so the bytes read from a response stream land in them without an intermediate copy. The pool
+ * keeps a bounded number of idle buffers: a stream takes its buffers when it opens and gives them back when it ends, so a
+ * steady number of tailed containers allocates no buffer at all.
+ * </p>
+ */
+public final class DockerLogBufferPool {
+
+    private final int bufferSize;
+    private final BlockingQueue<ByteBuffer> idle;
+    private final AtomicLong allocated = new AtomicLong();
+
+    /**
+     * Creates a pool.
+     *
+     * @param bufferSize The size of every buffer
+     * @param maxIdle The maximum number of idle buffers kept for reuse
+     */
+    public DockerLogBufferPool(int bufferSize, int maxIdle) {
+        if (bufferSize < 16) {
+            throw new IllegalArgumentException("Log buffer size must be at least 16 bytes");
+        }
+        this.bufferSize = bufferSize;
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, maxIdle));
+    }
+
+    /**
+     * Returns the size of the buffers of this pool.
+     *
+     * @return The buffer size in bytes
+     */
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns the number of buffers allocated since the pool was created.
+     *
+     * @return The number of allocated buffers
+     */
+    public long allocated() {
+        return allocated.get();
+    }
+
+    /**
+     * Takes a cleared buffer from the pool, allocating one if none is idle.
+     *
+     * @return The buffer
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = idle.poll();
+        if (buffer == null) {
+            allocated.incrementAndGet();
+            return ByteBuffer.allocate(bufferSize);
+        }
+        return buffer.clear();
+    }
+
+    /**
+     * Gives a buffer back to the pool. Buffers beyond the idle capacity are left to the garbage collector.
+     *
+     * @param buffer The buffer, or null
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer != null && buffer.capacity() == bufferSize) {
+            idle.offer(buffer);
+        }
+    }
+}
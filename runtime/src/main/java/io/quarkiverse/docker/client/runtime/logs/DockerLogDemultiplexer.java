@@ -0,0 +1,141 @@
+package io.quarkiverse.docker.client.runtime.logs;
+
+import java.nio.ByteBuffer;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.api.model.StreamType;
+
+/**
+ * Incremental decoder of the Docker stream format, handing out payloads as windows over the buffers it is fed.
+ *
+ * <p>
+ * Containers without TTY send their output as frames with an 8-byte header: the stream type, three zero bytes and the
+ * big-endian payload size. Containers with a TTY send raw bytes. The decoder keeps the state of a frame across calls to
+ * {@link #feed(ByteBuffer)}, so headers and payloads may be split anywhere, and it allocates nothing per frame.
+ * </p>
+ */
+public final class DockerLogDemultiplexer {
+
+    private static final int HEADER_SIZE = 8;
+
+    private final DockerLogListener listener;
+    private final byte[] header = new byte[HEADER_SIZE];
+    private Boolean multiplexed;
+    private int headerBytes;
+    private int remaining;
+    private StreamType stream;
+
+    /**
+     * Creates a decoder detecting the stream format from the first bytes.
+     *
+     * @param listener The listener receiving the payloads
+     */
+    public DockerLogDemultiplexer(DockerLogListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Creates a decoder of a stream whose format is known.
+     *
+     * @param listener The listener receiving the payloads
+     * @param multiplexed Whether the stream is multiplexed, false for the raw stream of a container with a TTY
+     */
+    public DockerLogDemultiplexer(DockerLogListener listener, boolean multiplexed) {
+        this.listener = listener;
+        this.multiplexed = multiplexed;
+    }
+
+    /**
+     * Adapts a line listener to the chunks of a decoder. Only lines spread over several chunks are copied, into buffers
+     * taken from the pool and given back when the stream completes or fails.
+     *
+     * @param listener The listener receiving the lines
+     * @param pool The pool of the buffers of partial lines
+     * @return A listener splitting chunks into lines
+     */
+    public static DockerLogListener lines(DockerLogLineListener listener, DockerLogBufferPool pool) {
+        return new DockerLogLineSplitter(listener, pool);
+    }
+
+    /**
+     * Decodes the bytes between the position and the limit of a buffer. The buffer is consumed: its position is moved to
+     * its limit.
+     *
+     * @param data The bytes read from the stream
+     * @throws DockerClientException if a frame header is malformed
+     */
+    public void feed(ByteBuffer data) {
+        if (multiplexed == null && data.hasRemaining()) {
+            multiplexed = looksMultiplexed(data);
+        }
+        if (Boolean.FALSE.equals(multiplexed)) {
+            deliver(StreamType.RAW, data, data.remaining());
+            return;
+        }
+
+        while (data.hasRemaining()) {
+            if (remaining == 0) {
+                int count = Math.min(HEADER_SIZE - headerBytes, data.remaining());
+                data.get(header, headerBytes, count);
+                headerBytes += count;
+                if (headerBytes < HEADER_SIZE) {
+                    return;
+                }
+                headerBytes = 0;
+                stream = streamType(header[0]);
+                remaining = (header[4] & 0xFF) << 24 | (header[5] & 0xFF) << 16 | (header[6] & 0xFF) << 8
+                        | header[7] & 0xFF;
+                if (remaining < 0) {
+                    throw new DockerClientException("Malformed Docker stream frame of " + Integer.toUnsignedString(remaining)
+                            + " bytes");
+                }
+                continue;
+            }
+            int count = Math.min(remaining, data.remaining());
+            deliver(stream, data, count);
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Hands the next bytes of a buffer to the listener, then moves past them whatever the listener did.
+     */
+    private void deliver(StreamType type, ByteBuffer data, int count) {
+        int start = data.position();
+        int limit = data.limit();
+        data.limit(start + count);
+        try {
+            listener.onChunk(type, data);
+        } finally {
+            data.limit(limit);
+            data.position(start + count);
+        }
+    }
+
+    /**
+     * Tells a multiplexed stream apart from raw output: a frame starts with a stream type from 0 to 2 followed by three zero
+     * bytes, which raw text output does not.
+     */
+    private static boolean looksMultiplexed(ByteBuffer data) {
+        int position = data.position();
+        int available = Math.min(4, data.remaining());
+        if (data.get(position) > 2 || data.get(position) < 0) {
+            return false;
+        }
+        for (int i = 1; i < available; i++) {
+            if (data.get(position + i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static StreamType streamType(byte type) {
+        return switch (type) {
+            case 0 -> StreamType.STDIN;
+            case 1 -> StreamType.STDOUT;
+            case 2 -> StreamType.STDERR;
+            default -> throw new DockerClientException("Malformed Docker stream frame of type " + type);
+        };
+    }
+}
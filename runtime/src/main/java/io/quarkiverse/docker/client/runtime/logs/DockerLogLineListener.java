@@ -0,0 +1,46 @@
+package io.quarkiverse.docker.client.runtime.logs;
+
+import java.nio.ByteBuffer;
+
+import com.github.dockerjava.api.model.StreamType;
+
+/**
+ * Receives the output of a container line by line, as views over pooled buffers instead of new strings.
+ *
+ * <p>
+ * The line buffer holds the UTF-8 bytes of the line without its line terminator. It is only valid during the call, so a
+ * listener must copy or decode the bytes it keeps, for example with {@code StandardCharsets.UTF_8.decode(line)}. Lines
+ * longer than the log buffer size are delivered in several parts. A trailing line without terminator is delivered when
+ * the stream ends.
+ * </p>
+ *
+ * <p>
+ * All methods of a listener are called from the thread reading the stream, one at a time.
+ * </p>
+ */
+@FunctionalInterface
+public interface DockerLogLineListener {
+
+    /**
+     * Receives a line.
+     *
+     * @param stream {@link StreamType#STDOUT} or {@link StreamType#STDERR}, or {@link StreamType#RAW} for containers with
+     *        a TTY
+     * @param line The bytes of the line, between the position and the limit of the buffer
+     */
+    void onLine(StreamType stream, ByteBuffer line);
+
+    /**
+     * Called once when the stream ends, after the last line.
+     */
+    default void onComplete() {
+    }
+
+    /**
+     * Called once when the stream fails, after the lines received so far.
+     *
+     * @param failure The failure
+     */
+    default void onError(Throwable failure) {
+    }
+}
@@ -0,0 +1,133 @@
+package io.quarkiverse.docker.client.runtime.logs;
+
+import java.nio.ByteBuffer;
+
+import com.github.dockerjava.api.model.StreamType;
+
+/**
+ * Splits demultiplexed output into lines, handing out views over the chunks whenever a line lies within one chunk.
+ *
+ * <p>
+ * Only lines spread over several chunks are copied, into a pooled buffer of their stream, so interleaved standard output
+ * and error keep their own partial lines.
+ * </p>
+ */
+final class DockerLogLineSplitter implements DockerLogListener {
+
+    private final DockerLogLineListener lines;
+    private final DockerLogBufferPool pool;
+    private final ByteBuffer[] partial = new ByteBuffer[StreamType.values().length];
+
+    DockerLogLineSplitter(DockerLogLineListener lines, DockerLogBufferPool pool) {
+        this.lines = lines;
+        this.pool = pool;
+    }
+
+    @Override
+    public void onChunk(StreamType stream, ByteBuffer chunk) {
+        int limit = chunk.limit();
+        int position = chunk.position();
+        try {
+            while (position < limit) {
+                int newline = indexOfNewline(chunk, position, limit);
+                if (newline < 0) {
+                    append(stream, chunk, position, limit);
+                    return;
+                }
+                ByteBuffer pending = partial[stream.ordinal()];
+                if (pending != null && pending.position() > 0) {
+                    append(stream, chunk, position, newline);
+                    emitPending(stream);
+                } else {
+                    chunk.limit(trimCarriageReturn(chunk, position, newline)).position(position);
+                    lines.onLine(stream, chunk);
+                    chunk.limit(limit);
+                }
+                position = newline + 1;
+            }
+        } finally {
+            chunk.limit(limit).position(limit);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        flush();
+        lines.onComplete();
+    }
+
+    @Override
+    public void onError(Throwable failure) {
+        flush();
+        lines.onError(failure);
+    }
+
+    /**
+     * Delivers the trailing partial lines and gives their buffers back.
+     */
+    private void flush() {
+        for (StreamType stream : StreamType.values()) {
+            ByteBuffer pending = partial[stream.ordinal()];
+            if (pending != null) {
+                if (pending.position() > 0) {
+                    emitPending(stream);
+                }
+                pool.release(pending);
+                partial[stream.ordinal()] = null;
+            }
+        }
+    }
+
+    private void append(StreamType stream, ByteBuffer chunk, int from, int to) {
+        ByteBuffer pending = partial[stream.ordinal()];
+        if (pending == null) {
+            pending = pool.acquire();
+            partial[stream.ordinal()] = pending;
+        }
+        int offset = from;
+        while (offset < to) {
+            if (!pending.hasRemaining()) {
+                // Lines longer than a buffer are delivered in parts
+                emitPending(stream);
+            }
+            int count = Math.min(pending.remaining(), to - offset);
+            pending.put(pending.position(), chunk, offset, count);
+            pending.position(pending.position() + count);
+            offset += count;
+        }
+    }
+
+    private void emitPending(StreamType stream) {
+        ByteBuffer pending = partial[stream.ordinal()];
+        pending.flip();
+        pending.limit(trimCarriageReturn(pending, 0, pending.limit()));
+        try {
+            lines.onLine(stream, pending);
+        } finally {
+            pending.clear();
+        }
+    }
+
+    private static int indexOfNewline(ByteBuffer buffer, int from, int to) {
+        if (buffer.hasArray()) {
+            byte[] array = buffer.array();
+            int offset = buffer.arrayOffset();
+            for (int i = from; i < to; i++) {
+                if (array[offset + i] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int trimCarriageReturn(ByteBuffer buffer, int from, int end) {
+        return end > from && buffer.get(end - 1) == '\r' ? end - 1 : end;
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkiverse.docker.client.runtime.logs;
+
+import java.nio.ByteBuffer;
+
+import com.github.dockerjava.api.model.StreamType;
+
+/**
+ * Receives the output of a container as it is demultiplexed, without a copy.
+ *
+ * <p>
+ * The payload buffer is a window over a pooled read buffer. It is only valid during the call and is reused as soon as the
+ * call returns, so a listener must copy the bytes it keeps. A listener may move the position of the buffer. A frame of the
+ * Docker stream may be delivered in several chunks.
+ * </p>
+ *
+ * <p>
+ * All methods of a listener are called from the thread reading the stream, one at a time.
+ * </p>
+ */
+@FunctionalInterface
+public interface DockerLogListener {
+
+    /**
+     * Receives a chunk of output.
+     *
+     * @param stream {@link StreamType#STDOUT} or {@link StreamType#STDERR}, or {@link StreamType#RAW} for containers with
+     *        a TTY
+     * @param payload The bytes of the chunk, between the position and the limit of the buffer
+     */
+    void onChunk(StreamType stream, ByteBuffer payload);
+
+    /**
+     * Called once when the stream ends, because the container stopped, the logs were read up to the end, or the stream
+     * was closed.
+     */
+    default void onComplete() {
+    }
+
+    /**
+     * Called once when the stream fails.
+     *
+     * @param failure The failure
+     */
+    default void onError(Throwable failure) {
+    }
+}
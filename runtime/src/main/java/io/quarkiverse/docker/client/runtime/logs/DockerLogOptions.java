@@ -0,0 +1,77 @@
+package io.quarkiverse.docker.client.runtime.logs;
+
+import java.time.Instant;
+
+/**
+ * Options of a container log stream.
+ *
+ * <p>
+ * Options are immutable, every {@code with} method returns a copy:
+ * </p>
+ *
+ * <pre>
+ * DockerLogOptions.defaults().withTail(100).withTimestamps(true)
+ * </pre>
+ *
+ * @param follow Whether the stream stays open and receives new output until the container stops
+ * @param stdout Whether the standard output is included
+ * @param stderr Whether the standard error is included
+ * @param timestamps Whether every line is prefixed with its RFC 3339 timestamp
+ * @param tail The number of lines from the end of the logs to start with, or a negative number for all of them
+ * @param since Only output produced from this time on is included, or null for all of it
+ */
+public record DockerLogOptions(boolean follow, boolean stdout, boolean stderr, boolean timestamps, int tail,
+        Instant since) {
+
+    /**
+     * Returns options following standard output and error, from the beginning of the logs.
+     *
+     * @return The default options
+     */
+    public static DockerLogOptions defaults() {
+        return new DockerLogOptions(true, true, true, false, -1, null);
+    }
+
+    public DockerLogOptions withFollow(boolean follow) {
+        return new DockerLogOptions(follow, stdout, stderr, timestamps, tail, since);
+    }
+
+    public DockerLogOptions withStdout(boolean stdout) {
+        return new DockerLogOptions(follow, stdout, stderr, timestamps, tail, since);
+    }
+
+    public DockerLogOptions withStderr(boolean stderr) {
+        return new DockerLogOptions(follow, stdout, stderr, timestamps, tail, since);
+    }
+
+    public DockerLogOptions withTimestamps(boolean timestamps) {
+        return new DockerLogOptions(follow, stdout, stderr, timestamps, tail, since);
+    }
+
+    public DockerLogOptions withTail(int tail) {
+        return new DockerLogOptions(follow, stdout, stderr, timestamps, tail, since);
+    }
+
+    public DockerLogOptions withSince(Instant since) {
+        return new DockerLogOptions(follow, stdout, stderr, timestamps, tail, since);
+    }
+
+    /**
+     * Returns the query string of the logs endpoint for these options.
+     */
+    String toQuery() {
+        StringBuilder query = new StringBuilder()
+                .append("follow=").append(follow ? 1 : 0)
+                .append("&stdout=").append(stdout ? 1 : 0)
+                .append("&stderr=").append(stderr ? 1 : 0)
+                .append("&timestamps=").append(timestamps ? 1 : 0)
+                .append("&tail=").append(tail < 0 ? "all" : String.valueOf(tail));
+        if (since != null) {
+            query.append("&since=").append(since.getEpochSecond());
+            if (since.getNano() != 0) {
+                query.append('.').append(String.format("%09d", since.getNano()));
+            }
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package io.quarkiverse.docker.client.runtime.logs;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+/**
+ * An open log or attach stream of a container, returned by {@link DockerLogStreamer}.
+ */
+public final class DockerLogStream implements Closeable {
+
+    private final String containerId;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile DockerHttpClient.Response response;
+    private volatile boolean closed;
+    private volatile long bytesRead;
+
+    DockerLogStream(String containerId) {
+        this.containerId = containerId;
+    }
+
+    /**
+     * Returns the container whose output is streamed.
+     *
+     * @return The container ID or name
+     */
+    public String containerId() {
+        return containerId;
+    }
+
+    /**
+     * Returns a stage completed when the stream ends or is closed, or completed exceptionally when it fails.
+     *
+     * @return The completion stage
+     */
+    public CompletionStage<Void> completion() {
+        return completion;
+    }
+
+    /**
+     * Tells whether the stream still delivers output.
+     *
+     * @return true until the stream ends, fails or is closed
+     */
+    public boolean isOpen() {
+        return !closed && !completion.isDone();
+    }
+
+    /**
+     * Returns the number of bytes read from the daemon, frame headers included.
+     *
+     * @return The number of bytes read
+     */
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Stops the stream and releases its connection. The listener is completed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        DockerHttpClient.Response current = response;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void opened(DockerHttpClient.Response response) {
+        this.response = response;
+        if (closed) {
+            response.close();
+        }
+    }
+
+    void read(int count) {
+        // Only the reading thread writes the counter
+        bytesRead += count;
+    }
+
+    void complete(Throwable failure) {
+        if (failure == null) {
+            completion.complete(null);
+        } else {
+            completion.completeExceptionally(failure);
+        }
+    }
+}
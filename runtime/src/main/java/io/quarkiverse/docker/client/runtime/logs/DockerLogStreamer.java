@@ -0,0 +1,275 @@
+package io.quarkiverse.docker.client.runtime.logs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+
+/**
+ * Streams the logs and output of containers into pooled buffers, without allocating per frame.
+ *
+ * <p>
+ * docker-java delivers every frame of a log stream as a new {@code Frame} holding a new byte array. This API reads the
+ * stream into a pooled buffer of {@code quarkus.docker.[client-name.]log-buffer-size} bytes and demultiplexes it in
+ * place: a {@link DockerLogListener} receives windows over that buffer, and a {@link DockerLogLineListener} receives
+ * lines as views, copied only when a line spans two reads. Requests go through the transport of the client, so the
+ * metrics, tracing, circuit breaker and bulkhead of the client apply.
+ * </p>
+ *
+ * <p>
+ * Every stream is read by its own thread: a virtual thread when {@code quarkus.docker.[client-name.]virtual-threads} is
+ * enabled, a platform thread otherwise. Listeners run on that thread and should not block.
+ * </p>
+ *
+ * <p>
+ * Usage example:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("production")
+ * DockerLogStreamer logs;
+ *
+ * DockerLogStream tail(String containerId) {
+ *     return logs.logLines(containerId, DockerLogOptions.defaults().withTail(100), (stream, line) -&gt; {
+ *         if (contains(line, ERROR)) {
+ *             alerts.raise(containerId, StandardCharsets.UTF_8.decode(line).toString());
+ *         }
+ *     });
+ * }
+ * </pre>
+ *
+ * @see NamedDockerClient
+ */
+public class DockerLogStreamer implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(DockerLogStreamer.class);
+    private static final String MULTIPLEXED_STREAM = "application/vnd.docker.multiplexed-stream";
+
+    private final DockerHttpClient transport;
+    private final String clientName;
+    private final String versionPrefix;
+    private final DockerLogBufferPool pool;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final Set<DockerLogStream> streams = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a log streamer.
+     *
+     * @param transport The transport of the client
+     * @param clientName The client name, used in thread names and log messages
+     * @param apiVersion The API version of the client, or null to use the version of the daemon
+     * @param pool The pool of read and line buffers
+     * @param executor The executor reading the streams, or null to read every stream on a dedicated daemon thread
+     */
+    public DockerLogStreamer(DockerHttpClient transport, String clientName, String apiVersion, DockerLogBufferPool pool,
+            Executor executor) {
+        if (transport == null || pool == null) {
+            throw new IllegalArgumentException("Transport and buffer pool cannot be null");
+        }
+        this.transport = transport;
+        this.clientName = clientName;
+        this.versionPrefix = apiVersion == null || apiVersion.isBlank() ? "" : "/v" + apiVersion;
+        this.pool = pool;
+        if (executor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            this.ownedExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "docker-log-stream-" + clientName + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = ownedExecutor;
+        } else {
+            this.ownedExecutor = null;
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * Streams the logs of a container in chunks.
+     *
+     * @param containerId The container ID or name
+     * @param options The log options
+     * @param listener The listener receiving the output
+     * @return The open stream
+     */
+    public DockerLogStream logs(String containerId, DockerLogOptions options, DockerLogListener listener) {
+        return open(containerId, logsRequest(containerId, options), listener);
+    }
+
+    /**
+     * Streams the logs of a container line by line.
+     *
+     * @param containerId The container ID or name
+     * @param options The log options
+     * @param listener The listener receiving the lines
+     * @return The open stream
+     */
+    public DockerLogStream logLines(String containerId, DockerLogOptions options, DockerLogLineListener listener) {
+        return open(containerId, logsRequest(containerId, options), DockerLogDemultiplexer.lines(listener, pool));
+    }
+
+    /**
+     * Attaches to the standard output and error of a running container, in chunks. Only the output produced from now on
+     * is received.
+     *
+     * @param containerId The container ID or name
+     * @param listener The listener receiving the output
+     * @return The open stream
+     */
+    public DockerLogStream attach(String containerId, DockerLogListener listener) {
+        return open(containerId, attachRequest(containerId), listener);
+    }
+
+    /**
+     * Attaches to the standard output and error of a running container, line by line. Only the output produced from now
+     * on is received.
+     *
+     * @param containerId The container ID or name
+     * @param listener The listener receiving the lines
+     * @return The open stream
+     */
+    public DockerLogStream attachLines(String containerId, DockerLogLineListener listener) {
+        return open(containerId, attachRequest(containerId), DockerLogDemultiplexer.lines(listener, pool));
+    }
+
+    /**
+     * Returns the number of streams currently open.
+     *
+     * @return The number of open streams
+     */
+    public int openStreams() {
+        return streams.size();
+    }
+
+    /**
+     * Returns the buffer pool of the streams.
+     *
+     * @return The buffer pool
+     */
+    public DockerLogBufferPool bufferPool() {
+        return pool;
+    }
+
+    /**
+     * Closes all open streams.
+     */
+    @Override
+    public void close() {
+        for (DockerLogStream stream : streams) {
+            stream.close();
+        }
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private DockerLogStream open(String containerId, DockerHttpClient.Request request, DockerLogListener listener) {
+        if (containerId == null || containerId.isBlank()) {
+            throw new IllegalArgumentException("Container ID cannot be empty");
+        }
+        DockerLogStream stream = new DockerLogStream(containerId);
+        streams.add(stream);
+        try {
+            executor.execute(() -> pump(stream, request, listener));
+        } catch (RuntimeException e) {
+            streams.remove(stream);
+            throw e;
+        }
+        return stream;
+    }
+
+    /**
+     * Reads a stream until it ends or is closed, feeding the listener from a pooled buffer.
+     */
+    private void pump(DockerLogStream stream, DockerHttpClient.Request request, DockerLogListener listener) {
+        ByteBuffer buffer = pool.acquire();
+        Throwable failure = null;
+        try (DockerHttpClient.Response response = transport.execute(request)) {
+            stream.opened(response);
+            checkStatus(stream.containerId(), response);
+
+            String contentType = response.getHeader("Content-Type");
+            DockerLogDemultiplexer demultiplexer = contentType != null && contentType.startsWith(MULTIPLEXED_STREAM)
+                    ? new DockerLogDemultiplexer(listener, true)
+                    : new DockerLogDemultiplexer(listener);
+            byte[] array = buffer.array();
+            int offset = buffer.arrayOffset();
+            InputStream body = response.getBody();
+            int read;
+            while (!stream.isClosed() && (read = body.read(array, offset, buffer.capacity())) >= 0) {
+                stream.read(read);
+                buffer.clear().limit(read);
+                demultiplexer.feed(buffer);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Closing the stream aborts the read, which is not a failure
+            if (!stream.isClosed()) {
+                failure = e;
+            }
+        } finally {
+            pool.release(buffer);
+            streams.remove(stream);
+        }
+
+        try {
+            if (failure == null) {
+                listener.onComplete();
+            } else {
+                LOGGER.debugf(failure, "Log stream of container %s on Docker client %s failed", stream.containerId(),
+                        clientName);
+                listener.onError(failure);
+            }
+        } finally {
+            stream.complete(failure);
+        }
+    }
+
+    private static void checkStatus(String containerId, DockerHttpClient.Response response) throws IOException {
+        int status = response.getStatusCode();
+        if (status < 400) {
+            return;
+        }
+        String message;
+        try (InputStream body = response.getBody()) {
+            message = body == null ? "" : new String(body.readNBytes(4096), StandardCharsets.UTF_8);
+        }
+        if (status == 404) {
+            throw new NotFoundException(String.format("Status 404: %s", message));
+        }
+        throw new DockerException(String.format("Status %d: %s", status, message), status);
+    }
+
+    private DockerHttpClient.Request logsRequest(String containerId, DockerLogOptions options) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(versionPrefix + "/containers/" + containerId + "/logs?" + options.toQuery())
+                .headers(Map.of())
+                .build();
+    }
+
+    private DockerHttpClient.Request attachRequest(String containerId) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.POST)
+                .path(versionPrefix + "/containers/" + containerId + "/attach?stream=1&stdout=1&stderr=1")
+                .headers(Map.of())
+                .build();
+    }
+}
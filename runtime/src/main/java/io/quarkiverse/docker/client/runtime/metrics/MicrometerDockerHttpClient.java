@@ -0,0 +1,258 @@
+package io.quarkiverse.docker.client.runtime.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.quarkiverse.docker.client.runtime.config.DockerRuntimeConfig;
+import io.quarkiverse.docker.client.runtime.transport.CountingInputStream;
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+
+/**
+ * Docker transport decorator recording Micrometer metrics for every Docker API call.
+ *
+ * <p>
+ * The following meters are registered, all tagged with {@code client}, {@code method} and {@code endpoint}:
+ * </p>
+ * <ul>
+ * <li>{@code docker.client.requests}: timer measuring the time until the response headers are received, additionally
+ * tagged with the {@code status} code or {@code IO_ERROR}</li>
+ * <li>{@code docker.client.requests.active}: gauge of the requests waiting for their response headers</li>
+ * <li>{@code docker.client.errors}: counter of failed requests and error responses, additionally tagged with the
+ * {@code error} status code or exception type</li>
+ * <li>{@code docker.client.request.size}: summary of the bytes sent in request bodies</li>
+ * <li>{@code docker.client.response.size}: summary of the bytes read from response bodies, recorded when the body is
+ * closed</li>
+ * <li>{@code docker.client.requests.coalesced}: counter of calls that shared an identical in-flight call, tagged with
+ * {@code client} and {@code endpoint} only</li>
+ * </ul>
+ *
+ * <p>
+ * The {@code endpoint} tag is a template from {@link DockerApiEndpoints}, so container IDs and image names never end up
+ * in tags. Timers stop at the response headers, so long-lived streams such as logs or events do not skew latencies.
+ * </p>
+ *
+ * <p>
+ * The static factories without a registry parameter use the global registry, which Quarkus binds to its registries. Their
+ * signatures do not mention Micrometer types, so callers only load Micrometer classes when metrics are enabled.
+ * </p>
+ */
+public class MicrometerDockerHttpClient implements DockerHttpClient {
+
+    static final String REQUESTS = "docker.client.requests";
+    static final String ACTIVE_REQUESTS = "docker.client.requests.active";
+    static final String ERRORS = "docker.client.errors";
+    static final String REQUEST_SIZE = "docker.client.request.size";
+    static final String RESPONSE_SIZE = "docker.client.response.size";
+    static final String COALESCED_REQUESTS = "docker.client.requests.coalesced";
+
+    private static final String IO_ERROR = "IO_ERROR";
+
+    private final DockerHttpClient delegate;
+    private final MeterRegistry registry;
+    private final String clientName;
+    private final Map<Tags, AtomicInteger> activeRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a metrics decorator.
+     *
+     * @param delegate The transport to decorate
+     * @param registry The registry receiving the meters
+     * @param clientName The Docker client name, used as {@code client} tag
+     */
+    public MicrometerDockerHttpClient(DockerHttpClient delegate, MeterRegistry registry, String clientName) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.clientName = clientName;
+    }
+
+    /**
+     * Creates a function decorating transports with a metrics decorator registering its meters in the global registry.
+     *
+     * @param clientName The Docker client name, used as {@code client} tag
+     * @return The transport decorator
+     */
+    public static UnaryOperator<DockerHttpClient> decorator(String clientName) {
+        return transport -> new MicrometerDockerHttpClient(transport, Metrics.globalRegistry, clientName);
+    }
+
+    /**
+     * Creates a callback counting coalesced calls in the global registry.
+     *
+     * @param clientName The Docker client name, used as {@code client} tag
+     * @return Callback accepting the endpoint template of every coalesced call
+     */
+    public static Consumer<String> coalescedRequestsCounter(String clientName) {
+        return coalescedRequestsCounter(Metrics.globalRegistry, clientName);
+    }
+
+    /**
+     * Creates a callback counting calls that were coalesced with an identical in-flight call.
+     *
+     * @param registry The registry receiving the counter
+     * @param clientName The Docker client name, used as {@code client} tag
+     * @return Callback accepting the endpoint template of every coalesced call
+     */
+    public static Consumer<String> coalescedRequestsCounter(MeterRegistry registry, String clientName) {
+        String client = clientName == null ? DockerRuntimeConfig.DEFAULT_CLIENT_NAME : clientName;
+        return endpoint -> Counter.builder(COALESCED_REQUESTS)
+                .tags("client", client, "endpoint", endpoint)
+                .register(registry)
+                .increment();
+    }
+
+    @Override
+    public Response execute(Request request) {
+        Tags tags = Tags.of(
+                "client", clientName == null ? DockerRuntimeConfig.DEFAULT_CLIENT_NAME : clientName,
+                "method", request.method(),
+                "endpoint", DockerApiEndpoints.template(request.path()));
+
+        Request counted = countRequestBody(request, tags);
+        AtomicInteger active = activeRequests.computeIfAbsent(tags, this::registerActiveGauge);
+        active.incrementAndGet();
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = delegate.execute(counted);
+        } catch (RuntimeException e) {
+            record(tags, start, IO_ERROR, e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            active.decrementAndGet();
+        }
+
+        int statusCode = response.getStatusCode();
+        String status = Integer.toString(statusCode);
+        record(tags, start, status, statusCode >= 400 ? status : null);
+        return new MeteredResponse(response, DistributionSummary.builder(RESPONSE_SIZE)
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry));
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private Request countRequestBody(Request request, Tags tags) {
+        DistributionSummary requestSize = DistributionSummary.builder(REQUEST_SIZE)
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry);
+
+        byte[] bodyBytes = request.bodyBytes();
+        if (bodyBytes != null) {
+            requestSize.record(bodyBytes.length);
+            return request;
+        }
+        InputStream body = request.body();
+        if (body == null) {
+            return request;
+        }
+        // Streamed bodies such as build contexts are counted as the transport consumes them
+        return Request.builder()
+                .from(request)
+                .body(new CountingInputStream(body, requestSize::record))
+                .build();
+    }
+
+    private AtomicInteger registerActiveGauge(Tags tags) {
+        AtomicInteger active = new AtomicInteger();
+        Gauge.builder(ACTIVE_REQUESTS, active, AtomicInteger::get)
+                .tags(tags)
+                .register(registry);
+        return active;
+    }
+
+    private void record(Tags tags, long startNanos, String status, String error) {
+        Timer.builder(REQUESTS)
+                .tags(tags)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (error != null) {
+            Counter.builder(ERRORS)
+                    .tags(tags)
+                    .tag("error", error)
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    /**
+     * Response counting the bytes read from its body.
+     */
+    private static final class MeteredResponse implements Response {
+
+        private final Response delegate;
+        private final DistributionSummary responseSize;
+        private volatile CountingInputStream body;
+
+        MeteredResponse(Response delegate, DistributionSummary responseSize) {
+            this.delegate = delegate;
+            this.responseSize = responseSize;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return delegate.getHeader(name);
+        }
+
+        @Override
+        public InputStream getBody() {
+            CountingInputStream current = body;
+            if (current == null) {
+                synchronized (this) {
+                    current = body;
+                    if (current == null) {
+                        current = new CountingInputStream(delegate.getBody(), responseSize::record);
+                        body = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        @Override
+        public void close() {
+            // The delegate decides whether the rest of the body is drained or aborted, the count is reported afterwards
+            delegate.close();
+            CountingInputStream current = body;
+            if (current != null) {
+                try {
+                    current.close();
+                } catch (IOException e) {
+                    // The response is already closed, nothing left to release
+                }
+            }
+        }
+    }
+}
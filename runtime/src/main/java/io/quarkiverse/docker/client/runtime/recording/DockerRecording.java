@@ -0,0 +1,263 @@
+package io.quarkiverse.docker.client.runtime.recording;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk format of the traffic recorded between a Docker client and its daemon.
+ *
+ * <p>
+ * A recording is a gzip stream starting with a magic number and a format version, followed by one record per exchange in
+ * the order the exchanges completed. Each record holds the request method, path and in-memory body, the response status
+ * and headers, and the response body as the frames it was received in. All timings are in nanoseconds: the start of an
+ * exchange is relative to the start of the recording, the other ones to the start of the exchange.
+ * </p>
+ *
+ * <p>
+ * The stream is flushed after every record, so a recording cut short by a crash can still be read up to its last complete
+ * record.
+ * </p>
+ */
+public final class DockerRecording {
+
+    private static final int MAGIC = 0x444B5252;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private DockerRecording() {
+    }
+
+    /**
+     * A frame of a response body, as it was received from the daemon.
+     *
+     * @param offsetNanos Time between the start of the exchange and the frame
+     * @param data The bytes of the frame
+     */
+    public record Frame(long offsetNanos, byte[] data) {
+    }
+
+    /**
+     * A recorded exchange.
+     *
+     * @param startNanos Time between the start of the recording and the request
+     * @param method The request method
+     * @param path The request path, with its query string
+     * @param requestBody The in-memory request body, or null if the request had none or streamed it
+     * @param statusCode The response status, or 0 if the call failed without response
+     * @param headers The response headers
+     * @param responseNanos Time between the request and the response status
+     * @param frames The frames of the response body that were read
+     * @param endNanos Time between the request and the closing of the response
+     * @param error The message of the failure of the call, or null if it succeeded
+     */
+    public record Exchange(long startNanos, String method, String path, byte[] requestBody, int statusCode,
+            Map<String, List<String>> headers, long responseNanos, List<Frame> frames, long endNanos, String error) {
+    }
+
+    /**
+     * Reads all the exchanges of a recording.
+     *
+     * @param file The recording file
+     * @return The exchanges, in the order they were recorded
+     * @throws UncheckedIOException if the file cannot be read or is not a recording
+     */
+    public static List<Exchange> read(Path file) {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a Docker recording");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported Docker recording version " + version);
+            }
+
+            List<Exchange> exchanges = new ArrayList<>();
+            while (true) {
+                Exchange exchange;
+                try {
+                    exchange = readExchange(in);
+                } catch (EOFException e) {
+                    // End of the recording, or a record cut short by a crash
+                    return exchanges;
+                }
+                exchanges.add(exchange);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read Docker recording " + file, e);
+        }
+    }
+
+    /**
+     * Creates a recording, replacing the file if it exists.
+     *
+     * @param file The recording file
+     * @return The writer of the recording
+     * @throws UncheckedIOException if the file cannot be created
+     */
+    public static Writer create(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            return new Writer(Files.newOutputStream(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create Docker recording " + file, e);
+        }
+    }
+
+    /**
+     * Appends exchanges to a recording. Exchanges may be written from any thread.
+     */
+    public static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private final long originNanos = System.nanoTime();
+        private boolean closed;
+
+        private Writer(OutputStream file) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(file, BUFFER_SIZE, true),
+                    BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.flush();
+        }
+
+        /**
+         * Returns the time elapsed since the recording started.
+         *
+         * @param nanoTime A {@link System#nanoTime()} value
+         * @return The offset of the value in the recording
+         */
+        public long offset(long nanoTime) {
+            return nanoTime - originNanos;
+        }
+
+        /**
+         * Appends an exchange. Exchanges written after the recording is closed are dropped.
+         *
+         * @param exchange The exchange
+         * @throws UncheckedIOException if the exchange cannot be written
+         */
+        public synchronized void write(Exchange exchange) {
+            if (closed) {
+                return;
+            }
+            try {
+                writeExchange(out, exchange);
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to write Docker recording", e);
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                out.close();
+            }
+        }
+    }
+
+    private static void writeExchange(DataOutputStream out, Exchange exchange) throws IOException {
+        out.writeLong(exchange.startNanos());
+        writeString(out, exchange.method());
+        writeString(out, exchange.path());
+        writeBytes(out, exchange.requestBody());
+        out.writeShort(exchange.statusCode());
+        out.writeLong(exchange.responseNanos());
+        out.writeInt(exchange.headers().size());
+        for (Map.Entry<String, List<String>> header : exchange.headers().entrySet()) {
+            writeString(out, header.getKey());
+            out.writeInt(header.getValue().size());
+            for (String value : header.getValue()) {
+                writeString(out, value);
+            }
+        }
+        out.writeInt(exchange.frames().size());
+        for (Frame frame : exchange.frames()) {
+            out.writeLong(frame.offsetNanos());
+            writeBytes(out, frame.data());
+        }
+        out.writeLong(exchange.endNanos());
+        writeString(out, exchange.error());
+    }
+
+    private static Exchange readExchange(DataInputStream in) throws IOException {
+        long startNanos = in.readLong();
+        String method = readString(in);
+        String path = readString(in);
+        byte[] requestBody = readBytes(in);
+        int statusCode = in.readUnsignedShort();
+        long responseNanos = in.readLong();
+        int headerCount = in.readInt();
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            String name = readString(in);
+            int valueCount = in.readInt();
+            List<String> values = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(readString(in));
+            }
+            headers.put(name, List.copyOf(values));
+        }
+        int frameCount = in.readInt();
+        List<Frame> frames = new ArrayList<>(frameCount);
+        for (int i = 0; i < frameCount; i++) {
+            frames.add(new Frame(in.readLong(), readBytes(in)));
+        }
+        long endNanos = in.readLong();
+        String error = readString(in);
+        return new Exchange(startNanos, method, path, requestBody, statusCode, headers, responseNanos, frames, endNanos,
+                error);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a length-prefixed byte array, -1 standing for null.
+     */
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,26 @@
+package io.quarkiverse.docker.client.runtime.recording;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+
+/**
+ * Thrown when a Docker client in replay mode cannot answer a request from its recording, or replays a call that failed
+ * when it was recorded.
+ */
+public class DockerReplayException extends DockerClientException {
+
+    private final String clientName;
+
+    public DockerReplayException(String clientName, String message) {
+        super(String.format("Replay of Docker client %s: %s", clientName, message));
+        this.clientName = clientName;
+    }
+
+    /**
+     * Returns the name of the replaying client.
+     *
+     * @return The client name
+     */
+    public String getClientName() {
+        return clientName;
+    }
+}
@@ -0,0 +1,186 @@
+package io.quarkiverse.docker.client.runtime.recording;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+/**
+ * Docker transport decorator recording the traffic with the daemon to a {@link DockerRecording}.
+ *
+ * <p>
+ * An exchange is written once its response is closed, with the response body as the frames the caller read. Reads less
+ * than a millisecond apart are merged into one frame, so buffered bodies take a few frames while streams keep their
+ * timing. Streamed request bodies such as build contexts, and the input of hijacked connections, are not recorded.
+ * </p>
+ */
+public class RecordingDockerHttpClient implements DockerHttpClient {
+
+    private static final long MERGE_WINDOW_NANOS = 1_000_000;
+
+    private final DockerHttpClient delegate;
+    private final DockerRecording.Writer writer;
+
+    /**
+     * Creates a recording decorator.
+     *
+     * @param delegate The transport to decorate
+     * @param writer The recording to append exchanges to, closed with this transport
+     */
+    public RecordingDockerHttpClient(DockerHttpClient delegate, DockerRecording.Writer writer) {
+        this.delegate = delegate;
+        this.writer = writer;
+    }
+
+    @Override
+    public Response execute(Request request) {
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = delegate.execute(request);
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - start;
+            writer.write(new DockerRecording.Exchange(writer.offset(start), request.method(), request.path(),
+                    request.bodyBytes(), 0, Map.of(), elapsed, List.of(), elapsed, String.valueOf(e.getMessage())));
+            throw e;
+        }
+        return new RecordedResponse(response, request, start, System.nanoTime() - start);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            delegate.close();
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Response capturing the body read through it, and writing the exchange when closed.
+     */
+    private final class RecordedResponse implements Response {
+
+        private final Response delegate;
+        private final Request request;
+        private final long start;
+        private final long responseNanos;
+        private final List<DockerRecording.Frame> frames = new ArrayList<>();
+        private final AtomicBoolean written = new AtomicBoolean();
+        private ByteArrayOutputStream frame;
+        private long frameOffset;
+        private long lastReadNanos;
+        private InputStream body;
+
+        RecordedResponse(Response delegate, Request request, long start, long responseNanos) {
+            this.delegate = delegate;
+            this.request = request;
+            this.start = start;
+            this.responseNanos = responseNanos;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return delegate.getHeader(name);
+        }
+
+        @Override
+        public synchronized InputStream getBody() {
+            if (body == null) {
+                InputStream delegateBody = delegate.getBody();
+                body = delegateBody == null ? null : new CapturingInputStream(delegateBody);
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (written.compareAndSet(false, true)) {
+                    writer.write(exchange());
+                }
+            }
+        }
+
+        private synchronized DockerRecording.Exchange exchange() {
+            flushFrame();
+            return new DockerRecording.Exchange(writer.offset(start), request.method(), request.path(),
+                    request.bodyBytes(), delegate.getStatusCode(), Map.copyOf(delegate.getHeaders()), responseNanos,
+                    List.copyOf(frames), System.nanoTime() - start, null);
+        }
+
+        private synchronized void captured(byte[] data, int offset, int length) {
+            long now = System.nanoTime();
+            if (frame == null || now - lastReadNanos > MERGE_WINDOW_NANOS) {
+                flushFrame();
+                frame = new ByteArrayOutputStream(Math.max(length, 256));
+                frameOffset = now - start;
+            }
+            frame.write(data, offset, length);
+            lastReadNanos = now;
+        }
+
+        private void flushFrame() {
+            if (frame != null && frame.size() > 0) {
+                frames.add(new DockerRecording.Frame(frameOffset, frame.toByteArray()));
+            }
+            frame = null;
+        }
+
+        private final class CapturingInputStream extends FilterInputStream {
+
+            CapturingInputStream(InputStream delegate) {
+                super(delegate);
+            }
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    captured(new byte[] { (byte) b }, 0, 1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read > 0) {
+                    captured(b, off, read);
+                }
+                return read;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                // Skipped bytes are read, so they are part of the recording
+                byte[] skipped = new byte[(int) Math.min(n, 8192)];
+                int read = read(skipped, 0, skipped.length);
+                return Math.max(read, 0);
+            }
+
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        }
+    }
+}
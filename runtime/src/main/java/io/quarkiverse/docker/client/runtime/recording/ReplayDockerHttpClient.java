@@ -0,0 +1,255 @@
+package io.quarkiverse.docker.client.runtime.recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+
+/**
+ * Docker transport serving the responses of a {@link DockerRecording} instead of calling a daemon.
+ *
+ * <p>
+ * A request is answered with the next recorded exchange having the same method and path, ignoring the API version
+ * prefix. When there is none, for example because the path holds a generated name, the next exchange of the same
+ * endpoint is used, as told by {@link DockerApiEndpoints#template}. Exchanges are served in recording order and start
+ * over once all of them were served, so a recording can be replayed in a loop. Requests without any matching exchange
+ * fail with a {@link DockerReplayException}.
+ * </p>
+ *
+ * <p>
+ * The response status and every frame of the body are delivered after their recorded delay, multiplied by the time
+ * scale. The time between consecutive requests is up to the caller. The decorated transport is never called, it is only
+ * closed with this one.
+ * </p>
+ */
+public class ReplayDockerHttpClient implements DockerHttpClient {
+
+    private static final Pattern VERSION_PREFIX = Pattern.compile("^/v\\d+(\\.\\d+)?(?=/|$)");
+
+    private final DockerHttpClient delegate;
+    private final String clientName;
+    private final double timeScale;
+    private final Map<String, Cursor> byPath = new HashMap<>();
+    private final Map<String, Cursor> byEndpoint = new HashMap<>();
+
+    /**
+     * Creates a replaying transport.
+     *
+     * @param delegate The transport replaced by the recording
+     * @param clientName The name of the client, used in exceptions
+     * @param exchanges The recorded exchanges, in recording order
+     * @param timeScale The factor applied to recorded delays, 0 to serve responses without delay
+     */
+    public ReplayDockerHttpClient(DockerHttpClient delegate, String clientName, List<DockerRecording.Exchange> exchanges,
+            double timeScale) {
+        this.delegate = delegate;
+        this.clientName = clientName;
+        this.timeScale = Math.max(0, timeScale);
+        // Exchanges are written when they complete, they are served in the order they started
+        List<DockerRecording.Exchange> ordered = new ArrayList<>(exchanges);
+        ordered.sort((a, b) -> Long.compare(a.startNanos(), b.startNanos()));
+        for (DockerRecording.Exchange exchange : ordered) {
+            byPath.computeIfAbsent(pathKey(exchange.method(), exchange.path()), k -> new Cursor()).exchanges.add(exchange);
+            byEndpoint.computeIfAbsent(endpointKey(exchange.method(), exchange.path()), k -> new Cursor()).exchanges
+                    .add(exchange);
+        }
+    }
+
+    /**
+     * Returns the number of distinct request paths in the recording.
+     *
+     * @return The number of recorded paths
+     */
+    public int recordedPaths() {
+        return byPath.size();
+    }
+
+    @Override
+    public Response execute(Request request) {
+        String method = request.method();
+        Cursor cursor = byPath.get(pathKey(method, request.path()));
+        if (cursor == null) {
+            cursor = byEndpoint.get(endpointKey(method, request.path()));
+        }
+        if (cursor == null) {
+            throw new DockerReplayException(clientName,
+                    String.format("no recorded exchange for %s %s", method, request.path()));
+        }
+
+        DockerRecording.Exchange exchange = cursor.next();
+        long start = System.nanoTime();
+        sleepUntil(start, exchange.responseNanos());
+        if (exchange.statusCode() == 0) {
+            throw new DockerReplayException(clientName,
+                    String.format("recorded failure of %s %s: %s", method, request.path(), exchange.error()));
+        }
+        return new ReplayedResponse(exchange, start);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private static String pathKey(String method, String path) {
+        return method + " " + VERSION_PREFIX.matcher(path).replaceFirst("");
+    }
+
+    private static String endpointKey(String method, String path) {
+        return method + " " + DockerApiEndpoints.template(path);
+    }
+
+    private void sleepUntil(long start, long recordedNanos) {
+        long remaining = start + scaled(recordedNanos) - System.nanoTime();
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DockerReplayException(clientName, "interrupted");
+            }
+        }
+    }
+
+    private long scaled(long nanos) {
+        return (long) (nanos * timeScale);
+    }
+
+    private static final class Cursor {
+
+        private final List<DockerRecording.Exchange> exchanges = new ArrayList<>();
+        private final AtomicInteger next = new AtomicInteger();
+
+        DockerRecording.Exchange next() {
+            return exchanges.get(Math.floorMod(next.getAndIncrement(), exchanges.size()));
+        }
+    }
+
+    private final class ReplayedResponse implements Response {
+
+        private final DockerRecording.Exchange exchange;
+        private final long start;
+        private InputStream body;
+
+        ReplayedResponse(DockerRecording.Exchange exchange, long start) {
+            this.exchange = exchange;
+            this.start = start;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return exchange.statusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return exchange.headers();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            for (Map.Entry<String, List<String>> entry : exchange.headers().entrySet()) {
+                if (name.equalsIgnoreCase(entry.getKey()) && !entry.getValue().isEmpty()) {
+                    return entry.getValue().get(0);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public synchronized InputStream getBody() {
+            if (body == null) {
+                body = new FrameInputStream(exchange.frames(), start);
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to release, the body is in memory
+        }
+    }
+
+    /**
+     * Body delivering every recorded frame once its scaled delay elapsed.
+     */
+    private final class FrameInputStream extends InputStream {
+
+        private final List<DockerRecording.Frame> frames;
+        private final long start;
+        private int frame;
+        private int position;
+        private volatile boolean closed;
+
+        FrameInputStream(List<DockerRecording.Frame> frames, long start) {
+            this.frames = frames;
+            this.start = start;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (!closed && frame < frames.size() && position == frames.get(frame).data().length) {
+                frame++;
+                position = 0;
+            }
+            if (closed || frame == frames.size()) {
+                return -1;
+            }
+
+            DockerRecording.Frame current = frames.get(frame);
+            if (position == 0) {
+                awaitFrame(current);
+            }
+            int read = Math.min(len, current.data().length - position);
+            System.arraycopy(current.data(), position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            if (closed || frame == frames.size()) {
+                return 0;
+            }
+            DockerRecording.Frame current = frames.get(frame);
+            boolean due = System.nanoTime() >= start + scaled(current.offsetNanos());
+            return position > 0 || due ? current.data().length - position : 0;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private void awaitFrame(DockerRecording.Frame current) throws InterruptedIOException {
+            long remaining = start + scaled(current.offsetNanos()) - System.nanoTime();
+            if (remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while replaying a Docker response");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package io.quarkiverse.docker.client.runtime.state;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.quarkiverse.docker.client.runtime.events.DockerEventFilter;
+import io.quarkiverse.docker.client.runtime.events.DockerEventStream;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * In-memory mirror of the containers of a Docker daemon, kept up to date from the {@code /events} stream.
+ *
+ * <p>
+ * The mirror starts from one full container list and then refreshes single containers when their events arrive, so
+ * lookups never reach the daemon:
+ * </p>
+ * <ul>
+ * <li>{@link #findById(String)} and {@link #findByName(String)} are constant-time map lookups</li>
+ * <li>{@link #findByLabels(Map)} intersects a label index instead of scanning all containers</li>
+ * <li>{@link #snapshot()} returns a consistent copy of all containers</li>
+ * </ul>
+ *
+ * <p>
+ * Events received while the full list is loading are replayed once it completed. If events were dropped or the events
+ * subscription failed, the mirror reloads the full list. A reload builds new indexes and swaps them in at once, so
+ * lookups keep seeing the previous state until the new one is complete.
+ * </p>
+ *
+ * <p>
+ * Usage example:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("production")
+ * ContainerStateMirror containers;
+ *
+ * public List&lt;Container&gt; workers() {
+ *     return containers.findByLabels(Map.of("app", "orders", "role", "worker"));
+ * }
+ * </pre>
+ *
+ * @see NamedDockerClient
+ * @see DockerEventStream
+ */
+public class ContainerStateMirror implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(ContainerStateMirror.class);
+
+    private static final Duration RESYNC_DELAY = Duration.ofSeconds(1);
+    private static final int MAX_TOMBSTONES = 10_000;
+    private static final String DESTROY = "destroy";
+
+    /**
+     * Container event actions that change the listed state of a container, matched as prefixes so that
+     * {@code health_status: healthy} is included.
+     */
+    private static final List<String> STATE_ACTIONS = List.of(
+            "create", "start", "restart", "stop", "die", "kill", "pause", "unpause", "oom", "rename", "update",
+            "health_status", DESTROY);
+
+    private final ReactiveDockerClient client;
+    private final DockerEventStream events;
+    private final String clientName;
+
+    private final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    private final Map<String, Boolean> tombstones = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_TOMBSTONES;
+        }
+    };
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+
+    private volatile Index index = new Index();
+    private List<Event> bufferedEvents = new ArrayList<>();
+    private Cancellable subscription;
+    private long knownDroppedEvents;
+    private boolean resyncPending;
+    private volatile boolean closed;
+
+    /**
+     * Creates a mirror and starts loading it.
+     *
+     * @param client The client of the mirrored daemon
+     * @param events The events stream of the client, closed with the mirror
+     * @param clientName The client name, used in log messages
+     */
+    public ContainerStateMirror(ReactiveDockerClient client, DockerEventStream events, String clientName) {
+        if (client == null || events == null) {
+            throw new IllegalArgumentException("ReactiveDockerClient and DockerEventStream cannot be null");
+        }
+        this.client = client;
+        this.events = events;
+        this.clientName = clientName;
+        synchronize();
+    }
+
+    /**
+     * Returns a Uni completing once the initial container list has been loaded.
+     *
+     * @return A Uni completing when the mirror is ready
+     */
+    public Uni<Void> ready() {
+        return Uni.createFrom().completionStage(ready);
+    }
+
+    /**
+     * Determines whether the initial container list has been loaded.
+     *
+     * @return true once the mirror serves the daemon state
+     */
+    public boolean isReady() {
+        return ready.isDone() && !ready.isCompletedExceptionally();
+    }
+
+    /**
+     * Looks a container up by its full ID.
+     *
+     * @param id The full container ID
+     * @return The container, if known
+     */
+    public Optional<Container> findById(String id) {
+        return Optional.ofNullable(index.byId().get(id));
+    }
+
+    /**
+     * Looks a container up by its name, with or without the leading slash.
+     *
+     * @param name The container name
+     * @return The container, if known
+     */
+    public Optional<Container> findByName(String name) {
+        Index current = index;
+        String id = current.idByName().get(normalizeName(name));
+        return id == null ? Optional.empty() : Optional.ofNullable(current.byId().get(id));
+    }
+
+    /**
+     * Finds the containers carrying a label.
+     *
+     * @param key The label key
+     * @param value The label value, or null to match any value
+     * @return The matching containers
+     */
+    public List<Container> findByLabel(String key, String value) {
+        return findByLabels(Collections.singletonMap(key, value));
+    }
+
+    /**
+     * Finds the containers matching all label selectors. A null selector value matches any value of the label.
+     *
+     * @param selector Label keys and values to match
+     * @return The matching containers
+     */
+    public List<Container> findByLabels(Map<String, String> selector) {
+        Index current = index;
+        if (selector.isEmpty()) {
+            return List.copyOf(current.byId().values());
+        }
+
+        List<Set<String>> candidates = new ArrayList<>(selector.size());
+        for (Map.Entry<String, String> entry : selector.entrySet()) {
+            Set<String> ids = current.idsWithLabel(entry.getKey(), entry.getValue());
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            candidates.add(ids);
+        }
+        // Intersect starting from the most selective label
+        candidates.sort(Comparator.comparingInt(Set::size));
+
+        List<Container> result = new ArrayList<>();
+        for (String id : candidates.get(0)) {
+            if (candidates.stream().skip(1).allMatch(ids -> ids.contains(id))) {
+                Container container = current.byId().get(id);
+                if (container != null && matches(container, selector)) {
+                    result.add(container);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a consistent copy of all mirrored containers.
+     *
+     * @return The containers by ID
+     */
+    public synchronized Map<String, Container> snapshot() {
+        return Map.copyOf(index.byId());
+    }
+
+    @Override
+    public void close() {
+        Cancellable current;
+        synchronized (this) {
+            closed = true;
+            current = subscription;
+            subscription = null;
+        }
+        if (current != null) {
+            current.cancel();
+        }
+        events.close();
+        ready.completeExceptionally(new IllegalStateException("Container state mirror closed"));
+    }
+
+    /**
+     * Subscribes to container events and loads the full container list. Events received until the list is loaded are
+     * buffered and replayed afterwards.
+     */
+    private void synchronize() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            resyncPending = false;
+            bufferedEvents = new ArrayList<>();
+            knownDroppedEvents = events.droppedEvents();
+            if (subscription == null) {
+                subscription = events.events(DockerEventFilter.none().withTypes("container"))
+                        .subscribe().with(this::onEvent, this::onEventsFailure);
+            }
+        }
+
+        client.listContainers(true).subscribe().with(this::load, failure -> {
+            LOGGER.warnf(failure, "Unable to list the containers of Docker client %s, retrying", clientName);
+            scheduleResync();
+        });
+    }
+
+    private void scheduleResync() {
+        if (!closed) {
+            Infrastructure.getDefaultWorkerPool().schedule(this::synchronize, RESYNC_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void load(List<Container> containers) {
+        Index loaded = new Index();
+        containers.forEach(loaded::put);
+
+        List<Event> replay = bufferedEvents != null ? bufferedEvents : List.of();
+        bufferedEvents = null;
+        replay.forEach(event -> apply(loaded, event));
+        index = loaded;
+
+        LOGGER.debugf("Mirrored %d containers of Docker client %s", containers.size(), clientName);
+        ready.complete(null);
+    }
+
+    private synchronized void onEvent(Event event) {
+        if (events.droppedEvents() != knownDroppedEvents) {
+            LOGGER.infof("Container events of Docker client %s were dropped, reloading all containers", clientName);
+            synchronizeLater();
+            return;
+        }
+        if (bufferedEvents != null) {
+            bufferedEvents.add(event);
+        } else {
+            apply(index, event);
+        }
+    }
+
+    private synchronized void onEventsFailure(Throwable failure) {
+        LOGGER.warnf(failure, "Container events of Docker client %s failed, reloading all containers", clientName);
+        subscription = null;
+        synchronizeLater();
+    }
+
+    private void synchronizeLater() {
+        // Never reload from the event thread, the list call would be queued behind the events themselves
+        bufferedEvents = new ArrayList<>();
+        knownDroppedEvents = events.droppedEvents();
+        if (!resyncPending) {
+            resyncPending = true;
+            scheduleResync();
+        }
+    }
+
+    private void apply(Index target, Event event) {
+        String id = event.getId();
+        String action = event.getAction() != null ? event.getAction() : event.getStatus();
+        if (id == null || action == null || STATE_ACTIONS.stream().noneMatch(action::startsWith)) {
+            return;
+        }
+
+        if (action.equals(DESTROY)) {
+            tombstones.put(id, Boolean.TRUE);
+            target.remove(id);
+        } else if (pendingRefreshes.add(id)) {
+            refresh(id);
+        }
+    }
+
+    /**
+     * Reloads a single container. Several events for the same container while a refresh is pending lead to one refresh.
+     */
+    private void refresh(String id) {
+        client.execute(docker -> docker.listContainersCmd()
+                .withShowAll(true)
+                .withIdFilter(List.of(id)))
+                .subscribe().with(
+                        containers -> applyRefresh(id, containers),
+                        failure -> {
+                            pendingRefreshes.remove(id);
+                            LOGGER.debugf(failure, "Unable to refresh container %s of Docker client %s", id, clientName);
+                        });
+    }
+
+    private synchronized void applyRefresh(String id, List<Container> containers) {
+        pendingRefreshes.remove(id);
+        // A container destroyed while its refresh was in flight must not come back
+        if (tombstones.containsKey(id)) {
+            return;
+        }
+        Index current = index;
+        current.remove(id);
+        containers.stream()
+                .filter(container -> id.equals(container.getId()))
+                .findFirst()
+                .ifPresent(current::put);
+    }
+
+    private static boolean matches(Container container, Map<String, String> selector) {
+        Map<String, String> labels = container.getLabels() != null ? container.getLabels() : Map.of();
+        for (Map.Entry<String, String> entry : selector.entrySet()) {
+            String actual = labels.get(entry.getKey());
+            if (actual == null || (entry.getValue() != null && !entry.getValue().equals(actual))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalizeName(String name) {
+        return name.startsWith("/") ? name.substring(1) : name;
+    }
+
+    /**
+     * Containers by ID with the name and label indexes over them. Lookups read the current instance, updates of single
+     * containers change it in place, and reloads publish a new one with a single volatile write.
+     */
+    private record Index(Map<String, Container> byId, Map<String, String> idByName,
+            Map<String, Map<String, Set<String>>> labelIndex) {
+
+        Index() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        void put(Container container) {
+            byId.put(container.getId(), container);
+            if (container.getNames() != null) {
+                for (String name : container.getNames()) {
+                    idByName.put(normalizeName(name), container.getId());
+                }
+            }
+            if (container.getLabels() != null) {
+                container.getLabels().forEach((key, value) -> labelIndex
+                        .computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet())
+                        .add(container.getId()));
+            }
+        }
+
+        void remove(String id) {
+            Container container = byId.remove(id);
+            if (container == null) {
+                return;
+            }
+            if (container.getNames() != null) {
+                for (String name : container.getNames()) {
+                    idByName.remove(normalizeName(name), id);
+                }
+            }
+            if (container.getLabels() != null) {
+                container.getLabels().forEach((key, value) -> {
+                    Map<String, Set<String>> values = labelIndex.get(key);
+                    if (values != null) {
+                        values.computeIfPresent(value, (v, ids) -> {
+                            ids.remove(id);
+                            return ids.isEmpty() ? null : ids;
+                        });
+                    }
+                });
+            }
+        }
+
+        Set<String> idsWithLabel(String key, String value) {
+            Map<String, Set<String>> values = labelIndex.get(key);
+            if (values == null) {
+                return Set.of();
+            }
+            if (value != null) {
+                return values.getOrDefault(value, Set.of());
+            }
+            Set<String> ids = new HashSet<>();
+            values.values().forEach(ids::addAll);
+            return ids;
+        }
+    }
+}
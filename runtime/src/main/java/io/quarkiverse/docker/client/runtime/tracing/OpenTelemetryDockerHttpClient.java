@@ -0,0 +1,275 @@
+package io.quarkiverse.docker.client.runtime.tracing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.quarkiverse.docker.client.runtime.config.DockerRuntimeConfig;
+import io.quarkiverse.docker.client.runtime.transport.CountingInputStream;
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+import io.quarkus.arc.Arc;
+
+/**
+ * Docker transport decorator emitting an OpenTelemetry client span for every Docker API call.
+ *
+ * <p>
+ * Spans are named after the HTTP method and the endpoint template from {@link DockerApiEndpoints}, and are parented to the
+ * current context, usually the span of the incoming request. They carry the client name, the daemon host, the status code
+ * and the response size.
+ * </p>
+ *
+ * <p>
+ * Request/response calls end their span when the response is closed, so reading the body is included. Long-lived
+ * streams such as followed logs, events or attach end their span as soon as the response headers are received, with a
+ * {@code docker.stream.opened} event, so no span stays open for the life of the stream. When the stream is closed, a
+ * short {@code docker.stream} span linked to the request span records a {@code docker.stream.closed} event carrying the
+ * duration and size of the stream.
+ * </p>
+ */
+public class OpenTelemetryDockerHttpClient implements DockerHttpClient {
+
+    static final String INSTRUMENTATION_NAME = "io.quarkiverse.docker-client";
+
+    static final AttributeKey<String> CLIENT_NAME = AttributeKey.stringKey("docker.client.name");
+    static final AttributeKey<String> ENDPOINT = AttributeKey.stringKey("url.template");
+    static final AttributeKey<String> METHOD = AttributeKey.stringKey("http.request.method");
+    static final AttributeKey<String> DOCKER_HOST = AttributeKey.stringKey("docker.host");
+    static final AttributeKey<String> SERVER_ADDRESS = AttributeKey.stringKey("server.address");
+    static final AttributeKey<Long> SERVER_PORT = AttributeKey.longKey("server.port");
+    static final AttributeKey<Long> STATUS_CODE = AttributeKey.longKey("http.response.status_code");
+    static final AttributeKey<Long> RESPONSE_SIZE = AttributeKey.longKey("http.response.body.size");
+    static final AttributeKey<Boolean> STREAMING = AttributeKey.booleanKey("docker.stream");
+    static final AttributeKey<Long> STREAM_DURATION = AttributeKey.longKey("docker.stream.duration_ms");
+
+    static final String STREAM_OPENED = "docker.stream.opened";
+    static final String STREAM_CLOSED = "docker.stream.closed";
+    static final String STREAM_SPAN = "docker.stream";
+
+    private final DockerHttpClient delegate;
+    private final Supplier<OpenTelemetry> openTelemetry;
+    private final Attributes clientAttributes;
+
+    private volatile Tracer tracer;
+
+    /**
+     * Creates a tracing decorator.
+     *
+     * @param delegate The transport to decorate
+     * @param openTelemetry Supplier of the OpenTelemetry instance, resolved on the first request
+     * @param clientName The Docker client name
+     * @param dockerHost The Docker host URI of the client
+     */
+    public OpenTelemetryDockerHttpClient(DockerHttpClient delegate, Supplier<OpenTelemetry> openTelemetry,
+            String clientName, String dockerHost) {
+        this.delegate = delegate;
+        this.openTelemetry = openTelemetry;
+        this.clientAttributes = clientAttributes(clientName, dockerHost);
+    }
+
+    /**
+     * Creates a function decorating transports with a tracing decorator using the OpenTelemetry bean of the application.
+     * The signature does not mention OpenTelemetry types, so callers only load them when tracing is enabled.
+     *
+     * @param clientName The Docker client name
+     * @param dockerHost The Docker host URI of the client
+     * @return The transport decorator
+     */
+    public static UnaryOperator<DockerHttpClient> decorator(String clientName, String dockerHost) {
+        return transport -> new OpenTelemetryDockerHttpClient(transport,
+                () -> Arc.container().instance(OpenTelemetry.class).get(), clientName, dockerHost);
+    }
+
+    @Override
+    public Response execute(Request request) {
+        String endpoint = DockerApiEndpoints.template(request.path());
+        boolean streaming = DockerApiEndpoints.isStreaming(request);
+
+        Span span = tracer().spanBuilder(request.method() + " " + endpoint)
+                .setSpanKind(SpanKind.CLIENT)
+                .setParent(Context.current())
+                .setAllAttributes(clientAttributes)
+                .setAttribute(METHOD, request.method())
+                .setAttribute(ENDPOINT, endpoint)
+                .setAttribute(STREAMING, streaming)
+                .startSpan();
+
+        Response response;
+        try {
+            response = delegate.execute(request);
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR, e.getMessage());
+            span.end();
+            throw e;
+        }
+
+        int statusCode = response.getStatusCode();
+        span.setAttribute(STATUS_CODE, statusCode);
+        if (statusCode >= 400) {
+            span.setStatus(StatusCode.ERROR);
+        }
+
+        if (streaming) {
+            span.addEvent(STREAM_OPENED);
+            span.end();
+            return new TracedResponse(response, span, end -> streamClosed(span, endpoint, end));
+        }
+        return new TracedResponse(response, span, null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    /**
+     * Records the end of a stream on a short span linked to the already ended request span.
+     */
+    private void streamClosed(Span request, String endpoint, StreamEnd end) {
+        tracer().spanBuilder(STREAM_SPAN)
+                .setSpanKind(SpanKind.INTERNAL)
+                .setNoParent()
+                .addLink(request.getSpanContext())
+                .setAllAttributes(clientAttributes)
+                .setAttribute(ENDPOINT, endpoint)
+                .setAttribute(RESPONSE_SIZE, end.size())
+                .startSpan()
+                .addEvent(STREAM_CLOSED, Attributes.of(
+                        RESPONSE_SIZE, end.size(),
+                        STREAM_DURATION, end.durationMillis()))
+                .end();
+    }
+
+    private Tracer tracer() {
+        Tracer current = tracer;
+        if (current == null) {
+            current = openTelemetry.get().getTracer(INSTRUMENTATION_NAME);
+            tracer = current;
+        }
+        return current;
+    }
+
+    private static Attributes clientAttributes(String clientName, String dockerHost) {
+        AttributesBuilder attributes = Attributes.builder()
+                .put(CLIENT_NAME, clientName == null ? DockerRuntimeConfig.DEFAULT_CLIENT_NAME : clientName);
+        if (dockerHost != null) {
+            attributes.put(DOCKER_HOST, dockerHost);
+            URI uri = URI.create(dockerHost);
+            if (uri.getHost() != null) {
+                attributes.put(SERVER_ADDRESS, uri.getHost());
+                if (uri.getPort() > 0) {
+                    attributes.put(SERVER_PORT, uri.getPort());
+                }
+            } else if (uri.getPath() != null) {
+                attributes.put(SERVER_ADDRESS, uri.getPath());
+            }
+        }
+        return attributes.build();
+    }
+
+    /**
+     * Size and duration of a closed stream.
+     */
+    private record StreamEnd(long size, long durationMillis) {
+    }
+
+    /**
+     * Response ending its span when it is closed, or reporting the end of the stream for streams whose span already ended.
+     */
+    private static final class TracedResponse implements Response {
+
+        private final Response delegate;
+        private final Span span;
+        private final Consumer<StreamEnd> onStreamClosed;
+        private final long openedNanos = System.nanoTime();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile CountingInputStream body;
+
+        /**
+         * @param delegate The traced response
+         * @param span The request span
+         * @param onStreamClosed Callback reporting the end of a stream, null for request/response calls
+         */
+        TracedResponse(Response delegate, Span span, Consumer<StreamEnd> onStreamClosed) {
+            this.delegate = delegate;
+            this.span = span;
+            this.onStreamClosed = onStreamClosed;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return delegate.getHeader(name);
+        }
+
+        @Override
+        public InputStream getBody() {
+            CountingInputStream current = body;
+            if (current == null) {
+                synchronized (this) {
+                    current = body;
+                    if (current == null) {
+                        current = new CountingInputStream(delegate.getBody(), this::finish);
+                        body = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+            CountingInputStream current = body;
+            if (current == null) {
+                finish(0);
+                return;
+            }
+            try {
+                current.close();
+            } catch (IOException e) {
+                // The response is already closed, nothing left to release
+            }
+        }
+
+        private void finish(long size) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            if (onStreamClosed != null) {
+                onStreamClosed.accept(new StreamEnd(size,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - openedNanos)));
+                return;
+            }
+            span.setAttribute(RESPONSE_SIZE, size);
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package io.quarkiverse.docker.client.runtime.transfer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.transport.DockerHttpClient;
+
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+
+/**
+ * Copies files between the host and containers as streams, without holding archives in memory or in temporary files.
+ *
+ * <p>
+ * {@code copyArchiveToContainerCmd} and {@code copyArchiveFromContainerCmd} exchange tar archives as input streams,
+ * which callers usually build in memory or in a temporary file. This API generates the tar of a host file or directory
+ * tree while it is uploaded, reading every file from its {@link FileChannel}, and extracts or stores downloaded archives
+ * as they arrive. Memory use is a fixed buffer per transfer whatever the size of the files. Requests go through the
+ * transport of the client, so the metrics, tracing, circuit breaker and bulkhead of the client apply.
+ * </p>
+ *
+ * <p>
+ * Transfers are blocking and should run on a worker or virtual thread.
+ * </p>
+ *
+ * <p>
+ * Usage example:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("ci")
+ * DockerFileTransfer files;
+ *
+ * void build(String containerId) throws IOException {
+ *     files.copyToContainer(containerId, Path.of("target/sources"), "/workspace");
+ *     // ...
+ *     files.copyFromContainer(containerId, "/workspace/dist", Path.of("target"));
+ * }
+ * </pre>
+ *
+ * @see NamedDockerClient
+ */
+public class DockerFileTransfer {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DockerHttpClient transport;
+    private final String versionPrefix;
+
+    /**
+     * Creates a file transfer API.
+     *
+     * @param transport The transport of the client
+     * @param apiVersion The API version of the client, or null to use the version of the daemon
+     */
+    public DockerFileTransfer(DockerHttpClient transport, String apiVersion) {
+        if (transport == null) {
+            throw new IllegalArgumentException("Transport cannot be null");
+        }
+        this.transport = transport;
+        this.versionPrefix = apiVersion == null || apiVersion.isBlank() ? "" : "/v" + apiVersion;
+    }
+
+    /**
+     * Copies a host file or directory into a container directory, under its own name.
+     *
+     * @param containerId The container ID or name
+     * @param source The host file or directory
+     * @param containerDirectory The existing container directory receiving the source
+     * @return The number of entries and bytes copied
+     * @throws IOException if the source cannot be read
+     * @throws NotFoundException if the container or the container directory does not exist
+     */
+    public DockerTransferResult copyToContainer(String containerId, Path source, String containerDirectory)
+            throws IOException {
+        return upload(containerId, TarArchiveSource.of(source, false), containerDirectory);
+    }
+
+    /**
+     * Copies the entries of a host directory into a container directory, without the host directory itself.
+     *
+     * @param containerId The container ID or name
+     * @param sourceDirectory The host directory
+     * @param containerDirectory The existing container directory receiving the entries
+     * @return The number of entries and bytes copied
+     * @throws IOException if the source cannot be read
+     * @throws NotFoundException if the container or the container directory does not exist
+     */
+    public DockerTransferResult copyContentsToContainer(String containerId, Path sourceDirectory, String containerDirectory)
+            throws IOException {
+        return upload(containerId, TarArchiveSource.of(sourceDirectory, true), containerDirectory);
+    }
+
+    /**
+     * Copies a container file or directory into a host directory, under its own name.
+     *
+     * @param containerId The container ID or name
+     * @param containerPath The container file or directory
+     * @param targetDirectory The host directory receiving the copy, created if missing
+     * @return The number of entries and bytes copied
+     * @throws IOException if the archive cannot be extracted
+     * @throws NotFoundException if the container or the container path does not exist
+     */
+    public DockerTransferResult copyFromContainer(String containerId, String containerPath, Path targetDirectory)
+            throws IOException {
+        try (DockerHttpClient.Response response = transport.execute(downloadRequest(containerId, containerPath));
+                InputStream body = checkStatus(response)) {
+            return new TarArchiveExtractor(body, targetDirectory, BUFFER_SIZE).extract();
+        }
+    }
+
+    /**
+     * Streams the tar archive of a container file or directory to a channel, as sent by the daemon.
+     *
+     * @param containerId The container ID or name
+     * @param containerPath The container file or directory
+     * @param target The channel receiving the archive, left open
+     * @return The number of archive bytes written
+     * @throws IOException if the archive cannot be written
+     * @throws NotFoundException if the container or the container path does not exist
+     */
+    public long copyArchiveFromContainer(String containerId, String containerPath, WritableByteChannel target)
+            throws IOException {
+        try (DockerHttpClient.Response response = transport.execute(downloadRequest(containerId, containerPath));
+                InputStream body = checkStatus(response)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long written = 0;
+            int read;
+            while ((read = body.read(buffer.array(), 0, buffer.capacity())) >= 0) {
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    written += target.write(buffer);
+                }
+            }
+            return written;
+        }
+    }
+
+    /**
+     * Stores the tar archive of a container file or directory in a host file, replacing it if it exists.
+     *
+     * @param containerId The container ID or name
+     * @param containerPath The container file or directory
+     * @param archive The host file receiving the archive
+     * @return The number of archive bytes written
+     * @throws IOException if the archive cannot be written
+     * @throws NotFoundException if the container or the container path does not exist
+     */
+    public long copyArchiveFromContainer(String containerId, String containerPath, Path archive) throws IOException {
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return copyArchiveFromContainer(containerId, containerPath, channel);
+        }
+    }
+
+    private DockerTransferResult upload(String containerId, TarArchiveSource archive, String containerDirectory)
+            throws IOException {
+        DockerHttpClient.Request request = DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.PUT)
+                .path(archivePath(containerId, containerDirectory))
+                .headers(Map.of("Content-Type", "application/x-tar"))
+                .body(archive)
+                .build();
+        try (archive; DockerHttpClient.Response response = transport.execute(request)) {
+            checkStatus(response).close();
+            return new DockerTransferResult(archive.entryCount(), archive.contentBytes());
+        }
+    }
+
+    private DockerHttpClient.Request downloadRequest(String containerId, String containerPath) {
+        return DockerHttpClient.Request.builder()
+                .method(DockerHttpClient.Request.Method.GET)
+                .path(archivePath(containerId, containerPath))
+                .headers(Map.of())
+                .build();
+    }
+
+    private String archivePath(String containerId, String containerPath) {
+        if (containerId == null || containerId.isBlank()) {
+            throw new IllegalArgumentException("Container ID cannot be empty");
+        }
+        if (containerPath == null || containerPath.isBlank()) {
+            throw new IllegalArgumentException("Container path cannot be empty");
+        }
+        return versionPrefix + "/containers/" + containerId + "/archive?path="
+                + URLEncoder.encode(containerPath, StandardCharsets.UTF_8);
+    }
+
+    private static InputStream checkStatus(DockerHttpClient.Response response) throws IOException {
+        int status = response.getStatusCode();
+        InputStream body = response.getBody();
+        if (status < 400) {
+            return body == null ? InputStream.nullInputStream() : body;
+        }
+        String message;
+        try (body) {
+            message = body == null ? "" : new String(body.readNBytes(4096), StandardCharsets.UTF_8);
+        }
+        if (status == 404) {
+            throw new NotFoundException(String.format("Status 404: %s", message));
+        }
+        throw new DockerException(String.format("Status %d: %s", status, message), status);
+    }
+}
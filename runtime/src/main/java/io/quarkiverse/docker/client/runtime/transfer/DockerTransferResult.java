@@ -0,0 +1,10 @@
+package io.quarkiverse.docker.client.runtime.transfer;
+
+/**
+ * Outcome of a file transfer with a container.
+ *
+ * @param entries The number of files, directories and links transferred
+ * @param bytes The number of file content bytes transferred, excluding archive headers
+ */
+public record DockerTransferResult(int entries, long bytes) {
+}
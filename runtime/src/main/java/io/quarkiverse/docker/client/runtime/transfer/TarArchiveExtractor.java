@@ -0,0 +1,305 @@
+package io.quarkiverse.docker.client.runtime.transfer;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extracts a tar stream into a host directory while it is read.
+ *
+ * <p>
+ * File contents go from the stream to their {@link FileChannel} through one reused buffer. Regular files, directories,
+ * symbolic and hard links are extracted; PAX and GNU long name headers are honored and other entry types are skipped.
+ * Entries resolving outside the target directory, by name or through a symbolic link extracted before them, are
+ * rejected, and a directory entry replaces a symbolic link of the same name instead of following it.
+ * </p>
+ */
+final class TarArchiveExtractor {
+
+    private static final int BLOCK_SIZE = TarArchiveSource.BLOCK_SIZE;
+    private static final int MAX_EXTENDED_HEADER = 1024 * 1024;
+
+    private final InputStream in;
+    private final Path root;
+    private final ByteBuffer buffer;
+    private final byte[] block = new byte[BLOCK_SIZE];
+    private Path realRoot;
+    private int entries;
+    private long contentBytes;
+
+    TarArchiveExtractor(InputStream in, Path root, int bufferSize) {
+        this.in = in;
+        this.root = root.toAbsolutePath().normalize();
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Extracts every entry of the stream.
+     *
+     * @return The number of entries and content bytes extracted
+     */
+    DockerTransferResult extract() throws IOException {
+        Files.createDirectories(root);
+        realRoot = root.toRealPath();
+        Map<String, String> extended = new HashMap<>();
+        while (readBlock()) {
+            if (isZero(block)) {
+                break;
+            }
+            verifyChecksum();
+
+            byte type = block[156];
+            String name = extended.containsKey("path") ? extended.get("path") : name();
+            String linkTarget = extended.containsKey("linkpath") ? extended.get("linkpath") : string(157, 100);
+            long size = extended.containsKey("size") ? Long.parseLong(extended.get("size")) : number(124, 12);
+            int mode = (int) number(100, 8) & 07777;
+            long modified = number(136, 12);
+            extended.clear();
+
+            switch (type) {
+                case 'x' -> parsePax(readExtended(size), extended);
+                case 'g' -> skipEntry(size);
+                case 'L' -> extended.put("path", trimNul(readExtended(size)));
+                case 'K' -> extended.put("linkpath", trimNul(readExtended(size)));
+                case '0', 0, '7' -> {
+                    Path target = resolve(name);
+                    Files.createDirectories(target.getParent());
+                    Files.deleteIfExists(target);
+                    writeFile(target, size);
+                    applyAttributes(target, mode, modified);
+                    entries++;
+                }
+                case '5' -> {
+                    Path target = resolve(name);
+                    // A link in place of the directory would make its entries and attributes land where it leads
+                    if (Files.isSymbolicLink(target)) {
+                        Files.delete(target);
+                    }
+                    Files.createDirectories(target);
+                    // The owner keeps write access, or the entries of a read-only directory could not be extracted
+                    applyAttributes(target, mode | 0700, modified);
+                    skipEntry(size);
+                    entries++;
+                }
+                case '2' -> {
+                    Path target = resolve(name);
+                    Files.createDirectories(target.getParent());
+                    Files.deleteIfExists(target);
+                    Files.createSymbolicLink(target, Path.of(linkTarget));
+                    entries++;
+                }
+                case '1' -> {
+                    Path target = resolve(name);
+                    Files.createDirectories(target.getParent());
+                    Files.deleteIfExists(target);
+                    Files.createLink(target, resolve(linkTarget));
+                    entries++;
+                }
+                default -> skipEntry(size);
+            }
+        }
+        return new DockerTransferResult(entries, contentBytes);
+    }
+
+    private Path resolve(String name) throws IOException {
+        Path target = root.resolve(name).normalize();
+        if (!target.startsWith(root)) {
+            throw new IOException("Archive entry " + name + " is outside of " + root);
+        }
+        // Links extracted earlier may lead outside of the root, the closest existing directory tells
+        Path existing = target.getParent();
+        while (existing != null && !Files.exists(existing)) {
+            existing = existing.getParent();
+        }
+        if (existing == null || !existing.toRealPath().startsWith(realRoot)) {
+            throw new IOException("Archive entry " + name + " is outside of " + root);
+        }
+        return target;
+    }
+
+    private void writeFile(Path target, long size) throws IOException {
+        try (FileChannel file = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long remaining = size;
+            while (remaining > 0) {
+                int read = in.read(buffer.array(), 0, (int) Math.min(buffer.capacity(), remaining));
+                if (read < 0) {
+                    throw new EOFException("Archive ended within " + target);
+                }
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    file.write(buffer);
+                }
+                remaining -= read;
+                contentBytes += read;
+            }
+        }
+        skipBytes(TarArchiveSource.padding(size));
+    }
+
+    private static void applyAttributes(Path target, int mode, long modifiedSeconds) throws IOException {
+        // Permissions are kept on POSIX file systems only
+        PosixFileAttributeView posix = Files.getFileAttributeView(target, PosixFileAttributeView.class,
+                LinkOption.NOFOLLOW_LINKS);
+        if (posix != null) {
+            Set<PosixFilePermission> permissions = EnumSet.noneOf(PosixFilePermission.class);
+            for (PosixFilePermission permission : PosixFilePermission.values()) {
+                if ((mode & 1 << (8 - permission.ordinal())) != 0) {
+                    permissions.add(permission);
+                }
+            }
+            posix.setPermissions(permissions);
+        }
+        Files.getFileAttributeView(target, BasicFileAttributeView.class, LinkOption.NOFOLLOW_LINKS)
+                .setTimes(FileTime.fromMillis(modifiedSeconds * 1000), null, null);
+    }
+
+    private boolean readBlock() throws IOException {
+        int read = in.readNBytes(block, 0, BLOCK_SIZE);
+        if (read == 0) {
+            return false;
+        }
+        if (read < BLOCK_SIZE) {
+            throw new EOFException("Archive ended within a header");
+        }
+        return true;
+    }
+
+    private byte[] readExtended(long size) throws IOException {
+        if (size > MAX_EXTENDED_HEADER) {
+            throw new IOException("Extended archive header of " + size + " bytes is too large");
+        }
+        byte[] data = in.readNBytes((int) size);
+        if (data.length < size) {
+            throw new EOFException("Archive ended within an extended header");
+        }
+        skipBytes(TarArchiveSource.padding(size));
+        return data;
+    }
+
+    private void skipEntry(long size) throws IOException {
+        skipBytes(size + TarArchiveSource.padding(size));
+    }
+
+    private void skipBytes(long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            int read = in.read(buffer.array(), 0, (int) Math.min(buffer.capacity(), remaining));
+            if (read < 0) {
+                throw new EOFException("Archive ended within an entry");
+            }
+            remaining -= read;
+        }
+    }
+
+    private void verifyChecksum() throws IOException {
+        long expected = number(148, 8);
+        long actual = 0;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            actual += i >= 148 && i < 156 ? ' ' : block[i] & 0xFF;
+        }
+        if (actual != expected) {
+            throw new IOException("Malformed archive header checksum");
+        }
+    }
+
+    private String name() {
+        String name = string(0, 100);
+        // ustar archives split long names into a prefix and a name
+        if (block[257] == 'u' && block[258] == 's' && block[259] == 't' && block[260] == 'a' && block[261] == 'r') {
+            String prefix = string(345, 155);
+            if (!prefix.isEmpty()) {
+                return prefix + "/" + name;
+            }
+        }
+        return name;
+    }
+
+    private String string(int offset, int length) {
+        int end = offset;
+        while (end < offset + length && block[end] != 0) {
+            end++;
+        }
+        return new String(block, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    private long number(int offset, int length) throws IOException {
+        if ((block[offset] & 0x80) != 0) {
+            // Base-256 encoding used by GNU tar for values beyond the octal range
+            long value = block[offset] & 0x7F;
+            for (int i = offset + 1; i < offset + length; i++) {
+                value = value << 8 | block[i] & 0xFF;
+            }
+            return value;
+        }
+        int end = offset + length;
+        int i = offset;
+        while (i < end && (block[i] == ' ' || block[i] == 0)) {
+            i++;
+        }
+        long value = 0;
+        for (; i < end && block[i] != ' ' && block[i] != 0; i++) {
+            if (block[i] < '0' || block[i] > '7') {
+                throw new IOException("Malformed archive header number");
+            }
+            value = value * 8 + (block[i] - '0');
+        }
+        return value;
+    }
+
+    private static void parsePax(byte[] records, Map<String, String> extended) throws IOException {
+        int position = 0;
+        while (position < records.length) {
+            int space = position;
+            while (space < records.length && records[space] != ' ') {
+                space++;
+            }
+            int length;
+            try {
+                length = Integer.parseInt(new String(records, position, space - position, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed extended archive header");
+            }
+            if (length <= 0 || position + length > records.length) {
+                throw new IOException("Malformed extended archive header");
+            }
+            String record = new String(records, space + 1, position + length - space - 2, StandardCharsets.UTF_8);
+            int equals = record.indexOf('=');
+            if (equals > 0) {
+                extended.put(record.substring(0, equals), record.substring(equals + 1));
+            }
+            position += length;
+        }
+    }
+
+    private static String trimNul(byte[] data) {
+        int end = data.length;
+        while (end > 0 && data[end - 1] == 0) {
+            end--;
+        }
+        return new String(data, 0, end, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isZero(byte[] data) {
+        for (byte b : data) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,358 @@
+package io.quarkiverse.docker.client.runtime.transfer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tar archive of a host file or directory tree, generated while it is read.
+ *
+ * <p>
+ * Only the list of entries is collected upfront. File contents are read from their {@link FileChannel} straight into the
+ * buffer of the caller, so the memory used does not depend on the size of the files. Names and sizes beyond the limits
+ * of the ustar format are written as PAX extended headers. Symbolic links are archived as links, not followed.
+ * </p>
+ */
+public final class TarArchiveSource extends InputStream {
+
+    static final int BLOCK_SIZE = 512;
+
+    private static final long MAX_OCTAL_SIZE = 077777777777L;
+    private static final byte[] ZEROS = new byte[BLOCK_SIZE];
+
+    private final Iterator<Entry> entries;
+    private final int entryCount;
+    private byte[] header;
+    private int headerPosition;
+    private FileChannel file;
+    private Entry current;
+    private long fileRemaining;
+    private int padding;
+    private boolean finished;
+    private long contentBytes;
+
+    private TarArchiveSource(List<Entry> entries) {
+        this.entries = entries.iterator();
+        this.entryCount = entries.size();
+    }
+
+    /**
+     * Lists the entries of a file or directory tree.
+     *
+     * @param source The file or directory to archive
+     * @param contentsOnly Whether the entries of a directory are archived without the directory itself
+     * @return The archive, positioned at its first byte
+     */
+    static TarArchiveSource of(Path source, boolean contentsOnly) throws IOException {
+        Path absolute = source.toAbsolutePath().normalize();
+        BasicFileAttributes sourceAttributes = Files.readAttributes(absolute, BasicFileAttributes.class,
+                LinkOption.NOFOLLOW_LINKS);
+        Path base = contentsOnly && sourceAttributes.isDirectory() ? absolute : absolute.getParent();
+        if (base == null) {
+            throw new IOException("Cannot archive the file system root " + source + " by name");
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        Files.walkFileTree(absolute, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException {
+                if (!dir.equals(base)) {
+                    entries.add(Entry.of(base, dir, attributes));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                entries.add(Entry.of(base, file, attributes));
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return new TarArchiveSource(entries);
+    }
+
+    /**
+     * Archives a selection of files, directories and links, named by their path relative to a base directory.
+     *
+     * @param base The directory the names of the entries are relative to
+     * @param paths The paths to archive, in archive order, directories before their entries
+     * @return The archive, positioned at its first byte
+     * @throws IOException if the attributes of a path cannot be read
+     */
+    public static TarArchiveSource of(Path base, List<Path> paths) throws IOException {
+        List<Entry> entries = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            entries.add(Entry.of(base, path, Files.readAttributes(path, BasicFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS)));
+        }
+        return new TarArchiveSource(entries);
+    }
+
+    /**
+     * Returns the number of entries of the archive.
+     *
+     * @return The number of entries
+     */
+    public int entryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Returns the number of file content bytes read so far.
+     *
+     * @return The number of content bytes
+     */
+    public long contentBytes() {
+        return contentBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (true) {
+            if (header != null && headerPosition < header.length) {
+                int count = Math.min(len, header.length - headerPosition);
+                System.arraycopy(header, headerPosition, b, off, count);
+                headerPosition += count;
+                return count;
+            }
+            if (fileRemaining > 0) {
+                int read = file.read(ByteBuffer.wrap(b, off, (int) Math.min(len, fileRemaining)));
+                if (read < 0) {
+                    throw new IOException("File " + current.path + " shrank while it was archived");
+                }
+                fileRemaining -= read;
+                contentBytes += read;
+                return read;
+            }
+            if (padding > 0) {
+                int count = Math.min(len, padding);
+                System.arraycopy(ZEROS, 0, b, off, count);
+                padding -= count;
+                return count;
+            }
+            if (!next()) {
+                return -1;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeFile();
+        finished = true;
+        header = null;
+    }
+
+    /**
+     * Moves to the headers of the next entry, or to the end of archive marker.
+     *
+     * @return false once the end of archive marker was read
+     */
+    private boolean next() throws IOException {
+        closeFile();
+        if (entries.hasNext()) {
+            current = entries.next();
+            header = current.headers();
+            headerPosition = 0;
+            if (current.type == Entry.FILE && current.size > 0) {
+                file = FileChannel.open(current.path, StandardOpenOption.READ);
+                fileRemaining = current.size;
+                padding = padding(current.size);
+            }
+            return true;
+        }
+        if (!finished) {
+            // The end of an archive is marked by two zero blocks
+            finished = true;
+            header = new byte[2 * BLOCK_SIZE];
+            headerPosition = 0;
+            return true;
+        }
+        return false;
+    }
+
+    private void closeFile() throws IOException {
+        if (file != null) {
+            FileChannel closing = file;
+            file = null;
+            fileRemaining = 0;
+            closing.close();
+        }
+    }
+
+    static int padding(long size) {
+        return (int) ((BLOCK_SIZE - size % BLOCK_SIZE) % BLOCK_SIZE);
+    }
+
+    private static final class Entry {
+
+        static final byte FILE = '0';
+        static final byte SYMLINK = '2';
+        static final byte DIRECTORY = '5';
+
+        final Path path;
+        final String name;
+        final byte type;
+        final long size;
+        final int mode;
+        final long modifiedSeconds;
+        final String linkTarget;
+
+        private Entry(Path path, String name, byte type, long size, int mode, long modifiedSeconds, String linkTarget) {
+            this.path = path;
+            this.name = name;
+            this.type = type;
+            this.size = size;
+            this.mode = mode;
+            this.modifiedSeconds = modifiedSeconds;
+            this.linkTarget = linkTarget;
+        }
+
+        static Entry of(Path base, Path path, BasicFileAttributes attributes) throws IOException {
+            String name = base.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+            long modified = attributes.lastModifiedTime().toMillis() / 1000;
+            if (attributes.isSymbolicLink()) {
+                String target = Files.readSymbolicLink(path).toString();
+                return new Entry(path, name, SYMLINK, 0, 0777, modified, target);
+            }
+            if (attributes.isDirectory()) {
+                return new Entry(path, name + "/", DIRECTORY, 0, mode(path, 0755), modified, "");
+            }
+            return new Entry(path, name, FILE, attributes.size(), mode(path, Files.isExecutable(path) ? 0755 : 0644),
+                    modified, "");
+        }
+
+        private static int mode(Path path, int fallback) throws IOException {
+            Set<PosixFilePermission> permissions;
+            try {
+                permissions = Files.getPosixFilePermissions(path, LinkOption.NOFOLLOW_LINKS);
+            } catch (UnsupportedOperationException e) {
+                return fallback;
+            }
+            int mode = 0;
+            for (PosixFilePermission permission : permissions) {
+                // The enum lists owner read to others execute, which are the bits 8 down to 0
+                mode |= 1 << (8 - permission.ordinal());
+            }
+            return mode;
+        }
+
+        /**
+         * Returns the header blocks of the entry, preceded by a PAX header when the ustar fields cannot hold it.
+         */
+        byte[] headers() {
+            byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            byte[] linkBytes = linkTarget.getBytes(StandardCharsets.UTF_8);
+            StringBuilder pax = new StringBuilder();
+            if (nameBytes.length > 100 || !isAscii(name)) {
+                paxRecord(pax, "path", name);
+            }
+            if (linkBytes.length > 100 || !isAscii(linkTarget)) {
+                paxRecord(pax, "linkpath", linkTarget);
+            }
+            if (size > MAX_OCTAL_SIZE) {
+                paxRecord(pax, "size", Long.toString(size));
+            }
+            byte[] block = header(nameBytes, type, size, mode, linkBytes);
+            if (pax.length() == 0) {
+                return block;
+            }
+
+            byte[] records = pax.toString().getBytes(StandardCharsets.UTF_8);
+            byte[] paxName = ("PaxHeaders/" + truncate(name)).getBytes(StandardCharsets.UTF_8);
+            byte[] paxHeader = header(paxName, (byte) 'x', records.length, 0644, new byte[0]);
+            byte[] headers = new byte[BLOCK_SIZE + records.length + padding(records.length) + BLOCK_SIZE];
+            System.arraycopy(paxHeader, 0, headers, 0, BLOCK_SIZE);
+            System.arraycopy(records, 0, headers, BLOCK_SIZE, records.length);
+            System.arraycopy(block, 0, headers, headers.length - BLOCK_SIZE, BLOCK_SIZE);
+            return headers;
+        }
+
+        private byte[] header(byte[] nameBytes, byte typeFlag, long entrySize, int entryMode, byte[] linkBytes) {
+            byte[] block = new byte[BLOCK_SIZE];
+            System.arraycopy(nameBytes, 0, block, 0, Math.min(nameBytes.length, 100));
+            octal(block, 100, 8, entryMode);
+            octal(block, 108, 8, 0);
+            octal(block, 116, 8, 0);
+            octal(block, 124, 12, Math.min(entrySize, MAX_OCTAL_SIZE));
+            octal(block, 136, 12, Math.max(modifiedSeconds, 0));
+            block[156] = typeFlag;
+            System.arraycopy(linkBytes, 0, block, 157, Math.min(linkBytes.length, 100));
+            System.arraycopy("ustar\u000000".getBytes(StandardCharsets.US_ASCII), 0, block, 257, 8);
+
+            // The checksum is computed with its own field filled with spaces
+            for (int i = 148; i < 156; i++) {
+                block[i] = ' ';
+            }
+            long checksum = 0;
+            for (byte b : block) {
+                checksum += b & 0xFF;
+            }
+            octal(block, 148, 7, checksum);
+            return block;
+        }
+
+        private static void octal(byte[] block, int offset, int length, long value) {
+            String digits = Long.toOctalString(value);
+            int padding = length - 1 - digits.length();
+            for (int i = 0; i < padding; i++) {
+                block[offset + i] = '0';
+            }
+            for (int i = 0; i < digits.length(); i++) {
+                block[offset + padding + i] = (byte) digits.charAt(i);
+            }
+            block[offset + length - 1] = 0;
+        }
+
+        private static void paxRecord(StringBuilder pax, String key, String value) {
+            // A record starts with its own length in bytes, digits included
+            int content = 3 + key.getBytes(StandardCharsets.UTF_8).length + value.getBytes(StandardCharsets.UTF_8).length;
+            int length = content + Integer.toString(content).length();
+            if (Integer.toString(length).length() > Integer.toString(content).length()) {
+                length++;
+            }
+            pax.append(length).append(' ').append(key).append('=').append(value).append('\n');
+        }
+
+        private static String truncate(String name) {
+            StringBuilder truncated = new StringBuilder();
+            for (int i = 0; i < name.length() && truncated.length() < 80; i++) {
+                char c = name.charAt(i);
+                truncated.append(c < 0x80 ? c : '_');
+            }
+            return truncated.toString();
+        }
+
+        private static boolean isAscii(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) >= 0x80) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
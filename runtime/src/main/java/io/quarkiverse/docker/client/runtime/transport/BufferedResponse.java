@@ -0,0 +1,98 @@
+package io.quarkiverse.docker.client.runtime.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+/**
+ * Fully read Docker response that can be handed to any number of callers.
+ *
+ * <p>
+ * Every call to {@link #getBody()} returns a new stream over the same bytes, and closing the response releases nothing,
+ * so a single instance can be shared by cached or coalesced calls.
+ * </p>
+ */
+public final class BufferedResponse implements DockerHttpClient.Response {
+
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    private BufferedResponse(int statusCode, Map<String, List<String>> headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * Reads a response fully and closes it.
+     *
+     * @param response The response to read
+     * @return The buffered response
+     * @throws UncheckedIOException if the body cannot be read
+     */
+    public static BufferedResponse read(DockerHttpClient.Response response) {
+        try (response; InputStream body = response.getBody()) {
+            return new BufferedResponse(response.getStatusCode(), Map.copyOf(response.getHeaders()),
+                    body == null ? new byte[0] : body.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a response from a body built in memory.
+     *
+     * @param statusCode The status code
+     * @param headers The response headers
+     * @param body The response body
+     * @return The buffered response
+     */
+    public static BufferedResponse of(int statusCode, Map<String, List<String>> headers, byte[] body) {
+        return new BufferedResponse(statusCode, Map.copyOf(headers), body);
+    }
+
+    /**
+     * Returns the size of the buffered body.
+     *
+     * @return The body size in bytes
+     */
+    public int size() {
+        return body.length;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                return entry.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release, the body is in memory
+    }
+}
@@ -0,0 +1,78 @@
+package io.quarkiverse.docker.client.runtime.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+
+/**
+ * Input stream counting the bytes read through it and reporting the total once, when it is closed.
+ */
+public final class CountingInputStream extends FilterInputStream {
+
+    private final LongConsumer onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private long count;
+
+    /**
+     * Creates a counting stream.
+     *
+     * @param delegate The stream to read from
+     * @param onClose Callback receiving the number of bytes read when the stream is closed
+     */
+    public CountingInputStream(InputStream delegate, LongConsumer onClose) {
+        super(delegate);
+        this.onClose = onClose;
+    }
+
+    /**
+     * Returns the number of bytes read so far.
+     *
+     * @return The number of bytes read
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            count++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            count += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (closed.compareAndSet(false, true)) {
+                onClose.accept(count);
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.quarkiverse.docker.client.runtime.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.github.dockerjava.transport.DockerHttpClient;
+
+/**
+ * Maps Docker Engine API request paths to bounded endpoint templates.
+ *
+ * <p>
+ * The API version prefix and the query string are removed, and identifiers such as container IDs, image names or volume
+ * names are replaced by placeholders, so the templates can be used as metric tags or span names without unbounded
+ * cardinality:
+ * </p>
+ *
+ * <pre>
+ * /v1.43/containers/4f2a1b.../logs?follow=1  -&gt;  /containers/{id}/logs
+ * /v1.43/images/library/nginx:alpine/json    -&gt;  /images/{name}/json
+ * /v1.43/containers/json?all=1               -&gt;  /containers/json
+ * </pre>
+ *
+ * <p>
+ * It also tells long-lived streaming requests, such as followed logs or events, from request/response calls.
+ * </p>
+ */
+public final class DockerApiEndpoints {
+
+    private static final Pattern VERSION_PREFIX = Pattern.compile("^/v\\d+(\\.\\d+)?(?=/|$)");
+    private static final String ID = "{id}";
+    private static final String NAME = "{name}";
+    private static final String PATH = "{path}";
+
+    /**
+     * Resources addressed by an identifier, with the sub-paths that are not identifiers.
+     */
+    private static final Map<String, Set<String>> ID_RESOURCES = Map.of(
+            "containers", Set.of("json", "create", "prune"),
+            "networks", Set.of("create", "prune"),
+            "volumes", Set.of("create", "prune"),
+            "exec", Set.of(),
+            "services", Set.of("create"),
+            "tasks", Set.of(),
+            "secrets", Set.of("create"),
+            "configs", Set.of("create"),
+            "nodes", Set.of());
+
+    /**
+     * Resources addressed by a name that may contain slashes, with the sub-paths that are not names.
+     */
+    private static final Map<String, Set<String>> NAME_RESOURCES = Map.of(
+            "images", Set.of("json", "create", "load", "get", "search", "prune"),
+            "plugins", Set.of("json", "pull", "privileges", "create"),
+            "distribution", Set.of());
+
+    /**
+     * Trailing actions of name-addressed resources.
+     */
+    private static final Set<String> NAME_ACTIONS = Set.of(
+            "json", "history", "push", "tag", "get", "enable", "disable", "upgrade", "set");
+
+    /**
+     * Top-level resources without identifiers.
+     */
+    private static final Set<String> PLAIN_RESOURCES = Set.of(
+            "_ping", "version", "info", "events", "auth", "build", "commit", "system", "swarm", "session");
+
+    /**
+     * Endpoints whose response is a stream that may stay open for as long as the daemon has something to send.
+     */
+    private static final Set<String> STREAMING_ENDPOINTS = Set.of(
+            "/events",
+            "/build",
+            "/images/create",
+            "/images/{name}/push",
+            "/plugins/pull",
+            "/containers/{id}/attach",
+            "/containers/{id}/attach/ws",
+            "/containers/{id}/wait",
+            "/exec/{id}/start");
+
+    private DockerApiEndpoints() {
+    }
+
+    /**
+     * Determines whether a request opens a long-lived stream instead of a bounded request/response exchange.
+     *
+     * @param request The request
+     * @return true for hijacked requests, events, attach, builds, pulls, pushes, followed logs and streamed stats
+     */
+    public static boolean isStreaming(DockerHttpClient.Request request) {
+        if (request.hijackedInput() != null) {
+            return true;
+        }
+        String endpoint = template(request.path());
+        if (STREAMING_ENDPOINTS.contains(endpoint)) {
+            return true;
+        }
+        if ("/containers/{id}/logs".equals(endpoint)) {
+            return isTrue(queryParameter(request.path(), "follow"));
+        }
+        if ("/containers/{id}/stats".equals(endpoint)) {
+            // Stats are streamed unless explicitly disabled
+            String stream = queryParameter(request.path(), "stream");
+            return stream == null || isTrue(stream);
+        }
+        return false;
+    }
+
+    private static boolean isTrue(String value) {
+        return "1".equals(value) || "true".equalsIgnoreCase(value);
+    }
+
+    /**
+     * Returns the raw value of a query parameter of a request path.
+     *
+     * @param path The request path with its query string
+     * @param name The parameter name
+     * @return The URL-encoded parameter value, empty if the parameter has no value, or {@code null} if it is absent
+     */
+    public static String queryParameter(String path, String name) {
+        int query = path.indexOf('?');
+        if (query < 0) {
+            return null;
+        }
+        for (String parameter : path.substring(query + 1).split("&")) {
+            int separator = parameter.indexOf('=');
+            String key = separator >= 0 ? parameter.substring(0, separator) : parameter;
+            if (key.equals(name)) {
+                return separator >= 0 ? parameter.substring(separator + 1) : "";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the endpoint template of a request path.
+     *
+     * @param path The request path, optionally with API version prefix and query string
+     * @return The endpoint template, never {@code null}
+     */
+    public static String template(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+
+        int query = path.indexOf('?');
+        String rawPath = VERSION_PREFIX.matcher(query >= 0 ? path.substring(0, query) : path).replaceFirst("");
+
+        List<String> segments = new ArrayList<>();
+        for (String segment : rawPath.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            return "/";
+        }
+
+        String resource = segments.get(0);
+        StringBuilder template = new StringBuilder().append('/').append(resource);
+        if (segments.size() == 1 || PLAIN_RESOURCES.contains(resource)) {
+            segments.subList(1, segments.size()).forEach(segment -> template.append('/').append(segment));
+            return template.toString();
+        }
+
+        Set<String> idExceptions = ID_RESOURCES.get(resource);
+        if (idExceptions != null) {
+            String second = segments.get(1);
+            template.append('/').append(idExceptions.contains(second) ? second : ID);
+            segments.subList(2, segments.size()).forEach(segment -> template.append('/').append(segment));
+            return template.toString();
+        }
+
+        Set<String> nameExceptions = NAME_RESOURCES.get(resource);
+        if (nameExceptions != null) {
+            if (segments.size() == 2 && nameExceptions.contains(segments.get(1))) {
+                return template.append('/').append(segments.get(1)).toString();
+            }
+            String last = segments.get(segments.size() - 1);
+            template.append('/').append(NAME);
+            if (segments.size() > 2 && NAME_ACTIONS.contains(last)) {
+                template.append('/').append(last);
+            }
+            return template.toString();
+        }
+
+        // Unknown resource, keep the cardinality bounded by hiding everything below it
+        return template.append('/').append(PATH).toString();
+    }
+}
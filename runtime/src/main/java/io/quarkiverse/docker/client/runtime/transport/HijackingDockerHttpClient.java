@@ -0,0 +1,67 @@
+package io.quarkiverse.docker.client.runtime.transport;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import com.github.dockerjava.httpclient5.ApacheDockerHttpClient;
+import com.github.dockerjava.transport.DockerHttpClient;
+import com.github.dockerjava.transport.SSLConfig;
+
+/**
+ * Lazily created docker-java transport used for hijacked requests (attach with stdin).
+ *
+ * <p>
+ * A hijacked request upgrades its connection to a raw bidirectional stream, so it can neither be served by a pooled
+ * connection nor by the Vert.x client. Such requests are rare, which is why the stock {@link ApacheDockerHttpClient} is
+ * only created on first use.
+ * </p>
+ */
+final class HijackingDockerHttpClient implements DockerHttpClient {
+
+    private final URI dockerHost;
+    private final SSLConfig sslConfig;
+    private final Duration connectTimeout;
+    private final Duration responseTimeout;
+
+    private volatile DockerHttpClient delegate;
+
+    HijackingDockerHttpClient(URI dockerHost, SSLConfig sslConfig, Duration connectTimeout, Duration responseTimeout) {
+        this.dockerHost = dockerHost;
+        this.sslConfig = sslConfig;
+        this.connectTimeout = connectTimeout;
+        this.responseTimeout = responseTimeout;
+    }
+
+    @Override
+    public Response execute(Request request) {
+        return delegate().execute(request);
+    }
+
+    @Override
+    public void close() throws IOException {
+        DockerHttpClient client = delegate;
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    private DockerHttpClient delegate() {
+        DockerHttpClient client = delegate;
+        if (client == null) {
+            synchronized (this) {
+                client = delegate;
+                if (client == null) {
+                    client = new ApacheDockerHttpClient.Builder()
+                            .dockerHost(dockerHost)
+                            .sslConfig(sslConfig)
+                            .connectionTimeout(connectTimeout)
+                            .responseTimeout(responseTimeout)
+                            .build();
+                    delegate = client;
+                }
+            }
+        }
+        return client;
+    }
+}
@@ -0,0 +1,344 @@
+package io.quarkiverse.docker.client.runtime.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.http.ConnectionClosedException;
+import org.apache.hc.core5.http.ContentLengthStrategy;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.NameValuePair;
+import org.apache.hc.core5.http.config.Registry;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.impl.DefaultContentLengthStrategy;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.net.URIAuthority;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.jboss.logging.Logger;
+
+import com.github.dockerjava.httpclient5.ApacheDockerHttpClient;
+import com.github.dockerjava.transport.DockerHttpClient;
+import com.github.dockerjava.transport.NamedPipeSocket;
+import com.github.dockerjava.transport.SSLConfig;
+import com.github.dockerjava.transport.UnixSocket;
+
+import io.quarkiverse.docker.client.runtime.config.DockerClientPoolConfig;
+
+/**
+ * A {@link DockerHttpClient} backed by Apache HttpClient 5 with a fully configurable connection pool.
+ *
+ * <p>
+ * docker-java's {@link ApacheDockerHttpClient} only exposes the maximum number of connections. This transport builds the
+ * connection manager itself so that the per-route limit, connection time to live, idle eviction and lease timeout can be
+ * configured, and so that connections can be opened ahead of time through {@link #warmUp(int)}.
+ * </p>
+ *
+ * <p>
+ * Hijacked requests (attach with stdin) take over the underlying connection and never return it to the pool. They are
+ * delegated to a lazily created {@link ApacheDockerHttpClient} with the same endpoint settings.
+ * </p>
+ *
+ * @see DockerClientPoolConfig
+ */
+public class PooledApacheDockerHttpClient implements DockerHttpClient {
+
+    private static final Logger LOGGER = Logger.getLogger(PooledApacheDockerHttpClient.class);
+
+    private static final String PING_PATH = "/_ping";
+
+    private final URI dockerHost;
+    private final SSLConfig sslConfig;
+    private final int poolSize;
+    private final HttpHost host;
+    private final String pathPrefix;
+    private final CloseableHttpClient httpClient;
+    private final HijackingDockerHttpClient hijackingClient;
+
+    public PooledApacheDockerHttpClient(URI dockerHost, SSLConfig sslConfig, Duration connectTimeout,
+            Duration responseTimeout, DockerClientPoolConfig pool) {
+        if (dockerHost == null || pool == null) {
+            throw new IllegalArgumentException("Docker host and pool configuration cannot be null");
+        }
+        this.dockerHost = dockerHost;
+        this.sslConfig = sslConfig;
+        // Every request goes to the same route, so the per-route limit bounds the pool as well
+        this.poolSize = Math.min(pool.maxTotal(), pool.maxPerRoute());
+        this.hijackingClient = new HijackingDockerHttpClient(dockerHost, sslConfig, connectTimeout, responseTimeout);
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = createSocketFactoryRegistry();
+        switch (dockerHost.getScheme()) {
+            case "unix":
+            case "npipe":
+                this.pathPrefix = "";
+                this.host = new HttpHost(dockerHost.getScheme(), "localhost", 2375);
+                break;
+            case "tcp":
+                String rawPath = dockerHost.getRawPath();
+                this.pathPrefix = rawPath.endsWith("/") ? rawPath.substring(0, rawPath.length() - 1) : rawPath;
+                this.host = new HttpHost(
+                        socketFactoryRegistry.lookup("https") != null ? "https" : "http",
+                        dockerHost.getHost(),
+                        dockerHost.getPort());
+                break;
+            default:
+                this.pathPrefix = "";
+                this.host = HttpHost.create(dockerHost);
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                socketFactoryRegistry,
+                PoolConcurrencyPolicy.STRICT,
+                PoolReusePolicy.LIFO,
+                pool.timeToLive().map(ttl -> TimeValue.ofMilliseconds(ttl.toMillis())).orElse(TimeValue.NEG_ONE_MILLISECOND),
+                createConnectionFactory());
+        // Streams such as logs and events may stay silent for a long time, the response timeout guards requests instead
+        connectionManager.setDefaultSocketConfig(SocketConfig.custom()
+                .setSoTimeout(Timeout.ZERO_MILLISECONDS)
+                .build());
+        connectionManager.setMaxTotal(pool.maxTotal());
+        connectionManager.setDefaultMaxPerRoute(pool.maxPerRoute());
+
+        RequestConfig.Builder requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.leaseTimeout().toMillis()));
+        if (connectTimeout != null) {
+            requestConfig.setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()));
+        }
+        if (responseTimeout != null) {
+            requestConfig.setResponseTimeout(Timeout.ofMilliseconds(responseTimeout.toMillis()));
+        }
+
+        HttpClientBuilder clientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig.build());
+        pool.idleTimeout().ifPresent(idle -> clientBuilder
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idle.toMillis())));
+        this.httpClient = clientBuilder.build();
+    }
+
+    /**
+     * Opens up to the given number of connections to the daemon and returns them to the pool.
+     *
+     * <p>
+     * Every connection is leased by a {@code /_ping} request whose response is held open until all requests have been
+     * sent, which forces the pool to open a new connection for each of them.
+     * </p>
+     *
+     * @param connections The number of connections to open, capped by the maximum total and per-route connections
+     * @return The number of connections that were actually opened
+     */
+    public int warmUp(int connections) {
+        int target = Math.min(connections, poolSize);
+        List<CloseableHttpResponse> leased = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                leased.add(httpClient.execute(host, newRequest("GET", PING_PATH)));
+            }
+        } catch (IOException e) {
+            LOGGER.warnf(e, "Unable to warm up connections to Docker daemon %s, %d of %d opened",
+                    dockerHost, leased.size(), target);
+        } finally {
+            for (CloseableHttpResponse response : leased) {
+                try {
+                    EntityUtils.consume(response.getEntity());
+                    response.close();
+                } catch (IOException e) {
+                    LOGGER.debug("Failed to release warm-up connection", e);
+                }
+            }
+        }
+        return leased.size();
+    }
+
+    @Override
+    public Response execute(Request request) {
+        if (request.hijackedInput() != null) {
+            return hijackingClient.execute(request);
+        }
+
+        HttpUriRequestBase httpRequest = newRequest(request.method(), request.path());
+        request.headers().forEach(httpRequest::addHeader);
+
+        byte[] bodyBytes = request.bodyBytes();
+        if (bodyBytes != null) {
+            httpRequest.setEntity(new ByteArrayEntity(bodyBytes, null));
+        } else {
+            InputStream body = request.body();
+            if (body != null) {
+                httpRequest.setEntity(new InputStreamEntity(body, null));
+            }
+        }
+
+        try {
+            return new ApacheResponse(httpRequest, httpClient.execute(host, httpRequest));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+        hijackingClient.close();
+    }
+
+    private HttpUriRequestBase newRequest(String method, String path) {
+        HttpUriRequestBase httpRequest = new HttpUriRequestBase(method, URI.create(pathPrefix + path));
+        httpRequest.setScheme(host.getSchemeName());
+        httpRequest.setAuthority(new URIAuthority(host.getHostName(), host.getPort()));
+        return httpRequest;
+    }
+
+    private Registry<ConnectionSocketFactory> createSocketFactoryRegistry() {
+        RegistryBuilder<ConnectionSocketFactory> registryBuilder = RegistryBuilder.create();
+
+        if (sslConfig != null) {
+            try {
+                SSLContext sslContext = sslConfig.getSSLContext();
+                if (sslContext != null) {
+                    registryBuilder.register("https", new SSLConnectionSocketFactory(sslContext));
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to create the SSL context for Docker daemon " + dockerHost, e);
+            }
+        }
+
+        return registryBuilder
+                .register("tcp", PlainConnectionSocketFactory.INSTANCE)
+                .register("http", PlainConnectionSocketFactory.INSTANCE)
+                .register("unix", new PlainConnectionSocketFactory() {
+                    @Override
+                    public Socket createSocket(HttpContext context) throws IOException {
+                        return UnixSocket.get(dockerHost.getPath());
+                    }
+                })
+                .register("npipe", new PlainConnectionSocketFactory() {
+                    @Override
+                    public Socket createSocket(HttpContext context) {
+                        return new NamedPipeSocket(dockerHost.getPath());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * The daemon answers raw streams with {@code Transfer-Encoding: identity}, which must be read until the connection is
+     * closed instead of being rejected as a malformed message.
+     */
+    private static ManagedHttpClientConnectionFactory createConnectionFactory() {
+        return new ManagedHttpClientConnectionFactory(
+                null,
+                null,
+                null,
+                null,
+                message -> {
+                    Header transferEncoding = message.getFirstHeader(HttpHeaders.TRANSFER_ENCODING);
+                    if (transferEncoding != null && "identity".equalsIgnoreCase(transferEncoding.getValue())) {
+                        return ContentLengthStrategy.UNDEFINED;
+                    }
+                    return DefaultContentLengthStrategy.INSTANCE.determineLength(message);
+                },
+                null);
+    }
+
+    private static final class ApacheResponse implements Response {
+
+        private static final long DRAIN_LIMIT = 64 * 1024;
+
+        private final HttpUriRequestBase request;
+        private final CloseableHttpResponse response;
+
+        ApacheResponse(HttpUriRequestBase request, CloseableHttpResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return response.getCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return Stream.of(response.getHeaders()).collect(Collectors.groupingBy(
+                    NameValuePair::getName,
+                    Collectors.mapping(NameValuePair::getValue, Collectors.toList())));
+        }
+
+        @Override
+        public String getHeader(String name) {
+            Header header = response.getFirstHeader(name);
+            return header != null ? header.getValue() : null;
+        }
+
+        @Override
+        public InputStream getBody() {
+            try {
+                return response.getEntity() != null ? response.getEntity().getContent() : InputStream.nullInputStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            // Draining small bounded bodies lets the connection go back to the pool instead of being discarded
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.getContentLength() >= 0 && entity.getContentLength() <= DRAIN_LIMIT) {
+                try {
+                    EntityUtils.consume(entity);
+                    response.close();
+                    return;
+                } catch (IOException e) {
+                    LOGGER.trace("Failed to drain the Docker response, discarding the connection", e);
+                }
+            }
+
+            // Aborting first prevents close() from draining endless streams such as followed logs
+            try {
+                request.abort();
+            } catch (Exception e) {
+                LOGGER.debug("Failed to abort the Docker request", e);
+            }
+
+            try {
+                response.close();
+            } catch (ConnectionClosedException e) {
+                LOGGER.trace("Docker connection already closed", e);
+            } catch (Exception e) {
+                LOGGER.error("Failed to close the Docker response", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,464 @@
+package io.quarkiverse.docker.client.runtime.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jboss.logging.Logger;
+
+import com.github.dockerjava.core.LocalDirectorySSLConfig;
+import com.github.dockerjava.transport.DockerHttpClient;
+import com.github.dockerjava.transport.SSLConfig;
+
+import io.quarkiverse.docker.client.runtime.config.DockerClientPoolConfig;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.net.PemKeyCertOptions;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.core.net.SocketAddress;
+
+/**
+ * A {@link DockerHttpClient} running on the Vert.x HTTP client of the application.
+ *
+ * <p>
+ * Connections are owned by the Vert.x event loops, so an in-flight request or an open stream does not pin a platform
+ * thread to a socket. The calling thread only blocks while waiting for the response headers and while reading the body,
+ * which is bridged to an {@link InputStream} with bounded buffering: the response is paused whenever the reader falls
+ * behind. Except for streams such as events or followed logs, reading the body fails with a
+ * {@link SocketTimeoutException} when no data arrives within the read timeout.
+ * </p>
+ *
+ * <p>
+ * Unix sockets require the Vert.x native transport ({@code quarkus.vertx.prefer-native-transport=true}). TLS is supported
+ * for daemons configured through {@code docker-cert-path}. Named pipes are not supported. Hijacked requests (attach with
+ * stdin) are delegated to docker-java's stock transport.
+ * </p>
+ *
+ * <p>
+ * The connection pool is sized by {@link DockerClientPoolConfig#maxPerRoute()}, idle connections are closed after
+ * {@link DockerClientPoolConfig#idleTimeout()} and {@link DockerClientPoolConfig#leaseTimeout()} bounds how long a
+ * request waits for a connection. The connection time to live is not supported by this transport.
+ * </p>
+ */
+public class VertxDockerHttpClient implements DockerHttpClient {
+
+    private static final Logger LOGGER = Logger.getLogger(VertxDockerHttpClient.class);
+
+    private static final String PING_PATH = "/_ping";
+    private static final int DEFAULT_DOCKER_PORT = 2375;
+    private static final int REQUEST_CHUNK_SIZE = 16 * 1024;
+    private static final int RESPONSE_BUFFERED_CHUNKS = 16;
+
+    private final URI dockerHost;
+    private final HttpClient httpClient;
+    private final SocketAddress server;
+    private final String host;
+    private final int port;
+    private final boolean ssl;
+    private final String pathPrefix;
+    private final long acquireTimeoutMillis;
+    private final Duration responseTimeout;
+    private final int poolSize;
+    private final HijackingDockerHttpClient hijackingClient;
+
+    public VertxDockerHttpClient(Vertx vertx, URI dockerHost, SSLConfig sslConfig, Duration connectTimeout,
+            Duration responseTimeout, DockerClientPoolConfig pool) {
+        if (vertx == null || dockerHost == null || pool == null) {
+            throw new IllegalArgumentException("Vert.x, Docker host and pool configuration cannot be null");
+        }
+        this.dockerHost = dockerHost;
+        this.responseTimeout = responseTimeout;
+        this.poolSize = Math.min(pool.maxTotal(), pool.maxPerRoute());
+        this.acquireTimeoutMillis = pool.leaseTimeout().toMillis() + (connectTimeout != null ? connectTimeout.toMillis() : 0);
+        this.hijackingClient = new HijackingDockerHttpClient(dockerHost, sslConfig, connectTimeout, responseTimeout);
+
+        HttpClientOptions options = new HttpClientOptions()
+                .setKeepAlive(true)
+                .setMaxPoolSize(poolSize);
+        if (connectTimeout != null) {
+            options.setConnectTimeout((int) connectTimeout.toMillis());
+        }
+        pool.idleTimeout().ifPresent(idle -> options.setKeepAliveTimeout((int) Math.max(1, idle.toSeconds())));
+
+        switch (dockerHost.getScheme()) {
+            case "unix":
+                if (!vertx.isNativeTransportEnabled()) {
+                    throw new IllegalStateException("The Vert.x Docker transport needs the native transport to reach "
+                            + dockerHost + ", set quarkus.vertx.prefer-native-transport=true and add the Netty native"
+                            + " transport for your platform");
+                }
+                this.server = SocketAddress.domainSocketAddress(dockerHost.getPath());
+                this.host = "localhost";
+                this.port = DEFAULT_DOCKER_PORT;
+                this.ssl = false;
+                this.pathPrefix = "";
+                break;
+            case "tcp":
+                String rawPath = dockerHost.getRawPath();
+                this.host = dockerHost.getHost();
+                this.port = dockerHost.getPort() > 0 ? dockerHost.getPort() : DEFAULT_DOCKER_PORT;
+                this.server = SocketAddress.inetSocketAddress(port, host);
+                this.ssl = configureTls(options, sslConfig);
+                this.pathPrefix = rawPath.endsWith("/") ? rawPath.substring(0, rawPath.length() - 1) : rawPath;
+                break;
+            default:
+                throw new IllegalStateException("The Vert.x Docker transport does not support " + dockerHost
+                        + ", use quarkus.docker.transport=apache instead");
+        }
+
+        this.httpClient = vertx.createHttpClient(options);
+    }
+
+    /**
+     * Opens up to the given number of connections to the daemon by sending concurrent {@code /_ping} requests.
+     *
+     * @param connections The number of connections to open, capped by the pool size
+     * @return The number of requests that completed successfully
+     */
+    public int warmUp(int connections) {
+        int target = Math.min(connections, poolSize);
+        List<CompletableFuture<Void>> pings = new ArrayList<>(target);
+        for (int i = 0; i < target; i++) {
+            pings.add(httpClient.request(requestOptions("GET", PING_PATH))
+                    .compose(HttpClientRequest::send)
+                    .compose(HttpClientResponse::body)
+                    .<Void> mapEmpty()
+                    .toCompletionStage()
+                    .toCompletableFuture());
+        }
+
+        int opened = 0;
+        for (CompletableFuture<Void> ping : pings) {
+            try {
+                ping.get(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+                opened++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                LOGGER.debugf(e, "Warm-up request to Docker daemon %s failed", dockerHost);
+            }
+        }
+        if (opened < target) {
+            LOGGER.warnf("Unable to warm up connections to Docker daemon %s, %d of %d opened", dockerHost, opened, target);
+        }
+        return opened;
+    }
+
+    @Override
+    public Response execute(Request request) {
+        if (request.hijackedInput() != null) {
+            return hijackingClient.execute(request);
+        }
+        if (Context.isOnEventLoopThread()) {
+            throw new IllegalStateException("Blocking Docker calls cannot run on a Vert.x event loop thread");
+        }
+
+        RequestOptions options = requestOptions(request.method(), request.path());
+        request.headers().forEach(options::addHeader);
+
+        Future<HttpClientRequest> acquired = httpClient.request(options);
+        HttpClientRequest httpRequest;
+        try {
+            httpRequest = await(acquired, acquireTimeoutMillis, null);
+        } catch (UncheckedIOException e) {
+            // A connection acquired after the timeout would never be used nor returned to the pool
+            acquired.onSuccess(HttpClientRequest::reset);
+            throw e;
+        }
+        long timeoutMillis = responseTimeout != null ? responseTimeout.toMillis() : 0;
+        // Streams such as events or followed logs may stay silent for longer than the read timeout
+        long readTimeoutMillis = DockerApiEndpoints.isStreaming(request) ? 0 : timeoutMillis;
+        CompletableFuture<VertxResponse> response = new CompletableFuture<>();
+        httpRequest.response().onComplete(result -> {
+            if (result.succeeded()) {
+                // Runs on the event loop, handlers must be installed before any body chunk is delivered
+                response.complete(new VertxResponse(httpRequest, result.result(), readTimeoutMillis));
+            } else {
+                response.completeExceptionally(result.cause());
+            }
+        });
+
+        try {
+            sendBody(httpRequest, request);
+        } catch (RuntimeException e) {
+            httpRequest.reset();
+            throw e;
+        }
+
+        return await(response, timeoutMillis, httpRequest);
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+        hijackingClient.close();
+    }
+
+    private RequestOptions requestOptions(String method, String path) {
+        return new RequestOptions()
+                .setMethod(HttpMethod.valueOf(method))
+                .setServer(server)
+                .setHost(host)
+                .setPort(port)
+                .setSsl(ssl)
+                .setURI(pathPrefix + path)
+                .setConnectTimeout(acquireTimeoutMillis);
+    }
+
+    private void sendBody(HttpClientRequest httpRequest, Request request) {
+        byte[] bodyBytes = request.bodyBytes();
+        if (bodyBytes != null) {
+            httpRequest.end(Buffer.buffer(bodyBytes));
+            return;
+        }
+
+        InputStream body = request.body();
+        if (body == null) {
+            httpRequest.end();
+            return;
+        }
+
+        if (httpRequest.headers().get("Content-Length") == null) {
+            httpRequest.setChunked(true);
+        }
+        byte[] chunk = new byte[REQUEST_CHUNK_SIZE];
+        try (body) {
+            int read;
+            while ((read = body.read(chunk)) != -1) {
+                // Waiting for each write keeps at most one chunk in flight, which is the backpressure for large uploads
+                await(httpRequest.write(Buffer.buffer().appendBytes(chunk, 0, read)), 0, httpRequest);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        httpRequest.end();
+    }
+
+    private <T> T await(Future<T> future, long timeoutMillis, HttpClientRequest httpRequest) {
+        return await(future.toCompletionStage().toCompletableFuture(), timeoutMillis, httpRequest);
+    }
+
+    private <T> T await(CompletableFuture<T> future, long timeoutMillis, HttpClientRequest httpRequest) {
+        try {
+            return timeoutMillis > 0 ? future.get(timeoutMillis, TimeUnit.MILLISECONDS) : future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reset(httpRequest);
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while calling Docker daemon " + dockerHost));
+        } catch (TimeoutException e) {
+            reset(httpRequest);
+            throw new UncheckedIOException(new SocketTimeoutException(
+                    "Docker daemon " + dockerHost + " did not answer within " + timeoutMillis + " ms"));
+        } catch (ExecutionException e) {
+            reset(httpRequest);
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            throw new UncheckedIOException(new IOException("Docker request to " + dockerHost + " failed", cause));
+        }
+    }
+
+    private static void reset(HttpClientRequest httpRequest) {
+        if (httpRequest != null) {
+            httpRequest.reset();
+        }
+    }
+
+    private static boolean configureTls(HttpClientOptions options, SSLConfig sslConfig) {
+        if (sslConfig == null) {
+            return false;
+        }
+        if (!(sslConfig instanceof LocalDirectorySSLConfig)) {
+            throw new IllegalStateException("The Vert.x Docker transport only supports TLS configured through "
+                    + "docker-cert-path, use quarkus.docker.transport=apache instead");
+        }
+
+        Path certPath = Path.of(((LocalDirectorySSLConfig) sslConfig).getDockerCertPath());
+        options.setSsl(true)
+                .setKeyCertOptions(new PemKeyCertOptions()
+                        .setCertPath(certPath.resolve("cert.pem").toString())
+                        .setKeyPath(certPath.resolve("key.pem").toString()))
+                .setTrustOptions(new PemTrustOptions()
+                        .addCertPath(certPath.resolve("ca.pem").toString()));
+        return true;
+    }
+
+    /**
+     * Exposes a Vert.x response to docker-java. Body chunks are queued by the event loop and consumed by the calling
+     * thread, with at most {@link #RESPONSE_BUFFERED_CHUNKS} chunks requested ahead of the reader.
+     */
+    private static final class VertxResponse implements Response {
+
+        private final HttpClientResponse response;
+        private final ResponseInputStream body;
+
+        VertxResponse(HttpClientRequest request, HttpClientResponse response, long readTimeoutMillis) {
+            this.response = response;
+            this.body = new ResponseInputStream(Vertx.currentContext(), request, response, readTimeoutMillis);
+        }
+
+        @Override
+        public int getStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            MultiMap headers = response.headers();
+            Map<String, List<String>> result = new LinkedHashMap<>();
+            for (String name : headers.names()) {
+                result.put(name, headers.getAll(name));
+            }
+            return result;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return response.headers().get(name);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+            body.close();
+        }
+    }
+
+    /**
+     * Body of a response, failing with a {@link SocketTimeoutException} when no chunk arrives within the read timeout.
+     */
+    private static final class ResponseInputStream extends InputStream {
+
+        private static final Buffer END = Buffer.buffer();
+
+        private final Context context;
+        private final HttpClientRequest request;
+        private final HttpClientResponse response;
+        private final long readTimeoutMillis;
+        private final BlockingQueue<Buffer> chunks = new LinkedBlockingQueue<>();
+
+        private volatile Throwable failure;
+        private volatile boolean ended;
+        private boolean closed;
+        private Buffer current;
+        private int position;
+
+        ResponseInputStream(Context context, HttpClientRequest request, HttpClientResponse response,
+                long readTimeoutMillis) {
+            this.context = context;
+            this.request = request;
+            this.response = response;
+            this.readTimeoutMillis = readTimeoutMillis;
+            response.pause();
+            response.handler(chunks::add);
+            response.exceptionHandler(t -> {
+                failure = t;
+                chunks.add(END);
+            });
+            response.endHandler(v -> {
+                ended = true;
+                chunks.add(END);
+            });
+            response.fetch(RESPONSE_BUFFERED_CHUNKS);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextChunk()) {
+                return -1;
+            }
+            int count = Math.min(len, current.length() - position);
+            current.getBytes(position, position + count, b, off);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return current != null && current != END ? current.length() - position : 0;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (!ended) {
+                // Aborting closes the connection, which is the only way to stop endless streams such as followed logs
+                context.runOnContext(v -> request.reset());
+            }
+        }
+
+        private boolean nextChunk() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            while (current == null || current != END && position >= current.length()) {
+                if (current != null) {
+                    context.runOnContext(v -> response.fetch(1));
+                }
+                Buffer next;
+                try {
+                    next = readTimeoutMillis > 0 ? chunks.poll(readTimeoutMillis, TimeUnit.MILLISECONDS) : chunks.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reading Docker response");
+                }
+                if (next == null) {
+                    close();
+                    throw new SocketTimeoutException("Docker response not read within " + readTimeoutMillis + " ms");
+                }
+                current = next;
+                position = 0;
+            }
+            if (current == END) {
+                if (failure != null) {
+                    throw new IOException("Docker response stream failed", failure);
+                }
+                return false;
+            }
+            return true;
+        }
+    }
+}
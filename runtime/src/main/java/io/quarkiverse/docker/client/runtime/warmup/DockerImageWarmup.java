@@ -0,0 +1,189 @@
+package io.quarkiverse.docker.client.runtime.warmup;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.PullResponseItem;
+
+import io.quarkiverse.docker.client.runtime.NamedDockerClient;
+import io.quarkiverse.docker.client.runtime.ReactiveDockerClient;
+import io.quarkiverse.docker.client.runtime.bulk.BulkItemResult;
+import io.quarkiverse.docker.client.runtime.bulk.BulkResult;
+import io.quarkiverse.docker.client.runtime.bulk.DockerBulkOperations;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Pulls the images a client needs before the application serves requests, so the first container started from them does
+ * not wait for a pull.
+ *
+ * <p>
+ * The images of {@code quarkus.docker.[client-name.]pre-pull.images} are pulled when the application starts, with at
+ * most {@code quarkus.docker.[client-name.]pre-pull.concurrency} pulls at once. Every image is first inspected on the
+ * daemon, a local call, and only pulled when it is missing. Failing pulls do not stop the others: they are logged and
+ * reported in the result.
+ * </p>
+ *
+ * <p>
+ * Unless {@code quarkus.docker.[client-name.]pre-pull.gate-readiness} is disabled, the Docker client health check reports
+ * the client as down until the warm-up completed.
+ * </p>
+ *
+ * <p>
+ * Usage example:
+ * </p>
+ *
+ * <pre>
+ * {@literal @}Inject
+ * {@literal @}NamedDockerClient("ci")
+ * DockerImageWarmup warmup;
+ *
+ * void awaitImages() throws Exception {
+ *     warmup.start().toCompletableFuture().get(5, TimeUnit.MINUTES).throwIfFailed();
+ * }
+ * </pre>
+ *
+ * @see NamedDockerClient
+ */
+public class DockerImageWarmup {
+
+    private static final Logger LOGGER = Logger.getLogger(DockerImageWarmup.class);
+
+    private final ReactiveDockerClient client;
+    private final String clientName;
+    private final List<String> images;
+    private final int concurrency;
+    private final boolean gatesReadiness;
+    private final AtomicInteger completed = new AtomicInteger();
+
+    private CompletableFuture<BulkResult<String, Status>> result;
+
+    /**
+     * Creates the warm-up of a client.
+     *
+     * @param client The client pulling the images
+     * @param clientName The client name, used in log messages
+     * @param images The references of the images to pull
+     * @param concurrency The maximum number of concurrent pulls
+     * @param gatesReadiness Whether readiness waits for the warm-up
+     */
+    public DockerImageWarmup(ReactiveDockerClient client, String clientName, List<String> images, int concurrency,
+            boolean gatesReadiness) {
+        if (client == null) {
+            throw new IllegalArgumentException("ReactiveDockerClient cannot be null");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.client = client;
+        this.clientName = clientName;
+        this.images = List.copyOf(images);
+        this.concurrency = concurrency;
+        this.gatesReadiness = gatesReadiness;
+    }
+
+    /**
+     * Starts pulling the images, unless the warm-up already started.
+     *
+     * @return A stage completing with the result of every image once all of them are pulled or failed
+     */
+    public synchronized CompletionStage<BulkResult<String, Status>> start() {
+        if (result == null) {
+            long start = System.nanoTime();
+            result = new DockerBulkOperations(client, concurrency)
+                    .run(images, reference -> warm(reference).eventually(completed::incrementAndGet))
+                    .invoke(outcome -> log(outcome, start))
+                    .subscribeAsCompletionStage();
+        }
+        return result;
+    }
+
+    /**
+     * Determines whether every image is pulled or failed. A warm-up without images is always done.
+     *
+     * @return true if the warm-up completed
+     */
+    public boolean isDone() {
+        return completed.get() == images.size();
+    }
+
+    /**
+     * Returns the number of images whose pull completed, successfully or not.
+     *
+     * @return The number of completed images
+     */
+    public int completed() {
+        return completed.get();
+    }
+
+    /**
+     * Returns the references of the images of the warm-up.
+     *
+     * @return The image references
+     */
+    public List<String> images() {
+        return images;
+    }
+
+    /**
+     * Determines whether readiness waits for the warm-up.
+     *
+     * @return true if the health check reports the client as down until the warm-up completed
+     */
+    public boolean gatesReadiness() {
+        return gatesReadiness;
+    }
+
+    private Uni<Status> warm(String reference) {
+        return client.inspectImage(reference)
+                .replaceWith(Status.PRESENT)
+                .onFailure(NotFoundException.class).recoverWithUni(() -> pull(reference));
+    }
+
+    private Uni<Status> pull(String reference) {
+        return client.pullImage(reference)
+                .invoke(item -> failIfError(reference, item))
+                .collect().last()
+                .replaceWith(Status.PULLED);
+    }
+
+    private void failIfError(String reference, PullResponseItem item) {
+        if (item.isErrorIndicated()) {
+            String message = item.getErrorDetail() != null ? item.getErrorDetail().getMessage() : item.getError();
+            throw new DockerClientException(
+                    String.format("Pull of %s on Docker client %s failed: %s", reference, clientName, message));
+        }
+    }
+
+    private void log(BulkResult<String, Status> outcome, long start) {
+        for (BulkItemResult<String, Status> item : outcome.failed()) {
+            LOGGER.warnf(item.failure(), "Docker client %s could not pre-pull %s", clientName, item.spec());
+        }
+        long pulled = outcome.results().stream().filter(status -> status == Status.PULLED).count();
+        LOGGER.infof("Docker client %s pre-pulled %d images, %d already present and %d failed, in %d ms", clientName,
+                pulled, outcome.succeeded().size() - pulled, outcome.failed().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * How an image of the warm-up was made available.
+     */
+    public enum Status {
+
+        /**
+         * The image was already present on the daemon.
+         */
+        PRESENT,
+
+        /**
+         * The image was pulled.
+         */
+        PULLED
+    }
+}
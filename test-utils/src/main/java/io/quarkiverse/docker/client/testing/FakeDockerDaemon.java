@@ -0,0 +1,451 @@
+package io.quarkiverse.docker.client.testing;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.quarkiverse.docker.client.runtime.transport.DockerApiEndpoints;
+
+/**
+ * In-process fake Docker daemon for load and resilience tests.
+ *
+ * <p>
+ * The daemon serves a realistic subset of the Docker Engine API over a unix socket or a loopback TCP port: ping, version,
+ * info, containers (create, list, inspect, start, stop, kill, restart, wait, logs, remove), images (list, inspect, pull,
+ * remove), events and exec. State is kept in memory, containers run nothing and their logs are generated lines.
+ * </p>
+ *
+ * <p>
+ * Before a request is handled, the daemon waits for a latency drawn from a {@link LatencyDistribution}, and may then
+ * inject a fault: reset the connection, or answer with a {@code 500} error. Latencies and faults are drawn from a seeded
+ * random source, so a run can be reproduced. Clients connect through the {@link #dockerHost()} of the daemon:
+ * </p>
+ *
+ * <pre>
+ * try (FakeDockerDaemon daemon = FakeDockerDaemon.builder()
+ *         .latency(LatencyDistribution.logNormal(Duration.ofMillis(2), Duration.ofMillis(40)))
+ *         .errorRate(0.01)
+ *         .image("alpine:3.20")
+ *         .start()) {
+ *     // quarkus.docker.docker-host=${daemon.dockerHost()}
+ * }
+ * </pre>
+ *
+ * <p>
+ * Within Quarkus tests, {@link FakeDockerDaemonTestResource} starts a daemon and points a client to it.
+ * </p>
+ */
+public final class FakeDockerDaemon implements Closeable {
+
+    private final Path socket;
+    private final ServerSocketChannel server;
+    private final FakeEngine engine;
+    private final LatencyDistribution latency;
+    private final Map<String, LatencyDistribution> endpointLatencies;
+    private final double errorRate;
+    private final double connectionResetRate;
+    private final Random random;
+    private final ExecutorService connections;
+    private final Set<SocketChannel> openChannels = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicLong> requestsByEndpoint = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong injectedResets = new AtomicLong();
+    private volatile boolean closed;
+
+    private FakeDockerDaemon(Builder builder) throws IOException {
+        this.engine = new FakeEngine(builder.images, builder.logLines);
+        this.latency = builder.latency;
+        this.endpointLatencies = Map.copyOf(builder.endpointLatencies);
+        this.errorRate = builder.errorRate;
+        this.connectionResetRate = builder.connectionResetRate;
+        this.random = new Random(builder.seed);
+
+        if (builder.tcpPort >= 0) {
+            this.socket = null;
+            this.server = ServerSocketChannel.open(StandardProtocolFamily.INET);
+            this.server.bind(new InetSocketAddress("127.0.0.1", builder.tcpPort), 1024);
+        } else {
+            this.socket = builder.socket != null ? builder.socket
+                    : Files.createTempDirectory("fake-docker-daemon").resolve("docker.sock");
+            Files.deleteIfExists(socket);
+            this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            this.server.bind(UnixDomainSocketAddress.of(socket), 1024);
+        }
+
+        this.connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fake-docker-daemon-connection");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Thread acceptor = new Thread(this::accept, "fake-docker-daemon-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Creates a builder of a daemon listening on a unix socket in the temporary directory.
+     *
+     * @return The builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the Docker host URI of the daemon, to use as {@code quarkus.docker.[client-name.]docker-host}.
+     *
+     * @return {@code unix:///path/to/docker.sock} or {@code tcp://127.0.0.1:port}
+     */
+    public String dockerHost() {
+        if (socket != null) {
+            return "unix://" + socket.toAbsolutePath();
+        }
+        try {
+            InetSocketAddress address = (InetSocketAddress) server.getLocalAddress();
+            return "tcp://127.0.0.1:" + address.getPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("The fake Docker daemon is closed", e);
+        }
+    }
+
+    /**
+     * Returns the number of requests received, including those failed by an injected fault.
+     *
+     * @return The number of requests
+     */
+    public long requests() {
+        return requests.get();
+    }
+
+    /**
+     * Returns the number of requests received per endpoint template, for example {@code /containers/{id}/json}.
+     *
+     * @return The request counts, by endpoint
+     */
+    public Map<String, Long> requestsByEndpoint() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        requestsByEndpoint.forEach((endpoint, count) -> counts.put(endpoint, count.get()));
+        return counts;
+    }
+
+    /**
+     * Returns the number of requests answered with an injected {@code 500} error.
+     *
+     * @return The number of injected errors
+     */
+    public long injectedErrors() {
+        return injectedErrors.get();
+    }
+
+    /**
+     * Returns the number of connections reset on purpose.
+     *
+     * @return The number of injected resets
+     */
+    public long injectedResets() {
+        return injectedResets.get();
+    }
+
+    /**
+     * Returns the references of the images the daemon knows, including pulled ones.
+     *
+     * @return The image references
+     */
+    public List<String> images() {
+        return engine.images();
+    }
+
+    /**
+     * Returns the number of containers, running or not.
+     *
+     * @return The number of containers
+     */
+    public int containers() {
+        return engine.containerCount();
+    }
+
+    /**
+     * Removes every container, exec instance and event and resets the counters, keeping the images. Useful between tests
+     * sharing one daemon.
+     */
+    public void reset() {
+        engine.reset();
+        requests.set(0);
+        injectedErrors.set(0);
+        injectedResets.set(0);
+        requestsByEndpoint.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        engine.close();
+        server.close();
+        for (SocketChannel channel : openChannels) {
+            channel.close();
+        }
+        connections.shutdownNow();
+        try {
+            connections.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (socket != null) {
+            Files.deleteIfExists(socket);
+        }
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                SocketChannel channel = server.accept();
+                openChannels.add(channel);
+                connections.execute(() -> serve(channel));
+            } catch (IOException e) {
+                // Closed
+                return;
+            }
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        try (channel;
+                InputStream in = new BufferedInputStream(Channels.newInputStream(channel), 8192);
+                OutputStream out = Channels.newOutputStream(channel)) {
+            FakeHttpExchange exchange;
+            while (!closed && (exchange = FakeHttpExchange.read(in, out)) != null) {
+                if (!handle(channel, exchange) || exchange.streaming()) {
+                    // Streams end with the connection, as hijacked daemon streams do
+                    return;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Client went away or sent something the daemon does not understand
+        } finally {
+            openChannels.remove(channel);
+        }
+    }
+
+    /**
+     * Handles a request after its latency, unless a fault is injected.
+     *
+     * @return false if the connection must be closed
+     */
+    private boolean handle(SocketChannel channel, FakeHttpExchange exchange) throws IOException {
+        String endpoint = DockerApiEndpoints.template(exchange.path());
+        requests.incrementAndGet();
+        requestsByEndpoint.computeIfAbsent(endpoint, key -> new AtomicLong()).incrementAndGet();
+
+        long delay;
+        boolean reset;
+        boolean error;
+        synchronized (random) {
+            delay = endpointLatencies.getOrDefault(endpoint, latency).sampleNanos(random);
+            reset = connectionResetRate > 0 && random.nextDouble() < connectionResetRate;
+            error = !reset && errorRate > 0 && random.nextDouble() < errorRate;
+        }
+
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        if (reset) {
+            injectedResets.incrementAndGet();
+            if (socket == null) {
+                // A zero linger time makes the close send a TCP reset instead of a graceful shutdown
+                channel.setOption(StandardSocketOptions.SO_LINGER, 0);
+            }
+            channel.close();
+            return false;
+        }
+        if (error) {
+            injectedErrors.incrementAndGet();
+            exchange.respond(500, "application/json",
+                    "{\"message\":\"injected fault\"}".getBytes(StandardCharsets.UTF_8));
+            return true;
+        }
+
+        engine.handle(exchange);
+        if (!exchange.responded()) {
+            exchange.respond(501, "application/json",
+                    "{\"message\":\"not implemented by the fake daemon\"}".getBytes(StandardCharsets.UTF_8));
+        }
+        return true;
+    }
+
+    /**
+     * Builder of {@link FakeDockerDaemon} instances.
+     */
+    public static final class Builder {
+
+        private Path socket;
+        private int tcpPort = -1;
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private final Map<String, LatencyDistribution> endpointLatencies = new LinkedHashMap<>();
+        private double errorRate;
+        private double connectionResetRate;
+        private long seed = System.nanoTime();
+        private final List<String> images = new ArrayList<>();
+        private int logLines = 100;
+
+        private Builder() {
+        }
+
+        /**
+         * Listens on the given unix socket, which is replaced if it exists.
+         *
+         * @param socket The socket path
+         * @return This builder
+         */
+        public Builder unixSocket(Path socket) {
+            this.socket = socket;
+            this.tcpPort = -1;
+            return this;
+        }
+
+        /**
+         * Listens on an ephemeral loopback TCP port instead of a unix socket.
+         *
+         * @return This builder
+         */
+        public Builder tcp() {
+            return tcp(0);
+        }
+
+        /**
+         * Listens on the given loopback TCP port instead of a unix socket.
+         *
+         * @param port The port, 0 for an ephemeral one
+         * @return This builder
+         */
+        public Builder tcp(int port) {
+            this.tcpPort = port;
+            this.socket = null;
+            return this;
+        }
+
+        /**
+         * Sets the latency of every endpoint without a specific one.
+         *
+         * @param latency The latency distribution
+         * @return This builder
+         */
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Sets the latency of one endpoint.
+         *
+         * @param endpoint The endpoint template, for example {@code /containers/create} or {@code /containers/{id}/json}
+         * @param latency The latency distribution
+         * @return This builder
+         */
+        public Builder latency(String endpoint, LatencyDistribution latency) {
+            this.endpointLatencies.put(endpoint, latency);
+            return this;
+        }
+
+        /**
+         * Sets the share of requests answered with a {@code 500} error.
+         *
+         * @param errorRate The share, between 0 and 1
+         * @return This builder
+         */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = rate(errorRate);
+            return this;
+        }
+
+        /**
+         * Sets the share of requests whose connection is reset without a response.
+         *
+         * @param connectionResetRate The share, between 0 and 1
+         * @return This builder
+         */
+        public Builder connectionResetRate(double connectionResetRate) {
+            this.connectionResetRate = rate(connectionResetRate);
+            return this;
+        }
+
+        /**
+         * Sets the seed of the random source of latencies and faults.
+         *
+         * @param seed The seed
+         * @return This builder
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Adds an image the daemon knows from the start, so containers can be created without pulling it first.
+         *
+         * @param reference The image reference, {@code latest} if untagged
+         * @return This builder
+         */
+        public Builder image(String reference) {
+            this.images.add(reference);
+            return this;
+        }
+
+        /**
+         * Sets the number of log lines of every container.
+         *
+         * @param logLines The number of lines
+         * @return This builder
+         */
+        public Builder logLines(int logLines) {
+            this.logLines = Math.max(0, logLines);
+            return this;
+        }
+
+        /**
+         * Starts the daemon.
+         *
+         * @return The started daemon
+         * @throws IOException if the socket cannot be bound
+         */
+        public FakeDockerDaemon start() throws IOException {
+            return new FakeDockerDaemon(this);
+        }
+
+        private static double rate(double rate) {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Rate must be between 0 and 1: " + rate);
+            }
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.quarkiverse.docker.client.testing;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+
+import io.quarkiverse.docker.client.runtime.config.DockerRuntimeConfig;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+/**
+ * Quarkus test resource starting a {@link FakeDockerDaemon} and pointing a Docker client to it.
+ *
+ * <p>
+ * The resource sets the {@code docker-host} of the client to the daemon, and injects the daemon in the test fields
+ * annotated with {@link InjectFakeDockerDaemon}. It accepts these init arguments:
+ * </p>
+ * <ul>
+ * <li>{@code client}: the name of the client to configure, the default client if unset</li>
+ * <li>{@code transport}: {@code unix} (default) or {@code tcp}</li>
+ * <li>{@code latency}: {@code none}, {@code fixed:5ms}, {@code uniform:1ms,10ms}, {@code exponential:5ms} or
+ * {@code log-normal:5ms,50ms} (median and 99th percentile)</li>
+ * <li>{@code error-rate}: the share of requests answered with a {@code 500} error</li>
+ * <li>{@code reset-rate}: the share of requests whose connection is reset</li>
+ * <li>{@code images}: comma-separated images known from the start</li>
+ * <li>{@code seed}: the seed of the random source of latencies and faults</li>
+ * </ul>
+ *
+ * <pre>
+ * &#64;QuarkusTest
+ * &#64;QuarkusTestResource(value = FakeDockerDaemonTestResource.class, initArgs = {
+ *         &#64;ResourceArg(name = "latency", value = "log-normal:5ms,50ms"),
+ *         &#64;ResourceArg(name = "error-rate", value = "0.01") })
+ * class ContainerServiceLoadTest {
+ *
+ *     &#64;InjectFakeDockerDaemon
+ *     FakeDockerDaemon daemon;
+ * }
+ * </pre>
+ */
+public class FakeDockerDaemonTestResource implements QuarkusTestResourceLifecycleManager {
+
+    private String client = DockerRuntimeConfig.DEFAULT_CLIENT_NAME;
+    private final FakeDockerDaemon.Builder builder = FakeDockerDaemon.builder();
+    private FakeDockerDaemon daemon;
+
+    @Override
+    public void init(Map<String, String> initArgs) {
+        initArgs.forEach((name, value) -> {
+            switch (name) {
+                case "client" -> client = value;
+                case "transport" -> {
+                    if ("tcp".equalsIgnoreCase(value)) {
+                        builder.tcp();
+                    } else if (!"unix".equalsIgnoreCase(value)) {
+                        throw new IllegalArgumentException("Unknown fake Docker daemon transport: " + value);
+                    }
+                }
+                case "latency" -> builder.latency(parseLatency(value));
+                case "error-rate" -> builder.errorRate(Double.parseDouble(value));
+                case "reset-rate" -> builder.connectionResetRate(Double.parseDouble(value));
+                case "images" -> {
+                    for (String image : value.split(",")) {
+                        if (!image.isBlank()) {
+                            builder.image(image.trim());
+                        }
+                    }
+                }
+                case "seed" -> builder.seed(Long.parseLong(value));
+                case "log-lines" -> builder.logLines(Integer.parseInt(value));
+                default -> throw new IllegalArgumentException("Unknown fake Docker daemon argument: " + name);
+            }
+        });
+    }
+
+    @Override
+    public Map<String, String> start() {
+        try {
+            daemon = builder.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start the fake Docker daemon", e);
+        }
+        return Map.of(DockerRuntimeConfig.propertyKey(client, "docker-host"), daemon.dockerHost());
+    }
+
+    @Override
+    public void inject(TestInjector testInjector) {
+        testInjector.injectIntoFields(daemon,
+                new TestInjector.AnnotatedAndMatchesType(InjectFakeDockerDaemon.class, FakeDockerDaemon.class));
+    }
+
+    @Override
+    public void stop() {
+        if (daemon != null) {
+            try {
+                daemon.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to stop the fake Docker daemon", e);
+            }
+        }
+    }
+
+    /**
+     * Parses a latency distribution such as {@code log-normal:5ms,50ms}.
+     */
+    static LatencyDistribution parseLatency(String value) {
+        int separator = value.indexOf(':');
+        String kind = (separator >= 0 ? value.substring(0, separator) : value).trim();
+        String[] durations = separator >= 0 ? value.substring(separator + 1).split(",") : new String[0];
+        return switch (kind) {
+            case "none" -> LatencyDistribution.none();
+            case "fixed" -> LatencyDistribution.fixed(duration(durations, 0, value));
+            case "uniform" -> LatencyDistribution.uniform(duration(durations, 0, value), duration(durations, 1, value));
+            case "exponential" -> LatencyDistribution.exponential(duration(durations, 0, value));
+            case "log-normal" -> LatencyDistribution.logNormal(duration(durations, 0, value), duration(durations, 1, value));
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + value);
+        };
+    }
+
+    private static Duration duration(String[] durations, int index, String value) {
+        if (index >= durations.length) {
+            throw new IllegalArgumentException("Missing duration in latency distribution: " + value);
+        }
+        return DurationConverter.parseDuration(durations[index].trim());
+    }
+}
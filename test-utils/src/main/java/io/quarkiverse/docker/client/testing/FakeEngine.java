@@ -0,0 +1,866 @@
+package io.quarkiverse.docker.client.testing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * In-memory Docker Engine serving the API subset of the {@link FakeDockerDaemon}.
+ *
+ * <p>
+ * Containers never run anything: starting one only flips its state, and its logs are generated lines. This is enough for
+ * client code to go through realistic request sequences, including the failure statuses a real daemon returns.
+ * </p>
+ */
+final class FakeEngine {
+
+    static final String API_VERSION = "1.47";
+    static final String ENGINE_VERSION = "27.3.1";
+
+    private static final int MAX_EVENTS = 10_000;
+    private static final String JSON = "application/json";
+    private static final String RAW_STREAM = "application/vnd.docker.raw-stream";
+    private static final String MULTIPLEXED_STREAM = "application/vnd.docker.multiplexed-stream";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final int logLines;
+    private final Object lock = new Object();
+
+    // Guarded by lock
+    private final Map<String, FakeContainer> containers = new LinkedHashMap<>();
+    private final Map<String, FakeImage> images = new LinkedHashMap<>();
+    private final Map<String, FakeExec> execs = new LinkedHashMap<>();
+    private final Deque<ObjectNode> events = new ArrayDeque<>();
+
+    private final Set<BlockingQueue<ObjectNode>> eventSubscribers = new CopyOnWriteArraySet<>();
+    private volatile boolean closed;
+
+    FakeEngine(List<String> seedImages, int logLines) {
+        this.logLines = logLines;
+        seedImages.forEach(reference -> addImage(normalize(reference)));
+    }
+
+    /**
+     * Returns the references of the images the engine knows.
+     */
+    List<String> images() {
+        synchronized (lock) {
+            return images.keySet().stream().toList();
+        }
+    }
+
+    /**
+     * Returns the number of containers, running or not.
+     */
+    int containerCount() {
+        synchronized (lock) {
+            return containers.size();
+        }
+    }
+
+    /**
+     * Drops every container, exec instance and event, keeping the images.
+     */
+    void reset() {
+        synchronized (lock) {
+            containers.clear();
+            execs.clear();
+            events.clear();
+            lock.notifyAll();
+        }
+    }
+
+    void close() {
+        closed = true;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    void handle(FakeHttpExchange exchange) throws IOException {
+        String resource = exchange.segment(0);
+        String method = exchange.method();
+        int segments = exchange.segmentCount();
+
+        switch (resource == null ? "" : resource) {
+            case "_ping" -> exchange.respond(200, "text/plain; charset=utf-8", bytes("OK"));
+            case "version" -> json(exchange, 200, version());
+            case "info" -> json(exchange, 200, info());
+            case "events" -> streamEvents(exchange);
+            case "containers" -> {
+                if (segments == 2 && "json".equals(exchange.segment(1)) && "GET".equals(method)) {
+                    listContainers(exchange);
+                } else if (segments == 2 && "create".equals(exchange.segment(1)) && "POST".equals(method)) {
+                    createContainer(exchange);
+                } else if (segments >= 2) {
+                    handleContainer(exchange, exchange.segment(1), segments == 2 ? "" : exchange.segment(2));
+                } else {
+                    notFound(exchange, "page not found");
+                }
+            }
+            case "images" -> handleImages(exchange);
+            case "exec" -> handleExec(exchange, exchange.segment(1), segments == 2 ? "" : exchange.segment(2));
+            default -> notFound(exchange, "page not found");
+        }
+    }
+
+    // Containers
+
+    private void listContainers(FakeHttpExchange exchange) throws IOException {
+        boolean all = exchange.queryFlag("all");
+        JsonNode filters = parseFilters(exchange.query("filters"));
+        ArrayNode list = mapper.createArrayNode();
+        synchronized (lock) {
+            for (FakeContainer container : containers.values()) {
+                if ((all || container.running()) && matches(container, filters)) {
+                    list.add(summary(container));
+                }
+            }
+        }
+        json(exchange, 200, list);
+    }
+
+    private void createContainer(FakeHttpExchange exchange) throws IOException {
+        JsonNode request = exchange.body().length == 0 ? mapper.createObjectNode() : mapper.readTree(exchange.body());
+        String image = normalize(request.path("Image").asText(""));
+        String name = exchange.query("name");
+
+        FakeContainer container;
+        synchronized (lock) {
+            FakeImage fakeImage = images.get(image);
+            if (fakeImage == null) {
+                notFound(exchange, "No such image: " + image);
+                return;
+            }
+            if (name != null && findContainer(name) != null) {
+                error(exchange, 409, "Conflict. The container name \"/" + name + "\" is already in use");
+                return;
+            }
+
+            String id = randomId();
+            container = new FakeContainer(id, name != null && !name.isEmpty() ? name : "fake_" + id.substring(0, 12),
+                    image, fakeImage.id, request.path("Labels"), request.path("Cmd"), request.path("Tty").asBoolean());
+            containers.put(id, container);
+            publish(containerEvent("create", container));
+        }
+
+        ObjectNode created = mapper.createObjectNode().put("Id", container.id);
+        created.putArray("Warnings");
+        json(exchange, 201, created);
+    }
+
+    private void handleContainer(FakeHttpExchange exchange, String idOrName, String action) throws IOException {
+        String method = exchange.method();
+        synchronized (lock) {
+            FakeContainer container = findContainer(idOrName);
+            if (container == null) {
+                notFound(exchange, "No such container: " + idOrName);
+                return;
+            }
+
+            switch (method + " " + action) {
+                case "GET json" -> json(exchange, 200, inspect(container));
+                case "POST start" -> {
+                    if (container.running()) {
+                        exchange.respondEmpty(304);
+                    } else {
+                        container.start();
+                        publish(containerEvent("start", container));
+                        exchange.respondEmpty(204);
+                    }
+                }
+                case "POST stop", "POST kill" -> {
+                    if (!container.running()) {
+                        if ("kill".equals(action)) {
+                            error(exchange, 409, "Container " + container.id + " is not running");
+                        } else {
+                            exchange.respondEmpty(304);
+                        }
+                    } else {
+                        stop(container, "kill".equals(action) ? 137 : 0, action);
+                        exchange.respondEmpty(204);
+                    }
+                }
+                case "POST restart" -> {
+                    if (container.running()) {
+                        stop(container, 0, "stop");
+                    }
+                    container.start();
+                    publish(containerEvent("start", container));
+                    publish(containerEvent("restart", container));
+                    exchange.respondEmpty(204);
+                }
+                case "DELETE " -> {
+                    if (container.running() && !exchange.queryFlag("force")) {
+                        error(exchange, 409, "You cannot remove a running container " + container.id
+                                + ". Stop the container before attempting removal or force remove");
+                    } else {
+                        if (container.running()) {
+                            stop(container, 137, "kill");
+                        }
+                        containers.remove(container.id);
+                        publish(containerEvent("destroy", container));
+                        lock.notifyAll();
+                        exchange.respondEmpty(204);
+                    }
+                }
+                case "POST wait" -> {
+                    // Waiting releases the lock, other requests proceed meanwhile
+                    while (container.running() && containers.containsKey(container.id) && !closed) {
+                        awaitChange();
+                    }
+                    json(exchange, 200, mapper.createObjectNode().put("StatusCode", container.exitCode)
+                            .putNull("Error"));
+                }
+                case "GET logs" -> {
+                    // Written outside of the lock below
+                }
+                case "POST exec" -> createExec(exchange, container);
+                default -> notFound(exchange, "page not found");
+            }
+            if (!"GET logs".equals(method + " " + action)) {
+                return;
+            }
+        }
+        streamLogs(exchange, idOrName);
+    }
+
+    private void stop(FakeContainer container, int exitCode, String action) {
+        container.stop(exitCode);
+        if ("kill".equals(action)) {
+            publish(containerEvent("kill", container));
+        }
+        publish(containerEvent("die", container));
+        if ("stop".equals(action)) {
+            publish(containerEvent("stop", container));
+        }
+        lock.notifyAll();
+    }
+
+    private void streamLogs(FakeHttpExchange exchange, String idOrName) throws IOException {
+        FakeContainer container;
+        synchronized (lock) {
+            container = findContainer(idOrName);
+        }
+        if (container == null) {
+            notFound(exchange, "No such container: " + idOrName);
+            return;
+        }
+
+        boolean stdout = exchange.queryFlag("stdout");
+        boolean stderr = exchange.queryFlag("stderr");
+        int lines = logLines;
+        String tail = exchange.query("tail");
+        if (tail != null && !"all".equals(tail)) {
+            lines = Math.min(lines, Integer.parseInt(tail));
+        }
+
+        exchange.startStream(200, container.tty ? RAW_STREAM : MULTIPLEXED_STREAM);
+        for (int i = logLines - lines; i < logLines; i++) {
+            boolean error = i % 10 == 9;
+            if (error ? stderr : stdout) {
+                exchange.writeChunk(frame(container.tty, error ? 2 : 1,
+                        String.format("%s %s line %d%n", Instant.ofEpochSecond(container.created + i), container.name, i)));
+            }
+        }
+        if (exchange.queryFlag("follow")) {
+            synchronized (lock) {
+                while (container.running() && containers.containsKey(container.id) && !closed) {
+                    awaitChange();
+                }
+            }
+        }
+        exchange.endStream();
+    }
+
+    // Exec
+
+    private void createExec(FakeHttpExchange exchange, FakeContainer container) throws IOException {
+        if (!container.running()) {
+            error(exchange, 409, "Container " + container.id + " is not running");
+            return;
+        }
+        JsonNode request = exchange.body().length == 0 ? mapper.createObjectNode() : mapper.readTree(exchange.body());
+        List<String> command = new ArrayList<>();
+        request.path("Cmd").forEach(part -> command.add(part.asText()));
+        FakeExec exec = new FakeExec(randomId(), container.id, command, request.path("Tty").asBoolean());
+        execs.put(exec.id, exec);
+        publish(containerEvent("exec_create: " + String.join(" ", command), container));
+        json(exchange, 201, mapper.createObjectNode().put("Id", exec.id));
+    }
+
+    private void handleExec(FakeHttpExchange exchange, String id, String action) throws IOException {
+        FakeExec exec;
+        synchronized (lock) {
+            exec = id == null ? null : execs.get(id);
+        }
+        if (exec == null) {
+            notFound(exchange, "No such exec instance: " + id);
+            return;
+        }
+
+        if ("GET".equals(exchange.method()) && "json".equals(action)) {
+            json(exchange, 200, mapper.createObjectNode()
+                    .put("ID", exec.id)
+                    .put("ContainerID", exec.containerId)
+                    .put("Running", false)
+                    .put("ExitCode", exec.started ? 0 : null)
+                    .put("Pid", 0));
+        } else if ("POST".equals(exchange.method()) && "start".equals(action)) {
+            JsonNode request = exchange.body().length == 0 ? mapper.createObjectNode() : mapper.readTree(exchange.body());
+            exec.started = true;
+            if (request.path("Detach").asBoolean()) {
+                exchange.respondEmpty(200);
+                return;
+            }
+            exchange.startStream(200, exec.tty ? RAW_STREAM : MULTIPLEXED_STREAM);
+            exchange.writeChunk(frame(exec.tty, 1, String.join(" ", exec.command) + "\n"));
+            exchange.endStream();
+        } else {
+            notFound(exchange, "page not found");
+        }
+    }
+
+    // Images
+
+    private void handleImages(FakeHttpExchange exchange) throws IOException {
+        String method = exchange.method();
+        int segments = exchange.segmentCount();
+        if (segments == 2 && "json".equals(exchange.segment(1)) && "GET".equals(method)) {
+            ArrayNode list = mapper.createArrayNode();
+            synchronized (lock) {
+                images.values().stream().distinct().forEach(image -> list.add(imageSummary(image)));
+            }
+            json(exchange, 200, list);
+            return;
+        }
+        if (segments == 2 && "create".equals(exchange.segment(1)) && "POST".equals(method)) {
+            pullImage(exchange);
+            return;
+        }
+
+        // Image names may contain slashes, the action is the last segment for GET
+        List<String> parts = new ArrayList<>();
+        for (int i = 1; i < segments; i++) {
+            parts.add(exchange.segment(i));
+        }
+        if ("GET".equals(method) && parts.size() > 1 && "json".equals(parts.get(parts.size() - 1))) {
+            String name = String.join("/", parts.subList(0, parts.size() - 1));
+            synchronized (lock) {
+                FakeImage image = findImage(name);
+                if (image == null) {
+                    notFound(exchange, "No such image: " + name);
+                } else {
+                    json(exchange, 200, imageInspect(image));
+                }
+            }
+        } else if ("DELETE".equals(method) && !parts.isEmpty()) {
+            removeImage(exchange, String.join("/", parts));
+        } else {
+            notFound(exchange, "page not found");
+        }
+    }
+
+    private void pullImage(FakeHttpExchange exchange) throws IOException {
+        String from = exchange.query("fromImage");
+        if (from == null || from.isEmpty()) {
+            error(exchange, 400, "fromImage is required");
+            return;
+        }
+        String tag = exchange.query("tag");
+        String reference = normalize(tag == null || tag.isEmpty() ? from : from + ":" + tag);
+
+        exchange.startStream(200, JSON);
+        String layer = randomId().substring(0, 12);
+        exchange.writeChunk(bytes("{\"status\":\"Pulling from " + repository(reference) + "\",\"id\":\"" + tagOf(reference)
+                + "\"}\r\n"));
+        exchange.writeChunk(bytes("{\"status\":\"Pull complete\",\"progressDetail\":{},\"id\":\"" + layer + "\"}\r\n"));
+        FakeImage image;
+        synchronized (lock) {
+            image = images.get(reference);
+            if (image == null) {
+                image = addImage(reference);
+            }
+            publish(imageEvent("pull", reference));
+        }
+        exchange.writeChunk(bytes("{\"status\":\"Digest: sha256:" + image.id.substring(7) + "\"}\r\n"));
+        exchange.writeChunk(bytes("{\"status\":\"Status: Downloaded newer image for " + reference + "\"}\r\n"));
+        exchange.endStream();
+    }
+
+    private void removeImage(FakeHttpExchange exchange, String name) throws IOException {
+        synchronized (lock) {
+            FakeImage image = findImage(name);
+            if (image == null) {
+                notFound(exchange, "No such image: " + name);
+                return;
+            }
+            boolean used = containers.values().stream().anyMatch(container -> container.imageId.equals(image.id));
+            if (used && !exchange.queryFlag("force")) {
+                error(exchange, 409, "conflict: unable to remove repository reference \"" + name
+                        + "\" (must force) - container is using its referenced image " + image.id.substring(7, 19));
+                return;
+            }
+            images.values().removeIf(candidate -> candidate == image);
+            image.tags.forEach(reference -> publish(imageEvent("untag", reference)));
+            publish(imageEvent("delete", image.id));
+
+            ArrayNode deleted = mapper.createArrayNode();
+            image.tags.forEach(reference -> deleted.addObject().put("Untagged", reference));
+            deleted.addObject().put("Deleted", image.id);
+            json(exchange, 200, deleted);
+        }
+    }
+
+    private FakeImage addImage(String reference) {
+        FakeImage image = new FakeImage("sha256:" + randomId(), reference, Instant.now().getEpochSecond());
+        images.put(reference, image);
+        return image;
+    }
+
+    // Events
+
+    private void streamEvents(FakeHttpExchange exchange) throws IOException {
+        long since = parseTimestamp(exchange.query("since"), -1);
+        long until = parseTimestamp(exchange.query("until"), -1);
+        JsonNode filters = parseFilters(exchange.query("filters"));
+
+        BlockingQueue<ObjectNode> live = new LinkedBlockingQueue<>();
+        List<ObjectNode> history;
+        synchronized (lock) {
+            history = since >= 0 ? events.stream().filter(event -> event.path("time").asLong() >= since).toList()
+                    : List.of();
+            eventSubscribers.add(live);
+        }
+
+        try {
+            exchange.startStream(200, JSON);
+            for (ObjectNode event : history) {
+                if (until >= 0 && event.path("time").asLong() > until) {
+                    break;
+                }
+                writeEvent(exchange, event, filters);
+            }
+            while (!closed && (until < 0 || until >= Instant.now().getEpochSecond())) {
+                ObjectNode event = live.poll(100, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    writeEvent(exchange, event, filters);
+                }
+            }
+            exchange.endStream();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            eventSubscribers.remove(live);
+        }
+    }
+
+    private void writeEvent(FakeHttpExchange exchange, ObjectNode event, JsonNode filters) throws IOException {
+        if (matchesEvent(event, filters)) {
+            exchange.writeChunk(bytes(event.toString() + "\n"));
+        }
+    }
+
+    private boolean matchesEvent(ObjectNode event, JsonNode filters) {
+        return matchesAny(filters.path("type"), event.path("Type").asText())
+                && matchesAny(filters.path("event"), event.path("Action").asText())
+                && (filters.path("container").isMissingNode() || "container".equals(event.path("Type").asText())
+                        && (matchesAny(filters.path("container"), event.path("Actor").path("ID").asText())
+                                || matchesAny(filters.path("container"),
+                                        event.path("Actor").path("Attributes").path("name").asText())))
+                && matchesLabels(filters.path("label"), event.path("Actor").path("Attributes"));
+    }
+
+    private void publish(ObjectNode event) {
+        events.addLast(event);
+        if (events.size() > MAX_EVENTS) {
+            events.removeFirst();
+        }
+        eventSubscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    private ObjectNode containerEvent(String action, FakeContainer container) {
+        ObjectNode event = baseEvent("container", action, container.id);
+        event.put("status", action).put("id", container.id).put("from", container.image);
+        ObjectNode attributes = (ObjectNode) event.path("Actor").path("Attributes");
+        attributes.put("name", container.name).put("image", container.image);
+        container.labels.forEach(attributes::put);
+        if ("die".equals(action)) {
+            attributes.put("exitCode", String.valueOf(container.exitCode));
+        }
+        return event;
+    }
+
+    private ObjectNode imageEvent(String action, String reference) {
+        ObjectNode event = baseEvent("image", action, reference);
+        event.put("status", action).put("id", reference);
+        ((ObjectNode) event.path("Actor").path("Attributes")).put("name", reference);
+        return event;
+    }
+
+    private ObjectNode baseEvent(String type, String action, String actorId) {
+        Instant now = Instant.now();
+        ObjectNode event = mapper.createObjectNode()
+                .put("Type", type)
+                .put("Action", action)
+                .put("scope", "local")
+                .put("time", now.getEpochSecond())
+                .put("timeNano", now.getEpochSecond() * 1_000_000_000L + now.getNano());
+        event.putObject("Actor").put("ID", actorId).putObject("Attributes");
+        return event;
+    }
+
+    // Representations
+
+    private ObjectNode version() {
+        return mapper.createObjectNode()
+                .put("Version", ENGINE_VERSION)
+                .put("ApiVersion", API_VERSION)
+                .put("MinAPIVersion", "1.24")
+                .put("GitCommit", "fake")
+                .put("GoVersion", "go1.22.7")
+                .put("Os", "linux")
+                .put("Arch", "amd64")
+                .put("KernelVersion", System.getProperty("os.version"))
+                .put("BuildTime", "2024-09-20T11:41:18.000000000+00:00");
+    }
+
+    private ObjectNode info() {
+        synchronized (lock) {
+            long running = containers.values().stream().filter(FakeContainer::running).count();
+            return mapper.createObjectNode()
+                    .put("ID", "FAKE:DAEMON")
+                    .put("Containers", containers.size())
+                    .put("ContainersRunning", running)
+                    .put("ContainersPaused", 0)
+                    .put("ContainersStopped", containers.size() - running)
+                    .put("Images", images.values().stream().distinct().count())
+                    .put("Driver", "overlay2")
+                    .put("NCPU", Runtime.getRuntime().availableProcessors())
+                    .put("MemTotal", Runtime.getRuntime().maxMemory())
+                    .put("Name", "fake-docker-daemon")
+                    .put("ServerVersion", ENGINE_VERSION)
+                    .put("OperatingSystem", "Fake Docker Daemon")
+                    .put("OSType", "linux")
+                    .put("Architecture", "x86_64");
+        }
+    }
+
+    private ObjectNode summary(FakeContainer container) {
+        ObjectNode summary = mapper.createObjectNode().put("Id", container.id);
+        summary.putArray("Names").add("/" + container.name);
+        summary.put("Image", container.image)
+                .put("ImageID", container.imageId)
+                .put("Command", String.join(" ", container.command))
+                .put("Created", container.created)
+                .put("State", container.state)
+                .put("Status", container.running() ? "Up" : "Exited (" + container.exitCode + ")");
+        summary.putArray("Ports");
+        ObjectNode labels = summary.putObject("Labels");
+        container.labels.forEach(labels::put);
+        summary.putObject("HostConfig").put("NetworkMode", "default");
+        summary.putObject("NetworkSettings").putObject("Networks");
+        summary.putArray("Mounts");
+        return summary;
+    }
+
+    private ObjectNode inspect(FakeContainer container) {
+        ObjectNode inspect = mapper.createObjectNode()
+                .put("Id", container.id)
+                .put("Created", Instant.ofEpochSecond(container.created).toString())
+                .put("Path", container.command.isEmpty() ? "" : container.command.get(0));
+        ArrayNode args = inspect.putArray("Args");
+        container.command.stream().skip(1).forEach(args::add);
+        inspect.putObject("State")
+                .put("Status", container.state)
+                .put("Running", container.running())
+                .put("Paused", false)
+                .put("Restarting", false)
+                .put("OOMKilled", false)
+                .put("Dead", false)
+                .put("Pid", container.running() ? 4242 : 0)
+                .put("ExitCode", container.exitCode)
+                .put("Error", "")
+                .put("StartedAt", container.startedAt)
+                .put("FinishedAt", container.finishedAt);
+        inspect.put("Image", container.imageId)
+                .put("Name", "/" + container.name)
+                .put("RestartCount", 0)
+                .put("Driver", "overlay2");
+        inspect.putObject("HostConfig").put("NetworkMode", "default");
+        ObjectNode config = inspect.putObject("Config")
+                .put("Hostname", container.id.substring(0, 12))
+                .put("Image", container.image)
+                .put("Tty", container.tty);
+        ArrayNode cmd = config.putArray("Cmd");
+        container.command.forEach(cmd::add);
+        config.putArray("Env");
+        ObjectNode labels = config.putObject("Labels");
+        container.labels.forEach(labels::put);
+        inspect.putObject("NetworkSettings").putObject("Networks");
+        inspect.putArray("Mounts");
+        return inspect;
+    }
+
+    private ObjectNode imageSummary(FakeImage image) {
+        ObjectNode summary = mapper.createObjectNode().put("Id", image.id).put("ParentId", "");
+        ArrayNode tags = summary.putArray("RepoTags");
+        image.tags.forEach(tags::add);
+        summary.putArray("RepoDigests");
+        summary.put("Created", image.created).put("Size", image.size).put("SharedSize", -1).put("Containers", -1);
+        summary.putObject("Labels");
+        return summary;
+    }
+
+    private ObjectNode imageInspect(FakeImage image) {
+        ObjectNode inspect = mapper.createObjectNode().put("Id", image.id);
+        ArrayNode tags = inspect.putArray("RepoTags");
+        image.tags.forEach(tags::add);
+        inspect.putArray("RepoDigests");
+        inspect.put("Created", Instant.ofEpochSecond(image.created).toString())
+                .put("Architecture", "amd64")
+                .put("Os", "linux")
+                .put("Size", image.size);
+        inspect.putObject("Config").putObject("Labels");
+        return inspect;
+    }
+
+    // Lookup and filtering
+
+    private FakeContainer findContainer(String idOrName) {
+        String name = idOrName.startsWith("/") ? idOrName.substring(1) : idOrName;
+        FakeContainer byId = containers.get(idOrName);
+        if (byId != null) {
+            return byId;
+        }
+        FakeContainer byPrefix = null;
+        for (FakeContainer container : containers.values()) {
+            if (container.name.equals(name)) {
+                return container;
+            }
+            if (container.id.startsWith(idOrName)) {
+                byPrefix = container;
+            }
+        }
+        return byPrefix;
+    }
+
+    private FakeImage findImage(String name) {
+        FakeImage byTag = images.get(normalize(name));
+        if (byTag != null) {
+            return byTag;
+        }
+        String id = name.startsWith("sha256:") ? name : "sha256:" + name;
+        return images.values().stream().filter(image -> image.id.startsWith(id)).findFirst().orElse(null);
+    }
+
+    private boolean matches(FakeContainer container, JsonNode filters) {
+        return (filters.path("id").isMissingNode() || anyMatch(filters.path("id"), container.id::startsWith))
+                && (filters.path("name").isMissingNode() || anyMatch(filters.path("name"), container.name::contains))
+                && matchesAny(filters.path("status"), container.state)
+                && matchesLabels(filters.path("label"), mapper.valueToTree(container.labels));
+    }
+
+    private boolean matchesLabels(JsonNode labelFilters, JsonNode labels) {
+        if (labelFilters.isMissingNode()) {
+            return true;
+        }
+        for (String filter : values(labelFilters)) {
+            int separator = filter.indexOf('=');
+            String key = separator >= 0 ? filter.substring(0, separator) : filter;
+            if (!labels.has(key) || separator >= 0 && !labels.path(key).asText().equals(filter.substring(separator + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesAny(JsonNode filter, String value) {
+        return filter.isMissingNode() || values(filter).contains(value);
+    }
+
+    private boolean anyMatch(JsonNode filter, Predicate<String> predicate) {
+        return values(filter).stream().anyMatch(predicate);
+    }
+
+    /**
+     * Reads the values of a filter, which Docker accepts both as a list and as a map of values to {@code true}.
+     */
+    private static List<String> values(JsonNode filter) {
+        List<String> values = new ArrayList<>();
+        if (filter.isArray()) {
+            filter.forEach(value -> values.add(value.asText()));
+        } else if (filter.isObject()) {
+            filter.fieldNames().forEachRemaining(values::add);
+        }
+        return values;
+    }
+
+    private JsonNode parseFilters(String filters) throws IOException {
+        return filters == null || filters.isEmpty() ? mapper.createObjectNode() : mapper.readTree(filters);
+    }
+
+    private static long parseTimestamp(String value, long fallback) {
+        if (value == null || value.isEmpty()) {
+            return fallback;
+        }
+        int fraction = value.indexOf('.');
+        return Long.parseLong(fraction >= 0 ? value.substring(0, fraction) : value);
+    }
+
+    private void awaitChange() {
+        try {
+            lock.wait(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closed = true;
+        }
+    }
+
+    // Helpers
+
+    private void json(FakeHttpExchange exchange, int status, JsonNode body) throws IOException {
+        exchange.respond(status, JSON, mapper.writeValueAsBytes(body));
+    }
+
+    private void notFound(FakeHttpExchange exchange, String message) throws IOException {
+        error(exchange, 404, message);
+    }
+
+    private void error(FakeHttpExchange exchange, int status, String message) throws IOException {
+        json(exchange, status, mapper.createObjectNode().put("message", message));
+    }
+
+    /**
+     * Encodes a log line, as a multiplexed frame unless the container has a TTY.
+     */
+    private static byte[] frame(boolean tty, int stream, String line) {
+        byte[] payload = bytes(line);
+        if (tty) {
+            return payload;
+        }
+        return ByteBuffer.allocate(8 + payload.length)
+                .put((byte) stream).put((byte) 0).put((byte) 0).put((byte) 0)
+                .putInt(payload.length)
+                .put(payload)
+                .array();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String randomId() {
+        byte[] id = new byte[32];
+        ThreadLocalRandom.current().nextBytes(id);
+        return HexFormat.of().formatHex(id);
+    }
+
+    static String normalize(String reference) {
+        if (reference.startsWith("sha256:")) {
+            return reference;
+        }
+        int slash = reference.lastIndexOf('/');
+        return reference.indexOf(':', slash + 1) >= 0 || reference.contains("@") ? reference : reference + ":latest";
+    }
+
+    private static String repository(String reference) {
+        return reference.substring(0, reference.lastIndexOf(':'));
+    }
+
+    private static String tagOf(String reference) {
+        return reference.substring(reference.lastIndexOf(':') + 1);
+    }
+
+    private static final class FakeContainer {
+
+        private final String id;
+        private final String name;
+        private final String image;
+        private final String imageId;
+        private final Map<String, String> labels = new LinkedHashMap<>();
+        private final List<String> command = new ArrayList<>();
+        private final boolean tty;
+        private final long created = Instant.now().getEpochSecond();
+        private String state = "created";
+        private int exitCode;
+        private String startedAt = "0001-01-01T00:00:00Z";
+        private String finishedAt = "0001-01-01T00:00:00Z";
+
+        FakeContainer(String id, String name, String image, String imageId, JsonNode labels, JsonNode command, boolean tty) {
+            this.id = id;
+            this.name = name;
+            this.image = image;
+            this.imageId = imageId;
+            this.tty = tty;
+            labels.fields().forEachRemaining(label -> this.labels.put(label.getKey(), label.getValue().asText()));
+            command.forEach(part -> this.command.add(part.asText()));
+        }
+
+        boolean running() {
+            return "running".equals(state);
+        }
+
+        void start() {
+            state = "running";
+            exitCode = 0;
+            startedAt = Instant.now().toString();
+        }
+
+        void stop(int code) {
+            state = "exited";
+            exitCode = code;
+            finishedAt = Instant.now().toString();
+        }
+    }
+
+    private static final class FakeImage {
+
+        private final String id;
+        private final List<String> tags = new ArrayList<>();
+        private final long created;
+        private final long size = 7_800_000;
+
+        FakeImage(String id, String reference, long created) {
+            this.id = id;
+            this.tags.add(reference);
+            this.created = created;
+        }
+    }
+
+    private static final class FakeExec {
+
+        private final String id;
+        private final String containerId;
+        private final List<String> command;
+        private final boolean tty;
+        private volatile boolean started;
+
+        FakeExec(String id, String containerId, List<String> command, boolean tty) {
+            this.id = id;
+            this.containerId = containerId;
+            this.command = command;
+            this.tty = tty;
+        }
+    }
+}
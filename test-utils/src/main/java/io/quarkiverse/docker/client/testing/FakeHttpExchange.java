@@ -0,0 +1,258 @@
+package io.quarkiverse.docker.client.testing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A single HTTP/1.1 request read from a connection of the {@link FakeDockerDaemon}, and its response.
+ */
+final class FakeHttpExchange {
+
+    private static final Pattern VERSION_PREFIX = Pattern.compile("^/v\\d+(\\.\\d+)?(?=/|$)");
+
+    private final String method;
+    private final String path;
+    private final String[] segments;
+    private final Map<String, String> query;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    private final OutputStream out;
+    private boolean responded;
+    private boolean streaming;
+
+    private FakeHttpExchange(String method, String target, Map<String, String> headers, byte[] body, OutputStream out) {
+        this.method = method;
+        int queryStart = target.indexOf('?');
+        String rawPath = queryStart >= 0 ? target.substring(0, queryStart) : target;
+        this.path = VERSION_PREFIX.matcher(rawPath).replaceFirst("");
+        this.segments = path.replaceAll("^/+|/+$", "").split("/");
+        this.query = parseQuery(queryStart >= 0 ? target.substring(queryStart + 1) : "");
+        this.headers = headers;
+        this.body = body;
+        this.out = out;
+    }
+
+    /**
+     * Reads the next request of a connection.
+     *
+     * @return The exchange, or null if the client closed the connection
+     */
+    static FakeHttpExchange read(InputStream in, OutputStream out) throws IOException {
+        String requestLine = readLine(in);
+        while (requestLine != null && requestLine.isEmpty()) {
+            requestLine = readLine(in);
+        }
+        if (requestLine == null) {
+            return null;
+        }
+
+        Map<String, String> headers = new HashMap<>();
+        String header;
+        while ((header = readLine(in)) != null && !header.isEmpty()) {
+            int separator = header.indexOf(':');
+            if (separator > 0) {
+                headers.put(header.substring(0, separator).trim().toLowerCase(Locale.ROOT),
+                        header.substring(separator + 1).trim());
+            }
+        }
+
+        byte[] body;
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            body = readChunked(in);
+        } else {
+            body = in.readNBytes(Integer.parseInt(headers.getOrDefault("content-length", "0")));
+        }
+
+        String[] parts = requestLine.split(" ");
+        return new FakeHttpExchange(parts[0], parts.length > 1 ? parts[1] : "/", headers, body, out);
+    }
+
+    String method() {
+        return method;
+    }
+
+    /**
+     * Returns the request path without API version prefix and query string.
+     */
+    String path() {
+        return path;
+    }
+
+    /**
+     * Returns a URL-decoded path segment, or null if the path is shorter.
+     */
+    String segment(int index) {
+        return index < segments.length ? URLDecoder.decode(segments[index], StandardCharsets.UTF_8) : null;
+    }
+
+    int segmentCount() {
+        return segments.length;
+    }
+
+    String query(String name) {
+        return query.get(name);
+    }
+
+    boolean queryFlag(String name) {
+        String value = query.get(name);
+        return "1".equals(value) || "true".equalsIgnoreCase(value);
+    }
+
+    String header(String name) {
+        return headers.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    byte[] body() {
+        return body;
+    }
+
+    boolean responded() {
+        return responded;
+    }
+
+    /**
+     * Tells whether the response body is streamed, after which the connection cannot be reused.
+     */
+    boolean streaming() {
+        return streaming;
+    }
+
+    /**
+     * Sends a complete response.
+     */
+    void respond(int status, String contentType, byte[] responseBody) throws IOException {
+        responded = true;
+        StringBuilder head = statusLine(status);
+        if (contentType != null) {
+            head.append("Content-Type: ").append(contentType).append("\r\n");
+        }
+        head.append("Content-Length: ").append(responseBody.length).append("\r\n\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.US_ASCII));
+        if (!"HEAD".equals(method)) {
+            out.write(responseBody);
+        }
+        out.flush();
+    }
+
+    /**
+     * Sends a response without body.
+     */
+    void respondEmpty(int status) throws IOException {
+        respond(status, null, new byte[0]);
+    }
+
+    /**
+     * Starts a chunked response whose body is written piece by piece.
+     */
+    void startStream(int status, String contentType) throws IOException {
+        responded = true;
+        streaming = true;
+        StringBuilder head = statusLine(status)
+                .append("Content-Type: ").append(contentType).append("\r\n")
+                .append("Transfer-Encoding: chunked\r\n\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /**
+     * Writes a chunk of a streamed response.
+     *
+     * @throws IOException if the client went away
+     */
+    void writeChunk(byte[] chunk) throws IOException {
+        if (chunk.length == 0) {
+            return;
+        }
+        out.write((Integer.toHexString(chunk.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(chunk);
+        out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /**
+     * Ends a streamed response.
+     */
+    void endStream() throws IOException {
+        out.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static StringBuilder statusLine(int status) {
+        return new StringBuilder("HTTP/1.1 ").append(status).append(' ').append(reason(status)).append("\r\n")
+                .append("Api-Version: ").append(FakeEngine.API_VERSION).append("\r\n")
+                .append("Server: Docker/").append(FakeEngine.ENGINE_VERSION).append(" (linux)\r\n");
+    }
+
+    private static String reason(int status) {
+        return switch (status) {
+            case 200 -> "OK";
+            case 201 -> "Created";
+            case 204 -> "No Content";
+            case 304 -> "Not Modified";
+            case 400 -> "Bad Request";
+            case 404 -> "Not Found";
+            case 409 -> "Conflict";
+            case 500 -> "Internal Server Error";
+            case 501 -> "Not Implemented";
+            default -> "Status";
+        };
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> parameters = new HashMap<>();
+        if (query.isEmpty()) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            String key = separator >= 0 ? parameter.substring(0, separator) : parameter;
+            String value = separator >= 0 ? parameter.substring(separator + 1) : "";
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static byte[] readChunked(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        while (true) {
+            String sizeLine = readLine(in);
+            if (sizeLine == null) {
+                return body.toByteArray();
+            }
+            int extension = sizeLine.indexOf(';');
+            int size = Integer.parseInt((extension >= 0 ? sizeLine.substring(0, extension) : sizeLine).trim(), 16);
+            if (size == 0) {
+                // Trailers end with an empty line
+                String trailer;
+                while ((trailer = readLine(in)) != null && !trailer.isEmpty()) {
+                    // Ignored
+                }
+                return body.toByteArray();
+            }
+            body.write(in.readNBytes(size));
+            readLine(in);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                byte[] bytes = line.toByteArray();
+                int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+                return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+            }
+            line.write(b);
+        }
+        return line.size() == 0 ? null : line.toString(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,15 @@
+package io.quarkiverse.docker.client.testing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link FakeDockerDaemon} field of a test class, set to the daemon started by
+ * {@link FakeDockerDaemonTestResource}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface InjectFakeDockerDaemon {
+}
@@ -0,0 +1,89 @@
+package io.quarkiverse.docker.client.testing;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Distribution the {@link FakeDockerDaemon} draws the latency of every response from.
+ *
+ * <p>
+ * Real daemons have a long latency tail, so {@link #logNormal(Duration, Duration)} is usually the most realistic choice
+ * for load tests:
+ * </p>
+ *
+ * <pre>
+ * FakeDockerDaemon.builder()
+ *         .latency(LatencyDistribution.logNormal(Duration.ofMillis(5), Duration.ofMillis(80)))
+ *         .latency("/containers/create", LatencyDistribution.uniform(Duration.ofMillis(50), Duration.ofMillis(150)))
+ *         .start();
+ * </pre>
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Draws a latency.
+     *
+     * @param random The random source of the daemon, seeded for reproducible runs
+     * @return The latency in nanoseconds, zero or more
+     */
+    long sampleNanos(Random random);
+
+    /**
+     * Answers immediately.
+     *
+     * @return The distribution
+     */
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    /**
+     * Always waits the same time.
+     *
+     * @param latency The latency
+     * @return The distribution
+     */
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    /**
+     * Waits a uniformly distributed time between two bounds.
+     *
+     * @param min The smallest latency
+     * @param max The largest latency
+     * @return The distribution
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long range = Math.max(0, max.toNanos() - minNanos);
+        return random -> minNanos + (range == 0 ? 0 : (long) (random.nextDouble() * range));
+    }
+
+    /**
+     * Waits an exponentially distributed time, as for independent arrivals.
+     *
+     * @param mean The mean latency
+     * @return The distribution
+     */
+    static LatencyDistribution exponential(Duration mean) {
+        double meanNanos = mean.toNanos();
+        return random -> (long) (-meanNanos * Math.log(1 - random.nextDouble()));
+    }
+
+    /**
+     * Waits a log-normally distributed time with the given median and 99th percentile.
+     *
+     * @param median The median latency
+     * @param p99 The 99th percentile latency, not smaller than the median
+     * @return The distribution
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        double mu = Math.log(Math.max(1, median.toNanos()));
+        // 2.326 is the 99th percentile of the standard normal distribution
+        double sigma = Math.max(0, Math.log((double) Math.max(1, p99.toNanos()) / Math.max(1, median.toNanos())) / 2.326);
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+}